@@ -0,0 +1,350 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Byte {@link Appendable} for the {@link FormUrlWriter}.
+ * Form URL encoded chars are written to a fixed-size byte buffer
+ * that is written to the {@link OutputStream} or {@link WritableByteChannel} each time it is full,
+ * so the form data is not held in memory as a {@link String}.
+ * <p>
+ * Form URL encoded data is ASCII on the wire: ASCII chars are written as single bytes,
+ * non-ASCII chars (unencoded keys and values) are encoded with the coding charset
+ * (same rules as {@link org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlByteSequence}).
+ * For ASCII compatible charsets (UTF-8, ISO-8859-1, etc.) the bytes are identical to
+ * {@code marshaller.marshal(model).getBytes(codingCharset)}.
+ * <p>
+ * Buffers of the {@link #DEFAULT_BUFFER_SIZE} are reused per thread:
+ * the buffers are taken by the constructor and returned by the {@link #release()} method
+ * (a new output created before the release gets its own buffers).
+ * The output cannot be used after the release.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final FormUrlByteOutput output = new FormUrlByteOutput(outputStream, codingCharset);
+ *     try {
+ *         new FormUrlWriter(marshaller, output).write(model);
+ *         output.flush();
+ *     } finally {
+ *         output.release();
+ *     }
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlByteOutput implements Appendable, Flushable {
+
+    /**
+     * default byte buffer size
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    /**
+     * minimum byte buffer size (any char encoded by the charset fits into the buffer)
+     */
+    public static final int MIN_BUFFER_SIZE = 16;
+
+    /**
+     * released buffers of the {@link #DEFAULT_BUFFER_SIZE} (one set per thread)
+     */
+    private static final ThreadLocal<Buffers> BUFFERS = new ThreadLocal<>();
+
+    /**
+     * nullable byte stream output
+     */
+    private final OutputStream outputStream;
+    /**
+     * nullable byte channel output
+     */
+    private final WritableByteChannel channel;
+    /**
+     * non-ASCII chars encoder (null after the release)
+     */
+    private CharsetEncoder encoder;
+    /**
+     * bytes not yet written to the output (null after the release)
+     */
+    private ByteBuffer bytes;
+    /**
+     * non-ASCII chars not yet encoded (null after the release)
+     */
+    private CharBuffer chars;
+
+    /**
+     * @param outputStream  form URL encoded data output
+     * @param codingCharset URL form data coding charset
+     * @throws MarshallerException if outputStream or codingCharset is null
+     */
+    public FormUrlByteOutput(final OutputStream outputStream, final Charset codingCharset) {
+        this(outputStream, codingCharset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param outputStream  form URL encoded data output
+     * @param codingCharset URL form data coding charset
+     * @param bufferSize    byte buffer size
+     * @throws MarshallerException if outputStream or codingCharset is null
+     * @throws MarshallerException if bufferSize is less than {@link #MIN_BUFFER_SIZE}
+     */
+    public FormUrlByteOutput(final OutputStream outputStream, final Charset codingCharset, final int bufferSize) {
+        this(outputStream, null, CodecConstant.OUTPUT_STREAM_PARAMETER, codingCharset, bufferSize);
+    }
+
+    /**
+     * @param channel       form URL encoded data output
+     * @param codingCharset URL form data coding charset
+     * @throws MarshallerException if channel or codingCharset is null
+     */
+    public FormUrlByteOutput(final WritableByteChannel channel, final Charset codingCharset) {
+        this(channel, codingCharset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel       form URL encoded data output
+     * @param codingCharset URL form data coding charset
+     * @param bufferSize    byte buffer size
+     * @throws MarshallerException if channel or codingCharset is null
+     * @throws MarshallerException if bufferSize is less than {@link #MIN_BUFFER_SIZE}
+     */
+    public FormUrlByteOutput(final WritableByteChannel channel, final Charset codingCharset, final int bufferSize) {
+        this(null, channel, CodecConstant.CHANNEL_PARAMETER, codingCharset, bufferSize);
+    }
+
+    /**
+     * @param outputStream  nullable byte stream output
+     * @param channel       nullable byte channel output
+     * @param outputName    required output parameter name
+     * @param codingCharset URL form data coding charset
+     * @param bufferSize    byte buffer size
+     * @throws MarshallerException if output or codingCharset is null
+     * @throws MarshallerException if bufferSize is less than {@link #MIN_BUFFER_SIZE}
+     */
+    private FormUrlByteOutput(final OutputStream outputStream,
+                              final WritableByteChannel channel,
+                              final String outputName,
+                              final Charset codingCharset,
+                              final int bufferSize) {
+        FormUrlUtils.parameterRequireNonNull(outputStream == null ? channel : outputStream, outputName);
+        FormUrlUtils.parameterRequireNonNull(codingCharset, CodecConstant.CODING_CHARSET_PARAMETER);
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw MarshallerException.builder()
+                    .errorMessage("Buffer size is too small.")
+                    .actual(bufferSize)
+                    .expected("size >= " + MIN_BUFFER_SIZE)
+                    .build();
+        }
+        this.outputStream = outputStream;
+        this.channel = channel;
+        final Buffers released = bufferSize == DEFAULT_BUFFER_SIZE ? BUFFERS.get() : null;
+        if (released != null) {
+            BUFFERS.remove();
+            this.bytes = released.bytes;
+            this.chars = released.chars;
+            this.encoder = released.encoder.charset().equals(codingCharset)
+                    ? released.encoder.reset()
+                    : newEncoder(codingCharset);
+        } else {
+            this.bytes = ByteBuffer.allocate(bufferSize);
+            this.chars = CharBuffer.allocate(bufferSize / 2);
+            this.encoder = newEncoder(codingCharset);
+        }
+    }
+
+    /**
+     * @param codingCharset URL form data coding charset
+     * @return non-ASCII chars encoder (same as String#getBytes(Charset))
+     */
+    protected static CharsetEncoder newEncoder(final Charset codingCharset) {
+        return codingCharset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /**
+     * Returns the buffers of the {@link #DEFAULT_BUFFER_SIZE} for reuse by the next output of the current thread.
+     * Not written bytes are discarded ({@link #flush()} before the release).
+     * Repeated calls have no effect. The output cannot be used after the release.
+     */
+    public void release() {
+        if (bytes == null) {
+            return;
+        }
+        if (bytes.capacity() == DEFAULT_BUFFER_SIZE && BUFFERS.get() == null) {
+            bytes.clear();
+            chars.clear();
+            BUFFERS.set(new Buffers(bytes, chars, encoder));
+        }
+        bytes = null;
+        chars = null;
+        encoder = null;
+    }
+
+    /**
+     * @param csq nullable char sequence ({@code "null"} for null)
+     * @return this
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public FormUrlByteOutput append(final CharSequence csq) throws IOException {
+        final CharSequence value = csq == null ? "null" : csq;
+        return append(value, 0, value.length());
+    }
+
+    /**
+     * @param csq   nullable char sequence ({@code "null"} for null)
+     * @param start start index (inclusive)
+     * @param end   end index (exclusive)
+     * @return this
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public FormUrlByteOutput append(final CharSequence csq, final int start, final int end) throws IOException {
+        final CharSequence value = csq == null ? "null" : csq;
+        if (start < 0 || start > end || end > value.length()) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + value.length());
+        }
+        for (int i = start; i < end; i++) {
+            append(value.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * @param c any char
+     * @return this
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public FormUrlByteOutput append(final char c) throws IOException {
+        if (c < 128) {
+            if (chars.position() > 0) {
+                encodeChars(true);
+            }
+            if (!bytes.hasRemaining()) {
+                writeBytes();
+            }
+            bytes.put((byte) c);
+        } else {
+            if (!chars.hasRemaining()) {
+                encodeChars(false);
+            }
+            chars.put(c);
+        }
+        return this;
+    }
+
+    /**
+     * Writes all buffered bytes to the output and flushes the output stream
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void flush() throws IOException {
+        if (chars.position() > 0) {
+            encodeChars(true);
+        }
+        writeBytes();
+        if (outputStream != null) {
+            outputStream.flush();
+        }
+    }
+
+    /**
+     * Encodes buffered non-ASCII chars to the byte buffer
+     *
+     * @param endOfInput true if the non-ASCII chars run is ended
+     *                   (a trailing high surrogate remains in the char buffer otherwise)
+     * @throws IOException if an I/O error occurs
+     */
+    protected void encodeChars(final boolean endOfInput) throws IOException {
+        chars.flip();
+        CoderResult result = encoder.encode(chars, bytes, endOfInput);
+        while (result.isOverflow()) {
+            writeBytes();
+            result = encoder.encode(chars, bytes, endOfInput);
+        }
+        if (endOfInput) {
+            result = encoder.flush(bytes);
+            while (result.isOverflow()) {
+                writeBytes();
+                result = encoder.flush(bytes);
+            }
+            encoder.reset();
+        }
+        chars.compact();
+    }
+
+    /**
+     * Writes the byte buffer to the output
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    protected void writeBytes() throws IOException {
+        bytes.flip();
+        if (outputStream != null) {
+            outputStream.write(bytes.array(), bytes.arrayOffset(), bytes.limit());
+        } else {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+        bytes.clear();
+    }
+
+    /**
+     * Released buffers of the {@link #DEFAULT_BUFFER_SIZE}
+     */
+    private static final class Buffers {
+
+        /**
+         * byte buffer
+         */
+        private final ByteBuffer bytes;
+        /**
+         * char buffer
+         */
+        private final CharBuffer chars;
+        /**
+         * last used encoder (reused for the same charset)
+         */
+        private final CharsetEncoder encoder;
+
+        private Buffers(final ByteBuffer bytes, final CharBuffer chars, final CharsetEncoder encoder) {
+            this.bytes = bytes;
+            this.chars = chars;
+            this.encoder = encoder;
+        }
+
+    }
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlByteSequence;
+import org.touchbit.www.form.urlencoded.marshaller.codec.FormUrlGeneratedCodec;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
+
+/**
+ * Reader/writer bound to one model class and one marshaller configuration
+ * ({@link FormUrlMarshaller#readerFor(Class)}, {@link FormUrlMarshaller#writerFor(Class)}).
+ * The model kind (POJO, Map or POJO implementing Map), class plan, constructor,
+ * additional properties field and generated codec are resolved once when the codec is created,
+ * so {@code read}/{@code write} calls skip the per-call model type dispatch of the {@link FormUrlMarshaller}.
+ * The codec is immutable and thread safe: marshaller setters called after the codec creation do not affect it.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     private static final FormUrlCodec&lt;Model&gt; CODEC = FormUrlMarshaller.INSTANCE.readerFor(Model.class);
+ *
+ *     final Model model = CODEC.read(encodedString);
+ *     final String encoded = CODEC.write(model);
+ * </code></pre>
+ * <p>
+ *
+ * @param <M> model generic type
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlCodec<M> {
+
+    /**
+     * marshaller bound to the codec configuration
+     */
+    private final FormUrlMarshaller marshaller;
+    /**
+     * codec configuration
+     */
+    private final FormUrlConfig config;
+    /**
+     * model class
+     */
+    private final Class<M> modelClass;
+    /**
+     * model class metadata (constructor, fields, additional properties field)
+     */
+    private final FormUrlPojoDescriptor descriptor;
+    /**
+     * model class contains {@link FormUrlEncoded} annotation
+     */
+    private final boolean isPojo;
+    /**
+     * model class implements {@link Map}
+     */
+    private final boolean isMap;
+    /**
+     * codec generated by the annotation processor (nullable)
+     */
+    private final FormUrlGeneratedCodec<Object> generatedCodec;
+
+    /**
+     * @param marshaller marshaller bound to the codec configuration (setters must not be called)
+     * @param modelClass {@code Map<String, Object>} or POJO class with {@link FormUrlEncoded} annotation
+     * @throws MarshallerException if marshaller or modelClass is null
+     * @throws MarshallerException if model class is not supported
+     */
+    protected FormUrlCodec(final FormUrlMarshaller marshaller, final Class<M> modelClass) {
+        FormUrlUtils.parameterRequireNonNull(marshaller, MARSHALLER_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(modelClass, MODEL_CLASS_PARAMETER);
+        this.isPojo = FormUrlUtils.isPojo(modelClass);
+        this.isMap = FormUrlUtils.isMapAssignableFrom(modelClass);
+        if (!isPojo && !isMap) {
+            throw MarshallerException.builder()
+                    .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
+                    .actualType(modelClass)
+                    .expectedHeirsOf(Map.class)
+                    .expected(ERR_POJO_CLASSES_WITH_FORM_URLENCODED_ANNOTATION)
+                    .build();
+        }
+        this.marshaller = marshaller;
+        this.config = marshaller.getConfig();
+        this.modelClass = modelClass;
+        this.descriptor = isPojo ? config.getPojoPlan(modelClass).getDescriptor() : FormUrlPojoDescriptor.of(modelClass);
+        this.generatedCodec = isPojo && !isMap ? marshaller.getGeneratedCodec(modelClass) : null;
+    }
+
+    /**
+     * String to model conversion
+     *
+     * @param encodedString URL encoded string to conversation
+     * @return completed model
+     * @throws MarshallerException for any internal errors.
+     */
+    public M read(final String encodedString) {
+        FormUrlUtils.parameterRequireNonNull(encodedString, ENCODED_STRING_PARAMETER);
+        try {
+            return readModel(encodedString);
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected unmarshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Bytes to model conversion.
+     * Form data is scanned directly in the bytes without a String copy of the entire body.
+     *
+     * @param bytes URL encoded bytes (for example, HTTP request body)
+     * @return completed model
+     * @throws MarshallerException for any internal errors.
+     */
+    public M read(final byte[] bytes) {
+        FormUrlUtils.parameterRequireNonNull(bytes, BYTES_PARAMETER);
+        try {
+            return readModel(new FormUrlByteSequence(bytes, 0, bytes.length, config.getFormUrlCodingCharset()));
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected unmarshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * @param encodedString form URL encoded data
+     * @return completed model
+     * @throws MarshallerException on class instantiation errors
+     * @throws MarshallerException if POJO contains unmapped additional properties and they are prohibited
+     * @throws MarshallerException if the form key is not mapped to the POJO fields and additional properties are prohibited
+     */
+    @SuppressWarnings("unchecked")
+    protected M readModel(final CharSequence encodedString) {
+        final M model = (M) descriptor.newInstance();
+        if (generatedCodec != null && generatedCodec.read(encodedString, model, config)) {
+            return model;
+        }
+        // POJO pairs are routed by the binder, Map models and unsupported key paths are merged into the raw data
+        marshaller.unmarshalPairsToObject(config, model, isPojo && !isMap ? descriptor : null, encodedString);
+        return model;
+    }
+
+    /**
+     * Model to form URL encoded string conversion
+     *
+     * @param model model object
+     * @return form url encoded string
+     * @throws MarshallerException for any internal errors.
+     */
+    public String write(final M model) {
+        return write(model, new StringBuilder()).toString();
+    }
+
+    /**
+     * Writes model as a form URL encoded string directly to the {@link Appendable}
+     *
+     * @param model      model object
+     * @param appendable form URL encoded data output ({@link StringBuilder}, {@link java.io.Writer}, etc.)
+     * @param <A>        appendable generic type
+     * @return appendable
+     * @throws MarshallerException if model or appendable is null
+     * @throws MarshallerException if an I/O error occurs
+     */
+    public <A extends Appendable> A write(final M model, final A appendable) {
+        FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(appendable, APPENDABLE_PARAMETER);
+        try {
+            writeModel(model, appendable);
+            return appendable;
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (IOException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to write URL form data.")
+                    .errorCause(e)
+                    .build();
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected marshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * @param model      model object
+     * @param appendable form URL encoded data output
+     * @throws IOException         if an I/O error occurs
+     * @throws MarshallerException if map keys is not {@link String}
+     */
+    protected void writeModel(final M model, final Appendable appendable) throws IOException {
+        if (generatedCodec != null && model.getClass() == modelClass && generatedCodec.write(model, config, appendable)) {
+            return;
+        }
+        final FormUrlWriter writer = new FormUrlWriter(marshaller, config, appendable);
+        final Map<?, ?> map = isMap ? (Map<?, ?>) model : null;
+        writer.beginObject();
+        if (isPojo) {
+            marshaller.visitPojo(config, model, map, writer);
+        }
+        if (map != null) {
+            marshaller.visitMap(config, map, null, writer);
+        }
+        writer.endObject();
+    }
+
+    /**
+     * @return model class
+     */
+    public Class<M> getModelClass() {
+        return modelClass;
+    }
+
+    /**
+     * @return codec configuration
+     */
+    public FormUrlConfig getConfig() {
+        return config;
+    }
+
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlLimits;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
+
+/**
+ * Immutable {@link FormUrlMarshaller} settings.
+ * Each {@code withX} method returns a new configuration, the current one is never changed,
+ * so the configuration (and the marshaller created with it) can be shared between threads without locks.
+ * The configuration owns the class plans ({@link FormUrlPojoPlan}, {@link FormUrlValuePlan})
+ * and type converters ({@link FormUrlTypeConverter})
+ * compiled for its settings,
+ * so differently configured marshallers do not share or invalidate each other's caches.
+ * The caches are {@link ClassValue} instances: compiled plans are stored with the POJO class
+ * and do not prevent the class (and its class loader) from being unloaded.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final FormUrlConfig config = FormUrlConfig.DEFAULT
+ *             .withExplicitList()
+ *             .withNullValueRule(NullValueRule.RULE_EMPTY_STRING);
+ *     final FormUrlMarshaller marshaller = new FormUrlMarshaller(config);
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlConfig {
+
+    /**
+     * Hidden list, UTF-8, {@link NullValueRule#RULE_IGNORE}, additional properties are allowed,
+     * {@link FormUrlLimits#DEFAULT} parsing limits
+     */
+    public static final FormUrlConfig DEFAULT = new FormUrlConfig(StandardCharsets.UTF_8, false, false,
+            NullValueRule.RULE_IGNORE, false, FormUrlLimits.DEFAULT);
+
+    /**
+     * URL form data coding charset
+     */
+    private final Charset codingCharset;
+    /**
+     * non-indexed array format {@code foo[]=100}
+     */
+    private final boolean isImplicitList;
+    /**
+     * indexed array format {@code foo[0]=100}
+     */
+    private final boolean isExplicitList;
+    /**
+     * rule for handling fields with null value
+     */
+    private final NullValueRule nullValueRule;
+    /**
+     * prohibit additional properties for POJO
+     */
+    private final boolean prohibitAdditionalProperties;
+    /**
+     * unmarshalling limits (including maximum explicit list index)
+     */
+    private final FormUrlLimits limits;
+    /**
+     * class plans compiled for this configuration
+     */
+    private final ClassValue<FormUrlPojoPlan> pojoPlans = new ClassValue<FormUrlPojoPlan>() {
+        @Override
+        protected FormUrlPojoPlan computeValue(final Class<?> pojoClass) {
+            return newPojoPlan(pojoClass);
+        }
+    };
+    /**
+     * raw value converters compiled for this configuration (target type is {@link Class})
+     */
+    private final ClassValue<FormUrlTypeConverter> classConverters = new ClassValue<FormUrlTypeConverter>() {
+        @Override
+        protected FormUrlTypeConverter computeValue(final Class<?> targetClass) {
+            return newTypeConverter(targetClass);
+        }
+    };
+    /**
+     * raw value converters compiled for this configuration (generic target types),
+     * stored with the first application class of the type ({@link #getAnchorClass(Type)})
+     */
+    private final ClassValue<ConcurrentMap<Type, FormUrlTypeConverter>> genericConverters =
+            new ClassValue<ConcurrentMap<Type, FormUrlTypeConverter>>() {
+                @Override
+                protected ConcurrentMap<Type, FormUrlTypeConverter> computeValue(final Class<?> anchorClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    /**
+     * runtime value class plans compiled for this configuration
+     */
+    private final ClassValue<FormUrlValuePlan> valuePlans = new ClassValue<FormUrlValuePlan>() {
+        @Override
+        protected FormUrlValuePlan computeValue(final Class<?> valueClass) {
+            return newValuePlan(valueClass);
+        }
+    };
+
+    /**
+     * @param codingCharset                URL form data coding charset
+     * @param isImplicitList               non-indexed array format {@code foo[]=100}
+     * @param isExplicitList               indexed array format {@code foo[0]=100}
+     * @param nullValueRule                rule for handling fields with null value
+     * @param prohibitAdditionalProperties prohibit additional properties for POJO
+     * @param limits                       unmarshalling limits (including maximum explicit list index)
+     * @throws MarshallerException if codingCharset, nullValueRule or limits is null
+     */
+    protected FormUrlConfig(final Charset codingCharset,
+                            final boolean isImplicitList,
+                            final boolean isExplicitList,
+                            final NullValueRule nullValueRule,
+                            final boolean prohibitAdditionalProperties,
+                            final FormUrlLimits limits) {
+        FormUrlUtils.parameterRequireNonNull(codingCharset, CODING_CHARSET_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(nullValueRule, NULL_VALUE_RULE_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(limits, LIMITS_PARAMETER);
+        this.codingCharset = codingCharset;
+        this.isImplicitList = isImplicitList;
+        this.isExplicitList = isExplicitList;
+        this.nullValueRule = nullValueRule;
+        this.prohibitAdditionalProperties = prohibitAdditionalProperties;
+        this.limits = limits;
+    }
+
+    /**
+     * According to the 3W specification, it is strongly recommended to use UTF-8 charset for URL form data coding.
+     *
+     * @param codingCharset URL form data coding charset
+     * @return configuration copy
+     * @throws MarshallerException if codingCharset is null
+     */
+    public FormUrlConfig withFormUrlCodingCharset(final Charset codingCharset) {
+        return new FormUrlConfig(codingCharset, isImplicitList, isExplicitList,
+                nullValueRule, prohibitAdditionalProperties, limits);
+    }
+
+    /**
+     * Hidden array format: {@code foo=100&foo=200...&foo=100500}
+     *
+     * @return configuration copy
+     */
+    public FormUrlConfig withHiddenList() {
+        return new FormUrlConfig(codingCharset, false, false,
+                nullValueRule, prohibitAdditionalProperties, limits);
+    }
+
+    /**
+     * Non-indexed array format: {@code foo[]=100&foo[]=200...&foo[]=100500}
+     *
+     * @return configuration copy
+     */
+    public FormUrlConfig withImplicitList() {
+        return new FormUrlConfig(codingCharset, true, false,
+                nullValueRule, prohibitAdditionalProperties, limits);
+    }
+
+    /**
+     * Indexed array format: {@code foo[0]=100&foo[1]=200...&foo[n]=100500}
+     *
+     * @return configuration copy
+     */
+    public FormUrlConfig withExplicitList() {
+        return new FormUrlConfig(codingCharset, false, true,
+                nullValueRule, prohibitAdditionalProperties, limits);
+    }
+
+    /**
+     * @param nullValueRule rule for handling fields with null value
+     * @return configuration copy
+     * @throws MarshallerException if nullValueRule is null
+     * @see NullValueRule
+     */
+    public FormUrlConfig withNullValueRule(final NullValueRule nullValueRule) {
+        return new FormUrlConfig(codingCharset, isImplicitList, isExplicitList,
+                nullValueRule, prohibitAdditionalProperties, limits);
+    }
+
+    /**
+     * @param prohibitAdditionalProperties true - prohibit additional properties for POJO
+     * @return configuration copy
+     */
+    public FormUrlConfig withProhibitAdditionalProperties(final boolean prohibitAdditionalProperties) {
+        return new FormUrlConfig(codingCharset, isImplicitList, isExplicitList,
+                nullValueRule, prohibitAdditionalProperties, limits);
+    }
+
+    /**
+     * @param maxListIndex maximum explicit list index ({@code foo[10000]=bar}) for unmarshalling
+     * @return configuration copy
+     * @throws MarshallerException if maxListIndex is negative
+     */
+    public FormUrlConfig withMaxListIndex(final int maxListIndex) {
+        return withLimits(limits.withMaxListIndex(maxListIndex));
+    }
+
+    /**
+     * @param limits unmarshalling limits checked during the form data scan
+     * @return configuration copy
+     * @throws MarshallerException if limits is null
+     */
+    public FormUrlConfig withLimits(final FormUrlLimits limits) {
+        return new FormUrlConfig(codingCharset, isImplicitList, isExplicitList,
+                nullValueRule, prohibitAdditionalProperties, limits);
+    }
+
+    /**
+     * @param pojoClass POJO class
+     * @return class plan compiled once for this configuration
+     * @throws MarshallerException if pojoClass is null
+     */
+    public FormUrlPojoPlan getPojoPlan(final Class<?> pojoClass) {
+        FormUrlUtils.parameterRequireNonNull(pojoClass, MODEL_CLASS_PARAMETER);
+        return pojoPlans.get(pojoClass);
+    }
+
+    /**
+     * @param pojoClass POJO class
+     * @return new class plan for this configuration
+     */
+    protected FormUrlPojoPlan newPojoPlan(final Class<?> pojoClass) {
+        return new FormUrlPojoPlan(this, pojoClass);
+    }
+
+    /**
+     * @param targetType target Java type (for example, POJO field generic type)
+     * @return raw value converter compiled once for this configuration
+     * @throws MarshallerException if targetType is null
+     */
+    public FormUrlTypeConverter getTypeConverter(final Type targetType) {
+        FormUrlUtils.parameterRequireNonNull(targetType, TARGET_TYPE_PARAMETER);
+        if (targetType instanceof Class) {
+            return classConverters.get((Class<?>) targetType);
+        }
+        final ConcurrentMap<Type, FormUrlTypeConverter> converters = genericConverters.get(getAnchorClass(targetType));
+        final FormUrlTypeConverter converter = converters.get(targetType);
+        if (converter != null) {
+            return converter;
+        }
+        return converters.computeIfAbsent(targetType, this::newTypeConverter);
+    }
+
+    /**
+     * The generic type converter refers to all classes of the type.
+     * It is stored with the first class loaded by an application class loader
+     * ({@code List<Pojo>} - {@code Pojo.class}), so the converter does not pin the class
+     * through a JDK class ({@code List.class}) that is never unloaded.
+     *
+     * @param type generic type
+     * @return first application class of the type or {@link Object} if the type contains only JDK classes
+     */
+    protected static Class<?> getAnchorClass(final Type type) {
+        final Class<?> anchor = findApplicationClass(type);
+        return anchor == null ? Object.class : anchor;
+    }
+
+    /**
+     * @param type any type
+     * @return first class loaded by an application class loader or null
+     */
+    protected static Class<?> findApplicationClass(final Type type) {
+        if (type instanceof Class) {
+            Class<?> cls = (Class<?>) type;
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            return cls.getClassLoader() == null ? null : cls;
+        }
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            final Class<?> raw = findApplicationClass(parameterizedType.getRawType());
+            return raw != null ? raw : findApplicationClass(parameterizedType.getActualTypeArguments());
+        }
+        if (type instanceof GenericArrayType) {
+            return findApplicationClass(((GenericArrayType) type).getGenericComponentType());
+        }
+        if (type instanceof WildcardType) {
+            final WildcardType wildcardType = (WildcardType) type;
+            final Class<?> upper = findApplicationClass(wildcardType.getUpperBounds());
+            return upper != null ? upper : findApplicationClass(wildcardType.getLowerBounds());
+        }
+        // type variables are not resolved (the declaring class is not known)
+        return null;
+    }
+
+    /**
+     * @param types any types
+     * @return first class loaded by an application class loader or null
+     */
+    protected static Class<?> findApplicationClass(final Type[] types) {
+        for (Type type : types) {
+            final Class<?> cls = findApplicationClass(type);
+            if (cls != null) {
+                return cls;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param targetType target Java type
+     * @return new raw value converter for this configuration
+     */
+    protected FormUrlTypeConverter newTypeConverter(final Type targetType) {
+        return new FormUrlTypeConverter(targetType);
+    }
+
+    /**
+     * @param valueClass runtime value class (for example, {@code value.getClass()})
+     * @return value class plan compiled once for this configuration
+     * @throws MarshallerException if valueClass is null
+     */
+    public FormUrlValuePlan getValuePlan(final Class<?> valueClass) {
+        FormUrlUtils.parameterRequireNonNull(valueClass, VALUE_CLASS_PARAMETER);
+        return valuePlans.get(valueClass);
+    }
+
+    /**
+     * @param valueClass runtime value class
+     * @return new value class plan for this configuration
+     */
+    protected FormUrlValuePlan newValuePlan(final Class<?> valueClass) {
+        return new FormUrlValuePlan(this, valueClass);
+    }
+
+    /**
+     * @return URL form data coding charset
+     */
+    public Charset getFormUrlCodingCharset() {
+        return codingCharset;
+    }
+
+    /**
+     * @return true if non-indexed array format enabled: {@code foo[]=100&foo[]=200...&foo[]=100500}
+     */
+    public boolean isImplicitList() {
+        return isImplicitList;
+    }
+
+    /**
+     * @return true if indexed array format enabled: {@code foo[0]=100&foo[1]=200...&foo[n]=100500}
+     */
+    public boolean isExplicitList() {
+        return isExplicitList;
+    }
+
+    /**
+     * @return true if hidden array format enabled: {@code foo=100&foo=200...&foo=100500}
+     */
+    public boolean isHiddenList() {
+        return !isImplicitList && !isExplicitList;
+    }
+
+    /**
+     * @return {@link NullValueRule}
+     */
+    public NullValueRule getNullValueRule() {
+        return nullValueRule;
+    }
+
+    /**
+     * @return true - prohibit additional properties for POJO
+     */
+    public boolean isProhibitAdditionalProperties() {
+        return prohibitAdditionalProperties;
+    }
+
+    /**
+     * @return maximum explicit list index ({@code foo[10000]=bar}) for unmarshalling
+     */
+    public int getMaxListIndex() {
+        return limits.getMaxListIndex();
+    }
+
+    /**
+     * @return unmarshalling limits checked during the form data scan
+     */
+    public FormUrlLimits getLimits() {
+        return limits;
+    }
+
+    @Override
+    public String toString() {
+        return "FormUrlConfig{" +
+               "codingCharset=" + codingCharset +
+               ", list=" + (isExplicitList ? "explicit" : isImplicitList ? "implicit" : "hidden") +
+               ", nullValueRule=" + nullValueRule +
+               ", prohibitAdditionalProperties=" + prohibitAdditionalProperties +
+               ", limits=" + limits +
+               '}';
+    }
+
+}
@@ -16,24 +16,38 @@
 
 package org.touchbit.www.form.urlencoded.marshaller;
 
-import org.apache.commons.lang3.math.NumberUtils;
-import org.apache.commons.lang3.reflect.TypeUtils;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlByteSequence;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlChannelTokenizer;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlLimits;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlMapView;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlTokenizer;
 import org.touchbit.www.form.urlencoded.marshaller.chain.IChain;
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChainList;
+import org.touchbit.www.form.urlencoded.marshaller.codec.FormUrlGeneratedCodec;
+import org.touchbit.www.form.urlencoded.marshaller.codec.FormUrlGeneratedCodecRegistry;
 import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
 import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedAdditionalProperties;
 import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedField;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlFieldDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.processor.FormUrlCodecProcessor;
 import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
 import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
 import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -65,6 +79,16 @@ import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
  *     Model formUrlDecodedModel = FormUrlMarshaller.INSTANCE.unmarshal(formUrlEncodedString);
  * </code></pre>
  * <p>
+ * Settings are stored in the immutable {@link FormUrlConfig} (with per-config compiled class plans).
+ * A marshaller created with the configuration can be shared between threads.
+ * Each public method reads the configuration once and passes it down to the whole call,
+ * so the call result is never built from two different configurations.
+ * The mutating setters are deprecated (they replace the configuration of the possibly shared marshaller
+ * and discard the compiled class plans), use a configured marshaller instead:
+ * <pre><code>
+ *     FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList());
+ * </code></pre>
+ * <p>
  *
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
  * Created: 19.02.2022
@@ -76,16 +100,26 @@ public class FormUrlMarshaller {
 
     /***/
     public static final FormUrlMarshaller INSTANCE = new FormUrlMarshaller();
-    /***/
-    private boolean prohibitAdditionalProperties = false;
-    /***/
-    private Charset codingCharset = StandardCharsets.UTF_8;
-    /***/
-    private boolean isImplicitList = false;
-    /***/
-    private boolean isExplicitList = false;
-    /***/
-    private NullValueRule nullValueRule = NullValueRule.RULE_IGNORE;
+    /**
+     * immutable settings (replaced by the deprecated setters)
+     */
+    private volatile FormUrlConfig config;
+
+    /**
+     * Marshaller with the default settings ({@link FormUrlConfig#DEFAULT})
+     */
+    public FormUrlMarshaller() {
+        this(FormUrlConfig.DEFAULT);
+    }
+
+    /**
+     * @param config immutable marshaller settings
+     * @throws MarshallerException if config is null
+     */
+    public FormUrlMarshaller(final FormUrlConfig config) {
+        FormUrlUtils.parameterRequireNonNull(config, CONFIG_PARAMETER);
+        this.config = config;
+    }
 
     /**
      * Converts a POJO or Map to a form URL encoded string
@@ -95,9 +129,428 @@ public class FormUrlMarshaller {
      * @throws MarshallerException for any internal errors.
      */
     public String marshal(final Object model) {
-        final StringJoiner sj = new StringJoiner("&");
-        marshalToMap(model).forEach((key, valueList) -> valueList.forEach(value -> sj.add(key + "=" + value)));
-        return sj.toString();
+        // the generated codec (if any) is applied once by marshalToAppendable
+        return marshalToAppendable(getConfig(), model, new StringBuilder()).toString();
+    }
+
+    /**
+     * Writes a POJO or Map as a form URL encoded string directly to the {@link Appendable}
+     * without building the intermediate raw data map and {@link IChain}.
+     * Key/value pairs are written in the model traversal order (POJO fields in declaration order).
+     *
+     * @param model      {@code Map<String, Object>} or pojo object with {@link FormUrlEncoded} annotation
+     * @param appendable form URL encoded data output ({@link StringBuilder}, {@link java.io.Writer}, etc.)
+     * @param <A>        appendable generic type
+     * @return appendable
+     * @throws MarshallerException if model or appendable is null
+     * @throws MarshallerException if model type is not supported
+     * @throws MarshallerException if an I/O error occurs
+     */
+    public <A extends Appendable> A marshal(final Object model, final A appendable) {
+        return marshalToAppendable(getConfig(), model, appendable);
+    }
+
+    /**
+     * @param config     marshaller settings (read once per call)
+     * @param model      {@code Map<String, Object>} or pojo object with {@link FormUrlEncoded} annotation
+     * @param appendable form URL encoded data output ({@link StringBuilder}, {@link java.io.Writer}, etc.)
+     * @param <A>        appendable generic type
+     * @return appendable
+     * @throws MarshallerException if model or appendable is null
+     * @throws MarshallerException if model type is not supported
+     * @throws MarshallerException if an I/O error occurs
+     */
+    protected <A extends Appendable> A marshalToAppendable(final FormUrlConfig config,
+                                                           final Object model,
+                                                           final A appendable) {
+        FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(appendable, APPENDABLE_PARAMETER);
+        try {
+            if (!marshalWithGeneratedCodec(config, model, appendable)) {
+                new FormUrlWriter(this, config, appendable).write(model);
+            }
+            return appendable;
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (IOException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to write URL form data.")
+                    .errorCause(e)
+                    .build();
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected marshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Writes a POJO or Map as form URL encoded bytes directly to the {@link OutputStream}
+     * through a fixed-size byte buffer ({@link FormUrlByteOutput}).
+     * For ASCII compatible coding charsets, the bytes are identical to
+     * {@code marshal(model).getBytes(getFormUrlCodingCharset())}.
+     * The stream is flushed and not closed.
+     *
+     * @param model        {@code Map<String, Object>} or pojo object with {@link FormUrlEncoded} annotation
+     * @param outputStream form URL encoded data output (for example, HTTP request body stream)
+     * @throws MarshallerException if model or outputStream is null
+     * @throws MarshallerException if model type is not supported
+     * @throws MarshallerException if an I/O error occurs
+     */
+    public void marshal(final Object model, final OutputStream outputStream) {
+        FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(outputStream, OUTPUT_STREAM_PARAMETER);
+        final FormUrlConfig config = getConfig();
+        marshalToByteOutput(config, model, new FormUrlByteOutput(outputStream, config.getFormUrlCodingCharset()));
+    }
+
+    /**
+     * Writes a POJO or Map as form URL encoded bytes directly to the {@link WritableByteChannel}
+     * through a fixed-size byte buffer ({@link FormUrlByteOutput}).
+     * For ASCII compatible coding charsets, the bytes are identical to
+     * {@code marshal(model).getBytes(getFormUrlCodingCharset())}.
+     * The channel is not closed.
+     *
+     * @param model   {@code Map<String, Object>} or pojo object with {@link FormUrlEncoded} annotation
+     * @param channel form URL encoded data output (for example, HTTP request body channel)
+     * @throws MarshallerException if model or channel is null
+     * @throws MarshallerException if model type is not supported
+     * @throws MarshallerException if an I/O error occurs
+     */
+    public void marshal(final Object model, final WritableByteChannel channel) {
+        FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(channel, CHANNEL_PARAMETER);
+        final FormUrlConfig config = getConfig();
+        marshalToByteOutput(config, model, new FormUrlByteOutput(channel, config.getFormUrlCodingCharset()));
+    }
+
+    /**
+     * Writes a POJO or Map to the byte output, flushes and releases the output
+     *
+     * @param config marshaller settings (read once per call)
+     * @param model  {@code Map<String, Object>} or pojo object with {@link FormUrlEncoded} annotation
+     * @param output form URL encoded bytes output (released after the call)
+     * @throws MarshallerException if model type is not supported
+     * @throws MarshallerException if an I/O error occurs
+     */
+    protected void marshalToByteOutput(final FormUrlConfig config,
+                                       final Object model,
+                                       final FormUrlByteOutput output) {
+        try {
+            marshalToAppendable(config, model, output);
+            output.flush();
+        } catch (IOException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to write URL form data.")
+                    .errorCause(e)
+                    .build();
+        } finally {
+            output.release();
+        }
+    }
+
+    /**
+     * Walks a POJO or Map and reports its structure to the visitor
+     * without building the intermediate raw data map, {@link IChain} and key strings.
+     * Generated codecs are not used for the visitor.
+     *
+     * @param model   {@code Map<String, Object>} or pojo object with {@link FormUrlEncoded} annotation
+     * @param visitor model traversal events handler
+     * @throws MarshallerException if model or visitor is null
+     * @throws MarshallerException if model type is not supported
+     * @throws MarshallerException if an I/O error occurs in the visitor
+     */
+    public void marshal(final Object model, final FormUrlVisitor visitor) {
+        try {
+            visitModel(getConfig(), model, visitor);
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (IOException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to write URL form data.")
+                    .errorCause(e)
+                    .build();
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected marshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * @param config  marshaller settings (read once per call)
+     * @param model   {@code Map<String, Object>} or pojo object with {@link FormUrlEncoded} annotation
+     * @param visitor model traversal events handler
+     * @throws IOException         if an I/O error occurs in the visitor
+     * @throws MarshallerException if model or visitor is null
+     * @throws MarshallerException if model type is not supported
+     */
+    protected void visitModel(final FormUrlConfig config,
+                              final Object model,
+                              final FormUrlVisitor visitor) throws IOException {
+        FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(visitor, VISITOR_PARAMETER);
+        if (FormUrlUtils.isMapAssignableFrom(model) || FormUrlUtils.isPojo(model)) {
+            visitObject(config, model, visitor);
+            return;
+        }
+        throw MarshallerException.builder()
+                .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
+                .actualType(model)
+                .expectedHeirsOf(Map.class)
+                .expected(ERR_POJO_CLASSES_WITH_FORM_URLENCODED_ANNOTATION)
+                .build();
+    }
+
+    /**
+     * @param config  marshaller settings (read once per call)
+     * @param value   any value (null - empty string)
+     * @param visitor model traversal events handler
+     * @throws IOException         if an I/O error occurs in the visitor
+     * @throws MarshallerException if value type is not supported
+     */
+    protected void visitValue(final FormUrlConfig config,
+                              final Object value,
+                              final FormUrlVisitor visitor) throws IOException {
+        if (value == null) {
+            visitor.value(FormUrlUtils.encode("", config.getFormUrlCodingCharset()));
+        } else {
+            visitValue(config, value, config.getValuePlan(value.getClass()), visitor);
+        }
+    }
+
+    /**
+     * @param config    marshaller settings (read once per call)
+     * @param value     not null value
+     * @param valuePlan value class plan ({@link FormUrlConfig#getValuePlan(Class)})
+     * @param visitor   model traversal events handler
+     * @throws IOException         if an I/O error occurs in the visitor
+     * @throws MarshallerException if value type is not supported
+     */
+    protected void visitValue(final FormUrlConfig config,
+                              final Object value,
+                              final FormUrlValuePlan valuePlan,
+                              final FormUrlVisitor visitor) throws IOException {
+        switch (valuePlan.getKind()) {
+            case SIMPLE:
+                visitor.value(FormUrlUtils.encode(String.valueOf(value), config.getFormUrlCodingCharset()));
+                break;
+            case POJO:
+            case MAP:
+            case POJO_MAP:
+                visitObject(config, value, valuePlan, visitor);
+                break;
+            case COLLECTION:
+                visitItems(config, (Collection<?>) value, visitor);
+                break;
+            case ARRAY:
+                visitItems(config, Arrays.asList((Object[]) value), visitor);
+                break;
+            case PRIMITIVE_ARRAY:
+                visitPrimitiveArray(config, value, visitor);
+                break;
+            default:
+                throw unsupportedValueTypeError(value);
+        }
+    }
+
+    /**
+     * Visits collection or array items.
+     * The value class plan is looked up only when the item class differs from the previous item class,
+     * so homogeneous lists (for example, {@code List<POJO>}) are classified once per list.
+     *
+     * @param config  marshaller settings (read once per call)
+     * @param items   collection or array items
+     * @param visitor model traversal events handler
+     * @throws IOException         if an I/O error occurs in the visitor
+     * @throws MarshallerException if item type is not supported
+     */
+    protected void visitItems(final FormUrlConfig config,
+                              final Collection<?> items,
+                              final FormUrlVisitor visitor) throws IOException {
+        Class<?> itemClass = null;
+        FormUrlValuePlan itemPlan = null;
+        visitor.beginList();
+        int index = 0;
+        for (Object item : items) {
+            visitor.index(index++);
+            if (item == null) {
+                visitValue(config, null, visitor);
+                continue;
+            }
+            if (item.getClass() != itemClass) {
+                itemClass = item.getClass();
+                itemPlan = config.getValuePlan(itemClass);
+            }
+            visitValue(config, item, itemPlan, visitor);
+        }
+        visitor.endList();
+    }
+
+    /**
+     * @param config  marshaller settings (read once per call)
+     * @param array   primitive array ({@code int[]}, {@code long[]}, etc.)
+     * @param visitor model traversal events handler
+     * @throws IOException if an I/O error occurs in the visitor
+     */
+    protected void visitPrimitiveArray(final FormUrlConfig config,
+                                       final Object array,
+                                       final FormUrlVisitor visitor) throws IOException {
+        final Charset codingCharset = config.getFormUrlCodingCharset();
+        final int length = Array.getLength(array);
+        visitor.beginList();
+        for (int i = 0; i < length; i++) {
+            visitor.index(i);
+            visitor.value(FormUrlUtils.encode(primitiveArrayItemToString(array, i), codingCharset));
+        }
+        visitor.endList();
+    }
+
+    /**
+     * @param array primitive array ({@code int[]}, {@code long[]}, etc.)
+     * @param index item index
+     * @return string value of the array item (int[], long[] and double[] items are not boxed)
+     */
+    protected static String primitiveArrayItemToString(final Object array, final int index) {
+        if (array instanceof int[]) {
+            return String.valueOf(((int[]) array)[index]);
+        }
+        if (array instanceof long[]) {
+            return String.valueOf(((long[]) array)[index]);
+        }
+        if (array instanceof double[]) {
+            return String.valueOf(((double[]) array)[index]);
+        }
+        return String.valueOf(Array.get(array, index));
+    }
+
+    /**
+     * Visits POJO fields, additional properties and Map entries
+     *
+     * @param config  marshaller settings (read once per call)
+     * @param value   POJO and/or Map
+     * @param visitor model traversal events handler
+     * @throws IOException         if an I/O error occurs in the visitor
+     * @throws MarshallerException if map keys is not {@link String}
+     */
+    protected void visitObject(final FormUrlConfig config,
+                               final Object value,
+                               final FormUrlVisitor visitor) throws IOException {
+        visitObject(config, value, config.getValuePlan(value.getClass()), visitor);
+    }
+
+    /**
+     * @param config    marshaller settings (read once per call)
+     * @param value     POJO and/or Map
+     * @param valuePlan value class plan ({@link FormUrlConfig#getValuePlan(Class)})
+     * @param visitor   model traversal events handler
+     * @throws IOException         if an I/O error occurs in the visitor
+     * @throws MarshallerException if map keys is not {@link String}
+     */
+    protected void visitObject(final FormUrlConfig config,
+                               final Object value,
+                               final FormUrlValuePlan valuePlan,
+                               final FormUrlVisitor visitor) throws IOException {
+        final FormUrlValuePlan.Kind kind = valuePlan.getKind();
+        final Map<?, ?> map = kind == FormUrlValuePlan.Kind.MAP || kind == FormUrlValuePlan.Kind.POJO_MAP ?
+                (Map<?, ?>) value : null;
+        visitor.beginObject();
+        if (valuePlan.getPojoPlan() != null) {
+            visitPojo(config, value, valuePlan.getPojoPlan(), map, visitor);
+        }
+        if (map != null) {
+            visitMap(config, map, null, visitor);
+        }
+        visitor.endObject();
+    }
+
+    /**
+     * @param config    marshaller settings (read once per call)
+     * @param pojo      POJO object
+     * @param overrides nullable Map with entries overriding POJO fields and additional properties
+     * @param visitor   model traversal events handler
+     * @throws IOException if an I/O error occurs in the visitor
+     */
+    protected void visitPojo(final FormUrlConfig config,
+                             final Object pojo,
+                             final Map<?, ?> overrides,
+                             final FormUrlVisitor visitor) throws IOException {
+        visitPojo(config, pojo, config.getPojoPlan(pojo.getClass()), overrides, visitor);
+    }
+
+    /**
+     * @param config    marshaller settings (read once per call)
+     * @param pojo      POJO object
+     * @param plan      POJO class plan
+     * @param overrides nullable Map with entries overriding POJO fields and additional properties
+     * @param visitor   model traversal events handler
+     * @throws IOException if an I/O error occurs in the visitor
+     */
+    protected void visitPojo(final FormUrlConfig config,
+                             final Object pojo,
+                             final FormUrlPojoPlan plan,
+                             final Map<?, ?> overrides,
+                             final FormUrlVisitor visitor) throws IOException {
+        final FormUrlPojoDescriptor descriptor = plan.getDescriptor();
+        final Map<Object, Object> additionalProperties = descriptor.getAdditionalProperties(pojo);
+        final List<FormUrlFieldDescriptor> fields = descriptor.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            final FormUrlFieldDescriptor field = fields.get(i);
+            final String name = field.getName();
+            if (containsKey(additionalProperties, name) || containsKey(overrides, name)) {
+                continue;
+            }
+            final Object fieldValue = plan.getFieldValue(pojo, i);
+            if (fieldValue == null) {
+                continue;
+            }
+            visitor.field(name);
+            final FormUrlValuePlan valuePlan = config.getValuePlan(fieldValue.getClass());
+            if (valuePlan.getKind() == FormUrlValuePlan.Kind.SIMPLE) {
+                final String stringValue = String.valueOf(fieldValue);
+                visitor.value(field.isEncoded() ? stringValue :
+                        FormUrlUtils.encode(stringValue, config.getFormUrlCodingCharset()));
+            } else {
+                visitValue(config, fieldValue, valuePlan, visitor);
+            }
+        }
+        if (additionalProperties != null) {
+            visitMap(config, additionalProperties, overrides, visitor);
+        }
+    }
+
+    /**
+     * @param config    marshaller settings (read once per call)
+     * @param map       Map with {@link String} keys
+     * @param overrides nullable Map with entries overriding map entries
+     * @param visitor   model traversal events handler
+     * @throws IOException         if an I/O error occurs in the visitor
+     * @throws MarshallerException if map keys is not {@link String}
+     */
+    protected void visitMap(final FormUrlConfig config,
+                            final Map<?, ?> map,
+                            final Map<?, ?> overrides,
+                            final FormUrlVisitor visitor) throws IOException {
+        assertStringMapKeys(map);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            final String name = (String) entry.getKey();
+            if (containsKey(overrides, name)) {
+                continue;
+            }
+            visitor.field(name);
+            visitValue(config, entry.getValue(), visitor);
+        }
+    }
+
+    /**
+     * @param map nullable map
+     * @param key map key
+     * @return true if map contains the key
+     */
+    protected static boolean containsKey(final Map<?, ?> map, final String key) {
+        return map != null && !map.isEmpty() && map.containsKey(key);
     }
 
     /**
@@ -133,9 +586,10 @@ public class FormUrlMarshaller {
         FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
         try {
             if (FormUrlUtils.isMapAssignableFrom(model) || FormUrlUtils.isPojo(model)) {
+                final FormUrlConfig config = getConfig();
                 //noinspection unchecked
-                final Map<String, Object> rawData = (Map<String, Object>) convertValueToRawData(model);
-                return new IChain.Default(rawData, isImplicitList(), isExplicitList());
+                final Map<String, Object> rawData = (Map<String, Object>) convertValueToRawData(config, model);
+                return new IChain.Default(rawData, config.isImplicitList(), config.isExplicitList());
             }
             throw MarshallerException.builder()
                     .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
@@ -164,7 +618,113 @@ public class FormUrlMarshaller {
      */
     public <M> M unmarshal(final Class<M> modelClass, final String encodedString) {
         try {
-            return unmarshalStringToClass(modelClass, encodedString);
+            return unmarshalStringToClass(getConfig(), modelClass, encodedString);
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected unmarshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Bytes to model conversion.
+     * Form data is scanned directly in the bytes without a String copy of the entire body.
+     * Only URL decoded values and raw non-ASCII bytes are decoded with the coding charset.
+     *
+     * @param modelClass FormUrlEncoded model class
+     * @param bytes      URL encoded bytes (for example, HTTP request body buffer)
+     * @param offset     form data start offset in the bytes array
+     * @param length     form data length
+     * @param <M>        model generic type
+     * @return completed model
+     * @throws MarshallerException for any internal errors.
+     */
+    public <M> M unmarshal(final Class<M> modelClass, final byte[] bytes, final int offset, final int length) {
+        FormUrlUtils.parameterRequireNonNull(modelClass, MODEL_CLASS_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(bytes, BYTES_PARAMETER);
+        try {
+            final FormUrlConfig config = getConfig();
+            final FormUrlByteSequence encodedData =
+                    new FormUrlByteSequence(bytes, offset, length, config.getFormUrlCodingCharset());
+            return unmarshalStringToClass(config, modelClass, encodedData);
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected unmarshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Byte buffer to model conversion (from the buffer position to the buffer limit).
+     * The buffer position is not changed.
+     * Heap buffers are scanned in place, direct and read-only buffers are copied once.
+     *
+     * @param modelClass FormUrlEncoded model class
+     * @param buffer     URL encoded bytes (for example, HTTP request body buffer)
+     * @param <M>        model generic type
+     * @return completed model
+     * @throws MarshallerException for any internal errors.
+     */
+    public <M> M unmarshal(final Class<M> modelClass, final ByteBuffer buffer) {
+        FormUrlUtils.parameterRequireNonNull(buffer, BUFFER_PARAMETER);
+        if (buffer.hasArray()) {
+            return unmarshal(modelClass, buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return unmarshal(modelClass, bytes, 0, bytes.length);
+    }
+
+    /**
+     * Input stream to model conversion.
+     * Form data is read and bound incrementally (see {@link #unmarshal(Class, ReadableByteChannel)}).
+     * The stream is not closed.
+     *
+     * @param modelClass  FormUrlEncoded model class
+     * @param inputStream URL encoded data (for example, HTTP request body stream)
+     * @param <M>         model generic type
+     * @return completed model
+     * @throws MarshallerException for any internal errors.
+     */
+    public <M> M unmarshal(final Class<M> modelClass, final InputStream inputStream) {
+        FormUrlUtils.parameterRequireNonNull(inputStream, INPUT_STREAM_PARAMETER);
+        return unmarshal(modelClass, Channels.newChannel(inputStream));
+    }
+
+    /**
+     * Channel to model conversion.
+     * Form data is read into a fixed-size buffer ({@link FormUrlChannelTokenizer})
+     * and each key/value pair is bound to the model as soon as it is received,
+     * so the entire body is never held in memory.
+     * Generated codecs are not used for the channel. The channel is not closed.
+     * The channel must be in blocking mode (non-blocking channels are rejected).
+     *
+     * @param modelClass FormUrlEncoded model class
+     * @param channel    URL encoded data (for example, HTTP request body channel)
+     * @param <M>        model generic type
+     * @return completed model
+     * @throws MarshallerException for any internal errors.
+     */
+    public <M> M unmarshal(final Class<M> modelClass, final ReadableByteChannel channel) {
+        FormUrlUtils.parameterRequireNonNull(modelClass, MODEL_CLASS_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(channel, CHANNEL_PARAMETER);
+        try {
+            final FormUrlConfig config = getConfig();
+            final M model = FormUrlUtils.invokeConstructor(modelClass);
+            unmarshalChannelToObject(config, model, new FormUrlChannelTokenizer(channel,
+                    config.getFormUrlCodingCharset(), FormUrlChannelTokenizer.DEFAULT_BUFFER_SIZE, config.getLimits()));
+            return model;
+        } catch (IOException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to read URL form data.")
+                    .errorCause(e)
+                    .build();
         } catch (MarshallerException e) {
             throw e;
         } catch (RuntimeException e) {
@@ -185,7 +745,7 @@ public class FormUrlMarshaller {
      */
     public <M> void unmarshalTo(final M object, final String encodedString) {
         try {
-            unmarshalStringToObject(object, encodedString);
+            unmarshalStringToObject(getConfig(), object, encodedString);
         } catch (MarshallerException e) {
             throw e;
         } catch (RuntimeException e) {
@@ -197,151 +757,506 @@ public class FormUrlMarshaller {
     }
 
     /**
-     * String to model conversion
-     *
-     * @param modelClass    FormUrlEncoded model class
-     * @param encodedString URL encoded string to conversation
-     * @param <M>           model generic type
-     * @return completed model
-     * @throws MarshallerException on class instantiation errors
+     * String to read-only raw data view conversion ({@link FormUrlMapView}).
+     * The string is scanned once, values are URL decoded and nested maps/lists are built
+     * only for the accessed top-level keys.
+     * Decoding errors are thrown on the key access.
+     *
+     * @param encodedString URL encoded string to conversation
+     * @return read-only lazy raw data map (not thread safe)
+     * @throws MarshallerException for any internal errors.
+     */
+    public Map<String, Object> unmarshalToMapView(final String encodedString) {
+        FormUrlUtils.parameterRequireNonNull(encodedString, ENCODED_STRING_PARAMETER);
+        try {
+            final FormUrlConfig config = getConfig();
+            return new FormUrlMapView(encodedString, config.getFormUrlCodingCharset(), config.getLimits());
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected unmarshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * String to model conversion
+     *
+     * @param modelClass    FormUrlEncoded model class
+     * @param encodedString URL encoded string to conversation
+     * @param <M>           model generic type
+     * @return completed model
+     * @throws MarshallerException on class instantiation errors
+     */
+    protected <M> M unmarshalStringToClass(final Class<M> modelClass, final CharSequence encodedString) {
+        return unmarshalStringToClass(getConfig(), modelClass, encodedString);
+    }
+
+    /**
+     * String to model conversion
+     *
+     * @param config        marshaller settings (read once per call)
+     * @param modelClass    FormUrlEncoded model class
+     * @param encodedString URL encoded string to conversation
+     * @param <M>           model generic type
+     * @return completed model
+     * @throws MarshallerException on class instantiation errors
+     */
+    protected <M> M unmarshalStringToClass(final FormUrlConfig config,
+                                           final Class<M> modelClass,
+                                           final CharSequence encodedString) {
+        FormUrlUtils.parameterRequireNonNull(modelClass, MODEL_CLASS_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(encodedString, ENCODED_STRING_PARAMETER);
+        final M model = FormUrlUtils.invokeConstructor(modelClass);
+        unmarshalStringToObject(config, model, encodedString);
+        return model;
+    }
+
+    /**
+     * String to model conversion
+     *
+     * @param object        POJO or Map object
+     * @param encodedString URL encoded string to conversation
+     * @param <M>           model generic type
+     * @throws MarshallerException on class instantiation errors
+     * @throws MarshallerException if the form key is not mapped to the POJO fields and additional properties are prohibited
+     */
+    protected <M> void unmarshalStringToObject(final M object, final CharSequence encodedString) {
+        unmarshalStringToObject(getConfig(), object, encodedString);
+    }
+
+    /**
+     * String to model conversion
+     *
+     * @param config        marshaller settings (read once per call)
+     * @param object        POJO or Map object
+     * @param encodedString URL encoded string to conversation
+     * @param <M>           model generic type
+     * @throws MarshallerException on class instantiation errors
+     * @throws MarshallerException if the form key is not mapped to the POJO fields and additional properties are prohibited
+     */
+    protected <M> void unmarshalStringToObject(final FormUrlConfig config,
+                                               final M object,
+                                               final CharSequence encodedString) {
+        FormUrlUtils.parameterRequireNonNull(object, OBJECT_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(encodedString, ENCODED_STRING_PARAMETER);
+        if (unmarshalWithGeneratedCodec(config, object, encodedString)
+            || unmarshalWithPojoBinder(config, object, encodedString)) {
+            return;
+        }
+        // Map models or the binder is disabled
+        unmarshalPairsToObject(config, object, null, encodedString);
+    }
+
+    /**
+     * Writes form URL encoded string to the object in one pass over the pairs ({@link FormUrlPairSink}).
+     * Unknown keys are rejected pair by pair if additional properties are prohibited.
+     *
+     * @param config           marshaller settings (read once per call)
+     * @param object           POJO or Map object
+     * @param binderDescriptor POJO descriptor for the {@link FormUrlPojoBinder}
+     *                         or null to build the raw data of all pairs (Map models)
+     * @param encodedString    URL encoded string to conversation
+     * @throws MarshallerException if POJO contains unmapped additional properties and they are prohibited
+     * @throws MarshallerException if the form key is not mapped to the POJO fields and additional properties are prohibited
+     */
+    protected void unmarshalPairsToObject(final FormUrlConfig config,
+                                          final Object object,
+                                          final FormUrlPojoDescriptor binderDescriptor,
+                                          final CharSequence encodedString) {
+        FormUrlUtils.parameterRequireNonNull(object, OBJECT_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(encodedString, ENCODED_STRING_PARAMETER);
+        final FormUrlPairSink sink = new FormUrlPairSink(this, config, object, binderDescriptor);
+        if (!FormUrlTokenizer.isBlank(encodedString)) {
+            final Charset codingCharset = config.getFormUrlCodingCharset();
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer(encodedString, config.getLimits());
+            while (tokenizer.next()) {
+                final String key = tokenizer.getKey();
+                sink.requireMappedKey(key);
+                sink.accept(key, tokenizer.getValue(codingCharset), tokenizer.isImplicitList(), tokenizer.isExplicitList());
+            }
+        }
+        sink.write();
+    }
+
+    /**
+     * Channel to model conversion.
+     * Pairs are written to the object as they arrive ({@link FormUrlPairSink}).
+     *
+     * @param config    marshaller settings (read once per call)
+     * @param object    POJO or Map object
+     * @param tokenizer form URL encoded data scanner
+     * @param <M>       model generic type
+     * @throws IOException         if an I/O error occurs
+     * @throws MarshallerException if object is null
+     * @throws MarshallerException if object type is not supported
+     * @throws MarshallerException if the form key is not mapped to the POJO fields and additional properties are prohibited
+     */
+    protected <M> void unmarshalChannelToObject(final FormUrlConfig config,
+                                                final M object,
+                                                final FormUrlChannelTokenizer tokenizer) throws IOException {
+        FormUrlUtils.parameterRequireNonNull(object, OBJECT_PARAMETER);
+        final FormUrlPojoDescriptor binderDescriptor = FormUrlUtils.isPojo(object) && !FormUrlUtils.isMapAssignableFrom(object)
+                ? FormUrlPojoDescriptor.of(object.getClass()) : null;
+        final FormUrlPairSink sink = new FormUrlPairSink(this, config, object, binderDescriptor);
+        while (tokenizer.next()) {
+            final String key = tokenizer.getKey();
+            sink.requireMappedKey(key);
+            sink.accept(key, tokenizer.getValue(), tokenizer.isImplicitList(), tokenizer.isExplicitList());
+        }
+        sink.write();
+    }
+
+    /**
+     * Writes raw data to the POJO and/or Map object
+     *
+     * @param config  marshaller settings (read once per call)
+     * @param object  POJO or Map object
+     * @param rawData form data raw representation ({@link IChain#getRawData()})
+     * @throws MarshallerException if object type is not supported
+     * @throws MarshallerException if POJO contains unmapped additional properties and they are prohibited
+     */
+    @SuppressWarnings("unchecked")
+    protected void writeRawDataToObject(final FormUrlConfig config,
+                                        final Object object,
+                                        final Map<String, Object> rawData) {
+        compactRawValue(config, rawData);
+        if (FormUrlUtils.isMapAssignableFrom(object) || FormUrlUtils.isPojo(object)) {
+            if (FormUrlUtils.isPojo(object)) {
+                writeRawDataToPojo(config, object, rawData);
+            }
+            if (FormUrlUtils.isMapAssignableFrom(object)) {
+                Map<String, Object> modelMap = (Map<String, Object>) object;
+                modelMap.putAll(rawData);
+                rawData.clear();
+            }
+            if (!rawData.isEmpty() && config.isProhibitAdditionalProperties()) {
+                throw MarshallerException.builder()
+                        .errorMessage(ERR_UNMAPPED_ADDITIONAL_PROPERTIES)
+                        .validationError()
+                        .actual(rawData)
+                        .expected(THERE_ARE_NO_ADDITIONAL_PROPERTIES)
+                        .build();
+            }
+            return;
+        }
+        throw MarshallerException.builder()
+                .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
+                .actualType(object)
+                .expected(ERR_POJO_CLASSES_WITH_FORM_URLENCODED_ANNOTATION)
+                .expectedHeirsOf(Map.class)
+                .build();
+    }
+
+    /**
+     * Compacts sparse explicit lists ({@link IChainList.Sparse}) of the raw value into dense lists
+     * with null values for missing indexes. Maps and lists are compacted in place.
+     *
+     * @param config   marshaller settings (read once per call)
+     * @param rawValue raw data value ({@link IChain#getRawData()})
+     * @return compacted raw value
+     */
+    @SuppressWarnings("unchecked")
+    protected Object compactRawValue(final FormUrlConfig config, final Object rawValue) {
+        if (rawValue instanceof Map) {
+            ((Map<Object, Object>) rawValue).replaceAll((key, value) -> compactRawValue(config, value));
+            return rawValue;
+        }
+        if (rawValue instanceof IChainList.Sparse) {
+            // the list index is limited by the tokenizer (FormUrlLimits#getMaxListIndex())
+            final IChainList.Default dense = ((IChainList.Sparse) rawValue).toDenseList();
+            dense.replaceAll(item -> compactRawValue(config, item));
+            return dense;
+        }
+        if (rawValue instanceof IChainList) {
+            ((IChainList) rawValue).replaceAll(item -> compactRawValue(config, item));
+        }
+        return rawValue;
+    }
+
+    /**
+     * Writes a POJO directly to the output using the generated codec
+     *
+     * @param config     marshaller settings (read once per call)
+     * @param model      nullable model
+     * @param appendable form URL encoded data output
+     * @return true if the model was written, false if the model is not supported by the generated codec (output not changed)
+     * @throws IOException         if an I/O error occurs
+     * @throws MarshallerException for any internal errors.
+     */
+    protected boolean marshalWithGeneratedCodec(final FormUrlConfig config,
+                                                final Object model,
+                                                final Appendable appendable) throws IOException {
+        if (model == null) {
+            return false;
+        }
+        final FormUrlGeneratedCodec<Object> codec = getGeneratedCodec(model.getClass());
+        if (codec == null) {
+            return false;
+        }
+        try {
+            return codec.write(model, config, appendable);
+        } catch (MarshallerException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unexpected marshalling error.")
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * Writes form URL encoded string to the POJO using the generated codec
+     *
+     * @param config        marshaller settings (read once per call)
+     * @param object        POJO or Map object
+     * @param encodedString URL encoded string to conversation
+     * @return true if the string was written by the generated codec
+     */
+    protected boolean unmarshalWithGeneratedCodec(final FormUrlConfig config,
+                                                  final Object object,
+                                                  final CharSequence encodedString) {
+        final FormUrlGeneratedCodec<Object> codec = getGeneratedCodec(object.getClass());
+        return codec != null && codec.read(encodedString, object, config);
+    }
+
+    /**
+     * Writes form URL encoded string directly to the POJO fields without building the raw data tree
+     * (see {@link #unmarshalPairsToObject(FormUrlConfig, Object, FormUrlPojoDescriptor, CharSequence)}).
+     * Override this method to disable {@link FormUrlPojoBinder}.
+     *
+     * @param config        marshaller settings (read once per call)
+     * @param object        POJO or Map object
+     * @param encodedString URL encoded string to conversation
+     * @return true if the string was written with the {@link FormUrlPojoBinder} (object is a POJO and not a Map)
+     * @throws MarshallerException if POJO contains unmapped additional properties and they are prohibited
+     * @throws MarshallerException if the form key is not mapped to the POJO fields and additional properties are prohibited
+     */
+    protected boolean unmarshalWithPojoBinder(final FormUrlConfig config,
+                                              final Object object,
+                                              final CharSequence encodedString) {
+        if (!FormUrlUtils.isPojo(object) || FormUrlUtils.isMapAssignableFrom(object)) {
+            return false;
+        }
+        unmarshalPairsToObject(config, object, FormUrlPojoDescriptor.of(object.getClass()), encodedString);
+        return true;
+    }
+
+    /**
+     * Writes values collected by the {@link FormUrlPojoBinder} to the POJO
+     *
+     * @param config marshaller settings (read once per call)
+     * @param object POJO object
+     * @param binder binder with the routed pairs
+     * @throws MarshallerException if POJO contains unmapped additional properties and they are prohibited
+     */
+    protected void writeBinderToPojo(final FormUrlConfig config, final Object object, final FormUrlPojoBinder binder) {
+        final Map<String, Object> unmapped = binder.write(object);
+        if (!unmapped.isEmpty() && config.isProhibitAdditionalProperties()) {
+            throw MarshallerException.builder()
+                    .errorMessage(ERR_UNMAPPED_ADDITIONAL_PROPERTIES)
+                    .validationError()
+                    .actual(unmapped)
+                    .expected(THERE_ARE_NO_ADDITIONAL_PROPERTIES)
+                    .build();
+        }
+    }
+
+    /**
+     * Override this method to disable the unknown keys rejection during the form parsing.
+     *
+     * @param config     marshaller settings (read once per call)
+     * @param modelClass model class
+     * @return POJO class plan for the key check ({@link #requireMappedKey(FormUrlConfig, FormUrlPojoPlan, String)})
+     * or null if additional properties are allowed or the model is a Map
+     */
+    protected FormUrlPojoPlan getKeyCheckPlan(final FormUrlConfig config, final Class<?> modelClass) {
+        if (!config.isProhibitAdditionalProperties()
+            || !FormUrlUtils.isPojo(modelClass)
+            || FormUrlUtils.isMapAssignableFrom(modelClass)) {
+            return null;
+        }
+        return config.getPojoPlan(modelClass);
+    }
+
+    /**
+     * Rejects the form key that is not mapped to the POJO fields before its value is decoded.
+     *
+     * @param config       marshaller settings (read once per call)
+     * @param keyCheckPlan POJO class plan ({@link #getKeyCheckPlan(FormUrlConfig, Class)}) or null to skip the check
+     * @param key          trimmed URL encoded form key
+     * @throws MarshallerException if the key is not mapped to the POJO fields
+     */
+    protected void requireMappedKey(final FormUrlConfig config, final FormUrlPojoPlan keyCheckPlan, final String key) {
+        if (keyCheckPlan != null && !keyCheckPlan.isMappedKey(config, key)) {
+            throw MarshallerException.builder()
+                    .errorMessage(ERR_UNMAPPED_ADDITIONAL_PROPERTIES)
+                    .validationError()
+                    .actual(key)
+                    .expected(THERE_ARE_NO_ADDITIONAL_PROPERTIES)
+                    .build();
+        }
+    }
+
+    /**
+     * Override this method to disable generated codecs.
+     *
+     * @param modelClass model class
+     * @return codec generated by the {@link FormUrlCodecProcessor} or null
+     */
+    @SuppressWarnings("unchecked")
+    protected FormUrlGeneratedCodec<Object> getGeneratedCodec(final Class<?> modelClass) {
+        return (FormUrlGeneratedCodec<Object>) FormUrlGeneratedCodecRegistry.get(modelClass);
+    }
+
+    /**
+     * @param value any object
+     * @return converted value (List || Map || String)
+     * @throws MarshallerException if value type is not supported
+     */
+    protected Object convertValueToRawData(final Object value) {
+        return convertValueToRawData(getConfig(), value);
+    }
+
+    /**
+     * @param config marshaller settings (read once per call)
+     * @param value  any object
+     * @return converted value (List || Map || String)
+     * @throws MarshallerException if value type is not supported
+     */
+    protected Object convertValueToRawData(final FormUrlConfig config, final Object value) {
+        if (value == null) {
+            return convertSimpleToRawData(config, null);
+        }
+        return convertValueToRawData(config, value, config.getValuePlan(value.getClass()));
+    }
+
+    /**
+     * @param config    marshaller settings (read once per call)
+     * @param value     not null value
+     * @param valuePlan value class plan ({@link FormUrlConfig#getValuePlan(Class)})
+     * @return converted value (List || Map || String)
+     * @throws MarshallerException if value type is not supported
      */
-    protected <M> M unmarshalStringToClass(final Class<M> modelClass, final String encodedString) {
-        FormUrlUtils.parameterRequireNonNull(modelClass, MODEL_CLASS_PARAMETER);
-        FormUrlUtils.parameterRequireNonNull(encodedString, ENCODED_STRING_PARAMETER);
-        final M model = FormUrlUtils.invokeConstructor(modelClass);
-        unmarshalStringToObject(model, encodedString);
-        return model;
+    protected Object convertValueToRawData(final FormUrlConfig config,
+                                           final Object value,
+                                           final FormUrlValuePlan valuePlan) {
+        switch (valuePlan.getKind()) {
+            case SIMPLE:
+                return convertSimpleToRawData(config, value);
+            case POJO:
+            case MAP:
+            case POJO_MAP:
+                final Map<String, Object> map = new HashMap<>();
+                if (valuePlan.getPojoPlan() != null) {
+                    map.putAll(convertPojoToRawData(config, value));
+                }
+                if (valuePlan.getKind() != FormUrlValuePlan.Kind.POJO) {
+                    map.putAll(convertMapToRawData(config, value));
+                }
+                return map;
+            case COLLECTION:
+                return convertItemsToRawData(config, (Collection<?>) value);
+            case ARRAY:
+                return convertItemsToRawData(config, Arrays.asList((Object[]) value));
+            case PRIMITIVE_ARRAY:
+                return convertPrimitiveArrayToRawData(config, value);
+            default:
+                throw unsupportedValueTypeError(value);
+        }
     }
 
     /**
-     * String to model conversion
+     * The value class plan is looked up only when the item class differs from the previous item class,
+     * so homogeneous lists (for example, {@code List<POJO>}) are classified once per list.
      *
-     * @param object        POJO or Map object
-     * @param encodedString URL encoded string to conversation
-     * @param <M>           model generic type
-     * @throws MarshallerException on class instantiation errors
+     * @param config marshaller settings (read once per call)
+     * @param items  collection or array items
+     * @return {@link ArrayList} with converted items
+     * @throws MarshallerException if item type is not supported
      */
-    @SuppressWarnings("unchecked")
-    protected <M> void unmarshalStringToObject(final M object, final String encodedString) {
-        FormUrlUtils.parameterRequireNonNull(object, OBJECT_PARAMETER);
-        FormUrlUtils.parameterRequireNonNull(encodedString, ENCODED_STRING_PARAMETER);
-        final Map<String, Object> rawData = new IChain.Default(encodedString).getRawData();
-        if (FormUrlUtils.isMapAssignableFrom(object) || FormUrlUtils.isPojo(object)) {
-            if (FormUrlUtils.isPojo(object)) {
-                writeRawDataToPojo(object, rawData);
-            }
-            if (FormUrlUtils.isMapAssignableFrom(object)) {
-                Map<String, Object> modelMap = (Map<String, Object>) object;
-                modelMap.putAll(rawData);
-                rawData.clear();
+    protected List<Object> convertItemsToRawData(final FormUrlConfig config, final Collection<?> items) {
+        final List<Object> result = new ArrayList<>(items.size());
+        Class<?> itemClass = null;
+        FormUrlValuePlan itemPlan = null;
+        for (Object item : items) {
+            if (item == null) {
+                result.add(convertSimpleToRawData(config, null));
+                continue;
             }
-            if (!rawData.isEmpty() && prohibitAdditionalProperties) {
-                throw MarshallerException.builder()
-                        .errorMessage(ERR_UNMAPPED_ADDITIONAL_PROPERTIES)
-                        .actual(rawData)
-                        .expected(THERE_ARE_NO_ADDITIONAL_PROPERTIES)
-                        .build();
+            if (item.getClass() != itemClass) {
+                itemClass = item.getClass();
+                itemPlan = config.getValuePlan(itemClass);
             }
-            return;
+            result.add(convertValueToRawData(config, item, itemPlan));
         }
-        throw MarshallerException.builder()
+        return result;
+    }
+
+    /**
+     * @param value value of unsupported type
+     * @return {@link MarshallerException} value type is not supported
+     */
+    protected RuntimeException unsupportedValueTypeError(final Object value) {
+        return MarshallerException.builder()
                 .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
-                .actualType(object)
+                .actualType(value)
+                .expected(ERR_SIMPLE_REFERENCE_TYPES)
                 .expected(ERR_POJO_CLASSES_WITH_FORM_URLENCODED_ANNOTATION)
                 .expectedHeirsOf(Map.class)
+                .expectedHeirsOf(Collection.class)
+                .expected(ERR_SIMPLE_COMPLEX_REFERENCE_TYPE_ARRAY)
                 .build();
     }
 
     /**
-     * @param value any object
-     * @return converted value (List || Map || String)
-     * @throws MarshallerException if value type is not supported
+     * @param value any object with {@link FormUrlEncoded} class annotation
+     * @return {@link HashMap} with converted values
+     * @throws MarshallerException if value is null
+     * @throws MarshallerException class does not contain a FormUrlEncodedField annotation
      */
-    protected Object convertValueToRawData(final Object value) {
-        if (value == null || FormUrlUtils.isSimple(value)) {
-            return convertSimpleToRawData(value);
-        } else if (FormUrlUtils.isPojo(value) || FormUrlUtils.isMapAssignableFrom(value)) {
-            final Map<String, Object> map = new HashMap<>();
-            if (FormUrlUtils.isPojo(value)) {
-                map.putAll(convertPojoToRawData(value));
-            }
-            if (FormUrlUtils.isMapAssignableFrom(value)) {
-                map.putAll(convertMapToRawData(value));
-            }
-            return map;
-        } else if (FormUrlUtils.isCollection(value)) {
-            return convertCollectionToRawData(value);
-        } else if (FormUrlUtils.isArray(value)) {
-            return convertArrayToRawData(value);
-        } else {
-            throw MarshallerException.builder()
-                    .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
-                    .actualType(value)
-                    .expected(ERR_SIMPLE_REFERENCE_TYPES)
-                    .expected(ERR_POJO_CLASSES_WITH_FORM_URLENCODED_ANNOTATION)
-                    .expectedHeirsOf(Map.class)
-                    .expectedHeirsOf(Collection.class)
-                    .expected(ERR_SIMPLE_COMPLEX_REFERENCE_TYPE_ARRAY)
-                    .build();
-        }
+    protected Map<String, Object> convertPojoToRawData(final Object value) {
+        return convertPojoToRawData(getConfig(), value);
     }
 
     /**
-     * @param value any object with {@link FormUrlEncoded} class annotation
+     * @param config marshaller settings (read once per call)
+     * @param value  any object with {@link FormUrlEncoded} class annotation
      * @return {@link HashMap} with converted values
      * @throws MarshallerException if value is null
      * @throws MarshallerException class does not contain a FormUrlEncodedField annotation
      */
     @SuppressWarnings("java:S3776") // does not require decomposition
-    protected Map<String, Object> convertPojoToRawData(final Object value) {
+    protected Map<String, Object> convertPojoToRawData(final FormUrlConfig config, final Object value) {
         FormUrlUtils.parameterRequireNonNull(value, VALUE_PARAMETER);
         if (value.getClass().isAnnotationPresent(FormUrlEncoded.class)) {
             final Map<String, Object> result = new HashMap<>();
-            final List<Field> formUrlEncodedFields = FormUrlUtils.getFormUrlEncodedFields(value);
-            for (Field field : formUrlEncodedFields) {
-                final FormUrlEncodedField annotation = field.getAnnotation(FormUrlEncodedField.class);
-                final Object rawFieldValue = FormUrlUtils.readField(value, field);
-                final Object fieldValue;
-                if (rawFieldValue != null) {
-                    fieldValue = rawFieldValue;
-                } else {
-                    switch (getNullValueRule()) {
-                        case RULE_NULL_MARKER:
-                            if (annotation.encoded()) {
-                                fieldValue = NullValueRule.ENCODED_NULL_MARKER;
-                            } else {
-                                fieldValue = NullValueRule.DECODED_NULL_MARKER;
-                            }
-                            break;
-                        case RULE_NULL_STRING:
-                            fieldValue = "null";
-                            break;
-                        case RULE_EMPTY_STRING:
-                            fieldValue = "";
-                            break;
-                        case RULE_IGNORE:
-                        default:
-                            fieldValue = null;
-                    }
-                }
+            final FormUrlPojoPlan plan = config.getPojoPlan(value.getClass());
+            final FormUrlPojoDescriptor descriptor = plan.getDescriptor();
+            final List<FormUrlFieldDescriptor> fields = descriptor.getFields();
+            for (int i = 0; i < fields.size(); i++) {
+                final FormUrlFieldDescriptor field = fields.get(i);
+                final Object fieldValue = plan.getFieldValue(value, i);
                 if (fieldValue == null) {
                     continue;
                 }
-                final String resultKey = annotation.value();
+                final String resultKey = field.getName();
                 final Object resultValue;
                 if (FormUrlUtils.isSimple(fieldValue)) {
                     final String stringValue = String.valueOf(fieldValue);
-                    final String encoded = FormUrlUtils.encode(stringValue, codingCharset);
-                    resultValue = annotation.encoded() ? fieldValue : encoded;
+                    final String encoded = FormUrlUtils.encode(stringValue, config.getFormUrlCodingCharset());
+                    resultValue = field.isEncoded() ? fieldValue : encoded;
                 } else {
-                    resultValue = convertValueToRawData(fieldValue);
+                    resultValue = convertValueToRawData(config, fieldValue);
                 }
                 result.put(resultKey, resultValue);
             }
-            final Field additionalPropertiesField = getAdditionalPropertiesField(value.getClass());
-            if (additionalPropertiesField != null) {
-                final Map<Object, Object> ap = getAdditionalProperties(value, additionalPropertiesField);
-                @SuppressWarnings("unchecked") final Map<String, Object> convertedAP = (Map<String, Object>) convertValueToRawData(ap);
+            final Map<Object, Object> ap = descriptor.getAdditionalProperties(value);
+            if (ap != null) {
+                @SuppressWarnings("unchecked") final Map<String, Object> convertedAP = (Map<String, Object>) convertValueToRawData(config, ap);
                 result.putAll(convertedAP);
             }
             return result;
@@ -361,27 +1276,28 @@ public class FormUrlMarshaller {
      * @throws MarshallerException if map keys is not {@link String}
      */
     protected Map<String, Object> convertMapToRawData(final Object value) {
+        return convertMapToRawData(getConfig(), value);
+    }
+
+    /**
+     * @param config marshaller settings (read once per call)
+     * @param value  any {@link Map}
+     * @return {@link HashMap} with converted values
+     * @throws MarshallerException if value is null
+     * @throws MarshallerException if value is not {@link Map}
+     * @throws MarshallerException if map keys is not {@link String}
+     */
+    protected Map<String, Object> convertMapToRawData(final FormUrlConfig config, final Object value) {
         FormUrlUtils.parameterRequireNonNull(value, VALUE_PARAMETER);
         final Map<String, Object> result = new HashMap<>();
         if (value instanceof Map) {
             Map<?, ?> map = (Map<?, ?>) value;
             final Set<?> rawKeySet = map.keySet();
-            final List<?> invalidTypeKeys = rawKeySet.stream()
-                    .filter(e -> !(e instanceof String))
-                    .collect(Collectors.toList());
-            if (!invalidTypeKeys.isEmpty()) {
-                final Map<?, String> actual = invalidTypeKeys.stream()
-                        .collect(Collectors.toMap(i -> i, i -> i.getClass().getSimpleName()));
-                throw MarshallerException.builder()
-                        .errorMessage("Invalid Map keys type")
-                        .actual("key-type pairs: " + actual)
-                        .expected("String key type (Map<String, ?>)")
-                        .build();
-            }
+            assertStringMapKeys(map);
             for (Object rawKey : rawKeySet) {
                 final String resultKey = String.valueOf(rawKey);
                 final Object resultValue = map.get(resultKey);
-                final Object rawDataValue = convertValueToRawData(resultValue);
+                final Object rawDataValue = convertValueToRawData(config, resultValue);
                 result.put(resultKey, rawDataValue);
             }
             return result;
@@ -393,6 +1309,25 @@ public class FormUrlMarshaller {
                 .build();
     }
 
+    /**
+     * @param map any {@link Map}
+     * @throws MarshallerException if map keys is not {@link String}
+     */
+    protected void assertStringMapKeys(final Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                final Map<?, String> actual = map.keySet().stream()
+                        .filter(e -> !(e instanceof String))
+                        .collect(Collectors.toMap(i -> i, i -> i.getClass().getSimpleName()));
+                throw MarshallerException.builder()
+                        .errorMessage("Invalid Map keys type")
+                        .actual("key-type pairs: " + actual)
+                        .expected("String key type (Map<String, ?>)")
+                        .build();
+            }
+        }
+    }
+
     /**
      * @param value any {@link Collection}
      * @return {@link ArrayList} with converted array values
@@ -400,12 +1335,20 @@ public class FormUrlMarshaller {
      * @throws MarshallerException if value is not {@link Collection}
      */
     protected Object convertCollectionToRawData(final Object value) {
+        return convertCollectionToRawData(getConfig(), value);
+    }
+
+    /**
+     * @param config marshaller settings (read once per call)
+     * @param value  any {@link Collection}
+     * @return {@link ArrayList} with converted array values
+     * @throws MarshallerException if value is null
+     * @throws MarshallerException if value is not {@link Collection}
+     */
+    protected Object convertCollectionToRawData(final FormUrlConfig config, final Object value) {
         FormUrlUtils.parameterRequireNonNull(value, VALUE_PARAMETER);
-        final List<Object> result = new ArrayList<>();
         if (value instanceof Collection) {
-            Collection<?> collection = (Collection<?>) value;
-            collection.forEach(item -> result.add(convertValueToRawData(item)));
-            return result;
+            return convertItemsToRawData(config, (Collection<?>) value);
         }
         throw MarshallerException.builder()
                 .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
@@ -421,12 +1364,23 @@ public class FormUrlMarshaller {
      * @throws MarshallerException if value is not array
      */
     protected Object convertArrayToRawData(final Object value) {
+        return convertArrayToRawData(getConfig(), value);
+    }
+
+    /**
+     * @param config marshaller settings (read once per call)
+     * @param value  any array
+     * @return {@link ArrayList} with converted array values
+     * @throws MarshallerException if value is null
+     * @throws MarshallerException if value is not array
+     */
+    protected Object convertArrayToRawData(final FormUrlConfig config, final Object value) {
         FormUrlUtils.parameterRequireNonNull(value, VALUE_PARAMETER);
-        final List<Object> result = new ArrayList<>();
+        if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+            return convertPrimitiveArrayToRawData(config, value);
+        }
         if (value.getClass().isArray()) {
-            Object[] array = (Object[]) value;
-            Arrays.stream(array).forEach(item -> result.add(convertValueToRawData(item)));
-            return result;
+            return convertItemsToRawData(config, Arrays.asList((Object[]) value));
         }
         throw MarshallerException.builder()
                 .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
@@ -435,12 +1389,36 @@ public class FormUrlMarshaller {
                 .build();
     }
 
+    /**
+     * @param config marshaller settings (read once per call)
+     * @param array  primitive array ({@code int[]}, {@code long[]}, etc.)
+     * @return {@link ArrayList} with encoded array items
+     */
+    protected List<Object> convertPrimitiveArrayToRawData(final FormUrlConfig config, final Object array) {
+        final Charset codingCharset = config.getFormUrlCodingCharset();
+        final int length = Array.getLength(array);
+        final List<Object> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            result.add(FormUrlUtils.encode(primitiveArrayItemToString(array, i), codingCharset));
+        }
+        return result;
+    }
+
     /**
      * @param value simple value (String, Integer, Double, etc.)
      * @return encoded value or empty string if value is null
      */
     protected Object convertSimpleToRawData(final Object value) {
-        return FormUrlUtils.encode(value == null ? "" : String.valueOf(value), codingCharset);
+        return convertSimpleToRawData(getConfig(), value);
+    }
+
+    /**
+     * @param config marshaller settings (read once per call)
+     * @param value  simple value (String, Integer, Double, etc.)
+     * @return encoded value or empty string if value is null
+     */
+    protected Object convertSimpleToRawData(final FormUrlConfig config, final Object value) {
+        return FormUrlUtils.encode(value == null ? "" : String.valueOf(value), config.getFormUrlCodingCharset());
     }
 
     /**
@@ -451,66 +1429,72 @@ public class FormUrlMarshaller {
      * @param rawData data to write to the model
      * @param <M>     model generic type
      */
-    @SuppressWarnings("java:S3776") // does not require decomposition
     protected <M> void writeRawDataToPojo(final M model, final Map<?, ?> rawData) {
+        writeRawDataToPojo(getConfig(), model, rawData);
+    }
+
+    /**
+     * The method casts raw data to POJO field types and
+     * writes the converted values to the corresponding POJO fields.
+     *
+     * @param config  marshaller settings (read once per call)
+     * @param model   POJO object
+     * @param rawData data to write to the model
+     * @param <M>     model generic type
+     */
+    @SuppressWarnings("java:S3776") // does not require decomposition
+    protected <M> void writeRawDataToPojo(final FormUrlConfig config, final M model, final Map<?, ?> rawData) {
         FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
         FormUrlUtils.parameterRequireNonNull(rawData, RAW_DATA_PARAMETER);
-        FormUrlUtils.getFormUrlEncodedFieldsMap(model)
-                .forEach((urlEncodedFieldName, pojoField) -> {
-                    if (rawData.get(urlEncodedFieldName) == null) {
-                        return;
-                    }
-                    final Object rawDataValue = rawData.get(urlEncodedFieldName);
-                    final Type fieldType = pojoField.getGenericType();
-                    if (!FormUrlUtils.isSomePojo(fieldType)) {
-                        final Object fieldValue = convertRawValueToTargetJavaType(rawDataValue, fieldType);
-                        FormUrlUtils.writeDeclaredField(model, pojoField, fieldValue);
-                        rawData.remove(urlEncodedFieldName);
-                    } else {
-                        if (!FormUrlUtils.isMapAssignableFrom(rawDataValue)) {
-                            throw MarshallerException.builder()
-                                    .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
-                                    .source(rawData)
-                                    .sourceField(urlEncodedFieldName)
-                                    .sourceValue(rawDataValue)
-                                    .sourceType(rawDataValue)
-                                    .targetType(fieldType)
-                                    .targetField(pojoField)
-                                    .build();
-                        } else {
-                            if (FormUrlUtils.isPojo(fieldType)) {
-                                // raw value Map<String, Object> to target Pojo
-                                final Class<?> pojoClass = TypeUtils.getRawType(fieldType, null);
-                                final Object pojo = FormUrlUtils.invokeConstructor(pojoClass);
-                                writeRawDataToPojo(pojo, (Map<?, ?>) rawDataValue);
-                                FormUrlUtils.writeDeclaredField(model, pojoField, pojo);
-                                rawData.remove(urlEncodedFieldName);
-                            } else if (FormUrlUtils.isPojoGenericCollection(fieldType)) {
-                                // raw value Map<String, Object>  to target List<Pojo> (hidden url encoded array)
-                                final Class<?> pojoClass = FormUrlUtils.getGenericCollectionArgumentRawType(fieldType);
-                                final Object pojo = FormUrlUtils.invokeConstructor(pojoClass);
-                                writeRawDataToPojo(pojo, (Map<?, ?>) rawDataValue);
-                                FormUrlUtils.writeDeclaredField(model, pojoField, Collections.singletonList(pojo));
-                                rawData.remove(urlEncodedFieldName);
-                            } else if (FormUrlUtils.isPojoArray(fieldType)) {
-                                // raw value Map<String, Object>  to target Pojo[] (hidden url encoded array)
-                                final Class<?> arrayComponentClass = FormUrlUtils.getArrayComponentClass(fieldType);
-                                final Object pojo = FormUrlUtils.invokeConstructor(arrayComponentClass);
-                                writeRawDataToPojo(pojo, (Map<?, ?>) rawDataValue);
-                                final Object[] value = FormUrlUtils.objectToArray(pojo, arrayComponentClass);
-                                FormUrlUtils.writeDeclaredField(model, pojoField, value);
-                                rawData.remove(urlEncodedFieldName);
-                            }
-                        }
-                    }
-                });
-        if (FormUrlUtils.hasAdditionalProperty(model) && !rawData.isEmpty()) {
-            if (!prohibitAdditionalProperties) {
+        final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(model.getClass());
+        for (FormUrlFieldDescriptor field : descriptor.getFields()) {
+            final String urlEncodedFieldName = field.getName();
+            final Object rawDataValue = rawData.get(urlEncodedFieldName);
+            if (rawDataValue == null) {
+                continue;
+            }
+            final Type fieldType = field.getGenericType();
+            if (!field.isSomePojo()) {
+                final Object fieldValue = convertRawValueToTargetJavaType(config, rawDataValue, fieldType);
+                field.setValue(model, fieldValue);
+                rawData.remove(urlEncodedFieldName);
+            } else {
+                if (!FormUrlUtils.isMapAssignableFrom(rawDataValue)) {
+                    throw MarshallerException.builder()
+                            .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
+                            .validationError()
+                            .source(rawData)
+                            .sourceField(urlEncodedFieldName)
+                            .sourceValue(rawDataValue)
+                            .sourceType(rawDataValue)
+                            .targetType(fieldType)
+                            .targetField(field.getField())
+                            .build();
+                }
+                final Object pojo = FormUrlPojoDescriptor.of(field.getPojoClass()).newInstance();
+                writeRawDataToPojo(config, pojo, (Map<?, ?>) rawDataValue);
+                if (field.isPojo()) {
+                    // raw value Map<String, Object> to target Pojo
+                    field.setValue(model, pojo);
+                } else if (field.isPojoGenericCollection()) {
+                    // raw value Map<String, Object>  to target List<Pojo> (hidden url encoded array)
+                    field.setValue(model, Collections.singletonList(pojo));
+                } else {
+                    // raw value Map<String, Object>  to target Pojo[] (hidden url encoded array)
+                    final Object[] value = FormUrlUtils.objectToArray(pojo, field.getPojoClass());
+                    field.setValue(model, value);
+                }
+                rawData.remove(urlEncodedFieldName);
+            }
+        }
+        if (descriptor.hasAdditionalProperties() && !rawData.isEmpty()) {
+            if (!config.isProhibitAdditionalProperties()) {
                 unmarshalAndWriteAdditionalProperties(model, rawData);
                 rawData.clear();
             } else {
                 throw MarshallerException.builder()
                         .errorMessage(ERR_UNMAPPED_ADDITIONAL_PROPERTIES)
+                        .validationError()
                         .actual(rawData)
                         .expected(THERE_ARE_NO_ADDITIONAL_PROPERTIES)
                         .build();
@@ -526,133 +1510,24 @@ public class FormUrlMarshaller {
      * @return converted value
      * @throws MarshallerException if rawValue and targetType is not compatible
      */
-    @SuppressWarnings("java:S3776") // does not require decomposition
     protected Object convertRawValueToTargetJavaType(final Object rawValue, Type targetType) {
-        if (FormUrlUtils.isSimple(rawValue) && FormUrlUtils.isSimple(targetType)) {
-            // raw value String to target type Integer
-            return convertUrlDecodedStringValueToSimpleType(String.valueOf(rawValue), targetType);
-        }
-        if (FormUrlUtils.isSimple(rawValue) && FormUrlUtils.isGenericCollection(targetType)) {
-            // raw value String to target type List<Integer> (hidden url encoded array)
-            final ParameterizedType parameterizedTargetType = (ParameterizedType) targetType;
-            final Type targetGenericType = parameterizedTargetType.getActualTypeArguments()[0];
-            final Object value = convertUrlDecodedStringValueToSimpleType(String.valueOf(rawValue), targetGenericType);
-            return Collections.singletonList(value);
-        }
-        if (FormUrlUtils.isSimple(rawValue) && FormUrlUtils.isArray(targetType)) {
-            // raw value String to target type Integer[] (hidden url encoded array)
-            final Class<?> componentType = FormUrlUtils.getArrayComponentClass(targetType);
-            final Object value = convertUrlDecodedStringValueToSimpleType(String.valueOf(rawValue), componentType);
-            return FormUrlUtils.objectToArray(value, componentType);
-        }
-        if (FormUrlUtils.isMapAssignableFrom(rawValue) && FormUrlUtils.isGenericMap(targetType)) {
-            final Map<?, ?> rawMap = (Map<?, ?>) rawValue;
-            final ParameterizedType parameterizedTargetType = (ParameterizedType) targetType;
-            final Type targetGenericValueType = parameterizedTargetType.getActualTypeArguments()[1];
-            if (targetGenericValueType.equals(Object.class)) {
-                // Target type Map<String, Object>. No need for conversion.
-                return rawValue;
-            }
-            // raw value Map<String, Object> to target type Map<String, ?>
-            final List<String> keys = rawMap.keySet().stream().map(Object::toString).collect(Collectors.toList());
-            final Map<String, Object> result = new HashMap<>();
-            for (String key : keys) {
-                final Object rawMapValue = rawMap.get(key);
-                final Object resultValue = convertRawValueToTargetJavaType(rawMapValue, targetGenericValueType);
-                result.put(key, resultValue);
-            }
-            return result;
-        }
-        if (FormUrlUtils.isMapAssignableFrom(rawValue) && FormUrlUtils.isMapAssignableFrom(targetType)) {
-            // raw value Map<String, Object> to target type raw Map (raw map without generic)
-            return rawValue;
-        }
+        return convertRawValueToTargetJavaType(getConfig(), rawValue, targetType);
+    }
 
-        if (FormUrlUtils.isCollection(rawValue) && FormUrlUtils.isArray(targetType)) {
-            // raw value List<String> to target type Integer[]
-            final Collection<?> rawCollection = (Collection<?>) rawValue;
-            final Class<?> componentType = FormUrlUtils.getArrayComponentClass(targetType);
-            final List<Object> value = rawCollection.stream()
-                    .map(i -> (i == null ? null : String.valueOf(i)))
-                    .map(i -> convertUrlDecodedStringValueToSimpleType(i, componentType))
-                    .collect(Collectors.toList());
-            return FormUrlUtils.collectionToArray(value, componentType);
-        }
-        if (FormUrlUtils.isCollection(rawValue) && FormUrlUtils.isGenericCollection(targetType)) {
-            final Collection<?> rawCollection = (Collection<?>) rawValue;
-            final ParameterizedType parameterizedTargetType = (ParameterizedType) targetType;
-            final Type targetGenericType = parameterizedTargetType.getActualTypeArguments()[0];
-            if (FormUrlUtils.isCollectionOfMap(rawValue) && FormUrlUtils.isCollectionOfMap(targetType)) {
-                // raw value List<Map<?, ?>> to target type List<Map<?, ?>>
-                return rawCollection.stream()
-                        .map(i -> convertRawValueToTargetJavaType(i, targetGenericType))
-                        .collect(Collectors.toList());
-            }
-            if (targetGenericType.equals(Object.class)) {
-                // raw value List<String> to target type List<Object>
-                return rawValue;
-            }
-            if (FormUrlUtils.isCollectionOfCollections(rawValue) && FormUrlUtils.isCollectionOfCollections(targetType)) {
-                // raw value List<List<String>> to target type List<List<Integer>>
-                return rawCollection.stream()
-                        .map(i -> convertRawValueToTargetJavaType(i, targetGenericType))
-                        .collect(Collectors.toList());
-            }
-            if (FormUrlUtils.isCollectionOfCollections(rawValue) && FormUrlUtils.isCollectionOfArray(targetType)) {
-                // raw value List<List<String>> to target type List<Integer[]>
-                final ParameterizedType parameterizedType = (ParameterizedType) targetType;
-                final Class<?> genericClass = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-                return rawCollection.stream()
-                        .map(i -> convertRawValueToTargetJavaType(i, genericClass))
-                        .collect(Collectors.toList());
-            }
-            if (FormUrlUtils.isCollectionOfSimpleObj(rawValue) && FormUrlUtils.isCollectionOfSimpleObj(targetType)) {
-                // raw value List<String> to target type List<Integer>
-                return rawCollection.stream()
-                        .map(String::valueOf)
-                        .map(i -> convertUrlDecodedStringValueToSimpleType(i, targetGenericType))
-                        .collect(Collectors.toList());
-            }
-        }
-        if (FormUrlUtils.isMapAssignableFrom(rawValue) && FormUrlUtils.isGenericCollection(targetType)) {
-            // raw value Map<String, Object> to target type List<Map<?, ?>> (hidden url encoded array)
-            final ParameterizedType parameterizedTargetType = (ParameterizedType) targetType;
-            final Type targetGenericType = parameterizedTargetType.getActualTypeArguments()[0];
-            final Object value = convertRawValueToTargetJavaType(rawValue, targetGenericType);
-            return Collections.singletonList(value);
-        }
-        if (FormUrlUtils.isMapAssignableFrom(rawValue) && FormUrlUtils.isArray(targetType)) {
-            // raw value Map<String, ?> to target type raw Map[] (hidden url encoded array)
-            final Class<?> componentType = FormUrlUtils.getArrayComponentClass(targetType);
-            final Object value = convertRawValueToTargetJavaType(rawValue, componentType);
-            return FormUrlUtils.objectToArray(value, componentType);
-        }
-        if (FormUrlUtils.isCollection(rawValue) && FormUrlUtils.isCollection(targetType)) {
-            // raw value List<Object> to target type List (raw generic list)
-            return rawValue;
-        }
-        if (FormUrlUtils.isGenericArray(targetType)) {
-            final Class<?> targetArrayComponentClass = FormUrlUtils.getArrayComponentClass(targetType);
-            if (FormUrlUtils.isCollectionOfMap(rawValue)) {
-                // raw value List<Map<String, ?>> to target type Map<String, ?>[]
-                final Collection<?> rawCollection = (Collection<?>) rawValue;
-                return rawCollection.stream()
-                        .map(i -> convertRawValueToTargetJavaType(i, targetArrayComponentClass))
-                        .collect(Collectors.toList())
-                        .toArray((Object[]) Array.newInstance(targetArrayComponentClass, 0));
-            }
-            if (FormUrlUtils.isMapAssignableFrom(rawValue)) {
-                // raw value Map<String, ?> to target type Map<String, ?>[] (hidden url encoded array)
-                final Object value = convertRawValueToTargetJavaType(rawValue, targetArrayComponentClass);
-                return FormUrlUtils.objectToArray(value, targetArrayComponentClass);
-            }
-        }
-        throw MarshallerException.builder()
-                .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
-                .sourceValue(rawValue)
-                .sourceType(rawValue)
-                .targetType(targetType)
-                .build();
+    /**
+     * The method converts the raw value to the desired type
+     *
+     * @param config     marshaller settings (read once per call)
+     * @param rawValue   any object
+     * @param targetType target Type for conversion
+     * @return converted value
+     * @throws MarshallerException if rawValue and targetType is not compatible
+     */
+    protected Object convertRawValueToTargetJavaType(final FormUrlConfig config,
+                                                     final Object rawValue,
+                                                     final Type targetType) {
+        FormUrlUtils.parameterRequireNonNull(targetType, TARGET_TYPE_PARAMETER);
+        return config.getTypeConverter(targetType).convert(rawValue);
     }
 
     /**
@@ -669,9 +1544,9 @@ public class FormUrlMarshaller {
                                                              final Map<?, ?> rawData) {
         FormUrlUtils.parameterRequireNonNull(model, MODEL_PARAMETER);
         FormUrlUtils.parameterRequireNonNull(rawData, RAW_DATA_PARAMETER);
-        final Field field = getAdditionalPropertiesField(model.getClass());
-        final Map<Object, Object> additionalProperties = getAdditionalProperties(model, field);
-        additionalProperties.putAll(rawData);
+        final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(model.getClass());
+        FormUrlUtils.parameterRequireNonNull(descriptor.getAdditionalPropertiesField(), FIELD_PARAMETER);
+        descriptor.getAdditionalProperties(model).putAll(rawData);
     }
 
     /**
@@ -683,47 +1558,7 @@ public class FormUrlMarshaller {
      */
     protected Field getAdditionalPropertiesField(final Class<?> modelClass) {
         FormUrlUtils.parameterRequireNonNull(modelClass, CodecConstant.MODEL_CLASS_PARAMETER);
-        final List<Field> fields = Arrays.asList(modelClass.getDeclaredFields());
-        final List<Field> additionalProperties = fields.stream()
-                .filter(f -> f.isAnnotationPresent(FormUrlEncodedAdditionalProperties.class))
-                .collect(Collectors.toList());
-        if (additionalProperties.size() > 1) {
-            throw MarshallerException.builder()
-                    .errorMessage("POJO contains more than one annotated fields.")
-                    .model(modelClass)
-                    .annotation(FormUrlEncodedAdditionalProperties.class)
-                    .annotationType(FormUrlEncodedAdditionalProperties.class)
-                    .fields(additionalProperties)
-                    .expected("one annotated field")
-                    .build();
-        }
-        if (additionalProperties.isEmpty()) {
-            return null;
-        }
-        final Field additionalProperty = additionalProperties.get(0);
-        final Type type = additionalProperty.getGenericType();
-        final boolean isParameterizedType = type instanceof ParameterizedType;
-        final boolean isMap = Map.class.isAssignableFrom(additionalProperty.getType());
-        final boolean isValidTypeArguments;
-        if (isParameterizedType && isMap) {
-            ParameterizedType parameterizedType = (ParameterizedType) type;
-            final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
-            final Type keyType = actualTypeArguments[0];
-            final Type valueType = actualTypeArguments[1];
-            isValidTypeArguments = keyType == String.class && valueType == Object.class;
-        } else {
-            isValidTypeArguments = false;
-        }
-        if (!isParameterizedType || !isMap || !isValidTypeArguments) {
-            throw MarshallerException.builder()
-                    .errorMessage("Invalid additional properties field type")
-                    .model(modelClass)
-                    .field(additionalProperty)
-                    .actualType(type)
-                    .expected("java.util.Map<java.lang.String, java.lang.Object>")
-                    .build();
-        }
-        return additionalProperty;
+        return FormUrlPojoDescriptor.of(modelClass).getAdditionalPropertiesField();
     }
 
     /**
@@ -736,6 +1571,7 @@ public class FormUrlMarshaller {
      * @throws MarshallerException if model parameter is null
      * @throws MarshallerException if unable to initialize additionalProperties field
      * @throws MarshallerException if additionalProperty field not readable
+     * @see FormUrlPojoDescriptor#getAdditionalProperties(Object) pre-bound accessor used for the model traversal
      */
 
     @SuppressWarnings("unchecked")
@@ -764,90 +1600,78 @@ public class FormUrlMarshaller {
      * - {@link Double}
      * - {@link BigInteger}
      * - {@link BigDecimal}
+     * - primitive {@code int}, {@code long}, {@code short}, {@code double}, {@code float}, {@code boolean}
+     * (null value is not allowed)
+     * <p>
+     * The conversion is delegated to the {@link FormUrlTypeConverter} compiled once per target type.
      *
      * @param value      String value to convert
      * @param targetType Java type to which the string is converted
      * @return converted value
-     * @throws MarshallerException   if targetType is primitive
-     * @throws MarshallerException   if targetType not supported
-     * @throws MarshallerException   if the value cannot be converted to {@link Boolean} type
-     * @throws NumberFormatException if the value cannot be converted to number types
+     * @throws MarshallerException if targetType is null
+     * @throws MarshallerException if targetType is primitive {@code byte} or {@code char}
+     * @throws MarshallerException if targetType not supported
+     * @throws MarshallerException if the value cannot be converted to the targetType (including invalid numbers)
      */
-    @SuppressWarnings("java:S3776")
     protected Object convertUrlDecodedStringValueToSimpleType(final String value, final Type targetType) {
         FormUrlUtils.parameterRequireNonNull(targetType, TARGET_TYPE_PARAMETER);
-        if (targetType instanceof Class && ((Class<?>) targetType).isPrimitive()) {
-            throw MarshallerException.builder()
-                    .errorMessage("Forbidden to use primitive types")
-                    .actualType(targetType)
-                    .expected(ERR_SIMPLE_REFERENCE_TYPES)
-                    .build();
-        }
-        if (value == null) {
-            return null;
-        }
-        if (targetType.equals(String.class) || targetType.equals(Object.class)) {
-            return value;
-        }
-        if (targetType.equals(Boolean.class)) {
-            if ("true".equalsIgnoreCase(value)) {
-                return true;
-            }
-            if ("false".equalsIgnoreCase(value)) {
-                return false;
-            }
-            throw MarshallerException.builder()
-                    .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
-                    .sourceType(value)
-                    .sourceValue(value)
-                    .targetType(targetType)
-                    .expectedValue("true || false")
-                    .build();
-        }
-        try {
-            if (targetType.equals(Short.class)) {
-                return Short.valueOf(value);
-            }
-            if (targetType.equals(Long.class)) {
-                return Long.valueOf(value);
-            }
-            if (targetType.equals(Float.class)) {
-                return Float.valueOf(value);
-            }
-            if (targetType.equals(Integer.class)) {
-                return Integer.valueOf(value);
-            }
-            if (targetType.equals(Double.class)) {
-                return Double.valueOf(value);
-            }
-            if (targetType.equals(BigInteger.class)) {
-                return NumberUtils.createBigInteger(value);
-            }
-            if (targetType.equals(BigDecimal.class)) {
-                return NumberUtils.createBigDecimal(value);
-            }
-        } catch (NumberFormatException e) {
-            throw MarshallerException.builder()
-                    .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
-                    .sourceType(value)
-                    .sourceValue(value)
-                    .targetType(targetType)
-                    .errorCause(e)
-                    .build();
-        }
-        throw MarshallerException.builder()
-                .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
-                .actualType(targetType)
-                .expected(ERR_SIMPLE_REFERENCE_TYPES)
-                .build();
+        return getConfig().getTypeConverter(targetType).parse(value);
+    }
+
+    /**
+     * Returns a reader bound to the model class and the current marshaller configuration.
+     * Hold the codec as a constant to resolve the class plan, constructor and model kind only once.
+     *
+     * @param modelClass {@code Map<String, Object>} or POJO class with {@link FormUrlEncoded} annotation
+     * @param <M>        model generic type
+     * @return model codec (thread safe)
+     * @throws MarshallerException if modelClass is null
+     * @throws MarshallerException if model class is not supported
+     */
+    public <M> FormUrlCodec<M> readerFor(final Class<M> modelClass) {
+        return new FormUrlCodec<>(newMarshaller(getConfig()), modelClass);
+    }
+
+    /**
+     * Returns a writer bound to the model class and the current marshaller configuration
+     * (the same codec as {@link #readerFor(Class)}).
+     *
+     * @param modelClass {@code Map<String, Object>} or POJO class with {@link FormUrlEncoded} annotation
+     * @param <M>        model generic type
+     * @return model codec (thread safe)
+     * @throws MarshallerException if modelClass is null
+     * @throws MarshallerException if model class is not supported
+     */
+    public <M> FormUrlCodec<M> writerFor(final Class<M> modelClass) {
+        return readerFor(modelClass);
+    }
+
+    /**
+     * Override this method to bind codecs to the marshaller subclass.
+     *
+     * @param config immutable marshaller settings
+     * @return new marshaller with the configuration
+     */
+    protected FormUrlMarshaller newMarshaller(final FormUrlConfig config) {
+        return new FormUrlMarshaller(config);
+    }
+
+    /**
+     * @return immutable marshaller settings
+     */
+    public FormUrlConfig getConfig() {
+        return config;
     }
 
     /**
      * @param prohibitAdditionalProperties true - prohibit additional properties for POJO
      * @return this
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withProhibitAdditionalProperties(boolean)}
      */
+    @Deprecated
     public FormUrlMarshaller prohibitAdditionalProperties(boolean prohibitAdditionalProperties) {
-        this.prohibitAdditionalProperties = prohibitAdditionalProperties;
+        this.config = getConfig().withProhibitAdditionalProperties(prohibitAdditionalProperties);
         return this;
     }
 
@@ -855,14 +1679,14 @@ public class FormUrlMarshaller {
      * @return true - prohibit additional properties for POJO
      */
     public boolean isProhibitAdditionalProperties() {
-        return prohibitAdditionalProperties;
+        return getConfig().isProhibitAdditionalProperties();
     }
 
     /**
      * @return URL form data coding charset
      */
     public Charset getFormUrlCodingCharset() {
-        return codingCharset;
+        return getConfig().getFormUrlCodingCharset();
     }
 
     /**
@@ -870,9 +1694,13 @@ public class FormUrlMarshaller {
      *
      * @param codingCharset URL form data coding charset
      * @return this
+     * @throws MarshallerException if codingCharset is null
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withFormUrlCodingCharset(Charset)}
      */
+    @Deprecated
     public FormUrlMarshaller setFormUrlCodingCharset(Charset codingCharset) {
-        this.codingCharset = codingCharset;
+        this.config = getConfig().withFormUrlCodingCharset(codingCharset);
         return this;
     }
 
@@ -880,10 +1708,12 @@ public class FormUrlMarshaller {
      * Enable hidden array format: {@code foo=100&foo=200...&foo=100500}
      *
      * @return this
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withHiddenList()}
      */
+    @Deprecated
     public FormUrlMarshaller enableHiddenList() {
-        this.isImplicitList = false;
-        this.isExplicitList = false;
+        this.config = getConfig().withHiddenList();
         return this;
     }
 
@@ -891,10 +1721,12 @@ public class FormUrlMarshaller {
      * Enable non-indexed array format: {@code foo[]=100&foo[]=200...&foo[]=100500}
      *
      * @return this
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withImplicitList()}
      */
+    @Deprecated
     public FormUrlMarshaller enableImplicitList() {
-        this.isImplicitList = true;
-        this.isExplicitList = false;
+        this.config = getConfig().withImplicitList();
         return this;
     }
 
@@ -902,10 +1734,12 @@ public class FormUrlMarshaller {
      * Enable indexed array format: {@code foo[0]=100&foo[1]=200...&foo[n]=100500}
      *
      * @return this
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withExplicitList()}
      */
+    @Deprecated
     public FormUrlMarshaller enableExplicitList() {
-        this.isImplicitList = false;
-        this.isExplicitList = true;
+        this.config = getConfig().withExplicitList();
         return this;
     }
 
@@ -913,14 +1747,14 @@ public class FormUrlMarshaller {
      * @return true if non-indexed array format enabled: {@code foo[]=100&foo[]=200...&foo[]=100500}
      */
     public boolean isImplicitList() {
-        return isImplicitList;
+        return getConfig().isImplicitList();
     }
 
     /**
      * @return true if indexed array format enabled: {@code foo[0]=100&foo[1]=200...&foo[n]=100500}
      */
     public boolean isExplicitList() {
-        return isExplicitList;
+        return getConfig().isExplicitList();
     }
 
     /**
@@ -930,21 +1764,71 @@ public class FormUrlMarshaller {
         return !isImplicitList() && !isExplicitList();
     }
 
+    /**
+     * @return maximum explicit list index ({@code foo[10000]=bar}) for unmarshalling
+     */
+    public int getMaxListIndex() {
+        return getConfig().getMaxListIndex();
+    }
+
+    /**
+     * Explicit lists are parsed into sparse lists and compacted into dense lists when binding.
+     * The limit protects against huge lists from a single key ({@code foo[5000000]=bar}).
+     *
+     * @param maxListIndex maximum explicit list index (default {@link FormUrlLimits#DEFAULT_MAX_LIST_INDEX})
+     * @return this
+     * @throws MarshallerException if maxListIndex is negative
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withMaxListIndex(int)}
+     */
+    @Deprecated
+    public FormUrlMarshaller setMaxListIndex(final int maxListIndex) {
+        this.config = getConfig().withMaxListIndex(maxListIndex);
+        return this;
+    }
+
+    /**
+     * @return unmarshalling limits checked during the form data scan
+     */
+    public FormUrlLimits getLimits() {
+        return getConfig().getLimits();
+    }
+
+    /**
+     * The limits protect against abusive form data (a huge number of pairs, deep or long keys, huge lists, etc.).
+     * The form data scan stops with {@link MarshallerException} as soon as a limit is exceeded.
+     *
+     * @param limits unmarshalling limits (default {@link FormUrlLimits#DEFAULT})
+     * @return this
+     * @throws MarshallerException if limits is null
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withLimits(FormUrlLimits)}
+     */
+    @Deprecated
+    public FormUrlMarshaller setLimits(final FormUrlLimits limits) {
+        this.config = getConfig().withLimits(limits);
+        return this;
+    }
+
     /**
      * @return {@link NullValueRule}
      * @see NullValueRule
      */
     public NullValueRule getNullValueRule() {
-        return nullValueRule;
+        return getConfig().getNullValueRule();
     }
 
     /**
      * @param nullValueRule - rule for handling fields with null value
      * @return this
+     * @throws MarshallerException if nullValueRule is null
      * @see NullValueRule
+     * @deprecated mutates the (possibly shared) marshaller and discards the compiled class plans,
+     * use {@link #FormUrlMarshaller(FormUrlConfig)} with {@link FormUrlConfig#withNullValueRule(NullValueRule)}
      */
+    @Deprecated
     public FormUrlMarshaller setNullValueRule(final NullValueRule nullValueRule) {
-        this.nullValueRule = nullValueRule;
+        this.config = getConfig().withNullValueRule(nullValueRule);
         return this;
     }
 
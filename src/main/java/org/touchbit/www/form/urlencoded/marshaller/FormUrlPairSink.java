@@ -0,0 +1,155 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChain;
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChainPart;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
+
+/**
+ * Receives the decoded key/value pairs of one form (string or channel tokenizer) and writes them to the model.
+ * POJO pairs are routed by the {@link FormUrlPojoBinder} as they arrive.
+ * If the binder does not support a key path ({@code foo=1&foo[0]=2}) or the model is a Map,
+ * the pairs are merged into the raw data one by one (same result as {@link IChain#getRawData()}),
+ * so the form is never parsed twice.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final FormUrlPairSink sink = new FormUrlPairSink(marshaller, config, model, descriptor);
+ *     while (tokenizer.next()) {
+ *         final String key = tokenizer.getKey();
+ *         sink.requireMappedKey(key);
+ *         sink.accept(key, tokenizer.getValue(), tokenizer.isImplicitList(), tokenizer.isExplicitList());
+ *     }
+ *     sink.write();
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlPairSink {
+
+    /**
+     * value converters
+     */
+    private final FormUrlMarshaller marshaller;
+    /**
+     * marshaller settings (read once per call)
+     */
+    private final FormUrlConfig config;
+    /**
+     * POJO or Map object
+     */
+    private final Object object;
+    /**
+     * POJO class plan for the key check or null to skip the check
+     */
+    private final FormUrlPojoPlan keyCheckPlan;
+    /**
+     * raw data merging rules
+     */
+    private final FormUrlPojoBinder.RawDataChain chain = new FormUrlPojoBinder.RawDataChain();
+    /**
+     * POJO binder (null if the model is a Map or the binder does not support a received key path)
+     */
+    private FormUrlPojoBinder binder;
+    /**
+     * form raw data (null while the pairs are routed by the binder)
+     */
+    private Map<String, Object> rawData;
+
+    /**
+     * @param marshaller       value converters
+     * @param config           marshaller settings (read once per call)
+     * @param object           POJO or Map object
+     * @param binderDescriptor POJO descriptor for the {@link FormUrlPojoBinder}
+     *                         or null to build the raw data of all pairs (Map models)
+     * @throws MarshallerException if marshaller, config or object is null
+     */
+    public FormUrlPairSink(final FormUrlMarshaller marshaller,
+                           final FormUrlConfig config,
+                           final Object object,
+                           final FormUrlPojoDescriptor binderDescriptor) {
+        FormUrlUtils.parameterRequireNonNull(marshaller, MARSHALLER_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(config, CONFIG_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(object, OBJECT_PARAMETER);
+        this.marshaller = marshaller;
+        this.config = config;
+        this.object = object;
+        this.keyCheckPlan = marshaller.getKeyCheckPlan(config, object.getClass());
+        if (binderDescriptor != null) {
+            this.binder = new FormUrlPojoBinder(marshaller, config, binderDescriptor);
+        } else {
+            this.rawData = new HashMap<>();
+        }
+    }
+
+    /**
+     * Rejects the form key that is not mapped to the POJO fields before its value is decoded
+     *
+     * @param key trimmed URL encoded form key
+     * @throws MarshallerException if the key is not mapped to the POJO fields and additional properties are prohibited
+     */
+    public void requireMappedKey(final String key) {
+        marshaller.requireMappedKey(config, keyCheckPlan, key);
+    }
+
+    /**
+     * @param key          trimmed form key ({@code foo[bar][0]})
+     * @param value        decoded value
+     * @param implicitList key contains an implicit array (unindexed) {@code foo[bar][]=value}
+     * @param explicitList key contains an explicit array (indexed) {@code foo[bar][0]=value}
+     * @throws ChainException incompatible raw data values (see {@link IChain.Default#mergeObjectValues})
+     */
+    public void accept(final String key, final String value, final boolean implicitList, final boolean explicitList) {
+        if (binder != null) {
+            if (binder.accept(key, value, implicitList, explicitList)) {
+                return;
+            }
+            // key path is not supported by the binder
+            rawData = binder.getRawData();
+            binder = null;
+        }
+        final IChainPart part = new IChainPart.Default(key, value, implicitList, explicitList);
+        chain.mergeRawMap(part.getRawDataValue(), rawData);
+    }
+
+    /**
+     * Writes received pairs to the object
+     *
+     * @throws MarshallerException if object type is not supported
+     * @throws MarshallerException if POJO contains unmapped additional properties and they are prohibited
+     * @throws MarshallerException if values and field types is not compatible
+     */
+    public void write() {
+        if (binder != null) {
+            marshaller.writeBinderToPojo(config, object, binder);
+        } else {
+            marshaller.writeRawDataToObject(config, object, rawData);
+        }
+    }
+
+}
@@ -0,0 +1,453 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChain;
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChainList;
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChainPart;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlFieldDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlNumberParser;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.util.*;
+
+import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
+
+/**
+ * Direct form data to POJO binding.
+ * Each decoded key/value pair is routed by the key path straight to the POJO field slot
+ * using the cached {@link FormUrlPojoDescriptor}:
+ * - flat fields (see {@link FormUrlFieldDescriptor#isFlat()}) collect the value or the list of values
+ * ({@code foo=1&foo=2}, {@code foo[]=1&foo[]=2}, {@code foo[0]=1&foo[1]=2});
+ * - nested POJO fields route the rest of the key path to the nested binder ({@code foo[bar]=1});
+ * - other fields ({@code Map}, {@code List<List<?>>}, {@code Object}, etc.) and additional properties
+ * collect the key/value pairs and convert them into the raw data only for this field.
+ * Thus, the raw data tree ({@link IChain#getRawData()}) is not built for the entire form.
+ * <p>
+ * Binding is done in two phases.
+ * {@link #accept(String, String, boolean, boolean)} routes one decoded pair and does not change the POJO.
+ * If the pair key path is not supported by the binder (for example {@code foo=1&foo[0]=2}),
+ * then the method returns false and the form should be processed by the {@link IChain} rules
+ * ({@link FormUrlPairSink} continues from the raw data of the already routed pairs).
+ * {@link #write(Object)} converts collected values and writes them to the POJO fields.
+ * The marshaller feeds the binder through the {@link FormUrlPairSink} for both string and channel input.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlPojoBinder {
+
+    /**
+     * value converters
+     */
+    private final FormUrlMarshaller marshaller;
+    /**
+     * marshaller settings (shared with the nested binders)
+     */
+    private final FormUrlConfig config;
+    /**
+     * POJO class descriptor
+     */
+    private final FormUrlPojoDescriptor descriptor;
+    /**
+     * Field slots by field index:
+     * - flat field - {@link String} or {@link IChainList} of strings;
+     * - POJO field - nested {@link FormUrlPojoBinder};
+     * - other fields - {@link List} of {@link IChainPart} (raw data value after {@link #prepare()}).
+     */
+    private final Object[] slots;
+    /**
+     * pairs not related to the POJO fields
+     */
+    private List<IChainPart> unmappedParts;
+    /**
+     * raw data of the {@link #unmappedParts}
+     */
+    private Map<String, Object> unmappedRawData;
+
+    /**
+     * @param marshaller marshaller with the current settings
+     * @param pojoClass  POJO class with {@link org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded}
+     *                   annotation
+     * @throws MarshallerException if marshaller or pojoClass is null
+     */
+    public FormUrlPojoBinder(final FormUrlMarshaller marshaller, final Class<?> pojoClass) {
+        this(marshaller, marshaller == null ? null : marshaller.getConfig(), pojoClass);
+    }
+
+    /**
+     * @param marshaller value converters
+     * @param config     marshaller settings
+     * @param pojoClass  POJO class with {@link org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded}
+     *                   annotation
+     * @throws MarshallerException if marshaller, config or pojoClass is null
+     */
+    public FormUrlPojoBinder(final FormUrlMarshaller marshaller, final FormUrlConfig config, final Class<?> pojoClass) {
+        this(marshaller, config, pojoClass == null ? null : FormUrlPojoDescriptor.of(pojoClass));
+    }
+
+    /**
+     * @param marshaller value converters
+     * @param config     marshaller settings
+     * @param descriptor resolved POJO class descriptor
+     * @throws MarshallerException if marshaller, config or descriptor is null
+     */
+    public FormUrlPojoBinder(final FormUrlMarshaller marshaller,
+                             final FormUrlConfig config,
+                             final FormUrlPojoDescriptor descriptor) {
+        FormUrlUtils.parameterRequireNonNull(marshaller, MARSHALLER_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(config, CONFIG_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(descriptor, MODEL_CLASS_PARAMETER);
+        this.marshaller = marshaller;
+        this.config = config;
+        this.descriptor = descriptor;
+        this.slots = new Object[descriptor.getFields().size()];
+    }
+
+    /**
+     * Routes decoded key/value pair to the POJO field slot
+     *
+     * @param key          trimmed form key ({@code foo[bar][0]})
+     * @param value        decoded value
+     * @param implicitList key contains an implicit array (unindexed) {@code foo[bar][]=value}
+     * @param explicitList key contains an explicit array (indexed) {@code foo[bar][0]=value}
+     * @return true if the pair is routed, false if the form should be processed by the {@link IChain} rules
+     * @throws MarshallerException if key is null
+     */
+    public boolean accept(final String key, final String value, final boolean implicitList, final boolean explicitList) {
+        FormUrlUtils.parameterRequireNonNull(key, KEY_PARAMETER);
+        return route(key, 0, value, implicitList, explicitList);
+    }
+
+    /**
+     * Converts collected values to the POJO field types and writes them to the POJO.
+     * The method is called once after the last {@link #accept(String, String, boolean, boolean)}.
+     *
+     * @param pojo POJO object
+     * @return unmapped raw data (not empty if the POJO does not contain additional properties field)
+     * @throws MarshallerException if pojo is null
+     * @throws MarshallerException if values and field types is not compatible
+     * @throws MarshallerException if additional properties are prohibited
+     * @throws ChainException      incompatible raw data values (see {@link IChain.Default#mergeObjectValues})
+     */
+    public Map<String, Object> write(final Object pojo) {
+        FormUrlUtils.parameterRequireNonNull(pojo, MODEL_PARAMETER);
+        prepare();
+        final List<FormUrlFieldDescriptor> fields = descriptor.getFields();
+        for (int i = 0; i < slots.length; i++) {
+            final Object slot = slots[i];
+            if (slot == null) {
+                continue;
+            }
+            final FormUrlFieldDescriptor field = fields.get(i);
+            if (field.isSomePojo()) {
+                final FormUrlPojoBinder nestedBinder = (FormUrlPojoBinder) slot;
+                final Object nested = nestedBinder.descriptor.newInstance();
+                nestedBinder.write(nested);
+                if (field.isPojo()) {
+                    field.setValue(pojo, nested);
+                } else if (field.isPojoGenericCollection()) {
+                    // hidden url encoded array
+                    field.setValue(pojo, Collections.singletonList(nested));
+                } else {
+                    // hidden url encoded array
+                    field.setValue(pojo, FormUrlUtils.objectToArray(nested, field.getPojoClass()));
+                }
+            } else if (field.isPrimitive() && slot instanceof String) {
+                writePrimitive(pojo, field, (String) slot);
+            } else {
+                final Object rawValue = marshaller.compactRawValue(config, slot);
+                field.setValue(pojo, marshaller.convertRawValueToTargetJavaType(config, rawValue, field.getGenericType()));
+            }
+        }
+        if (unmappedRawData == null || unmappedRawData.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        marshaller.compactRawValue(config, unmappedRawData);
+        if (descriptor.hasAdditionalProperties()) {
+            if (config.isProhibitAdditionalProperties()) {
+                throw MarshallerException.builder()
+                        .errorMessage(ERR_UNMAPPED_ADDITIONAL_PROPERTIES)
+                        .validationError()
+                        .actual(unmappedRawData)
+                        .expected(THERE_ARE_NO_ADDITIONAL_PROPERTIES)
+                        .build();
+            }
+            marshaller.unmarshalAndWriteAdditionalProperties(pojo, unmappedRawData);
+            return Collections.emptyMap();
+        }
+        return unmappedRawData;
+    }
+
+    /**
+     * Parses the value and writes it to the primitive field without boxing
+     *
+     * @param pojo  POJO object
+     * @param field primitive POJO field ({@link FormUrlFieldDescriptor#isPrimitive()})
+     * @param value decoded value
+     * @throws MarshallerException if the value cannot be converted to the field type
+     */
+    protected void writePrimitive(final Object pojo, final FormUrlFieldDescriptor field, final String value) {
+        final Class<?> type = field.getField().getType();
+        if (type == int.class) {
+            field.setInt(pojo, FormUrlTypeConverter.parseInt(value));
+        } else if (type == long.class) {
+            field.setLong(pojo, FormUrlTypeConverter.parseLong(value));
+        } else if (type == double.class) {
+            field.setDouble(pojo, FormUrlTypeConverter.parseDouble(value));
+        } else if (type == boolean.class) {
+            field.setBoolean(pojo, FormUrlTypeConverter.parseBoolean(value));
+        } else if (type == short.class) {
+            field.setShort(pojo, FormUrlTypeConverter.parseShort(value));
+        } else if (type == float.class) {
+            field.setFloat(pojo, FormUrlTypeConverter.parseFloat(value));
+        } else {
+            field.setValue(pojo, marshaller.convertRawValueToTargetJavaType(config, value, type));
+        }
+    }
+
+    /**
+     * Routes key/value pair to the field slot
+     *
+     * @param key          trimmed form key ({@code foo[bar][0]})
+     * @param start        current key segment offset ({@code 0} - {@code foo}, {@code 3} - {@code [bar]})
+     * @param value        decoded value
+     * @param implicitList key contains an implicit array (unindexed) {@code foo[bar][]=value}
+     * @param explicitList key contains an explicit array (indexed) {@code foo[bar][0]=value}
+     * @return false if key path is not supported by the binder
+     */
+    protected boolean route(final String key,
+                            final int start,
+                            final String value,
+                            final boolean implicitList,
+                            final boolean explicitList) {
+        final String name;
+        final int next;
+        final String partKey;
+        if (start == 0) {
+            final int bracket = key.indexOf('[');
+            next = bracket < 0 ? key.length() : bracket;
+            name = bracket < 0 ? key : key.substring(0, bracket).trim();
+            partKey = key;
+        } else {
+            final int close = key.indexOf(']', start);
+            next = close + 1;
+            if (next < key.length() && key.charAt(next) != '[') {
+                // foo[bar]car
+                return false;
+            }
+            name = key.substring(start + 1, close).trim();
+            if (name.isEmpty() || NumberUtils.isDigits(name)) {
+                // nested list is not a POJO
+                return false;
+            }
+            partKey = name + key.substring(next);
+        }
+        final int index = descriptor.getFieldIndex(name);
+        if (index < 0) {
+            if (unmappedParts == null) {
+                unmappedParts = new ArrayList<>();
+            }
+            unmappedParts.add(new IChainPart.Default(partKey, value, implicitList, explicitList));
+            return true;
+        }
+        final FormUrlFieldDescriptor field = descriptor.getFields().get(index);
+        if (field.isSomePojo()) {
+            if (next == key.length()) {
+                // simple value is not a POJO
+                return false;
+            }
+            FormUrlPojoBinder nested = (FormUrlPojoBinder) slots[index];
+            if (nested == null) {
+                nested = new FormUrlPojoBinder(marshaller, config, field.getPojoClass());
+                slots[index] = nested;
+            }
+            return nested.route(key, next, value, implicitList, explicitList);
+        }
+        if (field.isFlat()) {
+            return routeFlatValue(index, key, next, value);
+        }
+        @SuppressWarnings("unchecked")
+        List<IChainPart> parts = (List<IChainPart>) slots[index];
+        if (parts == null) {
+            parts = new ArrayList<>();
+            slots[index] = parts;
+        }
+        parts.add(new IChainPart.Default(partKey, value, implicitList, explicitList));
+        return true;
+    }
+
+    /**
+     * Adds value to the flat field slot:
+     * - {@code foo=1} - hidden list (single value is stored as string);
+     * - {@code foo[]=1} - implicit list;
+     * - {@code foo[0]=1} - explicit list.
+     * The hidden list and the implicit list can be mixed.
+     *
+     * @param index field index
+     * @param key   trimmed form key
+     * @param next  list segment offset or key length for the hidden list
+     * @param value decoded value
+     * @return false if key path is not supported by the binder
+     */
+    protected boolean routeFlatValue(final int index, final String key, final int next, final String value) {
+        final Object slot = slots[index];
+        final IChainList list = slot instanceof IChainList ? (IChainList) slot : null;
+        if (next != key.length()) {
+            final int close = key.indexOf(']', next);
+            if (close != key.length() - 1) {
+                // nested key foo[0][bar] or foo[0]bar
+                return false;
+            }
+            final String segment = key.substring(next + 1, close).trim();
+            if (!segment.isEmpty()) {
+                if (!NumberUtils.isDigits(segment)
+                    || FormUrlNumberParser.checkLong(segment, 0, Integer.MAX_VALUE) != FormUrlNumberParser.VALID
+                    || (slot != null && (list == null || list.isNotIndexed()))) {
+                    // not ASCII index or index out of int range is handled by the chain
+                    return false;
+                }
+                final int listIndex = Integer.parseInt(segment);
+                final IChainList.Sparse indexed = list == null ? new IChainList.Sparse() : (IChainList.Sparse) list;
+                indexed.put(listIndex, value);
+                slots[index] = indexed;
+                return true;
+            }
+        } else if (slot == null) {
+            slots[index] = value;
+            return true;
+        }
+        if (list == null) {
+            final IChainList notIndexed = new IChainList.Default(false);
+            if (slot != null) {
+                notIndexed.add(slot);
+            }
+            notIndexed.add(value);
+            slots[index] = notIndexed;
+            return true;
+        }
+        if (list.isNotIndexed()) {
+            list.add(value);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Converts collected key/value pairs to the raw data (nested binders are prepared by their {@link #write(Object)})
+     *
+     * @throws ChainException incompatible raw data values (see {@link IChain.Default#mergeObjectValues})
+     */
+    @SuppressWarnings("unchecked")
+    protected void prepare() {
+        final List<FormUrlFieldDescriptor> fields = descriptor.getFields();
+        for (int i = 0; i < slots.length; i++) {
+            final Object slot = slots[i];
+            if (slot == null) {
+                continue;
+            }
+            final FormUrlFieldDescriptor field = fields.get(i);
+            if (!field.isSomePojo() && !field.isFlat()) {
+                slots[i] = chainPartsToRawData((List<IChainPart>) slot).get(field.getName());
+            }
+        }
+        if (unmappedParts != null) {
+            unmappedRawData = chainPartsToRawData(unmappedParts);
+        }
+    }
+
+    /**
+     * Converts routed key/value pairs to the raw data (before {@link #prepare()}).
+     * Used to continue processing by the {@link IChain} rules when the key path is not supported by the binder.
+     *
+     * @return raw data equal to the {@link IChain#getRawData()} of the routed pairs
+     * @throws ChainException incompatible raw data values (see {@link IChain.Default#mergeObjectValues})
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, Object> getRawData() {
+        final Map<String, Object> result = new HashMap<>();
+        final List<FormUrlFieldDescriptor> fields = descriptor.getFields();
+        for (int i = 0; i < slots.length; i++) {
+            final Object slot = slots[i];
+            if (slot == null) {
+                continue;
+            }
+            final FormUrlFieldDescriptor field = fields.get(i);
+            final Object rawValue;
+            if (field.isSomePojo()) {
+                final Map<String, Object> nested = ((FormUrlPojoBinder) slot).getRawData();
+                // nested binder without pairs (the key path is not supported)
+                rawValue = nested.isEmpty() ? null : nested;
+            } else if (field.isFlat()) {
+                rawValue = slot;
+            } else {
+                rawValue = chainPartsToRawData((List<IChainPart>) slot).get(field.getName());
+            }
+            if (rawValue != null) {
+                result.put(field.getName(), rawValue);
+            }
+        }
+        if (unmappedParts != null) {
+            result.putAll(chainPartsToRawData(unmappedParts));
+        }
+        return result;
+    }
+
+    /**
+     * @param parts form data chain parts list
+     * @return raw data of the parts
+     */
+    protected Map<String, Object> chainPartsToRawData(final List<IChainPart> parts) {
+        return new RawDataChain().chainPartsToRawData(parts);
+    }
+
+    /**
+     * {@link IChain.Default} with access to the raw data conversion
+     */
+    protected static class RawDataChain extends IChain.Default {
+
+        /**
+         * Empty chain
+         */
+        protected RawDataChain() {
+            super((String) null);
+        }
+
+        /**
+         * @see IChain.Default#chainPartsToRawData(List)
+         */
+        @Override
+        protected Map<String, Object> chainPartsToRawData(final List<IChainPart> list) {
+            return super.chainPartsToRawData(list);
+        }
+
+        /**
+         * @see IChain.Default#mergeRawMap(Object, Object)
+         */
+        @Override
+        protected Map<String, Object> mergeRawMap(final Object source, final Object target) {
+            return super.mergeRawMap(source, target);
+        }
+
+    }
+
+}
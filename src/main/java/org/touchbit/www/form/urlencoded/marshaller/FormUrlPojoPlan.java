@@ -0,0 +1,149 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlFieldDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+
+import java.util.List;
+
+/**
+ * POJO class plan compiled for the {@link FormUrlConfig}:
+ * class metadata ({@link FormUrlPojoDescriptor}) and field values resolved from the configuration
+ * (null value replacement according to the {@link NullValueRule})
+ * and legal form key names ({@link #isMappedKey(FormUrlConfig, String)}).
+ * The plan is immutable and built once per configuration ({@link FormUrlConfig#getPojoPlan(Class)}).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlPojoPlan {
+
+    /**
+     * class metadata
+     */
+    private final FormUrlPojoDescriptor descriptor;
+    /**
+     * null field value replacements by field index (null - ignore field)
+     */
+    private final Object[] nullValues;
+
+    /**
+     * @param config    marshaller configuration
+     * @param pojoClass POJO class
+     */
+    protected FormUrlPojoPlan(final FormUrlConfig config, final Class<?> pojoClass) {
+        this.descriptor = FormUrlPojoDescriptor.of(pojoClass);
+        final List<FormUrlFieldDescriptor> fields = descriptor.getFields();
+        this.nullValues = new Object[fields.size()];
+        for (int i = 0; i < nullValues.length; i++) {
+            nullValues[i] = getNullValue(config.getNullValueRule(), fields.get(i));
+        }
+    }
+
+    /**
+     * @param rule  rule for handling fields with null value
+     * @param field POJO field
+     * @return null field value replacement according to the rule (nullable)
+     */
+    protected static Object getNullValue(final NullValueRule rule, final FormUrlFieldDescriptor field) {
+        switch (rule) {
+            case RULE_NULL_MARKER:
+                return field.isEncoded() ? NullValueRule.ENCODED_NULL_MARKER : NullValueRule.DECODED_NULL_MARKER;
+            case RULE_NULL_STRING:
+                return "null";
+            case RULE_EMPTY_STRING:
+                return "";
+            case RULE_IGNORE:
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return class metadata
+     */
+    public FormUrlPojoDescriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * @param pojo       POJO object
+     * @param fieldIndex field index ({@link FormUrlPojoDescriptor#getFields()})
+     * @return field value or value according to the {@link NullValueRule} (nullable)
+     */
+    public Object getFieldValue(final Object pojo, final int fieldIndex) {
+        final Object value = descriptor.getFields().get(fieldIndex).getValue(pojo);
+        return value != null ? value : nullValues[fieldIndex];
+    }
+
+    /**
+     * Checks the form key path against the POJO field names (without value decoding).
+     * The key is mapped if the first key segment is the POJO field name
+     * and each nested segment of the nested POJO field is the nested POJO field name.
+     * Keys of other fields ({@code Map}, {@code List}, etc.) are not checked deeper.
+     * Key paths not supported by the nested POJO ({@code foo[0][bar]}, {@code foo[]})
+     * are treated as mapped and handled by the conversion.
+     *
+     * @param config marshaller configuration (nested POJO plans)
+     * @param key    trimmed URL encoded form key ({@code foo[bar][0]})
+     * @return false if the key is not mapped to the POJO fields (additional property)
+     */
+    public boolean isMappedKey(final FormUrlConfig config, final String key) {
+        return isMappedKey(config, key, 0);
+    }
+
+    /**
+     * @param config marshaller configuration (nested POJO plans)
+     * @param key    trimmed URL encoded form key ({@code foo[bar][0]})
+     * @param start  current key segment offset ({@code 0} - {@code foo}, {@code 3} - {@code [bar]})
+     * @return false if the key segment is not mapped to the POJO fields
+     */
+    protected boolean isMappedKey(final FormUrlConfig config, final String key, final int start) {
+        final String name;
+        final int next;
+        if (start == 0) {
+            final int bracket = key.indexOf('[');
+            next = bracket < 0 ? key.length() : bracket;
+            name = bracket < 0 ? key : key.substring(0, bracket).trim();
+        } else {
+            final int close = key.indexOf(']', start);
+            if (close < 0) {
+                return true;
+            }
+            next = close + 1;
+            name = key.substring(start + 1, close).trim();
+            if (name.isEmpty() || NumberUtils.isDigits(name) || (next < key.length() && key.charAt(next) != '[')) {
+                // list or malformed nested key
+                return true;
+            }
+        }
+        final int index = descriptor.getFieldIndex(name);
+        if (index < 0) {
+            return false;
+        }
+        final FormUrlFieldDescriptor field = descriptor.getFields().get(index);
+        if (!field.isSomePojo() || next == key.length() || FormUrlUtils.isMapAssignableFrom(field.getPojoClass())) {
+            return true;
+        }
+        return config.getPojoPlan(field.getPojoClass()).isMappedKey(config, key, next);
+    }
+
+}
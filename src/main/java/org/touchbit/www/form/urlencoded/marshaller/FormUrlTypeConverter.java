@@ -0,0 +1,770 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.ExceptionBuilder;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlNumberParser;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
+
+/**
+ * Raw data value ({@link String}, {@link Map}, {@link List}) to Java type converter compiled once for the target type.
+ * The target type is introspected when the converter is created: type arguments, array component types
+ * and string parsers are compiled into a converter tree
+ * ({@code List<Integer[]>} -> list of (array of (Integer parser))).
+ * Conversion only checks the raw value shape (simple value, Map or Collection),
+ * the conversion rules are the same as in the {@link FormUrlMarshaller#convertRawValueToTargetJavaType(Object, Type)}.
+ * The converter is immutable and thread safe ({@link FormUrlConfig#getTypeConverter(Type)}).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlTypeConverter {
+
+    /**
+     * target Java type
+     */
+    private final Type targetType;
+    /**
+     * url decoded string parser for the target type
+     */
+    private final Parser parser;
+    /**
+     * target type is simple ({@link FormUrlUtils#isSimple(Type)}) or supported primitive ({@link FormUrlUtils#isPrimitive(Type)})
+     */
+    private final boolean isSimple;
+    /**
+     * target type is a generic collection {@code List<?>}
+     */
+    private final boolean isGenericCollection;
+    /**
+     * target type is an array class {@code Integer[]}
+     */
+    private final boolean isArray;
+    /**
+     * target type is a generic map {@code Map<?, ?>}
+     */
+    private final boolean isGenericMap;
+    /**
+     * target type is a map class (raw map)
+     */
+    private final boolean isMap;
+    /**
+     * target type raw class is a collection
+     */
+    private final boolean isCollection;
+    /**
+     * target type is a generic array {@code Map<String, ?>[]}
+     */
+    private final boolean isGenericArray;
+    /**
+     * generic map value type is {@link Object} (no conversion)
+     */
+    private final boolean isObjectMapValue;
+    /**
+     * generic collection element kind
+     */
+    private final ElementKind elementKind;
+    /**
+     * generic collection element ({@code List<E>}) or generic map value ({@code Map<?, V>}) converter
+     */
+    private final FormUrlTypeConverter argumentConverter;
+    /**
+     * array component class
+     */
+    private final Class<?> componentClass;
+    /**
+     * array or generic array component converter
+     */
+    private final FormUrlTypeConverter componentConverter;
+
+    /**
+     * @param targetType target Java type
+     * @throws MarshallerException if targetType is null
+     */
+    public FormUrlTypeConverter(final Type targetType) {
+        FormUrlUtils.parameterRequireNonNull(targetType, TARGET_TYPE_PARAMETER);
+        this.targetType = targetType;
+        this.parser = compileParser(targetType);
+        this.isSimple = FormUrlUtils.isSimple(targetType) || FormUrlUtils.isPrimitive(targetType);
+        this.isGenericCollection = FormUrlUtils.isGenericCollection(targetType);
+        this.isArray = FormUrlUtils.isArray(targetType);
+        this.isGenericMap = FormUrlUtils.isGenericMap(targetType);
+        this.isMap = FormUrlUtils.isMapAssignableFrom(targetType);
+        final Class<?> rawClass = TypeUtils.getRawType(targetType, null);
+        this.isCollection = rawClass != null && Collection.class.isAssignableFrom(rawClass);
+        this.isGenericArray = FormUrlUtils.isGenericArray(targetType);
+        final Type[] arguments = targetType instanceof ParameterizedType ?
+                ((ParameterizedType) targetType).getActualTypeArguments() : new Type[0];
+        if (isGenericCollection) {
+            this.isObjectMapValue = false;
+            this.elementKind = ElementKind.of(arguments[0]);
+            this.argumentConverter = newConverter(arguments[0]);
+        } else if (isGenericMap) {
+            final Type valueType = arguments.length > 1 ? arguments[1] : Object.class;
+            this.isObjectMapValue = valueType.equals(Object.class);
+            this.elementKind = ElementKind.OTHER;
+            this.argumentConverter = isObjectMapValue ? null : newConverter(valueType);
+        } else {
+            this.isObjectMapValue = false;
+            this.elementKind = ElementKind.OTHER;
+            this.argumentConverter = null;
+        }
+        if (isArray || isGenericArray) {
+            this.componentClass = FormUrlUtils.getArrayComponentClass(targetType);
+            this.componentConverter = newConverter(componentClass);
+        } else {
+            this.componentClass = null;
+            this.componentConverter = null;
+        }
+    }
+
+    /**
+     * Override this method to customize nested converters.
+     *
+     * @param type type argument or array component type
+     * @return nested converter
+     */
+    protected FormUrlTypeConverter newConverter(final Type type) {
+        return new FormUrlTypeConverter(type);
+    }
+
+    /**
+     * @param rawValue raw data value ({@link IChain} raw data)
+     * @return converted value
+     * @throws MarshallerException if rawValue and target type is not compatible
+     */
+    @SuppressWarnings("java:S3776") // does not require decomposition
+    public Object convert(final Object rawValue) {
+        final boolean isSimpleValue = FormUrlUtils.isSimple(rawValue);
+        if (isSimpleValue) {
+            if (isSimple) {
+                // raw value String to target type Integer
+                return parser.parse(String.valueOf(rawValue));
+            }
+            if (isGenericCollection) {
+                // raw value String to target type List<Integer> (hidden url encoded array)
+                return Collections.singletonList(argumentConverter.parse(String.valueOf(rawValue)));
+            }
+            if (isArray && componentClass.isPrimitive()) {
+                // raw value String to target type int[] (hidden url encoded array)
+                return convertPrimitiveArray(Collections.singletonList(rawValue));
+            }
+            if (isArray) {
+                // raw value String to target type Integer[] (hidden url encoded array)
+                final Object value = componentConverter.parse(String.valueOf(rawValue));
+                return FormUrlUtils.objectToArray(value, componentClass);
+            }
+        }
+        if (rawValue instanceof Map) {
+            final Object result = convertMap((Map<?, ?>) rawValue);
+            if (result != null) {
+                return result;
+            }
+        } else if (rawValue instanceof Collection) {
+            final Object result = convertCollection((Collection<?>) rawValue);
+            if (result != null) {
+                return result;
+            }
+        }
+        throw MarshallerException.builder()
+                .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
+                .validationError()
+                .sourceValue(rawValue)
+                .sourceType(rawValue)
+                .targetType(targetType)
+                .build();
+    }
+
+    /**
+     * @param rawMap raw data Map value
+     * @return converted value or null if the target type is not compatible
+     */
+    protected Object convertMap(final Map<?, ?> rawMap) {
+        if (isGenericMap) {
+            if (isObjectMapValue) {
+                // Target type Map<String, Object>. No need for conversion.
+                return rawMap;
+            }
+            // raw value Map<String, Object> to target type Map<String, ?>
+            final Map<String, Object> result = new HashMap<>();
+            for (Map.Entry<?, ?> entry : rawMap.entrySet()) {
+                result.put(String.valueOf(entry.getKey()), argumentConverter.convert(entry.getValue()));
+            }
+            return result;
+        }
+        if (isMap) {
+            // raw value Map<String, Object> to target type raw Map (raw map without generic)
+            return rawMap;
+        }
+        if (isGenericCollection) {
+            // raw value Map<String, Object> to target type List<Map<?, ?>> (hidden url encoded array)
+            return Collections.singletonList(argumentConverter.convert(rawMap));
+        }
+        if (isArray || isGenericArray) {
+            // raw value Map<String, ?> to target type Map[] or Map<String, ?>[] (hidden url encoded array)
+            return FormUrlUtils.objectToArray(componentConverter.convert(rawMap), componentClass);
+        }
+        return null;
+    }
+
+    /**
+     * @param rawCollection raw data Collection value
+     * @return converted value or null if the target type is not compatible
+     */
+    protected Object convertCollection(final Collection<?> rawCollection) {
+        if (isArray && componentClass.isPrimitive()) {
+            // raw value List<String> to target type int[]
+            return convertPrimitiveArray(rawCollection);
+        }
+        if (isArray) {
+            // raw value List<String> to target type Integer[]
+            final List<Object> result = new ArrayList<>(rawCollection.size());
+            for (Object item : rawCollection) {
+                result.add(componentConverter.parse(item == null ? null : String.valueOf(item)));
+            }
+            return FormUrlUtils.collectionToArray(result, componentClass);
+        }
+        if (isGenericCollection) {
+            switch (elementKind) {
+                case GENERIC_MAP:
+                    if (allMatch(rawCollection, ElementKind.GENERIC_MAP)) {
+                        // raw value List<Map<?, ?>> to target type List<Map<?, ?>>
+                        return convertItems(rawCollection);
+                    }
+                    break;
+                case OBJECT:
+                    // raw value List<String> to target type List<Object>
+                    return rawCollection;
+                case GENERIC_COLLECTION:
+                case ARRAY:
+                    if (allMatch(rawCollection, ElementKind.GENERIC_COLLECTION)) {
+                        // raw value List<List<String>> to target type List<List<Integer>> or List<Integer[]>
+                        return convertItems(rawCollection);
+                    }
+                    break;
+                case SIMPLE:
+                    if (allMatch(rawCollection, ElementKind.SIMPLE)) {
+                        // raw value List<String> to target type List<Integer>
+                        final List<Object> result = new ArrayList<>(rawCollection.size());
+                        for (Object item : rawCollection) {
+                            result.add(argumentConverter.parse(String.valueOf(item)));
+                        }
+                        return result;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (isCollection) {
+            // raw value List<Object> to target type List (raw generic list)
+            return rawCollection;
+        }
+        if (isGenericArray && allMatch(rawCollection, ElementKind.GENERIC_MAP)) {
+            // raw value List<Map<String, ?>> to target type Map<String, ?>[]
+            final Object[] result = (Object[]) Array.newInstance(componentClass, rawCollection.size());
+            int index = 0;
+            for (Object item : rawCollection) {
+                result[index++] = componentConverter.convert(item);
+            }
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * Parses raw items directly into the primitive array without boxing (int[], long[], double[])
+     *
+     * @param rawCollection raw data Collection value
+     * @return primitive array
+     * @throws MarshallerException if the item cannot be converted to the array component type
+     */
+    protected Object convertPrimitiveArray(final Collection<?> rawCollection) {
+        int index = 0;
+        if (componentClass == int.class) {
+            final int[] result = new int[rawCollection.size()];
+            for (Object item : rawCollection) {
+                result[index++] = parseInt(item == null ? null : String.valueOf(item));
+            }
+            return result;
+        }
+        if (componentClass == long.class) {
+            final long[] result = new long[rawCollection.size()];
+            for (Object item : rawCollection) {
+                result[index++] = parseLong(item == null ? null : String.valueOf(item));
+            }
+            return result;
+        }
+        if (componentClass == double.class) {
+            final double[] result = new double[rawCollection.size()];
+            for (Object item : rawCollection) {
+                result[index++] = parseDouble(item == null ? null : String.valueOf(item));
+            }
+            return result;
+        }
+        final Object result = Array.newInstance(componentClass, rawCollection.size());
+        for (Object item : rawCollection) {
+            Array.set(result, index++, componentConverter.parse(item == null ? null : String.valueOf(item)));
+        }
+        return result;
+    }
+
+    /**
+     * @param rawCollection raw data Collection value
+     * @return list of converted items
+     */
+    protected List<Object> convertItems(final Collection<?> rawCollection) {
+        final List<Object> result = new ArrayList<>(rawCollection.size());
+        for (Object item : rawCollection) {
+            result.add(argumentConverter.convert(item));
+        }
+        return result;
+    }
+
+    /**
+     * @param rawCollection raw data Collection value
+     * @param kind          raw items kind (GENERIC_MAP - Map, GENERIC_COLLECTION - Collection, SIMPLE - non-null simple)
+     * @return true if all raw items match the kind (null items are skipped for SIMPLE)
+     */
+    protected static boolean allMatch(final Collection<?> rawCollection, final ElementKind kind) {
+        for (Object item : rawCollection) {
+            final boolean match;
+            switch (kind) {
+                case GENERIC_MAP:
+                    match = item instanceof Map;
+                    break;
+                case GENERIC_COLLECTION:
+                    match = item instanceof Collection;
+                    break;
+                default:
+                    match = item == null || FormUrlUtils.isSimple(item);
+                    break;
+            }
+            if (!match) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts url decoded string to the target type
+     * (see {@link FormUrlMarshaller#convertUrlDecodedStringValueToSimpleType(String, Type)}).
+     *
+     * @param value nullable url decoded string
+     * @return converted value
+     * @throws MarshallerException if target type is not supported primitive type
+     * @throws MarshallerException if target type not supported
+     * @throws MarshallerException if the value cannot be converted to the target type
+     */
+    public Object parse(final String value) {
+        return parser.parse(value);
+    }
+
+    /**
+     * @return target Java type
+     */
+    public Type getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @param targetType target Java type
+     * @return url decoded string parser
+     */
+    protected static Parser compileParser(final Type targetType) {
+        if (targetType == int.class) {
+            return FormUrlTypeConverter::parseInt;
+        }
+        if (targetType == long.class) {
+            return FormUrlTypeConverter::parseLong;
+        }
+        if (targetType == short.class) {
+            return FormUrlTypeConverter::parseShort;
+        }
+        if (targetType == double.class) {
+            return FormUrlTypeConverter::parseDouble;
+        }
+        if (targetType == float.class) {
+            return FormUrlTypeConverter::parseFloat;
+        }
+        if (targetType == boolean.class) {
+            return FormUrlTypeConverter::parseBoolean;
+        }
+        if (targetType instanceof Class && ((Class<?>) targetType).isPrimitive()) {
+            return value -> {
+                throw MarshallerException.builder()
+                        .errorMessage("Forbidden to use primitive types")
+                        .actualType(targetType)
+                        .expected(ERR_SIMPLE_REFERENCE_TYPES)
+                        .build();
+            };
+        }
+        if (targetType.equals(String.class) || targetType.equals(Object.class)) {
+            return value -> value;
+        }
+        if (targetType.equals(Boolean.class)) {
+            return value -> value == null ? null : parseBoolean(value, targetType);
+        }
+        if (targetType.equals(Short.class)) {
+            return value -> value == null ? null : parseShort(value, targetType);
+        }
+        if (targetType.equals(Long.class)) {
+            return value -> value == null ? null : parseLong(value, targetType);
+        }
+        if (targetType.equals(Float.class)) {
+            return numberParser(targetType, Float::valueOf);
+        }
+        if (targetType.equals(Integer.class)) {
+            return value -> value == null ? null : parseInt(value, targetType);
+        }
+        if (targetType.equals(Double.class)) {
+            return numberParser(targetType, Double::valueOf);
+        }
+        if (targetType.equals(BigInteger.class)) {
+            return value -> value == null ? null : parseBigInteger(value, targetType);
+        }
+        if (targetType.equals(BigDecimal.class)) {
+            return value -> value == null ? null : parseBigDecimal(value, targetType);
+        }
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            throw MarshallerException.builder()
+                    .errorMessage(ERR_RECEIVED_UNSUPPORTED_TYPE_FOR_CONVERSION)
+                    .actualType(targetType)
+                    .expected(ERR_SIMPLE_REFERENCE_TYPES)
+                    .build();
+        };
+    }
+
+    /**
+     * @param targetType number type
+     * @param parser     number parser
+     * @return null safe parser with {@link MarshallerException} for {@link NumberFormatException}
+     */
+    protected static Parser numberParser(final Type targetType, final Parser parser) {
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.parse(value);
+            } catch (NumberFormatException e) {
+                throw incompatibleValueError(value, targetType, e);
+            }
+        };
+    }
+
+    /**
+     * @param value url decoded string
+     * @return int value
+     * @throws MarshallerException if value is null or not an int number
+     */
+    public static int parseInt(final String value) {
+        return parseInt(requireValue(value, int.class), int.class);
+    }
+
+    /**
+     * The value is checked by the {@link FormUrlNumberParser} scanner,
+     * so the invalid value does not throw and catch {@link NumberFormatException}.
+     *
+     * @param value      not null url decoded string
+     * @param targetType int or Integer type
+     * @return int value
+     * @throws MarshallerException if value is not an int number
+     */
+    protected static int parseInt(final String value, final Type targetType) {
+        checkNumber(value, targetType, FormUrlNumberParser.checkLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw incompatibleValueError(value, targetType, e);
+        }
+    }
+
+    /**
+     * @param value url decoded string
+     * @return long value
+     * @throws MarshallerException if value is null or not a long number
+     */
+    public static long parseLong(final String value) {
+        return parseLong(requireValue(value, long.class), long.class);
+    }
+
+    /**
+     * @param value      not null url decoded string
+     * @param targetType long or Long type
+     * @return long value
+     * @throws MarshallerException if value is not a long number
+     */
+    protected static long parseLong(final String value, final Type targetType) {
+        checkNumber(value, targetType, FormUrlNumberParser.checkLong(value, Long.MIN_VALUE, Long.MAX_VALUE));
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw incompatibleValueError(value, targetType, e);
+        }
+    }
+
+    /**
+     * @param value url decoded string
+     * @return short value
+     * @throws MarshallerException if value is null or not a short number
+     */
+    public static short parseShort(final String value) {
+        return parseShort(requireValue(value, short.class), short.class);
+    }
+
+    /**
+     * @param value      not null url decoded string
+     * @param targetType short or Short type
+     * @return short value
+     * @throws MarshallerException if value is not a short number
+     */
+    protected static short parseShort(final String value, final Type targetType) {
+        checkNumber(value, targetType, FormUrlNumberParser.checkLong(value, Short.MIN_VALUE, Short.MAX_VALUE));
+        try {
+            return Short.parseShort(value);
+        } catch (NumberFormatException e) {
+            throw incompatibleValueError(value, targetType, e);
+        }
+    }
+
+    /**
+     * @param value      not null url decoded string
+     * @param targetType BigInteger type
+     * @return BigInteger value ({@link NumberUtils#createBigInteger(String)})
+     * @throws MarshallerException if value is not a BigInteger number
+     */
+    protected static BigInteger parseBigInteger(final String value, final Type targetType) {
+        checkNumber(value, targetType, FormUrlNumberParser.checkBigInteger(value));
+        try {
+            return NumberUtils.createBigInteger(value);
+        } catch (NumberFormatException e) {
+            throw incompatibleValueError(value, targetType, e);
+        }
+    }
+
+    /**
+     * @param value      not null url decoded string
+     * @param targetType BigDecimal type
+     * @return BigDecimal value ({@link NumberUtils#createBigDecimal(String)})
+     * @throws MarshallerException if value is not a BigDecimal number
+     */
+    protected static BigDecimal parseBigDecimal(final String value, final Type targetType) {
+        checkNumber(value, targetType, FormUrlNumberParser.checkBigDecimal(value));
+        try {
+            return NumberUtils.createBigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw incompatibleValueError(value, targetType, e);
+        }
+    }
+
+    /**
+     * @param value       not null url decoded string
+     * @param targetType  number type
+     * @param checkResult {@link FormUrlNumberParser} result code
+     * @throws MarshallerException if the value is not a number or out of the target type range
+     *                             (the exception is built once, without an intermediate {@link NumberFormatException},
+     *                             so it has no cause)
+     */
+    protected static void checkNumber(final String value, final Type targetType, final int checkResult) {
+        if (checkResult == FormUrlNumberParser.INVALID || checkResult == FormUrlNumberParser.OUT_OF_RANGE) {
+            final String typeName = targetType instanceof Class
+                    ? ((Class<?>) targetType).getSimpleName()
+                    : targetType.getTypeName();
+            throw (MarshallerException) MarshallerException.builder()
+                    .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
+                    .validationError()
+                    .sourceType(value)
+                    .sourceValue(value)
+                    .targetType(targetType)
+                    .errorCauseMessage(checkResult == FormUrlNumberParser.INVALID
+                            ? "not a valid " + typeName + " value"
+                            : typeName + " value is out of range")
+                    .build();
+        }
+    }
+
+    /**
+     * @param value url decoded string
+     * @return double value
+     * @throws MarshallerException if value is null or not a number
+     */
+    public static double parseDouble(final String value) {
+        try {
+            return Double.parseDouble(requireValue(value, double.class));
+        } catch (NumberFormatException e) {
+            throw incompatibleValueError(value, double.class, e);
+        }
+    }
+
+    /**
+     * @param value url decoded string
+     * @return float value
+     * @throws MarshallerException if value is null or not a number
+     */
+    public static float parseFloat(final String value) {
+        try {
+            return Float.parseFloat(requireValue(value, float.class));
+        } catch (NumberFormatException e) {
+            throw incompatibleValueError(value, float.class, e);
+        }
+    }
+
+    /**
+     * @param value url decoded string
+     * @return boolean value
+     * @throws MarshallerException if value is not {@code true} or {@code false} (ignore case)
+     */
+    public static boolean parseBoolean(final String value) {
+        return parseBoolean(requireValue(value, boolean.class), boolean.class);
+    }
+
+    /**
+     * @param value      not null url decoded string
+     * @param targetType Boolean or boolean type
+     * @return boolean value
+     * @throws MarshallerException if value is not {@code true} or {@code false} (ignore case)
+     */
+    protected static boolean parseBoolean(final String value, final Type targetType) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw MarshallerException.builder()
+                .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
+                .validationError()
+                .sourceType(value)
+                .sourceValue(value)
+                .targetType(targetType)
+                .expectedValue("true || false")
+                .build();
+    }
+
+    /**
+     * @param value         nullable url decoded string
+     * @param primitiveType primitive target type
+     * @return value
+     * @throws MarshallerException if value is null (primitive type can not contain null)
+     */
+    protected static String requireValue(final String value, final Class<?> primitiveType) {
+        if (value == null) {
+            throw incompatibleValueError(null, primitiveType, null);
+        }
+        return value;
+    }
+
+    /**
+     * @param value      nullable url decoded string
+     * @param targetType target type
+     * @param cause      nullable parsing error
+     * @return {@link MarshallerException} value is not compatible with the target type
+     */
+    protected static MarshallerException incompatibleValueError(final String value,
+                                                                final Type targetType,
+                                                                final Exception cause) {
+        final ExceptionBuilder<?> builder = MarshallerException.builder()
+                .errorMessage(ERR_INCOMPATIBLE_TYPES_RECEIVED_FOR_CONVERSION)
+                .validationError()
+                .sourceType(value)
+                .sourceValue(value)
+                .targetType(targetType);
+        if (cause != null) {
+            builder.errorCause(cause);
+        }
+        return (MarshallerException) builder.build();
+    }
+
+    /**
+     * Url decoded string parser.
+     * Primitive type values are boxed (the converter result is an {@link Object}).
+     * Single primitive field values are written without boxing by the {@link FormUrlPojoBinder} only.
+     */
+    @FunctionalInterface
+    public interface Parser {
+
+        /**
+         * @param value nullable url decoded string
+         * @return converted value
+         */
+        Object parse(String value);
+
+    }
+
+    /**
+     * Generic collection element type kind
+     */
+    protected enum ElementKind {
+
+        /***/
+        GENERIC_MAP,
+        /***/
+        OBJECT,
+        /***/
+        GENERIC_COLLECTION,
+        /***/
+        ARRAY,
+        /***/
+        SIMPLE,
+        /***/
+        OTHER,
+        ;
+
+        /**
+         * @param elementType generic collection type argument
+         * @return element type kind
+         */
+        public static ElementKind of(final Type elementType) {
+            if (FormUrlUtils.isGenericMap(elementType)) {
+                return GENERIC_MAP;
+            }
+            if (elementType.equals(Object.class)) {
+                return OBJECT;
+            }
+            if (FormUrlUtils.isGenericCollection(elementType)) {
+                return GENERIC_COLLECTION;
+            }
+            if (FormUrlUtils.isArray(elementType)) {
+                return ARRAY;
+            }
+            if (FormUrlUtils.isSimple(elementType)) {
+                return SIMPLE;
+            }
+            return OTHER;
+        }
+
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+
+import java.util.Map;
+
+/**
+ * Runtime value class plan compiled for the {@link FormUrlConfig}:
+ * value kind ({@link Kind}) and POJO class plan ({@link FormUrlPojoPlan}) if the value is a POJO.
+ * The marshaller classifies the value by its class once instead of the per-value
+ * {@code instanceof}/annotation checks ({@link FormUrlUtils#isSimple(Object)}, {@link FormUrlUtils#isPojo(Object)}, etc.).
+ * The plan is immutable and built once per configuration ({@link FormUrlConfig#getValuePlan(Class)}).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlValuePlan {
+
+    /**
+     * value class
+     */
+    private final Class<?> valueClass;
+    /**
+     * value kind
+     */
+    private final Kind kind;
+    /**
+     * POJO class plan (nullable)
+     */
+    private final FormUrlPojoPlan pojoPlan;
+
+    /**
+     * @param config     marshaller configuration
+     * @param valueClass runtime value class
+     */
+    protected FormUrlValuePlan(final FormUrlConfig config, final Class<?> valueClass) {
+        this.valueClass = valueClass;
+        this.kind = getKind(valueClass);
+        this.pojoPlan = kind == Kind.POJO || kind == Kind.POJO_MAP ? config.getPojoPlan(valueClass) : null;
+    }
+
+    /**
+     * The checks order is the same as in the {@link FormUrlMarshaller#convertValueToRawData(Object)}
+     *
+     * @param valueClass runtime value class
+     * @return value kind
+     */
+    protected static Kind getKind(final Class<?> valueClass) {
+        if (FormUrlUtils.isSimple(valueClass)) {
+            return Kind.SIMPLE;
+        }
+        final boolean isPojo = valueClass.isAnnotationPresent(FormUrlEncoded.class);
+        final boolean isMap = Map.class.isAssignableFrom(valueClass);
+        if (isPojo) {
+            return isMap ? Kind.POJO_MAP : Kind.POJO;
+        }
+        if (isMap) {
+            return Kind.MAP;
+        }
+        if (FormUrlUtils.isCollection(valueClass)) {
+            return Kind.COLLECTION;
+        }
+        if (valueClass.isArray()) {
+            return valueClass.getComponentType().isPrimitive() ? Kind.PRIMITIVE_ARRAY : Kind.ARRAY;
+        }
+        return Kind.UNSUPPORTED;
+    }
+
+    /**
+     * @return runtime value class
+     */
+    public Class<?> getValueClass() {
+        return valueClass;
+    }
+
+    /**
+     * @return value kind
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return POJO class plan or null if value is not a POJO
+     */
+    public FormUrlPojoPlan getPojoPlan() {
+        return pojoPlan;
+    }
+
+    /**
+     * @return true if value is a POJO and/or Map
+     */
+    public boolean isObject() {
+        return kind == Kind.POJO || kind == Kind.MAP || kind == Kind.POJO_MAP;
+    }
+
+    /**
+     * Value kinds supported by the marshaller
+     */
+    public enum Kind {
+        /**
+         * String, Integer, Boolean, etc. ({@link FormUrlUtils#isSimple(Object)})
+         */
+        SIMPLE,
+        /**
+         * class with {@link FormUrlEncoded} annotation
+         */
+        POJO,
+        /**
+         * {@link Map} implementation
+         */
+        MAP,
+        /**
+         * class with {@link FormUrlEncoded} annotation implementing {@link Map}
+         */
+        POJO_MAP,
+        /**
+         * {@link java.util.Collection} implementation
+         */
+        COLLECTION,
+        /**
+         * array of reference type
+         */
+        ARRAY,
+        /**
+         * array of primitive type ({@code int[]}, {@code long[]}, etc.)
+         */
+        PRIMITIVE_ARRAY,
+        /**
+         * value type is not supported
+         */
+        UNSUPPORTED
+    }
+
+}
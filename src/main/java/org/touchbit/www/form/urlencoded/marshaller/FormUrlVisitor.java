@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import java.io.IOException;
+
+/**
+ * Model traversal events for the {@link FormUrlMarshaller#marshal(Object, FormUrlVisitor)}.
+ * The marshaller walks the POJO/Map model once and reports its structure
+ * without {@link org.touchbit.www.form.urlencoded.marshaller.chain.IChainPart} list and key strings.
+ * <p>
+ * Events order for {@code {foo=[1, {bar=2}]}}:
+ * <pre><code>
+ *     beginObject()
+ *       field("foo")
+ *       beginList()
+ *         index(0) value("1")
+ *         index(1) beginObject() field("bar") value("2") endObject()
+ *       endList()
+ *     endObject()
+ * </code></pre>
+ * {@link #field(String)} and {@link #index(int)} are followed by the value event:
+ * {@link #value(String)}, {@link #beginObject()} or {@link #beginList()}.
+ * Values are URL encoded, POJO fields and null values are processed according to the marshaller settings.
+ * All methods do nothing by default.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public interface FormUrlVisitor {
+
+    /**
+     * POJO or Map start
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    default void beginObject() throws IOException {
+    }
+
+    /**
+     * @param name POJO field name or Map key
+     * @throws IOException if an I/O error occurs
+     */
+    default void field(String name) throws IOException {
+    }
+
+    /**
+     * POJO or Map end
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    default void endObject() throws IOException {
+    }
+
+    /**
+     * Collection or array start
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    default void beginList() throws IOException {
+    }
+
+    /**
+     * @param index list item position
+     * @throws IOException if an I/O error occurs
+     */
+    default void index(int index) throws IOException {
+    }
+
+    /**
+     * Collection or array end
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    default void endList() throws IOException {
+    }
+
+    /**
+     * @param encodedValue URL encoded simple value
+     * @throws IOException if an I/O error occurs
+     */
+    default void value(String encodedValue) throws IOException {
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
+
+/**
+ * Streaming POJO/Map to form URL encoded string conversion.
+ * The writer is a {@link FormUrlVisitor} driven by the {@link FormUrlMarshaller}:
+ * the model is walked once and key/value pairs are appended directly to the {@link Appendable}
+ * without intermediate raw data ({@link FormUrlMarshaller#convertValueToRawData(Object)})
+ * and {@link org.touchbit.www.form.urlencoded.marshaller.chain.IChain}.
+ * <p>
+ * Pairs are written in the model traversal order:
+ * POJO fields in declaration order, then additional properties, then Map entries (for POJO extending Map).
+ * Additional properties and Map entries override POJO fields with the same key.
+ * Lists are written according to the marshaller list format (hidden, implicit or explicit).
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final StringBuilder out = new StringBuilder();
+ *     new FormUrlWriter(marshaller, out).write(model);
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlWriter implements FormUrlVisitor {
+
+    /**
+     * model traversal
+     */
+    private final FormUrlMarshaller marshaller;
+    /**
+     * marshaller settings (read once per writer)
+     */
+    private final FormUrlConfig config;
+    /**
+     * form URL encoded data output
+     */
+    private final Appendable out;
+    /**
+     * current key path ({@code foo[bar][0]})
+     */
+    private final StringBuilder key = new StringBuilder();
+    /**
+     * key path lengths of the opened objects and lists
+     */
+    private int[] keyLengths = new int[8];
+    /**
+     * opened objects and lists count (1 - root object)
+     */
+    private int depth;
+    /**
+     * no pairs have been written yet
+     */
+    private boolean first = true;
+
+    /**
+     * @param marshaller marshaller with the current settings
+     * @param appendable form URL encoded data output
+     * @throws MarshallerException if marshaller or appendable is null
+     */
+    public FormUrlWriter(final FormUrlMarshaller marshaller, final Appendable appendable) {
+        this(marshaller, marshaller == null ? null : marshaller.getConfig(), appendable);
+    }
+
+    /**
+     * @param marshaller model traversal
+     * @param config     marshaller settings
+     * @param appendable form URL encoded data output
+     * @throws MarshallerException if marshaller, config or appendable is null
+     */
+    public FormUrlWriter(final FormUrlMarshaller marshaller, final FormUrlConfig config, final Appendable appendable) {
+        FormUrlUtils.parameterRequireNonNull(marshaller, MARSHALLER_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(config, CONFIG_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(appendable, APPENDABLE_PARAMETER);
+        this.marshaller = marshaller;
+        this.config = config;
+        this.out = appendable;
+    }
+
+    /**
+     * Writes model key/value pairs to the output
+     *
+     * @param model {@code Map<String, Object>} or pojo object with
+     *              {@link org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded} annotation
+     * @throws IOException         if an I/O error occurs
+     * @throws MarshallerException if model is null
+     * @throws MarshallerException if model type is not supported
+     */
+    public void write(final Object model) throws IOException {
+        marshaller.visitModel(config, model, this);
+    }
+
+    /**
+     * @see FormUrlVisitor#beginObject()
+     */
+    @Override
+    public void beginObject() {
+        pushKey();
+    }
+
+    /**
+     * @see FormUrlVisitor#field(String)
+     */
+    @Override
+    public void field(final String name) {
+        key.setLength(keyLengths[depth - 1]);
+        if (depth == 1) {
+            key.append(name);
+        } else {
+            key.append('[').append(name).append(']');
+        }
+    }
+
+    /**
+     * @see FormUrlVisitor#endObject()
+     */
+    @Override
+    public void endObject() {
+        popKey();
+    }
+
+    /**
+     * @see FormUrlVisitor#beginList()
+     */
+    @Override
+    public void beginList() {
+        pushKey();
+    }
+
+    /**
+     * @see FormUrlVisitor#index(int)
+     */
+    @Override
+    public void index(final int index) {
+        key.setLength(keyLengths[depth - 1]);
+        if (config.isExplicitList()) {
+            key.append('[').append(index).append(']');
+        } else if (config.isImplicitList()) {
+            key.append("[]");
+        }
+    }
+
+    /**
+     * @see FormUrlVisitor#endList()
+     */
+    @Override
+    public void endList() {
+        popKey();
+    }
+
+    /**
+     * Appends key/value pair with the current key path
+     *
+     * @param encodedValue URL encoded value
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void value(final String encodedValue) throws IOException {
+        if (!first) {
+            out.append('&');
+        }
+        first = false;
+        out.append(key).append('=').append(encodedValue);
+    }
+
+    /**
+     * Saves the current key path length (object or list start)
+     */
+    protected void pushKey() {
+        if (depth == keyLengths.length) {
+            keyLengths = Arrays.copyOf(keyLengths, depth * 2);
+        }
+        keyLengths[depth++] = key.length();
+    }
+
+    /**
+     * Restores the key path length saved by the {@link #pushKey()} (object or list end)
+     */
+    protected void popKey() {
+        key.setLength(keyLengths[--depth]);
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only {@link CharSequence} view of the form URL encoded bytes (request body slice).
+ * Form URL encoded data is ASCII on the wire, so each byte is exposed as a char
+ * and the {@link FormUrlTokenizer} scans the bytes without a String copy of the entire body.
+ * Strings (keys and values) are created only on request:
+ * ASCII bytes are copied as is, raw non-ASCII bytes are decoded with the coding charset.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlByteSequence implements CharSequence {
+
+    /**
+     * form URL encoded bytes
+     */
+    private final byte[] bytes;
+    /**
+     * sequence start offset in the bytes array
+     */
+    private final int offset;
+    /**
+     * sequence length
+     */
+    private final int length;
+    /**
+     * URL form data coding charset (raw non-ASCII bytes)
+     */
+    private final Charset codingCharset;
+
+    /**
+     * @param bytes         form URL encoded bytes
+     * @param offset        sequence start offset in the bytes array
+     * @param length        sequence length
+     * @param codingCharset URL form data coding charset
+     * @throws MarshallerException       if bytes or codingCharset is null
+     * @throws IndexOutOfBoundsException if offset or length is out of the bytes array bounds
+     */
+    public FormUrlByteSequence(final byte[] bytes, final int offset, final int length, final Charset codingCharset) {
+        FormUrlUtils.parameterRequireNonNull(bytes, CodecConstant.BYTES_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(codingCharset, CodecConstant.CODING_CHARSET_PARAMETER);
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException("offset: " + offset + ", length: " + length +
+                                                ", bytes length: " + bytes.length);
+        }
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.codingCharset = codingCharset;
+    }
+
+    /**
+     * @return sequence length
+     */
+    @Override
+    public int length() {
+        return length;
+    }
+
+    /**
+     * @param index char index
+     * @return byte as char ({@code 0x00-0xFF})
+     */
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+        }
+        return (char) (bytes[offset + index] & 0xFF);
+    }
+
+    /**
+     * @param start start index (inclusive)
+     * @param end   end index (exclusive)
+     * @return view of the same bytes
+     */
+    @Override
+    public FormUrlByteSequence subSequence(final int start, final int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + length);
+        }
+        return new FormUrlByteSequence(bytes, offset + start, end - start, codingCharset);
+    }
+
+    /**
+     * @return URL form data coding charset
+     */
+    public Charset getCodingCharset() {
+        return codingCharset;
+    }
+
+    /**
+     * @return ASCII string or string decoded with the coding charset if the bytes contain non-ASCII bytes
+     */
+    @Override
+    public String toString() {
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) {
+                return new String(bytes, offset, length, codingCharset);
+            }
+        }
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+}
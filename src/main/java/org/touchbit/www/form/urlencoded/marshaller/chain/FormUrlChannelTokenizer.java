@@ -0,0 +1,326 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.charset.Charset;
+
+/**
+ * Incremental scanner of the form URL encoded data from the {@link ReadableByteChannel}.
+ * The data is read into a fixed-size buffer and key/value pairs are emitted as soon as they are received,
+ * so the body is never held in memory entirely.
+ * The buffer grows only if a single key/value pair is larger than the buffer
+ * and never beyond the maximum pair length ({@link FormUrlLimits#getMaxPairLength()}).
+ * Each received byte is checked for the pair separator once, regardless of the number of buffer refills.
+ * Each pair is scanned by the {@link FormUrlTokenizer} (same key/value rules and {@link FormUrlLimits} as for the string).
+ * The number of pairs and the received data length are checked as the data arrives.
+ * The channel must be in blocking mode: non-blocking {@link SelectableChannel}s are rejected by the constructor,
+ * a read of zero bytes from any other channel is an error (no busy waiting for the data).
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final FormUrlChannelTokenizer tokenizer = new FormUrlChannelTokenizer(channel, codingCharset);
+ *     while (tokenizer.next()) {
+ *         final String key = tokenizer.getKey();
+ *         final String value = tokenizer.getValue();
+ *     }
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlChannelTokenizer {
+
+    /**
+     * default read buffer size
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    /**
+     * maximum array size supported by the JVM
+     */
+    protected static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * form URL encoded data source
+     */
+    private final ReadableByteChannel channel;
+    /**
+     * URL form data coding charset
+     */
+    private final Charset codingCharset;
+    /**
+     * parsing limits
+     */
+    private final FormUrlLimits limits;
+    /**
+     * number of received bytes
+     */
+    private long received;
+    /**
+     * number of scanned non-empty pairs
+     */
+    private int dataPairCount;
+    /**
+     * read buffer (received and not yet scanned bytes are between {@link #position} and {@link #limit})
+     */
+    private byte[] buffer;
+    /**
+     * next pair start offset in the buffer
+     */
+    private int position;
+    /**
+     * received bytes end offset in the buffer
+     */
+    private int limit;
+    /**
+     * bytes between {@link #position} and this offset are already checked for the pair separator
+     */
+    private int scanned;
+    /**
+     * end of the channel is reached
+     */
+    private boolean eof;
+    /**
+     * number of scanned pairs (including empty)
+     */
+    private int pairCount;
+    /**
+     * an empty pair was received ({@code foo=1&&bar=2} or trailing {@code foo=1&&})
+     */
+    private boolean emptyPair;
+    /**
+     * current pair tokenizer
+     */
+    private FormUrlTokenizer pair;
+
+    /**
+     * @param channel       form URL encoded data source
+     * @param codingCharset URL form data coding charset
+     * @throws MarshallerException if channel or codingCharset is null
+     */
+    public FormUrlChannelTokenizer(final ReadableByteChannel channel, final Charset codingCharset) {
+        this(channel, codingCharset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param channel       form URL encoded data source
+     * @param codingCharset URL form data coding charset
+     * @param bufferSize    initial read buffer size
+     * @throws MarshallerException if channel or codingCharset is null
+     * @throws MarshallerException if bufferSize is less than 1
+     */
+    public FormUrlChannelTokenizer(final ReadableByteChannel channel, final Charset codingCharset, final int bufferSize) {
+        this(channel, codingCharset, bufferSize, FormUrlLimits.DEFAULT);
+    }
+
+    /**
+     * @param channel       form URL encoded data source
+     * @param codingCharset URL form data coding charset
+     * @param bufferSize    initial read buffer size
+     * @param limits        parsing limits
+     * @throws MarshallerException if channel, codingCharset or limits is null
+     * @throws MarshallerException if bufferSize is less than 1
+     * @throws MarshallerException if channel is a non-blocking {@link SelectableChannel}
+     */
+    public FormUrlChannelTokenizer(final ReadableByteChannel channel,
+                                   final Charset codingCharset,
+                                   final int bufferSize,
+                                   final FormUrlLimits limits) {
+        FormUrlUtils.parameterRequireNonNull(channel, CodecConstant.CHANNEL_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(codingCharset, CodecConstant.CODING_CHARSET_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(limits, CodecConstant.LIMITS_PARAMETER);
+        if (channel instanceof SelectableChannel && !((SelectableChannel) channel).isBlocking()) {
+            throw MarshallerException.builder()
+                    .errorMessage(CodecConstant.ERR_NON_BLOCKING_CHANNEL)
+                    .actual("non-blocking " + channel.getClass().getSimpleName())
+                    .expected(CodecConstant.BLOCKING_CHANNEL)
+                    .build();
+        }
+        if (bufferSize < 1) {
+            throw MarshallerException.builder()
+                    .errorMessage("Buffer size must be greater than zero.")
+                    .actual(bufferSize)
+                    .expected("size > 0")
+                    .build();
+        }
+        this.channel = channel;
+        this.codingCharset = codingCharset;
+        this.limits = limits;
+        this.buffer = new byte[bufferSize];
+    }
+
+    /**
+     * Reads the next key/value pair from the channel
+     *
+     * @return true if the next pair is read, false if the end of the data is reached
+     * @throws IOException    if an I/O error occurs
+     * @throws ChainException key-value pair is not in URL form format
+     * @throws ChainException incorrect ratio of opening and closing brackets in the key
+     * @throws ChainException key nesting {@code foo[[bar]]}
+     * @throws MarshallerException if the data exceeds the parsing limits ({@link FormUrlLimits})
+     */
+    public boolean next() throws IOException {
+        while (true) {
+            int separator = indexOfSeparator();
+            while (separator < 0 && !eof) {
+                fill();
+                separator = indexOfSeparator();
+            }
+            if (separator < 0 && position == limit) {
+                return false;
+            }
+            final int pairEnd = separator < 0 ? limit : separator;
+            final FormUrlByteSequence pairBytes =
+                    new FormUrlByteSequence(buffer, position, pairEnd - position, codingCharset);
+            final boolean last = separator < 0;
+            position = separator < 0 ? limit : separator + 1;
+            pairCount++;
+            if (pairBytes.length() == 0) {
+                emptyPair = true;
+                continue;
+            }
+            if (emptyPair) {
+                throw FormUrlTokenizer.pairFormatError(pairBytes);
+            }
+            if (last && pairCount == 1 && FormUrlTokenizer.isBlank(pairBytes)) {
+                // blank form data
+                return false;
+            }
+            if (++dataPairCount > limits.getMaxPairs()) {
+                throw FormUrlTokenizer.pairsError(dataPairCount, limits.getMaxPairs());
+            }
+            pair = new FormUrlTokenizer(pairBytes, limits);
+            pair.next();
+            return true;
+        }
+    }
+
+    /**
+     * Bytes checked by the previous call are skipped, so a large pair received in many reads is scanned once.
+     *
+     * @return '&amp;' index in the received bytes or -1
+     */
+    protected int indexOfSeparator() {
+        for (int i = Math.max(position, scanned); i < limit; i++) {
+            if (buffer[i] == '&') {
+                scanned = i + 1;
+                return i;
+            }
+        }
+        scanned = limit;
+        return -1;
+    }
+
+    /**
+     * Reads bytes from the channel to the buffer.
+     * Unscanned bytes are moved to the buffer start, the buffer grows only if it is full.
+     *
+     * @throws IOException         if an I/O error occurs
+     * @throws MarshallerException if the received data exceeds the maximum body length
+     * @throws MarshallerException if the received pair exceeds the maximum pair length
+     * @throws MarshallerException if the channel returned zero bytes (non-blocking channel)
+     */
+    protected void fill() throws IOException {
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            scanned = Math.max(scanned - position, 0);
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            // the buffer holds one incomplete pair: one byte over the limit is enough to detect the excess
+            final int maxBufferSize = (int) Math.min(limits.getMaxPairLength() + 1L, MAX_BUFFER_SIZE);
+            if (limit >= maxBufferSize) {
+                throw FormUrlTokenizer.pairLengthError(limit, maxBufferSize - 1);
+            }
+            final byte[] grown = new byte[(int) Math.min(buffer.length * 2L, maxBufferSize)];
+            System.arraycopy(buffer, 0, grown, 0, limit);
+            buffer = grown;
+        }
+        final ByteBuffer target = ByteBuffer.wrap(buffer, limit, buffer.length - limit);
+        final int read = channel.read(target);
+        if (read < 0) {
+            eof = true;
+        } else if (read == 0) {
+            // the buffer always has free space, so zero bytes means a non-blocking channel without data
+            throw MarshallerException.builder()
+                    .errorMessage(CodecConstant.ERR_NON_BLOCKING_CHANNEL)
+                    .actual("0 bytes read")
+                    .expected(CodecConstant.BLOCKING_CHANNEL)
+                    .build();
+        } else {
+            limit += read;
+            received += read;
+            if (received > limits.getMaxBodyLength()) {
+                throw FormUrlTokenizer.bodyLengthError(received, limits.getMaxBodyLength());
+            }
+        }
+    }
+
+    /**
+     * @return current pair trimmed key
+     */
+    public String getKey() {
+        return pair.getKey();
+    }
+
+    /**
+     * @return current pair trimmed URL decoded value
+     * @throws MarshallerException if value contains a malformed escape (%) pattern
+     */
+    public String getValue() {
+        return pair.getValue(codingCharset);
+    }
+
+    /**
+     * @return current pair trimmed URL encoded value
+     */
+    public String getRawValue() {
+        return pair.getRawValue();
+    }
+
+    /**
+     * @return true if current pair key contains an implicit list {@code foo[bar][]=value}
+     */
+    public boolean isImplicitList() {
+        return pair.isImplicitList();
+    }
+
+    /**
+     * @return true if current pair key contains an explicit list {@code foo[bar][0]=value}
+     */
+    public boolean isExplicitList() {
+        return pair.isExplicitList();
+    }
+
+    /**
+     * @return current read buffer size
+     */
+    public int getBufferSize() {
+        return buffer.length;
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+/**
+ * Immutable form data parsing limits.
+ * The limits are checked by the {@link FormUrlTokenizer} (and {@link FormUrlChannelTokenizer}) during the scan,
+ * so parsing of the abusive form data stops as soon as a limit is exceeded
+ * (before the values are decoded and the raw data structure is built).
+ * Each {@code withX} method returns a new limits object.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final FormUrlLimits limits = FormUrlLimits.DEFAULT.withMaxPairs(100).withMaxBodyLength(64 * 1024);
+ *     final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withLimits(limits));
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlLimits {
+
+    /***/
+    public static final int DEFAULT_MAX_PAIRS = 100_000;
+    /***/
+    public static final int DEFAULT_MAX_KEY_DEPTH = 32;
+    /***/
+    public static final int DEFAULT_MAX_KEY_LENGTH = 1024;
+    /***/
+    public static final int DEFAULT_MAX_LIST_INDEX = 10_000;
+    /***/
+    public static final int DEFAULT_MAX_PAIR_LENGTH = 8 * 1024 * 1024;
+    /***/
+    public static final long DEFAULT_MAX_BODY_LENGTH = Long.MAX_VALUE;
+
+    /**
+     * 100_000 pairs, key depth 32, key length 1024, list index 10_000, pair length 8 MiB, body length is not limited
+     */
+    public static final FormUrlLimits DEFAULT = new FormUrlLimits(DEFAULT_MAX_PAIRS, DEFAULT_MAX_KEY_DEPTH,
+            DEFAULT_MAX_KEY_LENGTH, DEFAULT_MAX_LIST_INDEX, DEFAULT_MAX_PAIR_LENGTH, DEFAULT_MAX_BODY_LENGTH);
+    /**
+     * No limits (for trusted form data only)
+     */
+    public static final FormUrlLimits UNLIMITED = new FormUrlLimits(Integer.MAX_VALUE, Integer.MAX_VALUE,
+            Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE);
+
+    /**
+     * maximum number of key-value pairs
+     */
+    private final int maxPairs;
+    /**
+     * maximum key nesting depth ({@code foo[bar][baz]} - 2)
+     */
+    private final int maxKeyDepth;
+    /**
+     * maximum key length (URL encoded)
+     */
+    private final int maxKeyLength;
+    /**
+     * maximum explicit list index ({@code foo[10000]=bar})
+     */
+    private final int maxListIndex;
+    /**
+     * maximum key-value pair length (URL encoded)
+     */
+    private final int maxPairLength;
+    /**
+     * maximum form data length (URL encoded)
+     */
+    private final long maxBodyLength;
+
+    /**
+     * @param maxPairs      maximum number of key-value pairs
+     * @param maxKeyDepth   maximum key nesting depth
+     * @param maxKeyLength  maximum key length
+     * @param maxListIndex  maximum explicit list index
+     * @param maxPairLength maximum key-value pair length
+     * @param maxBodyLength maximum form data length
+     * @throws MarshallerException if any limit is negative
+     */
+    protected FormUrlLimits(final int maxPairs,
+                            final int maxKeyDepth,
+                            final int maxKeyLength,
+                            final int maxListIndex,
+                            final int maxPairLength,
+                            final long maxBodyLength) {
+        requireNotNegative(maxPairs, "Maximum pairs count");
+        requireNotNegative(maxKeyDepth, "Maximum key depth");
+        requireNotNegative(maxKeyLength, "Maximum key length");
+        requireNotNegative(maxListIndex, "Maximum list index");
+        requireNotNegative(maxPairLength, "Maximum pair length");
+        requireNotNegative(maxBodyLength, "Maximum body length");
+        this.maxPairs = maxPairs;
+        this.maxKeyDepth = maxKeyDepth;
+        this.maxKeyLength = maxKeyLength;
+        this.maxListIndex = maxListIndex;
+        this.maxPairLength = maxPairLength;
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    /**
+     * @param limit limit value
+     * @param name  limit name
+     * @throws MarshallerException if limit is negative
+     */
+    protected static void requireNotNegative(final long limit, final String name) {
+        if (limit < 0) {
+            throw MarshallerException.builder()
+                    .errorMessage(name + " must not be negative.")
+                    .actual(limit)
+                    .expected("value >= 0")
+                    .build();
+        }
+    }
+
+    /**
+     * @param maxPairs maximum number of key-value pairs ({@code foo=1&bar=2} - 2)
+     * @return limits copy
+     * @throws MarshallerException if maxPairs is negative
+     */
+    public FormUrlLimits withMaxPairs(final int maxPairs) {
+        return new FormUrlLimits(maxPairs, maxKeyDepth, maxKeyLength, maxListIndex, maxPairLength, maxBodyLength);
+    }
+
+    /**
+     * @param maxKeyDepth maximum key nesting depth ({@code foo[bar][baz]} - 2)
+     * @return limits copy
+     * @throws MarshallerException if maxKeyDepth is negative
+     */
+    public FormUrlLimits withMaxKeyDepth(final int maxKeyDepth) {
+        return new FormUrlLimits(maxPairs, maxKeyDepth, maxKeyLength, maxListIndex, maxPairLength, maxBodyLength);
+    }
+
+    /**
+     * @param maxKeyLength maximum key length (URL encoded, trimmed)
+     * @return limits copy
+     * @throws MarshallerException if maxKeyLength is negative
+     */
+    public FormUrlLimits withMaxKeyLength(final int maxKeyLength) {
+        return new FormUrlLimits(maxPairs, maxKeyDepth, maxKeyLength, maxListIndex, maxPairLength, maxBodyLength);
+    }
+
+    /**
+     * @param maxListIndex maximum explicit list index ({@code foo[10000]=bar})
+     * @return limits copy
+     * @throws MarshallerException if maxListIndex is negative
+     */
+    public FormUrlLimits withMaxListIndex(final int maxListIndex) {
+        return new FormUrlLimits(maxPairs, maxKeyDepth, maxKeyLength, maxListIndex, maxPairLength, maxBodyLength);
+    }
+
+    /**
+     * The {@link FormUrlChannelTokenizer} read buffer does not grow beyond the maximum pair length.
+     *
+     * @param maxPairLength maximum key-value pair length (URL encoded chars or bytes)
+     * @return limits copy
+     * @throws MarshallerException if maxPairLength is negative
+     */
+    public FormUrlLimits withMaxPairLength(final int maxPairLength) {
+        return new FormUrlLimits(maxPairs, maxKeyDepth, maxKeyLength, maxListIndex, maxPairLength, maxBodyLength);
+    }
+
+    /**
+     * @param maxBodyLength maximum form data length (URL encoded chars or bytes)
+     * @return limits copy
+     * @throws MarshallerException if maxBodyLength is negative
+     */
+    public FormUrlLimits withMaxBodyLength(final long maxBodyLength) {
+        return new FormUrlLimits(maxPairs, maxKeyDepth, maxKeyLength, maxListIndex, maxPairLength, maxBodyLength);
+    }
+
+    /**
+     * @return maximum number of key-value pairs
+     */
+    public int getMaxPairs() {
+        return maxPairs;
+    }
+
+    /**
+     * @return maximum key nesting depth ({@code foo[bar][baz]} - 2)
+     */
+    public int getMaxKeyDepth() {
+        return maxKeyDepth;
+    }
+
+    /**
+     * @return maximum key length (URL encoded, trimmed)
+     */
+    public int getMaxKeyLength() {
+        return maxKeyLength;
+    }
+
+    /**
+     * @return maximum explicit list index ({@code foo[10000]=bar})
+     */
+    public int getMaxListIndex() {
+        return maxListIndex;
+    }
+
+    /**
+     * @return maximum key-value pair length (URL encoded chars or bytes)
+     */
+    public int getMaxPairLength() {
+        return maxPairLength;
+    }
+
+    /**
+     * @return maximum form data length (URL encoded chars or bytes)
+     */
+    public long getMaxBodyLength() {
+        return maxBodyLength;
+    }
+
+    @Override
+    public String toString() {
+        return "FormUrlLimits{" +
+               "maxPairs=" + maxPairs +
+               ", maxKeyDepth=" + maxKeyDepth +
+               ", maxKeyLength=" + maxKeyLength +
+               ", maxListIndex=" + maxListIndex +
+               ", maxPairLength=" + maxPairLength +
+               ", maxBodyLength=" + maxBodyLength +
+               '}';
+    }
+
+}
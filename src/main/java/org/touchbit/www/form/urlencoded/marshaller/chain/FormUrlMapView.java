@@ -0,0 +1,295 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * Read-only lazy raw data view ({@link IChain#getRawData()}) of the form URL encoded data.
+ * The input is scanned once by the {@link FormUrlTokenizer} (format and key brackets are validated),
+ * pair offsets are grouped by the top-level key.
+ * Values are URL decoded and nested maps/lists are built only when the top-level key is accessed
+ * (same result as {@link IChain#getRawData()} for this key). Built values are cached.
+ * <p>
+ * Decoding errors (malformed escape (%) pattern) and raw data merge errors
+ * are thrown on the key access.
+ * The view is not thread safe.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final Map&lt;String, Object&gt; form = new FormUrlMapView(encodedString, codingCharset);
+ *     final Object token = form.get("token");
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlMapView extends AbstractMap<String, Object> {
+
+    /**
+     * pair offsets record size: key start, key end, value start, value end, list flags
+     */
+    private static final int PAIR_SIZE = 5;
+    /**
+     * implicit list flag
+     */
+    private static final int IMPLICIT_LIST = 1;
+    /**
+     * explicit list flag
+     */
+    private static final int EXPLICIT_LIST = 2;
+
+    /**
+     * form URL encoded data
+     */
+    private final CharSequence input;
+    /**
+     * URL form data coding charset
+     */
+    private final Charset codingCharset;
+    /**
+     * parsing limits
+     */
+    private final FormUrlLimits limits;
+    /**
+     * pair offsets records
+     */
+    private int[] pairs = new int[PAIR_SIZE * 16];
+    /**
+     * top-level key - pair indexes (first element - indexes count)
+     */
+    private final Map<String, int[]> keyPairs = new LinkedHashMap<>();
+    /**
+     * built raw data values
+     */
+    private final Map<String, Object> values = new HashMap<>();
+
+    /**
+     * @param input         form URL encoded data ({@link String} or {@link FormUrlByteSequence})
+     * @param codingCharset URL form data coding charset
+     * @throws MarshallerException if input or codingCharset is null
+     * @throws ChainException      key-value pair is not in URL form format
+     * @throws ChainException      incorrect key brackets
+     * @throws ChainException      key does not belong to the 'Map' type ({@code [0]=value})
+     */
+    public FormUrlMapView(final CharSequence input, final Charset codingCharset) {
+        this(input, codingCharset, FormUrlLimits.DEFAULT);
+    }
+
+    /**
+     * @param input         form URL encoded data ({@link String} or {@link FormUrlByteSequence})
+     * @param codingCharset URL form data coding charset
+     * @param limits        parsing limits checked during the scan
+     * @throws MarshallerException if input, codingCharset or limits is null
+     * @throws MarshallerException if form data exceeds the parsing limits
+     * @throws ChainException      key-value pair is not in URL form format
+     * @throws ChainException      incorrect key brackets
+     * @throws ChainException      key does not belong to the 'Map' type ({@code [0]=value})
+     */
+    public FormUrlMapView(final CharSequence input, final Charset codingCharset, final FormUrlLimits limits) {
+        FormUrlUtils.parameterRequireNonNull(input, CodecConstant.ENCODED_STRING_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(codingCharset, CodecConstant.CODING_CHARSET_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(limits, CodecConstant.LIMITS_PARAMETER);
+        this.input = input;
+        this.codingCharset = codingCharset;
+        this.limits = limits;
+        if (!FormUrlTokenizer.isBlank(input)) {
+            scan();
+        }
+    }
+
+    /**
+     * Groups pair offsets by the top-level key
+     */
+    protected void scan() {
+        final FormUrlTokenizer tokenizer = new FormUrlTokenizer(input, limits);
+        int index = 0;
+        while (tokenizer.next()) {
+            final int offset = index * PAIR_SIZE;
+            if (offset == pairs.length) {
+                pairs = Arrays.copyOf(pairs, pairs.length * 2);
+            }
+            pairs[offset] = tokenizer.getKeyStart();
+            pairs[offset + 1] = tokenizer.getKeyEnd();
+            pairs[offset + 2] = tokenizer.getValueStart();
+            pairs[offset + 3] = tokenizer.getValueEnd();
+            pairs[offset + 4] = (tokenizer.isImplicitList() ? IMPLICIT_LIST : 0) |
+                                (tokenizer.isExplicitList() ? EXPLICIT_LIST : 0);
+            final String name = topLevelKey(tokenizer.getKeyStart(), tokenizer.getKeyEnd());
+            if (name.isEmpty() || NumberUtils.isDigits(name)) {
+                // same error as IChain
+                toChainPart(index).getRawDataValue();
+            }
+            int[] indexes = keyPairs.get(name);
+            if (indexes == null) {
+                indexes = new int[2];
+                keyPairs.put(name, indexes);
+            } else if (indexes[0] + 1 == indexes.length) {
+                indexes = Arrays.copyOf(indexes, indexes.length * 2);
+                keyPairs.put(name, indexes);
+            }
+            indexes[++indexes[0]] = index;
+            index++;
+        }
+    }
+
+    /**
+     * @param key top-level key
+     * @return raw data value ({@link String}, {@link Map} or {@link IChainList}) or null
+     * @throws MarshallerException if value contains a malformed escape (%) pattern
+     * @throws ChainException      incompatible raw data values
+     */
+    @Override
+    public Object get(final Object key) {
+        final int[] indexes = keyPairs.get(key);
+        if (indexes == null) {
+            return null;
+        }
+        final String name = (String) key;
+        Object value = values.get(name);
+        if (value == null) {
+            value = buildValue(name, indexes);
+            values.put(name, value);
+        }
+        return value;
+    }
+
+    /**
+     * @param name    top-level key
+     * @param indexes pair indexes (first element - indexes count)
+     * @return raw data value
+     */
+    protected Object buildValue(final String name, final int[] indexes) {
+        if (indexes[0] == 1 && !hasBrackets(indexes[1])) {
+            // foo=bar
+            final int offset = indexes[1] * PAIR_SIZE;
+            return FormUrlUtils.decode(input, pairs[offset + 2], pairs[offset + 3], codingCharset);
+        }
+        final List<IChainPart> parts = new ArrayList<>(indexes[0]);
+        for (int i = 1; i <= indexes[0]; i++) {
+            parts.add(toChainPart(indexes[i]));
+        }
+        return new IChain.Default((String) null).chainPartsToRawData(parts).get(name);
+    }
+
+    /**
+     * @param index pair index
+     * @return pair as {@link IChainPart} with URL decoded value
+     */
+    protected IChainPart toChainPart(final int index) {
+        final int offset = index * PAIR_SIZE;
+        final String key = input.subSequence(pairs[offset], pairs[offset + 1]).toString();
+        final String value = FormUrlUtils.decode(input, pairs[offset + 2], pairs[offset + 3], codingCharset);
+        final int flags = pairs[offset + 4];
+        return new IChainPart.Default(key, value, (flags & IMPLICIT_LIST) != 0, (flags & EXPLICIT_LIST) != 0);
+    }
+
+    /**
+     * @param index pair index
+     * @return true if pair key contains '['
+     */
+    protected boolean hasBrackets(final int index) {
+        final int offset = index * PAIR_SIZE;
+        for (int i = pairs[offset]; i < pairs[offset + 1]; i++) {
+            if (input.charAt(i) == '[') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param keyStart trimmed key start offset
+     * @param keyEnd   trimmed key end offset
+     * @return first key segment ({@link IChainPart#getKeyChain()} rules)
+     */
+    protected String topLevelKey(final int keyStart, final int keyEnd) {
+        int end = keyStart;
+        while (end < keyEnd && input.charAt(end) != '[') {
+            end++;
+        }
+        return input.subSequence(keyStart, end).toString().replace("]", "").trim();
+    }
+
+    /**
+     * @param key top-level key
+     * @return true if the form contains the key
+     */
+    @Override
+    public boolean containsKey(final Object key) {
+        return keyPairs.containsKey(key);
+    }
+
+    /**
+     * @return top-level keys count
+     */
+    @Override
+    public int size() {
+        return keyPairs.size();
+    }
+
+    /**
+     * @return unmodifiable top-level keys in the form order
+     */
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(keyPairs.keySet());
+    }
+
+    /**
+     * @return read-only entries (values are built on access)
+     */
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                final Iterator<String> keys = keyPairs.keySet().iterator();
+                return new Iterator<Entry<String, Object>>() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        final String key = keys.next();
+                        return new SimpleImmutableEntry<>(key, get(key));
+                    }
+
+                };
+            }
+
+            @Override
+            public int size() {
+                return keyPairs.size();
+            }
+
+        };
+    }
+
+}
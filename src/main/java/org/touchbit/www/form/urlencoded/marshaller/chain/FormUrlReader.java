@@ -0,0 +1,296 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pull parser (cursor) over the form URL encoded data.
+ * The reader moves over key/value pairs with {@link FormUrlTokenizer} (same rules as {@link IChain.Default})
+ * and exposes the current pair key segments and value without {@link IChainPart} and raw data building.
+ * Key segments follow the {@link IChainPart#getKeyChain()} rules:
+ * {@code foo[bar][0][]} - {@code foo}, {@code bar}, {@code 0} (index), empty string (index).
+ * Strings are created only on request.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final FormUrlReader reader = new FormUrlReader(encodedString, codingCharset);
+ *     while (reader.next()) {
+ *         if (reader.keySegmentCount() == 1 &amp;&amp; reader.keySegment(0).equals("token")) {
+ *             final String token = reader.value();
+ *         }
+ *     }
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlReader {
+
+    /**
+     * form URL encoded data
+     */
+    private final CharSequence input;
+    /**
+     * URL form data coding charset
+     */
+    private final Charset codingCharset;
+    /**
+     * input scanner (null for blank input)
+     */
+    private final FormUrlTokenizer tokenizer;
+    /**
+     * current pair key segments start offsets in the input
+     * (segment end - next segment start - 1 or key end)
+     */
+    private int[] segmentStarts = new int[8];
+    /**
+     * current pair key segments count
+     */
+    private int segmentCount;
+    /**
+     * true if the reader is on a pair
+     */
+    private boolean onPair;
+
+    /**
+     * @param input form URL encoded data ({@link String} or {@link FormUrlByteSequence})
+     * @throws MarshallerException if input is null
+     */
+    public FormUrlReader(final CharSequence input) {
+        this(input, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param input         form URL encoded data ({@link String} or {@link FormUrlByteSequence})
+     * @param codingCharset URL form data coding charset
+     * @throws MarshallerException if input or codingCharset is null
+     */
+    public FormUrlReader(final CharSequence input, final Charset codingCharset) {
+        this(input, codingCharset, FormUrlLimits.DEFAULT);
+    }
+
+    /**
+     * @param input         form URL encoded data ({@link String} or {@link FormUrlByteSequence})
+     * @param codingCharset URL form data coding charset
+     * @param limits        parsing limits checked during the scan
+     * @throws MarshallerException if input, codingCharset or limits is null
+     * @throws MarshallerException if input length exceeds the maximum body length
+     */
+    public FormUrlReader(final CharSequence input, final Charset codingCharset, final FormUrlLimits limits) {
+        FormUrlUtils.parameterRequireNonNull(input, CodecConstant.ENCODED_STRING_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(codingCharset, CodecConstant.CODING_CHARSET_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(limits, CodecConstant.LIMITS_PARAMETER);
+        this.input = input;
+        this.codingCharset = codingCharset;
+        this.tokenizer = FormUrlTokenizer.isBlank(input) ? null : new FormUrlTokenizer(input, limits);
+    }
+
+    /**
+     * Moves to the next key/value pair
+     *
+     * @return true if the next pair is read, false if the end of the input is reached
+     * @throws ChainException key-value pair is not in URL form format
+     * @throws ChainException incorrect ratio of opening and closing brackets in the key
+     * @throws ChainException key nesting {@code foo[[bar]]}
+     */
+    public boolean next() {
+        onPair = tokenizer != null && tokenizer.next();
+        if (onPair) {
+            scanSegments();
+        } else {
+            segmentCount = 0;
+        }
+        return onPair;
+    }
+
+    /**
+     * Splits current pair key by '[' (like {@link IChainPart#getKeyChain()})
+     */
+    protected void scanSegments() {
+        final int keyEnd = tokenizer.getKeyEnd();
+        int count = 0;
+        segmentStarts[count++] = tokenizer.getKeyStart();
+        for (int i = tokenizer.getKeyStart(); i < keyEnd; i++) {
+            if (input.charAt(i) == '[') {
+                if (count == segmentStarts.length) {
+                    segmentStarts = Arrays.copyOf(segmentStarts, count * 2);
+                }
+                segmentStarts[count++] = i + 1;
+            }
+        }
+        segmentCount = count;
+    }
+
+    /**
+     * @return current pair trimmed key ({@code foo[bar][0]})
+     * @throws IllegalStateException if the reader is not on a pair
+     */
+    public String key() {
+        assertOnPair();
+        return tokenizer.getKey();
+    }
+
+    /**
+     * @return current pair key segments count ({@code 3} for {@code foo[bar][0]})
+     * @throws IllegalStateException if the reader is not on a pair
+     */
+    public int keySegmentCount() {
+        assertOnPair();
+        return segmentCount;
+    }
+
+    /**
+     * @param index key segment index
+     * @return trimmed key segment without brackets ({@code bar} for {@code foo[ bar ]}, empty string for {@code []})
+     * @throws IllegalStateException     if the reader is not on a pair
+     * @throws IndexOutOfBoundsException if index is out of the key segments range
+     */
+    public String keySegment(final int index) {
+        final int start = trimmedSegmentStart(index);
+        final int end = trimmedSegmentEnd(index);
+        final StringBuilder result = new StringBuilder(Math.max(end - start, 0));
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (c != ']') {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param index key segment index
+     * @return true if the key segment is a list index: explicit ({@code foo[0]}) or implicit ({@code foo[]})
+     * @throws IllegalStateException     if the reader is not on a pair
+     * @throws IndexOutOfBoundsException if index is out of the key segments range
+     */
+    public boolean isIndex(final int index) {
+        final int start = trimmedSegmentStart(index);
+        final int end = trimmedSegmentEnd(index);
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (c != ']' && !Character.isDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return current pair trimmed URL decoded value
+     * @throws IllegalStateException if the reader is not on a pair
+     * @throws MarshallerException   if value contains a malformed escape (%) pattern
+     */
+    public String value() {
+        assertOnPair();
+        return tokenizer.getValue(codingCharset);
+    }
+
+    /**
+     * @return current pair trimmed URL encoded value
+     * @throws IllegalStateException if the reader is not on a pair
+     */
+    public String rawValue() {
+        assertOnPair();
+        return tokenizer.getRawValue();
+    }
+
+    /**
+     * @return true if current pair key contains an implicit list {@code foo[bar][]=value}
+     * @throws IllegalStateException if the reader is not on a pair
+     */
+    public boolean isImplicitList() {
+        assertOnPair();
+        return tokenizer.isImplicitList();
+    }
+
+    /**
+     * @return true if current pair key contains an explicit list {@code foo[bar][0]=value}
+     * @throws IllegalStateException if the reader is not on a pair
+     */
+    public boolean isExplicitList() {
+        assertOnPair();
+        return tokenizer.isExplicitList();
+    }
+
+    /**
+     * @param index key segment index
+     * @return segment start offset without leading whitespaces and brackets
+     */
+    protected int trimmedSegmentStart(final int index) {
+        assertSegmentIndex(index);
+        final int end = segmentEnd(index);
+        int start = segmentStarts[index];
+        while (start < end && (input.charAt(start) <= ' ' || input.charAt(start) == ']')) {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * @param index key segment index
+     * @return segment end offset without trailing whitespaces and brackets
+     */
+    protected int trimmedSegmentEnd(final int index) {
+        assertSegmentIndex(index);
+        final int start = segmentStarts[index];
+        int end = segmentEnd(index);
+        while (end > start && (input.charAt(end - 1) <= ' ' || input.charAt(end - 1) == ']')) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * @param index key segment index
+     * @return segment end offset (exclusive)
+     */
+    protected int segmentEnd(final int index) {
+        return index + 1 < segmentCount ? segmentStarts[index + 1] - 1 : tokenizer.getKeyEnd();
+    }
+
+    /**
+     * @param index key segment index
+     * @throws IllegalStateException     if the reader is not on a pair
+     * @throws IndexOutOfBoundsException if index is out of the key segments range
+     */
+    protected void assertSegmentIndex(final int index) {
+        assertOnPair();
+        if (index < 0 || index >= segmentCount) {
+            throw new IndexOutOfBoundsException("Key segment index: " + index + ", segments count: " + segmentCount);
+        }
+    }
+
+    /**
+     * @throws IllegalStateException if the reader is not on a pair
+     */
+    protected void assertOnPair() {
+        if (!onPair) {
+            throw new IllegalStateException("The reader is not on a key/value pair. Call next() first.");
+        }
+    }
+
+}
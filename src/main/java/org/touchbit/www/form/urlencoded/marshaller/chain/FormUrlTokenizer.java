@@ -0,0 +1,491 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.nio.charset.Charset;
+
+import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
+
+/**
+ * Single-pass scanner of the form URL encoded string ({@code foo[bar][0]=value1&foo[bar][1]=value2}).
+ * The input is any {@link CharSequence}: {@link String} or {@link FormUrlByteSequence} (bytes without String copy).
+ * The scanner walks the input once and for each key/value pair emits:
+ * - trimmed key and value offsets;
+ * - implicit list flag ({@code foo[]=value});
+ * - explicit list flag ({@code foo[0]=value}).
+ * Key brackets and parsing limits ({@link FormUrlLimits}) are validated during the scan,
+ * so the scan stops at the first pair exceeding a limit.
+ * Key and value strings are created only on request ({@link #getKey()}, {@link #getRawValue()}).
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     final FormUrlTokenizer tokenizer = new FormUrlTokenizer(encodedString);
+ *     while (tokenizer.next()) {
+ *         final String key = tokenizer.getKey();
+ *         final String value = tokenizer.getRawValue();
+ *     }
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlTokenizer {
+
+    /**
+     * form URL encoded string
+     */
+    private final CharSequence input;
+    /**
+     * parsing limits
+     */
+    private final FormUrlLimits limits;
+    /**
+     * input length without trailing pair separators ({@code foo=bar&&})
+     */
+    private final int limit;
+    /**
+     * next pair start offset
+     */
+    private int position;
+    /**
+     * current pair key start offset (inclusive)
+     */
+    private int keyStart;
+    /**
+     * current pair key end offset (exclusive)
+     */
+    private int keyEnd;
+    /**
+     * current pair value start offset (inclusive)
+     */
+    private int valueStart;
+    /**
+     * current pair value end offset (exclusive)
+     */
+    private int valueEnd;
+    /**
+     * current pair key contains an implicit list {@code foo[bar][]=value}
+     */
+    private boolean implicitList;
+    /**
+     * current pair key contains an explicit list {@code foo[bar][0]=value}
+     */
+    private boolean explicitList;
+    /**
+     * number of scanned pairs
+     */
+    private int pairCount;
+
+    /**
+     * @param input form URL encoded string
+     * @throws MarshallerException if input is null
+     * @throws MarshallerException if input length exceeds {@link FormUrlLimits#DEFAULT} maximum body length
+     */
+    public FormUrlTokenizer(final CharSequence input) {
+        this(input, FormUrlLimits.DEFAULT);
+    }
+
+    /**
+     * @param input  form URL encoded string
+     * @param limits parsing limits
+     * @throws MarshallerException if input or limits is null
+     * @throws MarshallerException if input length exceeds the maximum body length
+     */
+    public FormUrlTokenizer(final CharSequence input, final FormUrlLimits limits) {
+        FormUrlUtils.parameterRequireNonNull(input, CodecConstant.ENCODED_STRING_PARAMETER);
+        FormUrlUtils.parameterRequireNonNull(limits, CodecConstant.LIMITS_PARAMETER);
+        if (input.length() > limits.getMaxBodyLength()) {
+            throw bodyLengthError(input.length(), limits.getMaxBodyLength());
+        }
+        this.input = input;
+        this.limits = limits;
+        int end = input.length();
+        while (end > 0 && input.charAt(end - 1) == '&') {
+            end--;
+        }
+        this.limit = end;
+    }
+
+    /**
+     * Moves to the next key/value pair
+     *
+     * @return true if the next pair is read, false if the end of the input is reached
+     * @throws ChainException key-value pair is not in URL form format
+     * @throws ChainException incorrect ratio of opening and closing brackets in the key
+     * @throws ChainException key nesting {@code foo[[bar]]}
+     * @throws MarshallerException if the pair exceeds the parsing limits ({@link FormUrlLimits})
+     */
+    public boolean next() {
+        if (position >= limit) {
+            return false;
+        }
+        if (++pairCount > limits.getMaxPairs()) {
+            throw pairsError(pairCount, limits.getMaxPairs());
+        }
+        final int pairStart = position;
+        int pairEnd = pairStart;
+        int firstEq = -1;
+        int eqCount = 0;
+        // number of '=' before the content end
+        int contentEq = 0;
+        int contentEnd = pairStart;
+        // pair and key/value boundaries
+        for (; pairEnd < limit; pairEnd++) {
+            final char c = input.charAt(pairEnd);
+            if (c == '&') {
+                break;
+            }
+            if (c == '=') {
+                if (firstEq < 0) {
+                    firstEq = pairEnd;
+                }
+                eqCount++;
+            } else {
+                // trailing '=' are ignored (String#split)
+                contentEnd = pairEnd + 1;
+                contentEq = eqCount;
+            }
+        }
+        position = pairEnd + 1;
+        if (pairEnd - pairStart > limits.getMaxPairLength()) {
+            throw pairLengthError(pairEnd - pairStart, limits.getMaxPairLength());
+        }
+        if (contentEnd == pairStart || firstEq < 0 || contentEq > 1) {
+            throw pairFormatError();
+        }
+        if (contentEq == 0) {
+            // foo= or foo==
+            setKey(pairStart, contentEnd);
+            setValue(contentEnd, contentEnd);
+        } else {
+            setKey(pairStart, firstEq);
+            setValue(firstEq + 1, contentEnd);
+        }
+        if (keyEnd - keyStart > limits.getMaxKeyLength()) {
+            throw keyLengthError(keyEnd - keyStart, limits.getMaxKeyLength());
+        }
+        scanKey();
+        return true;
+    }
+
+    /**
+     * Validates key brackets and detects lists in one pass.
+     *
+     * @throws ChainException incorrect ratio of opening and closing brackets
+     * @throws ChainException key nesting {@code foo[[bar]]}
+     * @throws MarshallerException if key depth or list index exceeds the parsing limits
+     */
+    protected void scanKey() {
+        final int maxKeyDepth = limits.getMaxKeyDepth();
+        final int maxListIndex = limits.getMaxListIndex();
+        int segments = 0;
+        int depth = 0;
+        boolean evenRatio = true;
+        boolean nested = false;
+        boolean implicit = false;
+        boolean explicit = false;
+        // key segment between '[' without ']' consists of digits only
+        int segmentDigits = 0;
+        boolean segmentNonDigit = false;
+        // saturated list index value of the current segment
+        long segmentIndex = 0;
+        char previous = 0;
+        for (int i = keyStart; i < keyEnd; i++) {
+            final char c = input.charAt(i);
+            if (c == '[') {
+                explicit |= segmentDigits > 0 && !segmentNonDigit;
+                segmentDigits = 0;
+                segmentNonDigit = false;
+                segmentIndex = 0;
+                nested |= previous == '[';
+                depth++;
+                if (++segments > maxKeyDepth) {
+                    throw keyDepthError(segments, maxKeyDepth);
+                }
+            } else if (c == ']') {
+                nested |= previous == ']';
+                implicit |= previous == '[';
+                if (depth == 0) {
+                    evenRatio = false;
+                } else {
+                    depth--;
+                }
+                if (segmentDigits > 0 && !segmentNonDigit && segmentIndex > maxListIndex) {
+                    throw listIndexError(input.subSequence(i - segmentDigits, i).toString(), maxListIndex);
+                }
+            } else if (Character.isDigit(c)) {
+                segmentDigits++;
+                segmentIndex = Math.min(segmentIndex * 10 + Character.digit(c, 10), Integer.MAX_VALUE + 1L);
+            } else {
+                segmentNonDigit = true;
+            }
+            previous = c;
+        }
+        explicit |= segmentDigits > 0 && !segmentNonDigit;
+        if (!evenRatio || depth != 0) {
+            throw bracketsRatioError(getKey());
+        }
+        if (nested) {
+            throw nestedBracketsError(getKey());
+        }
+        this.implicitList = implicit;
+        this.explicitList = explicit;
+    }
+
+    /**
+     * @param start raw key start offset
+     * @param end   raw key end offset
+     */
+    protected void setKey(final int start, final int end) {
+        int s = start;
+        int e = end;
+        while (s < e && input.charAt(s) <= ' ') {
+            s++;
+        }
+        while (e > s && input.charAt(e - 1) <= ' ') {
+            e--;
+        }
+        this.keyStart = s;
+        this.keyEnd = e;
+    }
+
+    /**
+     * @param start raw value start offset
+     * @param end   raw value end offset
+     */
+    protected void setValue(final int start, final int end) {
+        int s = start;
+        int e = end;
+        while (s < e && input.charAt(s) <= ' ') {
+            s++;
+        }
+        while (e > s && input.charAt(e - 1) <= ' ') {
+            e--;
+        }
+        this.valueStart = s;
+        this.valueEnd = e;
+    }
+
+    /**
+     * @param value nullable string
+     * @return true if value is null or {@code value.trim().isEmpty()} (without trimmed string allocation)
+     */
+    public static boolean isBlank(final CharSequence value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return ChainException key-value pair is not in URL form format
+     */
+    protected ChainException pairFormatError() {
+        return pairFormatError(input);
+    }
+
+    /**
+     * @param input form URL encoded string or pair
+     * @return ChainException key-value pair is not in URL form format
+     */
+    protected static ChainException pairFormatError(final CharSequence input) {
+        return new ChainException(() -> "URL encoded key-value pair is not in URL format:\n" +
+                                        "Pair: " + input);
+    }
+
+    /**
+     * @param key url form parameter key
+     * @return ChainException incorrect ratio of opening and closing brackets
+     */
+    protected static ChainException bracketsRatioError(final String key) {
+        return new ChainException(() -> "The key contains an incorrect ratio of opening and closing brackets.\n" +
+                                        "Invalid key: " + key + "\n");
+    }
+
+    /**
+     * @param key url form parameter key
+     * @return ChainException key nesting
+     */
+    protected static ChainException nestedBracketsError(final String key) {
+        return new ChainException(() -> "Key nesting is not allowed.\n" +
+                                        "Invalid key: " + key + "\n" +
+                                        "Expected nested object format: filter[foo][bar]\n" +
+                                        "Expected nested list format: filter[foo][0]\n");
+    }
+
+    /**
+     * @param length        form data length
+     * @param maxBodyLength maximum form data length
+     * @return MarshallerException form data exceeds the maximum length
+     */
+    protected static MarshallerException bodyLengthError(final long length, final long maxBodyLength) {
+        return limitError(ERR_FORM_DATA_EXCEEDS_MAXIMUM_LENGTH, length, "length <= " + maxBodyLength);
+    }
+
+    /**
+     * @param pairs    number of pairs
+     * @param maxPairs maximum number of pairs
+     * @return MarshallerException form data exceeds the maximum number of pairs
+     */
+    protected static MarshallerException pairsError(final int pairs, final int maxPairs) {
+        return limitError(ERR_PAIRS_EXCEED_MAXIMUM, pairs, "pairs <= " + maxPairs);
+    }
+
+    /**
+     * @param length        key-value pair length
+     * @param maxPairLength maximum key-value pair length
+     * @return MarshallerException key-value pair exceeds the maximum length
+     */
+    protected static MarshallerException pairLengthError(final int length, final int maxPairLength) {
+        return limitError(ERR_PAIR_EXCEEDS_MAXIMUM_LENGTH, length, "length <= " + maxPairLength);
+    }
+
+    /**
+     * @param length       key length
+     * @param maxKeyLength maximum key length
+     * @return MarshallerException key exceeds the maximum length
+     */
+    protected static MarshallerException keyLengthError(final int length, final int maxKeyLength) {
+        return limitError(ERR_KEY_EXCEEDS_MAXIMUM_LENGTH, length, "length <= " + maxKeyLength);
+    }
+
+    /**
+     * @param depth       key nesting depth
+     * @param maxKeyDepth maximum key nesting depth
+     * @return MarshallerException key exceeds the maximum nesting depth
+     */
+    protected static MarshallerException keyDepthError(final int depth, final int maxKeyDepth) {
+        return limitError(ERR_KEY_EXCEEDS_MAXIMUM_DEPTH, depth, "depth <= " + maxKeyDepth);
+    }
+
+    /**
+     * @param index        explicit list index
+     * @param maxListIndex maximum explicit list index
+     * @return MarshallerException list index exceeds the maximum (same error as for the raw data lists)
+     */
+    protected static MarshallerException listIndexError(final String index, final int maxListIndex) {
+        return limitError(ERR_LIST_INDEX_EXCEEDS_MAXIMUM, index, "index <= " + maxListIndex);
+    }
+
+    /**
+     * @param errorMessage limit error message
+     * @param actual       actual value
+     * @param expected     expected value
+     * @return MarshallerException validation error
+     */
+    protected static MarshallerException limitError(final String errorMessage,
+                                                    final Object actual,
+                                                    final String expected) {
+        return (MarshallerException) MarshallerException.builder()
+                .errorMessage(errorMessage)
+                .validationError()
+                .actual(actual)
+                .expected(expected)
+                .build();
+    }
+
+    /**
+     * @return form URL encoded string
+     */
+    public String getInput() {
+        return input.toString();
+    }
+
+    /**
+     * @return current pair trimmed key
+     */
+    public String getKey() {
+        return input.subSequence(keyStart, keyEnd).toString();
+    }
+
+    /**
+     * @return current pair trimmed URL encoded value
+     */
+    public String getRawValue() {
+        return input.subSequence(valueStart, valueEnd).toString();
+    }
+
+    /**
+     * @param codingCharset URL form data coding charset
+     * @return current pair trimmed URL decoded value
+     * @throws MarshallerException if value contains a malformed escape (%) pattern
+     */
+    public String getValue(final Charset codingCharset) {
+        return FormUrlUtils.decode(input, valueStart, valueEnd, codingCharset);
+    }
+
+    /**
+     * @return parsing limits
+     */
+    public FormUrlLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * @return current pair key start offset (inclusive)
+     */
+    public int getKeyStart() {
+        return keyStart;
+    }
+
+    /**
+     * @return current pair key end offset (exclusive)
+     */
+    public int getKeyEnd() {
+        return keyEnd;
+    }
+
+    /**
+     * @return current pair value start offset (inclusive)
+     */
+    public int getValueStart() {
+        return valueStart;
+    }
+
+    /**
+     * @return current pair value end offset (exclusive)
+     */
+    public int getValueEnd() {
+        return valueEnd;
+    }
+
+    /**
+     * @return true if current pair key contains an implicit list {@code foo[bar][]=value}
+     */
+    public boolean isImplicitList() {
+        return implicitList;
+    }
+
+    /**
+     * @return true if current pair key contains an explicit list {@code foo[bar][0]=value}
+     */
+    public boolean isExplicitList() {
+        return explicitList;
+    }
+
+}
@@ -16,7 +16,6 @@
 
 package org.touchbit.www.form.urlencoded.marshaller.chain;
 
-import org.apache.commons.lang3.math.NumberUtils;
 import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
 import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
 import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
@@ -25,7 +24,6 @@ import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.ERR_SIMPLE_REFERENCE_TYPES;
 
@@ -91,7 +89,7 @@ public interface IChain {
          *
          * @param urlEncodedString from url encoded parameters ({@code foo[bar][0]=value1&foo[bar][1]=value2})
          */
-        public Default(final String urlEncodedString) {
+        public Default(final CharSequence urlEncodedString) {
             this(urlEncodedString, StandardCharsets.UTF_8);
         }
 
@@ -104,12 +102,24 @@ public interface IChain {
          *                         According to the 3W specification, it is strongly recommended to use
          *                         UTF-8 charset for URL form data coding.
          */
-        public Default(final String urlEncodedString, final Charset codingCharset) {
-            if (urlEncodedString == null || urlEncodedString.trim().length() == 0) {
+        public Default(final CharSequence urlEncodedString, final Charset codingCharset) {
+            this(urlEncodedString, codingCharset, FormUrlLimits.DEFAULT);
+        }
+
+        /**
+         * Chaining from FormUrlEncoded string data
+         * For example: {@code foo[bar][0]=value1&foo[bar][1]=value2}
+         *
+         * @param urlEncodedString from url encoded parameters ({@code foo[bar][0]=value1&foo[bar][1]=value2})
+         * @param codingCharset    URL form data coding charset
+         * @param limits           parsing limits checked during the scan
+         */
+        public Default(final CharSequence urlEncodedString, final Charset codingCharset, final FormUrlLimits limits) {
+            if (FormUrlTokenizer.isBlank(urlEncodedString)) {
                 this.chainParts = new ArrayList<>();
                 this.rawData = new HashMap<>();
             } else {
-                this.chainParts = readUrlEncodedString(urlEncodedString, codingCharset);
+                this.chainParts = readUrlEncodedString(urlEncodedString, codingCharset, limits);
                 this.rawData = chainPartsToRawData(this.chainParts);
             }
         }
@@ -145,10 +155,10 @@ public interface IChain {
             FormUrlUtils.parameterRequireNonNull(source, CodecConstant.SOURCE_PARAMETER);
             FormUrlUtils.parameterRequireNonNull(target, CodecConstant.TARGET_PARAMETER);
             if (!(source instanceof Map && target instanceof Map)) {
-                throw new ChainException("Received incompatible types to merge\n" +
-                                         "Expected type: " + Map.class + "\n" +
-                                         "Actual source: " + source.getClass() + "\n" +
-                                         "Actual target: " + target.getClass() + "\n");
+                throw new ChainException(() -> "Received incompatible types to merge\n" +
+                                               "Expected type: " + Map.class + "\n" +
+                                               "Actual source: " + source.getClass() + "\n" +
+                                               "Actual target: " + target.getClass() + "\n");
             }
             final Map<String, Object> sourceMap = (Map<String, Object>) source;
             final Map<String, Object> targetMap = (Map<String, Object>) target;
@@ -176,7 +186,7 @@ public interface IChain {
             } else if (FormUrlUtils.isSimple(target) && FormUrlUtils.isSimple(source)) {
                 // Fires when map keys match and points to a hidden list
                 // Example: foo=bar&foo=car -> foo=[bar, car]
-                return getNewIChainList(true, target, source);
+                return getNewIChainList(false, target, source);
             } else if (FormUrlUtils.isSimple(source) && FormUrlUtils.isChainList(target)) {
                 final boolean notIndexed = ((IChainList) target).isNotIndexed();
                 return mergeIChainLists(getNewIChainList(!notIndexed, source), target);
@@ -184,11 +194,11 @@ public interface IChain {
                 final boolean notIndexed = ((IChainList) source).isNotIndexed();
                 return mergeIChainLists(source, getNewIChainList(!notIndexed, target));
             }
-            throw new ChainException("Received incompatible value types to merge.\n" +
-                                     "Source type: " + source.getClass().getName() + "\n" +
-                                     "Source value: " + source + "\n" +
-                                     "Target type: " + target.getClass().getName() + "\n" +
-                                     "Target value: " + target + "\n");
+            throw new ChainException(() -> "Received incompatible value types to merge.\n" +
+                                           "Source type: " + source.getClass().getName() + "\n" +
+                                           "Source value: " + source + "\n" +
+                                           "Target type: " + target.getClass().getName() + "\n" +
+                                           "Target value: " + target + "\n");
         }
 
         /**
@@ -198,7 +208,7 @@ public interface IChain {
          */
         @SuppressWarnings("SameParameterValue")
         protected IChainList getNewIChainList(final boolean isIndexed, final Object... values) {
-            final IChainList.Default list = new IChainList.Default(isIndexed);
+            final IChainList list = isIndexed ? new IChainList.Sparse() : new IChainList.Default(false);
             list.addAll(Arrays.asList(values));
             return list;
         }
@@ -208,6 +218,7 @@ public interface IChain {
          * - Set by index - target null value is replaced by source value at the corresponding index
          * - Replace simple obj by index - target non-null value is replaced by source value at the corresponding index
          * - Merge complex obj by index - target value is merged by source value at the corresponding index
+         * Values of the shorter list are merged into the longer list by position (linear time).
          *
          * @param source indexed {@link IChainList} for merging
          * @param target indexed {@link IChainList} for merging
@@ -215,56 +226,84 @@ public interface IChain {
          * @throws MarshallerException if source or target is null
          * @throws ChainException      incompatible types
          */
-        @SuppressWarnings({"java:S125", "java:S3776"})
         protected IChainList mergeIndexedIChainLists(final IChainList source, final IChainList target) {
             FormUrlUtils.parameterRequireNonNull(source, CodecConstant.SOURCE_PARAMETER);
             FormUrlUtils.parameterRequireNonNull(target, CodecConstant.TARGET_PARAMETER);
-            boolean isReverse = source.size() > target.size();
+            if (source instanceof IChainList.Sparse && target instanceof IChainList.Sparse) {
+                return mergeSparseIChainLists((IChainList.Sparse) source, (IChainList.Sparse) target);
+            }
+            final boolean isReverse = source.size() > target.size();
             final IChainList longer = isReverse ? source : target;
             final IChainList shorter = isReverse ? target : source;
-            if (longer.isNotFilled() || shorter.isNotFilled()) {
-                // For an indexed list, inserting the smaller into the larger is important.
-                // longer  [null, null, null, foo, null]
-                //                ^^^
-                // shorter [null, bar]
-                final List<Integer> insertIndexes = new ArrayList<>();
-                if (longer.size() >= shorter.size()) {
-                    insertIndexes.addAll(shorter.stream()
-                            .filter(Map.class::isInstance)
-                            .map(shorter::indexOf)
-                            .collect(Collectors.toList()));
-                    for (Integer i : insertIndexes) { // insert map to list by index
-                        if (longer.get(i) == null) {
-                            longer.set(i, shorter.get(i));
-                        } else {
-                            final Map<String, Object> mergeResult = mergeRawMap(shorter.get(i), longer.get(i));
-                            longer.set(i, mergeResult);
-                        }
-                    }
-                }
-                // Override not inserted objects by index
-                // Example: foo[0]=bar&foo[0]=car -> foo=[car]
-                shorter.stream()
-                        .map(v -> v == null ? null : shorter.indexOf(v))
-                        .filter(Objects::nonNull)
-                        .filter(i -> !insertIndexes.contains(i))
-                        .forEach(i -> longer.set(i, shorter.get(i)));
-            } else {
-                if (FormUrlUtils.isCollectionOfSimpleObj(longer) && FormUrlUtils.isCollectionOfSimpleObj(shorter)) {
-                    // overwrite simple values by same index
-                    // Example: foo[0]=bar&foo[0]=car -> foo=[car]
-                    shorter.forEach(e -> longer.set(shorter.indexOf(e), e));
+            final boolean isNotFilled = longer.isNotFilled() || shorter.isNotFilled();
+            final boolean isSimple = !isNotFilled &&
+                                     FormUrlUtils.isCollectionOfSimpleObj(longer) &&
+                                     FormUrlUtils.isCollectionOfSimpleObj(shorter);
+            for (int i = 0; i < shorter.size(); i++) {
+                longer.set(i, mergeIndexedValues(shorter.get(i), longer.get(i), isNotFilled, isSimple));
+            }
+            return longer;
+        }
+
+        /**
+         * Merge sparse indexed {@link IChainList} (same rules as {@link #mergeIndexedIChainLists})
+         * The list with fewer stored values is merged into the other one,
+         * missing indexes are not iterated and the lists state is not rescanned.
+         *
+         * @param source sparse indexed {@link IChainList} for merging
+         * @param target sparse indexed {@link IChainList} for merging
+         * @return merge result ({@link IChainList})
+         * @throws ChainException incompatible types
+         */
+        protected IChainList mergeSparseIChainLists(final IChainList.Sparse source, final IChainList.Sparse target) {
+            final boolean isReverse = source.size() > target.size();
+            final IChainList.Sparse shorter = isReverse ? target : source;
+            final boolean isNotFilled = source.isNotFilled() || target.isNotFilled();
+            final boolean isSimple = !isNotFilled && source.hasOnlySimpleValues() && target.hasOnlySimpleValues();
+            final boolean isSourceFewer = source.getValues().size() <= target.getValues().size();
+            final IChainList.Sparse fewer = isSourceFewer ? source : target;
+            final IChainList.Sparse result = isSourceFewer ? target : source;
+            for (Map.Entry<Integer, Object> entry : fewer.getValues().entrySet()) {
+                final int i = entry.getKey();
+                final Object fewerValue = entry.getValue();
+                final Object resultValue = i < result.size() ? result.get(i) : null;
+                if (fewer == shorter) {
+                    result.put(i, mergeIndexedValues(fewerValue, resultValue, isNotFilled, isSimple));
                 } else {
-                    // merge complex values by same index
-                    // Example: foo[0][bar]=ccc&foo[0][car]=jjj -> {foo=[{bar=ccc, car=jjj}]}
-                    for (Object sourceValue : shorter) {
-                        final int i = shorter.indexOf(sourceValue);
-                        final Object mergeResult = mergeObjectValues(sourceValue, longer.get(i));
-                        longer.set(i, mergeResult);
-                    }
+                    result.put(i, mergeIndexedValues(resultValue, fewerValue, isNotFilled, isSimple));
                 }
             }
-            return longer;
+            return result;
+        }
+
+        /**
+         * @param shorterValue value of the shorter indexed list
+         * @param longerValue  value of the longer indexed list
+         * @param isNotFilled  one of the lists contains null values
+         * @param isSimple     lists contain only simple values
+         * @return merged value by index
+         * @throws ChainException incompatible types
+         */
+        protected Object mergeIndexedValues(final Object shorterValue,
+                                            final Object longerValue,
+                                            final boolean isNotFilled,
+                                            final boolean isSimple) {
+            if (shorterValue == null || longerValue == null) {
+                return shorterValue == null ? longerValue : shorterValue;
+            }
+            if (isNotFilled) {
+                // insert map to list by index or override not inserted objects by index
+                // Example: foo[0]=bar&foo[0]=car -> foo=[car]
+                return shorterValue instanceof Map ? mergeRawMap(shorterValue, longerValue) : shorterValue;
+            }
+            if (isSimple) {
+                // overwrite simple values by same index
+                // Example: foo[0]=bar&foo[0]=car -> foo=[car]
+                return shorterValue;
+            }
+            // merge complex values by same index
+            // Example: foo[0][bar]=ccc&foo[0][car]=jjj -> {foo=[{bar=ccc, car=jjj}]}
+            return mergeObjectValues(shorterValue, longerValue);
         }
 
         /**
@@ -281,10 +320,10 @@ public interface IChain {
             FormUrlUtils.parameterRequireNonNull(source, CodecConstant.SOURCE_PARAMETER);
             FormUrlUtils.parameterRequireNonNull(target, CodecConstant.TARGET_PARAMETER);
             if (FormUrlUtils.isMapIChainList(source)) {
-                for (Object o : source) {
-                    final int i = source.indexOf(o);
+                final int targetSize = target.size();
+                for (int i = 0; i < source.size(); i++) {
                     final Map<?, ?> sMap = (Map<?, ?>) source.get(i);
-                    final Map<?, ?> tMap = (Map<?, ?>) target.get(i);
+                    final Map<?, ?> tMap = i < targetSize ? (Map<?, ?>) target.get(i) : null;
                     // unreliable heuristic for non-indexed arrays
                     if (sMap != null && tMap != null && !sMap.keySet().equals(tMap.keySet())) {
                         // merge source maps list with target maps list if maps keys is different
@@ -295,7 +334,7 @@ public interface IChain {
                         // append source maps list to target maps list if maps keys is same
                         // append [{foo=source}] to [{foo=target}]
                         // result [{foo=target}, {foo=source}]
-                        target.addAll(source);
+                        target.add(sMap);
                     }
                 }
             } else {
@@ -318,10 +357,10 @@ public interface IChain {
             FormUrlUtils.parameterRequireNonNull(source, CodecConstant.SOURCE_PARAMETER);
             FormUrlUtils.parameterRequireNonNull(target, CodecConstant.TARGET_PARAMETER);
             if (!(source instanceof IChainList && target instanceof IChainList)) {
-                throw new ChainException("Received incompatible types to merge\n" +
-                                         "Expected type: " + IChainList.class + "\n" +
-                                         "Actual source: " + source.getClass() + "\n" +
-                                         "Actual target: " + target.getClass() + "\n");
+                throw new ChainException(() -> "Received incompatible types to merge\n" +
+                                               "Expected type: " + IChainList.class + "\n" +
+                                               "Actual source: " + source.getClass() + "\n" +
+                                               "Actual target: " + target.getClass() + "\n");
             }
             final IChainList sourceList = (IChainList) source;
             final IChainList targetList = (IChainList) target;
@@ -331,9 +370,9 @@ public interface IChain {
             final boolean sNotIndexed = sourceList.isNotIndexed();
             final boolean tNotIndexed = targetList.isNotIndexed();
             if ((sNotIndexed && !tNotIndexed) || (!sNotIndexed && tNotIndexed)) {
-                throw new ChainException("Different types of lists are passed for merging.\n" +
-                                         "Source list: " + (sNotIndexed ? "not indexed" : "indexed") + "\n" +
-                                         "Target list: " + (tNotIndexed ? "not indexed" : "indexed") + "\n");
+                throw new ChainException(() -> "Different types of lists are passed for merging.\n" +
+                                               "Source list: " + (sNotIndexed ? "not indexed" : "indexed") + "\n" +
+                                               "Target list: " + (tNotIndexed ? "not indexed" : "indexed") + "\n");
             }
             return sNotIndexed ?
                     mergeNonIndexedIChainLists(sourceList, targetList) :
@@ -348,27 +387,31 @@ public interface IChain {
          * @return form data {@link IChainPart} where part contains one key/value pair ({@code foo[bar][0]=value1})
          * @throws ChainException key-value pair is not in URL form format
          */
-        protected List<IChainPart> readUrlEncodedString(final String urlEncodedString, final Charset codingCharset) {
-            if (urlEncodedString == null || urlEncodedString.trim().isEmpty()) {
+        protected List<IChainPart> readUrlEncodedString(final CharSequence urlEncodedString,
+                                                        final Charset codingCharset) {
+            return readUrlEncodedString(urlEncodedString, codingCharset, FormUrlLimits.DEFAULT);
+        }
+
+        /**
+         * @param urlEncodedString from url encoded parameters ({@code foo[bar][0]=value1&foo[bar][1]=value2})
+         * @param codingCharset    URL form data coding charset
+         * @param limits           parsing limits checked during the scan
+         * @return form data {@link IChainPart} where part contains one key/value pair ({@code foo[bar][0]=value1})
+         * @throws ChainException      key-value pair is not in URL form format
+         * @throws MarshallerException if form data exceeds the parsing limits
+         */
+        protected List<IChainPart> readUrlEncodedString(final CharSequence urlEncodedString,
+                                                        final Charset codingCharset,
+                                                        final FormUrlLimits limits) {
+            if (FormUrlTokenizer.isBlank(urlEncodedString)) {
                 return new ArrayList<>();
             }
-            final String[] pairs = urlEncodedString.split("&");
-            List<IChainPart> result = new ArrayList<>();
-            for (String pair : pairs) {
-                final String[] split = pair.contains("=") ? pair.split("=") : new String[]{};
-                if (split.length > 2 || split.length == 0) {
-                    throw new ChainException("URL encoded key-value pair is not in URL format:\n" +
-                                             "Pair: " + urlEncodedString);
-                }
-                final String rawValue = (split.length == 1) ? "" : split[1].trim();
-                final String rawKey = split[0].trim();
-                assertKeyBrackets(rawKey);
-                final boolean implicitList = rawKey.contains("[]");
-                final boolean explicitList = Arrays.stream(rawKey.split("\\["))
-                        .map(p -> p.replace("]", ""))
-                        .anyMatch(NumberUtils::isDigits);
-                final String value = FormUrlUtils.decode(rawValue, codingCharset);
-                result.add(new IChainPart.Default(rawKey, value, implicitList, explicitList));
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer(urlEncodedString, limits);
+            final List<IChainPart> result = new ArrayList<>();
+            while (tokenizer.next()) {
+                final String value = tokenizer.getValue(codingCharset);
+                result.add(new IChainPart.Default(tokenizer.getKey(), value,
+                        tokenizer.isImplicitList(), tokenizer.isExplicitList()));
             }
             return result;
         }
@@ -382,14 +425,10 @@ public interface IChain {
         protected void assertKeyBrackets(String key) {
             FormUrlUtils.parameterRequireNonNull(key, CodecConstant.KEY_PARAMETER);
             if (!isEvenBracketsRatio(key)) {
-                throw new ChainException("The key contains an incorrect ratio of opening and closing brackets.\n" +
-                                         "Invalid key: " + key + "\n");
+                throw FormUrlTokenizer.bracketsRatioError(key);
             }
             if (hasNestedBrackets(key)) {
-                throw new ChainException("Key nesting is not allowed.\n" +
-                                         "Invalid key: " + key + "\n" +
-                                         "Expected nested object format: filter[foo][bar]\n" +
-                                         "Expected nested list format: filter[foo][0]\n");
+                throw FormUrlTokenizer.nestedBracketsError(key);
             }
         }
 
@@ -410,17 +449,19 @@ public interface IChain {
          */
         protected boolean isEvenBracketsRatio(String key) {
             FormUrlUtils.parameterRequireNonNull(key, CodecConstant.KEY_PARAMETER);
-            final Deque<Character> deque = new LinkedList<>();
-            final Map<Character, Character> supported = Collections.singletonMap(']', '[');
-            for (char c : key.toCharArray()) {
-                if (supported.containsKey(c) && (deque.isEmpty() || !deque.pop().equals(supported.get(c)))) {
-                    return false;
-                }
-                if (supported.containsValue(c)) {
-                    deque.push(c);
+            int depth = 0;
+            for (int i = 0; i < key.length(); i++) {
+                final char c = key.charAt(i);
+                if (c == '[') {
+                    depth++;
+                } else if (c == ']') {
+                    if (depth == 0) {
+                        return false;
+                    }
+                    depth--;
                 }
             }
-            return deque.isEmpty();
+            return depth == 0;
         }
 
         /**
@@ -16,9 +16,9 @@
 
 package org.touchbit.www.form.urlencoded.marshaller.chain;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+
+import java.util.*;
 
 /**
  * interface for working with from url encoded array
@@ -87,4 +87,200 @@ public interface IChainList extends List<Object> {
         }
 
     }
+
+    /**
+     * Sparse indexed form array (index to value tree).
+     * Missing indexes are read as null values, so the key {@code foo[999999]=bar}
+     * does not allocate the leading null values.
+     * Used for explicit lists during parsing and compacted into a dense list when binding.
+     * The list keeps null and complex (Map/List) values count,
+     * so {@link #isNotFilled()} and {@link #hasOnlySimpleValues()} do not scan the values.
+     * <p>
+     *
+     * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+     * Created: 17.10.2026
+     */
+    class Sparse extends AbstractList<Object> implements IChainList {
+
+        /**
+         * stored values by index
+         */
+        private final TreeMap<Integer, Object> values = new TreeMap<>();
+        /**
+         * list size (last index + 1)
+         */
+        private int size;
+        /**
+         * stored null values count
+         */
+        private int nullCount;
+        /**
+         * stored complex (Map/List) values count
+         */
+        private int complexCount;
+
+        /**
+         * Stores value by index and extends the list size if needed
+         *
+         * @param index list index
+         * @param value nullable value
+         * @return previous value
+         * @throws IndexOutOfBoundsException if index is negative
+         */
+        public Object put(final int index, final Object value) {
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            size = Math.max(size, index + 1);
+            return store(index, value);
+        }
+
+        /**
+         * @return unmodifiable stored values by index (without missing indexes)
+         */
+        public NavigableMap<Integer, Object> getValues() {
+            return Collections.unmodifiableNavigableMap(values);
+        }
+
+        /**
+         * @return dense indexed form array with null values for missing indexes
+         */
+        public IChainList.Default toDenseList() {
+            final IChainList.Default result = new IChainList.Default(true);
+            result.ensureCapacity(size);
+            for (Map.Entry<Integer, Object> entry : values.entrySet()) {
+                while (result.size() < entry.getKey()) {
+                    result.add(null);
+                }
+                result.add(entry.getValue());
+            }
+            while (result.size() < size) {
+                result.add(null);
+            }
+            return result;
+        }
+
+        @Override
+        public Object get(final int index) {
+            checkIndex(index, size);
+            return values.get(index);
+        }
+
+        @Override
+        public Object set(final int index, final Object value) {
+            checkIndex(index, size);
+            return store(index, value);
+        }
+
+        @Override
+        public void add(final int index, final Object value) {
+            checkIndex(index, size + 1);
+            if (index < size) {
+                shift(index, 1);
+            }
+            store(index, value);
+            size++;
+        }
+
+        @Override
+        public Object remove(final int index) {
+            checkIndex(index, size);
+            final boolean isPresent = values.containsKey(index);
+            final Object result = values.remove(index);
+            if (isPresent) {
+                count(result, -1);
+            }
+            shift(index + 1, -1);
+            size--;
+            return result;
+        }
+
+        @Override
+        public void clear() {
+            values.clear();
+            size = 0;
+            nullCount = 0;
+            complexCount = 0;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return sign that from array is not indexed (always false)
+         */
+        @Override
+        public boolean isNotIndexed() {
+            return false;
+        }
+
+        /**
+         * @return sign that indexed form array is not filled (has missing indexes or nullable values)
+         */
+        @Override
+        public boolean isNotFilled() {
+            return values.size() < size || nullCount > 0;
+        }
+
+        /**
+         * @return true if the list does not contain Map/List values
+         */
+        public boolean hasOnlySimpleValues() {
+            return complexCount == 0;
+        }
+
+        /**
+         * @param index list index
+         * @param value nullable value
+         * @return previous value
+         */
+        protected Object store(final int index, final Object value) {
+            final boolean isPresent = values.containsKey(index);
+            final Object previous = values.put(index, value);
+            if (isPresent) {
+                count(previous, -1);
+            }
+            count(value, 1);
+            return previous;
+        }
+
+        /**
+         * @param value stored value
+         * @param delta counter increment
+         */
+        protected void count(final Object value, final int delta) {
+            if (value == null) {
+                nullCount += delta;
+            } else if (!FormUrlUtils.isSimple(value)) {
+                complexCount += delta;
+            }
+        }
+
+        /**
+         * @param from  first index to move
+         * @param delta index offset
+         */
+        protected void shift(final int from, final int delta) {
+            final List<Map.Entry<Integer, Object>> tail = new ArrayList<>(values.tailMap(from, true).entrySet());
+            values.tailMap(from, true).clear();
+            for (Map.Entry<Integer, Object> entry : tail) {
+                values.put(entry.getKey() + delta, entry.getValue());
+            }
+        }
+
+        /**
+         * @param index list index
+         * @param limit exclusive index limit
+         * @throws IndexOutOfBoundsException if index is out of range
+         */
+        protected void checkIndex(final int index, final int limit) {
+            if (index < 0 || index >= limit) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+
+    }
+
 }
@@ -153,19 +153,16 @@ public interface IChainPart {
                     nested = tempMap;
                 } else {
                     final boolean isIndexed = previous.isIndexedList();
-                    final IChainList chainList = getNewIChainList(isIndexed);
+                    final IChainList chainList;
                     if (isIndexed) {
-                        // go around java.lang.IndexOutOfBoundsException: Index: 1, Size: 0
-                        // Store the value strictly by index (null value)
-                        for (int i = 0; i < previous.getIndex(); i++) {
-                            chainList.add(i, null);
-                        }
+                        // Store the value strictly by index without the leading null values
                         if (isLast.compareAndSet(true, false)) {
-                            chainList.add(previous.getIndex(), value);
+                            chainList = getNewIndexedIChainList(previous.getIndex(), value);
                         } else {
-                            chainList.add(previous.getIndex(), nested);
+                            chainList = getNewIndexedIChainList(previous.getIndex(), nested);
                         }
                     } else {
+                        chainList = getNewIChainList(false);
                         if (isLast.compareAndSet(true, false)) {
                             chainList.add(value);
                         } else {
@@ -178,10 +175,11 @@ public interface IChainPart {
             if (nested instanceof Map) {
                 return (Map<String, Object>) nested;
             }
-            throw new ChainException("Unable to process key. The key does not belong to the 'Map' type.\n" +
-                                     "Key: " + key + "\n" +
-                                     "Key type: " + (nested == null ? null : nested.getClass()) + "\n" +
-                                     "Key structure: " + nested + "\n");
+            final Object structure = nested;
+            throw new ChainException(() -> "Unable to process key. The key does not belong to the 'Map' type.\n" +
+                                           "Key: " + key + "\n" +
+                                           "Key type: " + (structure == null ? null : structure.getClass()) + "\n" +
+                                           "Key structure: " + structure + "\n");
         }
 
         /**
@@ -203,10 +201,10 @@ public interface IChainPart {
         @Override
         public Default appendPart(String part) {
             if (value != null) {
-                throw new ChainException("It is forbidden to change the key if the value is already set.\n" +
-                                         "Key: " + key + "\n" +
-                                         "Val: " + value + "\n" +
-                                         "Wrong part: " + part + "\n");
+                throw new ChainException(() -> "It is forbidden to change the key if the value is already set.\n" +
+                                               "Key: " + key + "\n" +
+                                               "Val: " + value + "\n" +
+                                               "Wrong part: " + part + "\n");
             }
             key += "[" + part + "]";
             return this;
@@ -220,7 +218,7 @@ public interface IChainPart {
         @Override
         public Default appendIndex(int index) {
             if (index < 0) {
-                throw new ChainException("Array index cannot be negative but got " + index);
+                throw new ChainException(() -> "Array index cannot be negative but got " + index);
             }
             if (explicitList) {
                 key += "[" + index + "]";
@@ -288,6 +286,17 @@ public interface IChainPart {
             return key + "=" + (value == null ? "<null>" : value);
         }
 
+        /**
+         * @param index list index
+         * @param value nullable value
+         * @return new instance of the sparse indexed {@link IChainList} with the value by index
+         */
+        protected IChainList getNewIndexedIChainList(final int index, final Object value) {
+            final IChainList.Sparse list = new IChainList.Sparse();
+            list.put(index, value);
+            return list;
+        }
+
         /**
          * @param isIndexed sign that form array is indexed
          * @param values    list values
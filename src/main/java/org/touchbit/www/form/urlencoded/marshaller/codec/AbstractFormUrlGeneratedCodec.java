@@ -0,0 +1,334 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.codec;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlConfig;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
+import org.touchbit.www.form.urlencoded.marshaller.NullValueRule;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlTokenizer;
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlNumberParser;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class of the codecs generated by the
+ * {@link org.touchbit.www.form.urlencoded.marshaller.processor.FormUrlCodecProcessor}.
+ * Contains the form data parsing and value writing rules shared with the reflective path of the {@link FormUrlMarshaller}.
+ * Field accessors are resolved once when the generated class is initialized.
+ * <p>
+ *
+ * @param <M> POJO type
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public abstract class AbstractFormUrlGeneratedCodec<M> implements FormUrlGeneratedCodec<M> {
+
+    /**
+     * POJO class handled by the codec
+     */
+    private final Class<M> pojoClass;
+    /**
+     * number of the POJO fields annotated with {@link org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedField}
+     */
+    private final int fieldsCount;
+    /**
+     * POJO contains the additional properties field
+     */
+    private final boolean additionalProperties;
+
+    /**
+     * @param pojoClass            POJO class handled by the codec
+     * @param fieldsCount          number of the POJO form fields
+     * @param additionalProperties POJO contains the additional properties field
+     */
+    protected AbstractFormUrlGeneratedCodec(final Class<M> pojoClass,
+                                            final int fieldsCount,
+                                            final boolean additionalProperties) {
+        FormUrlUtils.parameterRequireNonNull(pojoClass, CodecConstant.A_CLASS_PARAMETER);
+        this.pojoClass = pojoClass;
+        this.fieldsCount = fieldsCount;
+        this.additionalProperties = additionalProperties;
+    }
+
+    /**
+     * @return POJO class handled by the codec
+     */
+    @Override
+    public Class<M> getPojoClass() {
+        return pojoClass;
+    }
+
+    /**
+     * @param key URL form key name
+     * @return POJO field index or -1 if the key does not belong to the POJO fields
+     */
+    protected abstract int keyIndex(String key);
+
+    /**
+     * Splits flat form data to the decoded field values.
+     * Uses the same {@link FormUrlTokenizer} as the reflective path.
+     *
+     * @param encodedString form URL encoded string
+     * @param config        marshaller settings
+     * @return decoded values by field index (null - value not received)
+     * or null if the string requires the reflective path
+     */
+    protected String[] readValues(final CharSequence encodedString, final FormUrlConfig config) {
+        final String[] values = new String[fieldsCount];
+        if (FormUrlTokenizer.isBlank(encodedString)) {
+            return values;
+        }
+        try {
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer(encodedString, config.getLimits());
+            while (tokenizer.next()) {
+                final String key = tokenizer.getKey();
+                if (!isFlatKey(key)) {
+                    return null;
+                }
+                final int index = keyIndex(key);
+                if (index < 0) {
+                    if (additionalProperties || config.isProhibitAdditionalProperties()) {
+                        return null;
+                    }
+                } else {
+                    if (values[index] != null) {
+                        // hidden list
+                        return null;
+                    }
+                    values[index] = tokenizer.getValue(config.getFormUrlCodingCharset());
+                }
+            }
+            return values;
+        } catch (MarshallerException e) {
+            // the reflective path would fail with the same error (same tokenizer and decoder)
+            throw e;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param key trimmed URL form key
+     * @return true if the key is not a nested or a list key
+     */
+    protected boolean isFlatKey(final String key) {
+        return !key.isEmpty() && key.indexOf('[') < 0 && key.indexOf(']') < 0 && !NumberUtils.isDigits(key);
+    }
+
+    /**
+     * Appends key/value pair according to the {@link NullValueRule}.
+     * The separator depends on the pairs written by the codec, not on the builder content,
+     * so the output is the same as the {@link org.touchbit.www.form.urlencoded.marshaller.FormUrlWriter} output
+     * for a non-empty output.
+     *
+     * @param out       form URL encoded data output
+     * @param key       URL form key name
+     * @param value     field value
+     * @param encoded   true if the field value is already URL-encoded
+     * @param separator true if a pair has already been written by the codec ({@code &} is appended before the pair)
+     * @param config    marshaller settings
+     * @return true if a pair has been written by the codec (this or previous)
+     * @throws IOException if an I/O error occurs
+     */
+    protected boolean appendPair(final Appendable out,
+                                 final String key,
+                                 final Object value,
+                                 final boolean encoded,
+                                 final boolean separator,
+                                 final FormUrlConfig config) throws IOException {
+        final Object fieldValue;
+        if (value != null) {
+            fieldValue = value;
+        } else {
+            switch (config.getNullValueRule()) {
+                case RULE_NULL_MARKER:
+                    fieldValue = encoded ? NullValueRule.ENCODED_NULL_MARKER : NullValueRule.DECODED_NULL_MARKER;
+                    break;
+                case RULE_NULL_STRING:
+                    fieldValue = "null";
+                    break;
+                case RULE_EMPTY_STRING:
+                    fieldValue = "";
+                    break;
+                case RULE_IGNORE:
+                default:
+                    return separator;
+            }
+        }
+        final String stringValue = String.valueOf(fieldValue);
+        if (separator) {
+            out.append('&');
+        }
+        out.append(key).append('=')
+                .append(encoded ? stringValue : FormUrlUtils.encode(stringValue, config.getFormUrlCodingCharset()));
+        return true;
+    }
+
+    /**
+     * Initializes empty additional properties map (same as the reflective path)
+     *
+     * @param getter additional properties field getter
+     * @param setter additional properties field setter
+     * @param pojo   POJO object
+     * @return true if the additional properties are empty
+     */
+    protected static boolean prepareAdditionalProperties(final MethodHandle getter,
+                                                         final MethodHandle setter,
+                                                         final Object pojo) {
+        final Map<?, ?> additionalProperties = (Map<?, ?>) get(getter, pojo);
+        if (additionalProperties == null) {
+            set(setter, pojo, new HashMap<>());
+            return true;
+        }
+        return additionalProperties.isEmpty();
+    }
+
+    /**
+     * @param value not null decoded value
+     * @return true if value is {@code true} or {@code false} (ignore case)
+     */
+    protected static boolean isBoolean(final String value) {
+        return "true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value);
+    }
+
+    /**
+     * @param value not null decoded value
+     * @param min   minimum value of the field type
+     * @param max   maximum value of the field type
+     * @return true if the JDK parser of the field type will not throw {@link NumberFormatException}
+     * (other values are parsed by the reflective path)
+     */
+    protected static boolean isLong(final String value, final long min, final long max) {
+        return FormUrlNumberParser.checkLong(value, min, max) == FormUrlNumberParser.VALID;
+    }
+
+    /**
+     * @param value not null decoded value
+     * @return true if value is a decimal BigInteger number ({@link FormUrlNumberParser#checkBigInteger(CharSequence)})
+     */
+    protected static boolean isBigInteger(final String value) {
+        return FormUrlNumberParser.checkBigInteger(value) == FormUrlNumberParser.VALID;
+    }
+
+    /**
+     * Float and Double values are also checked by the BigDecimal grammar.
+     * Other values accepted by the JDK ({@code NaN}, {@code 1f}, {@code 0x1p3}) are parsed by the reflective path.
+     *
+     * @param value not null decoded value
+     * @return true if value is a decimal number ({@link FormUrlNumberParser#checkBigDecimal(CharSequence)})
+     */
+    protected static boolean isBigDecimal(final String value) {
+        return FormUrlNumberParser.checkBigDecimal(value) == FormUrlNumberParser.VALID;
+    }
+
+    /**
+     * @param getter field getter {@code (Object)Object}
+     * @param pojo   POJO object
+     * @return field value
+     */
+    @SuppressWarnings("java:S1181")
+    protected static Object get(final MethodHandle getter, final Object pojo) {
+        try {
+            return (Object) getter.invokeExact(pojo);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param setter field setter {@code (Object,Object)void}
+     * @param pojo   POJO object
+     * @param value  field value
+     */
+    @SuppressWarnings("java:S1181")
+    protected static void set(final MethodHandle setter, final Object pojo, final Object value) {
+        try {
+            setter.invokeExact(pojo, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param pojoClass      POJO class
+     * @param declaringClass name of the class declaring the field (POJO class or POJO superclass)
+     * @param fieldName      java field name
+     * @return field getter {@code (Object)Object}
+     * @throws IllegalStateException if field is not accessible
+     */
+    protected static MethodHandle getter(final Class<?> pojoClass, final String declaringClass, final String fieldName) {
+        try {
+            return MethodHandles.lookup().unreflectGetter(getField(pojoClass, declaringClass, fieldName))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param pojoClass      POJO class
+     * @param declaringClass name of the class declaring the field (POJO class or POJO superclass)
+     * @param fieldName      java field name
+     * @return field setter {@code (Object,Object)void}
+     * @throws IllegalStateException if field is not accessible
+     */
+    protected static MethodHandle setter(final Class<?> pojoClass, final String declaringClass, final String fieldName) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(getField(pojoClass, declaringClass, fieldName))
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param pojoClass      POJO class
+     * @param declaringClass name of the class declaring the field (POJO class or POJO superclass)
+     * @param fieldName      java field name
+     * @return accessible field
+     * @throws IllegalStateException if field not found
+     */
+    protected static Field getField(final Class<?> pojoClass, final String declaringClass, final String fieldName) {
+        for (Class<?> aClass = pojoClass; aClass != null; aClass = aClass.getSuperclass()) {
+            if (aClass.getName().equals(declaringClass)) {
+                try {
+                    final Field field = aClass.getDeclaredField(fieldName);
+                    field.setAccessible(true);
+                    return field;
+                } catch (NoSuchFieldException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        throw new IllegalStateException("Class " + declaringClass + " is not a superclass of " + pojoClass.getName());
+    }
+
+}
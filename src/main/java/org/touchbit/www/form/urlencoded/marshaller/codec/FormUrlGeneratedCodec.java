@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.codec;
+
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlConfig;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+
+import java.io.IOException;
+
+/**
+ * Service provider interface of the POJO codec generated at compile time by the
+ * {@link org.touchbit.www.form.urlencoded.marshaller.processor.FormUrlCodecProcessor}.
+ * Codecs are registered in the {@code META-INF/services} and discovered by the {@link FormUrlGeneratedCodecRegistry}.
+ * <p>
+ * The codec handles flat form data only. If the data cannot be handled by the codec
+ * (nested keys, lists, additional properties, incompatible values, etc.),
+ * the codec returns false and {@link FormUrlMarshaller} uses the reflective path.
+ * <p>
+ *
+ * @param <M> POJO type with {@link FormUrlEncoded} annotation
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ * @see AbstractFormUrlGeneratedCodec
+ * @see FormUrlGeneratedCodecRegistry
+ */
+public interface FormUrlGeneratedCodec<M> {
+
+    /**
+     * @return POJO class handled by the codec
+     */
+    Class<M> getPojoClass();
+
+    /**
+     * Writes POJO fields as form URL encoded pairs directly to the output
+     *
+     * @param pojo   POJO object
+     * @param config marshaller settings (charset, null value rule)
+     * @param out    form URL encoded data output ({@link StringBuilder}, byte output, etc.)
+     * @return true if the POJO was written, false if the POJO requires the reflective path (out not changed)
+     * @throws IOException if an I/O error occurs
+     */
+    boolean write(M pojo, FormUrlConfig config, Appendable out) throws IOException;
+
+    /**
+     * Reads form URL encoded string to the POJO fields
+     *
+     * @param encodedString form URL encoded string
+     * @param pojo          POJO object
+     * @param config        marshaller settings (charset, additional properties rule)
+     * @return true if the string was read, false if the string requires the reflective path (pojo not changed)
+     */
+    boolean read(CharSequence encodedString, M pojo, FormUrlConfig config);
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.codec;
+
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Lookup of the {@link FormUrlGeneratedCodec} registered in the {@code META-INF/services}.
+ * Codecs are loaded by the {@link ServiceLoader} from the POJO class loader once per POJO class.
+ * Broken service entries (for example, a removed generated class) are skipped.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlGeneratedCodecRegistry {
+
+    /**
+     * Generated codecs cache (null value - codec not generated)
+     */
+    private static final ClassValue<FormUrlGeneratedCodec<?>> CODECS = new ClassValue<FormUrlGeneratedCodec<?>>() {
+        @Override
+        protected FormUrlGeneratedCodec<?> computeValue(final Class<?> type) {
+            return load(type);
+        }
+    };
+
+    /**
+     * Utility class. Forbidden instantiation.
+     */
+    private FormUrlGeneratedCodecRegistry() {
+    }
+
+    /**
+     * @param pojoClass POJO class
+     * @param <M>       POJO type
+     * @return generated codec or null
+     * @throws org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException if pojoClass is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <M> FormUrlGeneratedCodec<M> get(final Class<M> pojoClass) {
+        FormUrlUtils.parameterRequireNonNull(pojoClass, CodecConstant.A_CLASS_PARAMETER);
+        return (FormUrlGeneratedCodec<M>) CODECS.get(pojoClass);
+    }
+
+    /**
+     * @param pojoClass POJO class
+     * @return generated codec or null
+     */
+    @SuppressWarnings({"rawtypes", "java:S1181"})
+    protected static FormUrlGeneratedCodec<?> load(final Class<?> pojoClass) {
+        final ClassLoader classLoader = pojoClass.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+        final Iterator<FormUrlGeneratedCodec> iterator = ServiceLoader
+                .load(FormUrlGeneratedCodec.class, classLoader)
+                .iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    return null;
+                }
+            } catch (ServiceConfigurationError e) {
+                return null;
+            }
+            try {
+                final FormUrlGeneratedCodec<?> codec = iterator.next();
+                if (codec.getPojoClass() == pojoClass) {
+                    return codec;
+                }
+            } catch (ServiceConfigurationError | LinkageError ignore) {
+                // broken service entry
+            }
+        }
+    }
+
+}
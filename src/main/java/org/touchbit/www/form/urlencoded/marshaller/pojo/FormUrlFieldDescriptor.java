@@ -0,0 +1,457 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.pojo;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Binding metadata of the POJO field annotated with {@link FormUrlEncodedField}.
+ * Resolved once per field and stored in the {@link FormUrlPojoDescriptor}.
+ * Field value is read and written through the pre-bound {@link MethodHandle} accessors.
+ * Primitive fields (int, long, short, double, float, boolean) are also written through the typed setter
+ * without boxing ({@link #setInt(Object, int)}, etc.).
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ * @see FormUrlPojoDescriptor
+ */
+public class FormUrlFieldDescriptor {
+
+    /**
+     * POJO field
+     */
+    private final Field field;
+    /**
+     * URL form key name ({@link FormUrlEncodedField#value()})
+     */
+    private final String name;
+    /**
+     * {@link FormUrlEncodedField#encoded()}
+     */
+    private final boolean encoded;
+    /**
+     * {@link Field#getGenericType()}
+     */
+    private final Type genericType;
+    /**
+     * field type is POJO
+     */
+    private final boolean pojo;
+    /**
+     * field type is POJO generic collection ({@code List<Pojo>})
+     */
+    private final boolean pojoGenericCollection;
+    /**
+     * field type is POJO array ({@code Pojo[]})
+     */
+    private final boolean pojoArray;
+    /**
+     * field type is supported primitive type ({@link FormUrlUtils#isPrimitive(Type)})
+     */
+    private final boolean primitive;
+    /**
+     * field type is simple, simple array or generic collection of simple type
+     */
+    private final boolean flat;
+    /**
+     * POJO class for POJO, POJO generic collection or POJO array field types, otherwise null
+     */
+    private final Class<?> pojoClass;
+    /**
+     * nullable field getter {@code (Object)Object}
+     */
+    private final MethodHandle getter;
+    /**
+     * nullable field setter {@code (Object,Object)void}
+     */
+    private final MethodHandle setter;
+    /**
+     * nullable primitive field setter {@code (Object,<primitive>)void}
+     */
+    private final MethodHandle primitiveSetter;
+
+    /**
+     * @param field POJO field annotated with {@link FormUrlEncodedField}
+     * @throws MarshallerException if field is null
+     * @throws MarshallerException if field is not annotated with {@link FormUrlEncodedField}
+     */
+    public FormUrlFieldDescriptor(final Field field) {
+        FormUrlUtils.parameterRequireNonNull(field, CodecConstant.FIELD_PARAMETER);
+        final FormUrlEncodedField annotation = field.getAnnotation(FormUrlEncodedField.class);
+        if (annotation == null) {
+            throw MarshallerException.builder()
+                    .errorMessage("Field does not contain a required annotation.")
+                    .field(field)
+                    .expected("@" + FormUrlEncodedField.class.getSimpleName())
+                    .build();
+        }
+        this.field = field;
+        this.name = annotation.value();
+        this.encoded = annotation.encoded();
+        this.genericType = field.getGenericType();
+        this.pojo = FormUrlUtils.isPojo(genericType);
+        this.pojoGenericCollection = FormUrlUtils.isPojoGenericCollection(genericType);
+        this.pojoArray = FormUrlUtils.isPojoArray(genericType);
+        this.primitive = FormUrlUtils.isPrimitive(genericType);
+        this.flat = isFlat(genericType);
+        if (pojo) {
+            this.pojoClass = TypeUtils.getRawType(genericType, null);
+        } else if (pojoGenericCollection) {
+            this.pojoClass = FormUrlUtils.getGenericCollectionArgumentRawType(genericType);
+        } else if (pojoArray) {
+            this.pojoClass = FormUrlUtils.getArrayComponentClass(genericType);
+        } else {
+            this.pojoClass = null;
+        }
+        this.getter = unreflectGetter(field);
+        this.setter = unreflectSetter(field);
+        this.primitiveSetter = primitive ? unreflectPrimitiveSetter(field) : null;
+    }
+
+    /**
+     * @param pojo POJO object
+     * @return field value
+     * @throws MarshallerException if the value cannot be read form the object field
+     */
+    public Object getValue(final Object pojo) {
+        if (getter == null) {
+            return FormUrlUtils.readField(pojo, field);
+        }
+        try {
+            return (Object) getter.invokeExact(pojo);
+        } catch (Throwable e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to read value from object field.")
+                    .model(pojo)
+                    .field(field)
+                    .errorCause(asException(e))
+                    .build();
+        }
+    }
+
+    /**
+     * @param pojo  POJO object
+     * @param value field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    public void setValue(final Object pojo, final Object value) {
+        if (setter == null) {
+            FormUrlUtils.writeDeclaredField(pojo, field, value);
+            return;
+        }
+        try {
+            setter.invokeExact(pojo, value);
+        } catch (Throwable e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to write value to object field.")
+                    .model(pojo)
+                    .field(field)
+                    .value(value)
+                    .valueType(value)
+                    .errorCause(asException(e))
+                    .build();
+        }
+    }
+
+    /**
+     * @param pojo  POJO object
+     * @param value int field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    public void setInt(final Object pojo, final int value) {
+        if (primitiveSetter == null) {
+            setValue(pojo, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(pojo, value);
+        } catch (Throwable e) {
+            throw primitiveWriteError(pojo, value, e);
+        }
+    }
+
+    /**
+     * @param pojo  POJO object
+     * @param value long field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    public void setLong(final Object pojo, final long value) {
+        if (primitiveSetter == null) {
+            setValue(pojo, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(pojo, value);
+        } catch (Throwable e) {
+            throw primitiveWriteError(pojo, value, e);
+        }
+    }
+
+    /**
+     * @param pojo  POJO object
+     * @param value short field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    public void setShort(final Object pojo, final short value) {
+        if (primitiveSetter == null) {
+            setValue(pojo, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(pojo, value);
+        } catch (Throwable e) {
+            throw primitiveWriteError(pojo, value, e);
+        }
+    }
+
+    /**
+     * @param pojo  POJO object
+     * @param value double field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    public void setDouble(final Object pojo, final double value) {
+        if (primitiveSetter == null) {
+            setValue(pojo, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(pojo, value);
+        } catch (Throwable e) {
+            throw primitiveWriteError(pojo, value, e);
+        }
+    }
+
+    /**
+     * @param pojo  POJO object
+     * @param value float field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    public void setFloat(final Object pojo, final float value) {
+        if (primitiveSetter == null) {
+            setValue(pojo, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(pojo, value);
+        } catch (Throwable e) {
+            throw primitiveWriteError(pojo, value, e);
+        }
+    }
+
+    /**
+     * @param pojo  POJO object
+     * @param value boolean field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    public void setBoolean(final Object pojo, final boolean value) {
+        if (primitiveSetter == null) {
+            setValue(pojo, value);
+            return;
+        }
+        try {
+            primitiveSetter.invokeExact(pojo, value);
+        } catch (Throwable e) {
+            throw primitiveWriteError(pojo, value, e);
+        }
+    }
+
+    /**
+     * @param pojo      POJO object
+     * @param value     primitive field value (boxed only for the error message)
+     * @param throwable typed setter error
+     * @return {@link MarshallerException} unable to write value to object field
+     */
+    protected MarshallerException primitiveWriteError(final Object pojo, final Object value, final Throwable throwable) {
+        return (MarshallerException) MarshallerException.builder()
+                .errorMessage("Unable to write value to object field.")
+                .model(pojo)
+                .field(field)
+                .value(value)
+                .valueType(value)
+                .errorCause(asException(throwable))
+                .build();
+    }
+
+    /**
+     * @return POJO field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return URL form key name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true if the field value is already URL-encoded.
+     */
+    public boolean isEncoded() {
+        return encoded;
+    }
+
+    /**
+     * @return field generic type
+     */
+    public Type getGenericType() {
+        return genericType;
+    }
+
+    /**
+     * @return true if field type is POJO
+     */
+    public boolean isPojo() {
+        return pojo;
+    }
+
+    /**
+     * @return true if field type is POJO generic collection ({@code List<Pojo>})
+     */
+    public boolean isPojoGenericCollection() {
+        return pojoGenericCollection;
+    }
+
+    /**
+     * @return true if field type is POJO array ({@code Pojo[]})
+     */
+    public boolean isPojoArray() {
+        return pojoArray;
+    }
+
+    /**
+     * @return true if field type is POJO or POJO generic collection or POJO array
+     */
+    public boolean isSomePojo() {
+        return pojo || pojoGenericCollection || pojoArray;
+    }
+
+    /**
+     * @return true if field type is supported primitive type (int, long, short, double, float, boolean)
+     */
+    public boolean isPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * @return true if field type is simple, simple array or generic collection of simple type.
+     * The value of such field is read from flat key/value pairs ({@code foo=1}, {@code foo[]=1}, {@code foo[0]=1}).
+     */
+    public boolean isFlat() {
+        return flat;
+    }
+
+    /**
+     * @return POJO class for POJO, POJO generic collection or POJO array field types, otherwise null
+     */
+    public Class<?> getPojoClass() {
+        return pojoClass;
+    }
+
+    /**
+     * @param type field generic type
+     * @return true if type is simple ({@code Integer}, {@code int}), simple array ({@code Integer[]}, {@code int[]})
+     * or generic collection of simple type ({@code List<Integer>})
+     */
+    protected static boolean isFlat(final Type type) {
+        if (FormUrlUtils.isSimple(type) || FormUrlUtils.isPrimitive(type) || FormUrlUtils.isPrimitiveArray(type)) {
+            return true;
+        }
+        if (FormUrlUtils.isArray(type)) {
+            return FormUrlUtils.isSimple(FormUrlUtils.getArrayComponentType(type));
+        }
+        if (FormUrlUtils.isGenericCollection(type)) {
+            return FormUrlUtils.isSimple(((ParameterizedType) type).getActualTypeArguments()[0]);
+        }
+        return false;
+    }
+
+    /**
+     * @param field POJO field
+     * @return field getter {@code (Object)Object} or null if the field is not accessible
+     */
+    protected static MethodHandle unreflectGetter(final Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param field POJO field
+     * @return field setter {@code (Object,Object)void} or null if the field is not writable (final)
+     */
+    protected static MethodHandle unreflectSetter(final Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param field primitive POJO field
+     * @return field setter {@code (Object,<primitive>)void} or null if the field is not writable (final)
+     */
+    protected static MethodHandle unreflectPrimitiveSetter(final Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectSetter(field)
+                    .asType(MethodType.methodType(void.class, Object.class, field.getType()));
+        } catch (RuntimeException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @param throwable accessor error
+     * @return throwable if it is {@link Exception} or wrapped throwable
+     */
+    protected static Exception asException(final Throwable throwable) {
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return throwable instanceof Exception ? (Exception) throwable : new IllegalStateException(throwable);
+    }
+
+    /**
+     * @return field info
+     */
+    @Override
+    public String toString() {
+        return name + "=" + FormUrlUtils.getGenericSimpleName(field) + " " + field.getName();
+    }
+
+}
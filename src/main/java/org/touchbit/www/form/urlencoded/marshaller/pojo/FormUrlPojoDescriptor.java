@@ -0,0 +1,315 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.pojo;
+
+import org.apache.commons.lang3.reflect.ConstructorUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Class binding metadata:
+ * - fields annotated with {@link FormUrlEncodedField} (see {@link FormUrlFieldDescriptor})
+ * - field annotated with {@link FormUrlEncodedAdditionalProperties} (with pre-bound {@link MethodHandle} accessors)
+ * - accessible no-args constructor
+ * <p>
+ * The descriptor is built once per class and stored in the {@link ClassValue},
+ * so cached metadata does not prevent the class from being unloaded.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ * @see FormUrlFieldDescriptor
+ */
+public class FormUrlPojoDescriptor {
+
+    /**
+     * Class descriptors cache
+     */
+    private static final ClassValue<FormUrlPojoDescriptor> DESCRIPTORS = new ClassValue<FormUrlPojoDescriptor>() {
+        @Override
+        protected FormUrlPojoDescriptor computeValue(final Class<?> type) {
+            return new FormUrlPojoDescriptor(type);
+        }
+    };
+
+    /**
+     * described class
+     */
+    private final Class<?> pojoClass;
+    /**
+     * {@link FormUrlEncoded} annotation present
+     */
+    private final boolean formUrlEncoded;
+    /**
+     * fields annotated with {@link FormUrlEncodedField} (not static, not transient, with non-empty key name)
+     */
+    private final List<FormUrlFieldDescriptor> fields;
+    /**
+     * {@link #fields} where key - URL form key name
+     */
+    private final Map<String, FormUrlFieldDescriptor> fieldsMap;
+    /**
+     * {@link #fields} indexes where key - URL form key name
+     */
+    private final Map<String, Integer> fieldIndexes;
+    /**
+     * nullable field annotated with {@link FormUrlEncodedAdditionalProperties}
+     */
+    private final Field additionalPropertiesField;
+    /**
+     * nullable additional properties field getter {@code (Object)Object}
+     */
+    private final MethodHandle additionalPropertiesGetter;
+    /**
+     * nullable additional properties field setter {@code (Object,Object)void}
+     */
+    private final MethodHandle additionalPropertiesSetter;
+    /**
+     * nullable accessible no-args constructor
+     */
+    private final Constructor<?> constructor;
+
+    /**
+     * @param pojoClass described class
+     * @throws MarshallerException if pojoClass is null
+     * @throws MarshallerException if POJO contains several fields with the same URL form key name
+     * @throws MarshallerException if additional properties field is invalid
+     */
+    protected FormUrlPojoDescriptor(final Class<?> pojoClass) {
+        FormUrlUtils.parameterRequireNonNull(pojoClass, CodecConstant.A_CLASS_PARAMETER);
+        this.pojoClass = pojoClass;
+        this.formUrlEncoded = pojoClass.isAnnotationPresent(FormUrlEncoded.class);
+        final List<FormUrlFieldDescriptor> descriptors = new ArrayList<>();
+        final Map<String, FormUrlFieldDescriptor> descriptorsMap = new LinkedHashMap<>();
+        final Map<String, Integer> indexes = new HashMap<>();
+        for (Field field : FieldUtils.getFieldsListWithAnnotation(pojoClass, FormUrlEncodedField.class)) {
+            final int modifiers = field.getModifiers();
+            if (field.getAnnotation(FormUrlEncodedField.class).value().trim().isEmpty()
+                || Modifier.isTransient(modifiers)
+                || Modifier.isStatic(modifiers)) {
+                continue;
+            }
+            final FormUrlFieldDescriptor descriptor = new FormUrlFieldDescriptor(field);
+            final FormUrlFieldDescriptor duplicate = descriptorsMap.put(descriptor.getName(), descriptor);
+            if (duplicate != null) {
+                throw MarshallerException.builder()
+                        .errorMessage("POJO contains several fields with the same URL form key name.")
+                        .model(pojoClass)
+                        .fields(Arrays.asList(duplicate.getField(), field))
+                        .expected("unique @" + FormUrlEncodedField.class.getSimpleName() + " values")
+                        .build();
+            }
+            indexes.put(descriptor.getName(), descriptors.size());
+            descriptors.add(descriptor);
+        }
+        this.fields = Collections.unmodifiableList(descriptors);
+        this.fieldsMap = Collections.unmodifiableMap(descriptorsMap);
+        this.fieldIndexes = indexes;
+        this.additionalPropertiesField = FormUrlUtils.getAdditionalPropertiesField(pojoClass);
+        if (additionalPropertiesField != null) {
+            this.additionalPropertiesGetter = FormUrlFieldDescriptor.unreflectGetter(additionalPropertiesField);
+            this.additionalPropertiesSetter = FormUrlFieldDescriptor.unreflectSetter(additionalPropertiesField);
+        } else {
+            this.additionalPropertiesGetter = null;
+            this.additionalPropertiesSetter = null;
+        }
+        this.constructor = ConstructorUtils.getMatchingAccessibleConstructor(pojoClass);
+    }
+
+    /**
+     * @param aClass any class
+     * @return cached class descriptor
+     * @throws MarshallerException if aClass is null
+     * @throws MarshallerException if POJO contains several fields with the same URL form key name
+     * @throws MarshallerException if additional properties field is invalid
+     */
+    public static FormUrlPojoDescriptor of(final Class<?> aClass) {
+        FormUrlUtils.parameterRequireNonNull(aClass, CodecConstant.A_CLASS_PARAMETER);
+        return DESCRIPTORS.get(aClass);
+    }
+
+    /**
+     * @return described class
+     */
+    public Class<?> getPojoClass() {
+        return pojoClass;
+    }
+
+    /**
+     * @return true if described class contains {@link FormUrlEncoded} annotation
+     */
+    public boolean isFormUrlEncoded() {
+        return formUrlEncoded;
+    }
+
+    /**
+     * @return unmodifiable list of fields annotated with {@link FormUrlEncodedField}
+     */
+    public List<FormUrlFieldDescriptor> getFields() {
+        return fields;
+    }
+
+    /**
+     * @return unmodifiable map of fields annotated with {@link FormUrlEncodedField} where key - URL form key name
+     */
+    public Map<String, FormUrlFieldDescriptor> getFieldsMap() {
+        return fieldsMap;
+    }
+
+    /**
+     * @param name URL form key name
+     * @return field descriptor or null
+     */
+    public FormUrlFieldDescriptor getField(final String name) {
+        return fieldsMap.get(name);
+    }
+
+    /**
+     * @param name URL form key name
+     * @return field index in the {@link #getFields()} list or -1
+     */
+    public int getFieldIndex(final String name) {
+        final Integer index = fieldIndexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return field annotated with {@link FormUrlEncodedAdditionalProperties} or null
+     */
+    public Field getAdditionalPropertiesField() {
+        return additionalPropertiesField;
+    }
+
+    /**
+     * @return true if described class has field annotated with {@link FormUrlEncodedAdditionalProperties}
+     */
+    public boolean hasAdditionalProperties() {
+        return additionalPropertiesField != null;
+    }
+
+    /**
+     * If the additional properties field is not initialized,
+     * then a new HashMap instance will be written to the field value.
+     *
+     * @param pojo instance of the described class
+     * @return additional properties field value or null if the class has no additional properties field
+     * @throws MarshallerException if pojo is null
+     * @throws MarshallerException if the field value cannot be read or initialized
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Object, Object> getAdditionalProperties(final Object pojo) {
+        FormUrlUtils.parameterRequireNonNull(pojo, CodecConstant.MODEL_PARAMETER);
+        if (additionalPropertiesField == null) {
+            return null;
+        }
+        final Map<Object, Object> fieldValue = (Map<Object, Object>) readAdditionalProperties(pojo);
+        if (fieldValue == null) {
+            final HashMap<Object, Object> value = new HashMap<>();
+            writeAdditionalProperties(pojo, value);
+            return value;
+        }
+        return fieldValue;
+    }
+
+    /**
+     * @param pojo instance of the described class
+     * @return additional properties field value
+     * @throws MarshallerException if the value cannot be read form the object field
+     */
+    protected Object readAdditionalProperties(final Object pojo) {
+        if (additionalPropertiesGetter == null) {
+            return FormUrlUtils.readField(pojo, additionalPropertiesField);
+        }
+        try {
+            return (Object) additionalPropertiesGetter.invokeExact(pojo);
+        } catch (Throwable e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to read value from object field.")
+                    .model(pojo)
+                    .field(additionalPropertiesField)
+                    .errorCause(FormUrlFieldDescriptor.asException(e))
+                    .build();
+        }
+    }
+
+    /**
+     * @param pojo  instance of the described class
+     * @param value additional properties field value
+     * @throws MarshallerException if the value cannot be written to the object field
+     */
+    protected void writeAdditionalProperties(final Object pojo, final Map<Object, Object> value) {
+        if (additionalPropertiesSetter == null) {
+            FormUrlUtils.writeDeclaredField(pojo, additionalPropertiesField, value);
+            return;
+        }
+        try {
+            additionalPropertiesSetter.invokeExact(pojo, (Object) value);
+        } catch (Throwable e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to write value to object field.")
+                    .model(pojo)
+                    .field(additionalPropertiesField)
+                    .value(value)
+                    .valueType(value)
+                    .errorCause(FormUrlFieldDescriptor.asException(e))
+                    .build();
+        }
+    }
+
+    /**
+     * @return accessible no-args constructor or null
+     */
+    public Constructor<?> getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * @return new instance of the described class
+     * @throws MarshallerException on instantiation errors
+     */
+    public Object newInstance() {
+        try {
+            if (constructor == null) {
+                throw new NoSuchMethodException("No such accessible constructor on object: " + pojoClass.getName());
+            }
+            return constructor.newInstance();
+        } catch (Exception e) {
+            throw MarshallerException.builder()
+                    .errorMessage("Unable to instantiate model class.")
+                    .sourceType(pojoClass)
+                    .errorCause(e)
+                    .build();
+        }
+    }
+
+    /**
+     * @return class descriptor info
+     */
+    @Override
+    public String toString() {
+        return pojoClass.getName() + fields;
+    }
+
+}
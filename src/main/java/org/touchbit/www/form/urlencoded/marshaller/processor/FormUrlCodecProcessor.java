@@ -0,0 +1,531 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.processor;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.touchbit.www.form.urlencoded.marshaller.codec.AbstractFormUrlGeneratedCodec;
+import org.touchbit.www.form.urlencoded.marshaller.codec.FormUrlGeneratedCodec;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedAdditionalProperties;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedField;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Optional annotation processor.
+ * Generates the {@link FormUrlGeneratedCodec} for each {@link FormUrlEncoded} class
+ * and registers generated codecs in the {@code META-INF/services}.
+ * The processor is not registered automatically. Usage:
+ * <pre><code>
+ *     javac -processor org.touchbit.www.form.urlencoded.marshaller.processor.FormUrlCodecProcessor ...
+ * </code></pre>
+ * The codec is generated only for the flat POJO:
+ * - the class is not abstract, not generic, not private and not inner (non-static nested) class;
+ * - the class does not implement {@link Map};
+ * - {@link FormUrlEncodedField} fields are not final and have simple reference types (String, Integer, etc.);
+ * - {@link FormUrlEncodedAdditionalProperties} field (if present) has {@code Map<String, Object>} type.
+ * Other classes are processed by the reflective path of the marshaller.
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ * @see AbstractFormUrlGeneratedCodec
+ */
+@SupportedAnnotationTypes("org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded")
+public class FormUrlCodecProcessor extends AbstractProcessor {
+
+    /**
+     * Generated codec class name suffix
+     */
+    public static final String CODEC_SUFFIX = "_FormUrlCodec";
+    /**
+     * Generated codecs service file
+     */
+    public static final String SERVICE_FILE = "META-INF/services/" + FormUrlGeneratedCodec.class.getName();
+    /**
+     * Field type -> conversion expression of the decoded string value ({@code %s}).
+     * The expression does not throw for the value accepted by the {@link #CHECKS} expression.
+     */
+    private static final Map<String, String> CONVERTERS = new HashMap<>();
+    /**
+     * Field type -> exception-free check expression of the decoded string value ({@code %s}).
+     * The value is rejected (the form is processed by the reflective path) if the check is false.
+     */
+    private static final Map<String, String> CHECKS = new HashMap<>();
+
+    static {
+        CONVERTERS.put(String.class.getName(), "%s");
+        CONVERTERS.put(Boolean.class.getName(), "java.lang.Boolean.valueOf(%s)");
+        CONVERTERS.put(Short.class.getName(), "java.lang.Short.valueOf(%s)");
+        CONVERTERS.put(Long.class.getName(), "java.lang.Long.valueOf(%s)");
+        CONVERTERS.put(Float.class.getName(), "java.lang.Float.valueOf(%s)");
+        CONVERTERS.put(Integer.class.getName(), "java.lang.Integer.valueOf(%s)");
+        CONVERTERS.put(Double.class.getName(), "java.lang.Double.valueOf(%s)");
+        CONVERTERS.put("java.math.BigInteger", NumberUtils.class.getName() + ".createBigInteger(%s)");
+        CONVERTERS.put("java.math.BigDecimal", NumberUtils.class.getName() + ".createBigDecimal(%s)");
+        CHECKS.put(Boolean.class.getName(), "isBoolean(%s)");
+        CHECKS.put(Short.class.getName(), "isLong(%s, java.lang.Short.MIN_VALUE, java.lang.Short.MAX_VALUE)");
+        CHECKS.put(Long.class.getName(), "isLong(%s, java.lang.Long.MIN_VALUE, java.lang.Long.MAX_VALUE)");
+        CHECKS.put(Float.class.getName(), "isBigDecimal(%s)");
+        CHECKS.put(Integer.class.getName(), "isLong(%s, java.lang.Integer.MIN_VALUE, java.lang.Integer.MAX_VALUE)");
+        CHECKS.put(Double.class.getName(), "isBigDecimal(%s)");
+        CHECKS.put("java.math.BigInteger", "isBigInteger(%s)");
+        CHECKS.put("java.math.BigDecimal", "isBigDecimal(%s)");
+    }
+
+    /**
+     * Generated codecs class names
+     */
+    private final Set<String> codecs = new TreeSet<>();
+
+    /**
+     * @return latest supported source version
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * @param annotations {@link FormUrlEncoded}
+     * @param roundEnv    environment for information about the current and prior round
+     * @return false (the annotation is not claimed)
+     */
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(FormUrlEncoded.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                final String codec = generateCodec((TypeElement) element);
+                if (codec != null) {
+                    codecs.add(codec);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !codecs.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    /**
+     * @param type POJO class
+     * @return generated codec class name or null if the class is not supported
+     */
+    protected String generateCodec(final TypeElement type) {
+        final String classError = checkClass(type);
+        if (classError != null) {
+            return skip(type, classError);
+        }
+        final List<CodecField> fields = new ArrayList<>();
+        final String fieldsError = collectFields(type, fields);
+        if (fieldsError != null) {
+            return skip(type, fieldsError);
+        }
+        final List<VariableElement> additionalProperties = new ArrayList<>();
+        final String apError = collectAdditionalProperties(type, additionalProperties);
+        if (apError != null) {
+            return skip(type, apError);
+        }
+        final Elements elements = processingEnv.getElementUtils();
+        final String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        final String codecSimpleName = getCodecSimpleName(type);
+        final String codecName = packageName.isEmpty() ? codecSimpleName : packageName + "." + codecSimpleName;
+        final String source = generateSource(type, packageName, codecSimpleName, fields, additionalProperties);
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(codecName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write FormUrl codec " + codecName + ": " + e.getMessage(), type);
+            return null;
+        }
+        return codecName;
+    }
+
+    /**
+     * @param type POJO class
+     * @return error message or null if the class is supported
+     */
+    protected String checkClass(final TypeElement type) {
+        final Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) {
+            return "abstract class";
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic class";
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            final TypeElement current = (TypeElement) element;
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private class";
+            }
+            if (current.getNestingKind() == NestingKind.LOCAL || current.getNestingKind() == NestingKind.ANONYMOUS) {
+                return "local class";
+            }
+            if (current.getNestingKind() == NestingKind.MEMBER
+                && current.getKind() == ElementKind.CLASS
+                && !current.getModifiers().contains(Modifier.STATIC)) {
+                return "inner class";
+            }
+        }
+        final Types types = processingEnv.getTypeUtils();
+        final TypeElement map = processingEnv.getElementUtils().getTypeElement(Map.class.getName());
+        if (types.isAssignable(types.erasure(type.asType()), types.erasure(map.asType()))) {
+            return "class implements java.util.Map";
+        }
+        return null;
+    }
+
+    /**
+     * Collects {@link FormUrlEncodedField} fields in the reflective path order (class fields, then superclass fields)
+     *
+     * @param type   POJO class
+     * @param result collected fields
+     * @return error message or null if the fields are supported
+     */
+    protected String collectFields(final TypeElement type, final List<CodecField> result) {
+        final Elements elements = processingEnv.getElementUtils();
+        final Set<String> keys = new HashSet<>();
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                final FormUrlEncodedField annotation = field.getAnnotation(FormUrlEncodedField.class);
+                final Set<Modifier> modifiers = field.getModifiers();
+                if (annotation == null
+                    || annotation.value().trim().isEmpty()
+                    || modifiers.contains(Modifier.STATIC)
+                    || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                final String key = annotation.value();
+                if (modifiers.contains(Modifier.FINAL)) {
+                    return "final field " + field.getSimpleName();
+                }
+                final String typeName = getTypeName(field.asType());
+                if (typeName == null || !CONVERTERS.containsKey(typeName)) {
+                    return "unsupported type of field " + field.getSimpleName() + ": " + field.asType();
+                }
+                if (!key.equals(key.trim()) || key.matches(".*[\\[\\]&=].*") || NumberUtils.isDigits(key)) {
+                    return "unsupported key name of field " + field.getSimpleName() + ": " + key;
+                }
+                if (!keys.add(key)) {
+                    return "duplicate key name: " + key;
+                }
+                final String declaringClass = elements.getBinaryName(current).toString();
+                result.add(new CodecField(key, field.getSimpleName().toString(), declaringClass, typeName,
+                        annotation.encoded()));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param type   POJO class
+     * @param result collected {@link FormUrlEncodedAdditionalProperties} field
+     * @return error message or null if the field is supported
+     */
+    protected String collectAdditionalProperties(final TypeElement type, final List<VariableElement> result) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getAnnotation(FormUrlEncodedAdditionalProperties.class) != null) {
+                result.add(field);
+            }
+        }
+        if (result.size() > 1) {
+            return "more than one additional properties field";
+        }
+        if (result.isEmpty()) {
+            return null;
+        }
+        final VariableElement field = result.get(0);
+        if (field.getModifiers().contains(Modifier.STATIC) || field.getModifiers().contains(Modifier.FINAL)) {
+            return "static or final additional properties field";
+        }
+        final TypeMirror fieldType = field.asType();
+        if (fieldType.getKind() == TypeKind.DECLARED && Map.class.getName().equals(getTypeName(fieldType))) {
+            final List<? extends TypeMirror> arguments = ((DeclaredType) fieldType).getTypeArguments();
+            if (arguments.size() == 2
+                && String.class.getName().equals(getTypeName(arguments.get(0)))
+                && Object.class.getName().equals(getTypeName(arguments.get(1)))) {
+                return null;
+            }
+        }
+        return "unsupported type of additional properties field: " + fieldType;
+    }
+
+    /**
+     * @param type            POJO class
+     * @param packageName     POJO package
+     * @param codecSimpleName generated codec simple name
+     * @param fields          POJO fields
+     * @param ap              additional properties field (empty or singleton list)
+     * @return generated codec source
+     */
+    protected String generateSource(final TypeElement type,
+                                     final String packageName,
+                                     final String codecSimpleName,
+                                     final List<CodecField> fields,
+                                     final List<VariableElement> ap) {
+        final Elements elements = processingEnv.getElementUtils();
+        final String pojo = type.getQualifiedName().toString();
+        final String pojoClass = pojo + ".class";
+        final String binaryName = elements.getConstantExpression(elements.getBinaryName(type).toString());
+        final String config = "org.touchbit.www.form.urlencoded.marshaller.FormUrlConfig";
+        final String handle = "java.lang.invoke.MethodHandle";
+        final StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n")
+                .append(" * Form URL encoded codec for {@link ").append(pojo).append("}.\n")
+                .append(" * Generated by ").append(FormUrlCodecProcessor.class.getName()).append(". Do not edit.\n")
+                .append(" */\n")
+                .append("public class ").append(codecSimpleName).append(" extends ")
+                .append(AbstractFormUrlGeneratedCodec.class.getName()).append("<").append(pojo).append("> {\n\n");
+        for (int i = 0; i < fields.size(); i++) {
+            final CodecField field = fields.get(i);
+            final String args = "(" + pojoClass + ", " + elements.getConstantExpression(field.declaringClass) + ", "
+                                + elements.getConstantExpression(field.javaName) + ");\n";
+            sb.append("    private static final ").append(handle).append(" FIELD_").append(i).append("_GETTER = getter")
+                    .append(args);
+            sb.append("    private static final ").append(handle).append(" FIELD_").append(i).append("_SETTER = setter")
+                    .append(args);
+        }
+        if (!ap.isEmpty()) {
+            final String args = "(" + pojoClass + ", " + binaryName + ", "
+                                + elements.getConstantExpression(ap.get(0).getSimpleName().toString()) + ");\n";
+            sb.append("    private static final ").append(handle).append(" AP_GETTER = getter").append(args);
+            sb.append("    private static final ").append(handle).append(" AP_SETTER = setter").append(args);
+        }
+        sb.append("\n")
+                .append("    public ").append(codecSimpleName).append("() {\n")
+                .append("        super(").append(pojoClass).append(", ").append(fields.size()).append(", ")
+                .append(!ap.isEmpty()).append(");\n")
+                .append("    }\n\n");
+        // key switch
+        sb.append("    @Override\n")
+                .append("    protected int keyIndex(final String key) {\n")
+                .append("        switch (key) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            sb.append("            case ").append(elements.getConstantExpression(fields.get(i).key))
+                    .append(":\n                return ").append(i).append(";\n");
+        }
+        sb.append("            default:\n")
+                .append("                return -1;\n")
+                .append("        }\n")
+                .append("    }\n\n");
+        // write
+        sb.append("    @Override\n")
+                .append("    public boolean write(final ").append(pojo).append(" pojo, final ").append(config)
+                .append(" config, final Appendable out)\n")
+                .append("            throws java.io.IOException {\n");
+        if (!ap.isEmpty()) {
+            sb.append("        if (!prepareAdditionalProperties(AP_GETTER, AP_SETTER, pojo)) {\n")
+                    .append("            return false;\n")
+                    .append("        }\n");
+        }
+        sb.append("        boolean separator = false;\n");
+        for (int i = 0; i < fields.size(); i++) {
+            final CodecField field = fields.get(i);
+            sb.append("        separator = appendPair(out, ").append(elements.getConstantExpression(field.key))
+                    .append(", get(FIELD_").append(i).append("_GETTER, pojo), ").append(field.encoded)
+                    .append(", separator, config);\n");
+        }
+        sb.append("        return true;\n")
+                .append("    }\n\n");
+        // read
+        sb.append("    @Override\n")
+                .append("    public boolean read(final CharSequence encodedString, final ").append(pojo).append(" pojo, final ")
+                .append(config).append(" config) {\n")
+                .append("        final String[] values = readValues(encodedString, config);\n")
+                .append("        if (values == null) {\n")
+                .append("            return false;\n")
+                .append("        }\n");
+        // all values are checked before the first field is written (invalid value - reflective path)
+        for (int i = 0; i < fields.size(); i++) {
+            final String check = CHECKS.get(fields.get(i).typeName);
+            if (check != null) {
+                final String value = "values[" + i + "]";
+                sb.append("        if (").append(value).append(" != null && !")
+                        .append(String.format(check, value)).append(") {\n")
+                        .append("            return false;\n")
+                        .append("        }\n");
+            }
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            final String value = "values[" + i + "]";
+            sb.append("        if (").append(value).append(" != null) {\n")
+                    .append("            set(FIELD_").append(i).append("_SETTER, pojo, ")
+                    .append(String.format(CONVERTERS.get(fields.get(i).typeName), value)).append(");\n")
+                    .append("        }\n");
+        }
+        sb.append("        return true;\n")
+                .append("    }\n\n")
+                .append("}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Writes (merges) generated codecs to the {@link #SERVICE_FILE}
+     */
+    protected void writeServiceFile() {
+        final Set<String> services = new TreeSet<>(codecs);
+        try {
+            final FileObject existing = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        services.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignore) {
+            // service file does not exist yet
+        }
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (String service : services) {
+                    writer.write(service);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @param type   POJO class
+     * @param reason skip reason
+     * @return null
+     */
+    protected String skip(final TypeElement type, final String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "FormUrl codec is not generated for " + type.getQualifiedName() + " (" + reason + ")", type);
+        return null;
+    }
+
+    /**
+     * @param type POJO class
+     * @return codec simple name ({@code Outer_Nested_FormUrlCodec})
+     */
+    protected String getCodecSimpleName(final TypeElement type) {
+        final StringBuilder sb = new StringBuilder(CODEC_SUFFIX);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            sb.insert(0, element.getSimpleName());
+            if (element.getEnclosingElement() instanceof TypeElement) {
+                sb.insert(0, "_");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param type class
+     * @return superclass or null if superclass is {@link Object}
+     */
+    protected TypeElement getSuperclass(final TypeElement type) {
+        final TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        final TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return Object.class.getName().equals(element.getQualifiedName().toString()) ? null : element;
+    }
+
+    /**
+     * @param type any type
+     * @return qualified name of the declared type or null
+     */
+    protected String getTypeName(final TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * POJO field metadata for the code generation
+     */
+    protected static class CodecField {
+
+        /**
+         * URL form key name
+         */
+        protected final String key;
+        /**
+         * java field name
+         */
+        protected final String javaName;
+        /**
+         * binary name of the class declaring the field
+         */
+        protected final String declaringClass;
+        /**
+         * qualified name of the field type
+         */
+        protected final String typeName;
+        /**
+         * {@link FormUrlEncodedField#encoded()}
+         */
+        protected final boolean encoded;
+
+        /**
+         * @param key            URL form key name
+         * @param javaName       java field name
+         * @param declaringClass binary name of the class declaring the field
+         * @param typeName       qualified name of the field type
+         * @param encoded        {@link FormUrlEncodedField#encoded()}
+         */
+        protected CodecField(final String key,
+                             final String javaName,
+                             final String declaringClass,
+                             final String typeName,
+                             final boolean encoded) {
+            this.key = key;
+            this.javaName = javaName;
+            this.declaringClass = declaringClass;
+            this.typeName = typeName;
+            this.encoded = encoded;
+        }
+
+    }
+
+}
@@ -16,6 +16,8 @@
 
 package org.touchbit.www.form.urlencoded.marshaller.util;
 
+import java.util.function.Supplier;
+
 /**
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
  * Created: 11.03.2022
@@ -45,6 +47,25 @@ public class ChainException extends MarshallerException {
         super(message, t);
     }
 
+    /**
+     * Constructs a new validation runtime exception with the lazy detail message.
+     * The stack trace is filled in if {@link MarshallerException#isValidationStackTrace()}.
+     *
+     * @param messageSupplier the detail message supplier (rendered on the first {@link #getMessage()} call)
+     */
+    public ChainException(Supplier<String> messageSupplier) {
+        super(messageSupplier, null, isValidationStackTrace());
+    }
+
+    /**
+     * @param messageSupplier    the detail message supplier
+     * @param t                  the cause (nullable)
+     * @param writableStackTrace whether or not the stack trace should be writable (filled in)
+     */
+    public ChainException(Supplier<String> messageSupplier, Throwable t, boolean writableStackTrace) {
+        super(messageSupplier, t, writableStackTrace);
+    }
+
     /**
      * @return instance of {@link ExceptionBuilder}
      */
@@ -53,7 +74,7 @@ public class ChainException extends MarshallerException {
         return new ExceptionBuilder<ChainException>() {
             @Override
             public ChainException build() {
-                return new ChainException(getMessage(), getCause());
+                return new ChainException(this::getMessage, getCause(), isWritableStackTrace());
             }
         };
     }
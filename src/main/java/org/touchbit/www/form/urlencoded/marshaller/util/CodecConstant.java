@@ -33,6 +33,8 @@ public class CodecConstant {
     /***/
     public static final String TARGET_TYPE_PARAMETER = "targetType";
     /***/
+    public static final String VALUE_CLASS_PARAMETER = "valueClass";
+    /***/
     public static final String CHAIN_PART_PARAMETER = "chainPart";
     /***/
     public static final String RAW_DATA_PARAMETER = "rawData";
@@ -56,6 +58,28 @@ public class CodecConstant {
     public static final String LIST_PARAMETER = "list";
     /***/
     public static final String KEY_PARAMETER = "key";
+    /***/
+    public static final String MARSHALLER_PARAMETER = "marshaller";
+    /***/
+    public static final String APPENDABLE_PARAMETER = "appendable";
+    /***/
+    public static final String BYTES_PARAMETER = "bytes";
+    /***/
+    public static final String BUFFER_PARAMETER = "buffer";
+    /***/
+    public static final String INPUT_STREAM_PARAMETER = "inputStream";
+    /***/
+    public static final String CHANNEL_PARAMETER = "channel";
+    /***/
+    public static final String OUTPUT_STREAM_PARAMETER = "outputStream";
+    /***/
+    public static final String VISITOR_PARAMETER = "visitor";
+    /***/
+    public static final String NULL_VALUE_RULE_PARAMETER = "nullValueRule";
+    /***/
+    public static final String CONFIG_PARAMETER = "config";
+    /***/
+    public static final String LIMITS_PARAMETER = "limits";
 
     /***/
     public static final String ERR_POJO_CLASSES_WITH_FORM_URLENCODED_ANNOTATION = "POJO classes with @" + FormUrlEncoded.class.getSimpleName() + " annotation";
@@ -70,6 +94,22 @@ public class CodecConstant {
     /***/
     public static final String ERR_SIMPLE_REFERENCE_TYPES = "simple reference types (String, Integer, Boolean, etc.)";
     /***/
+    public static final String ERR_LIST_INDEX_EXCEEDS_MAXIMUM = "Explicit list index exceeds the maximum list index.";
+    /***/
+    public static final String ERR_NON_BLOCKING_CHANNEL = "Non-blocking channels are not supported.";
+    /***/
+    public static final String BLOCKING_CHANNEL = "blocking channel (at least one byte per read)";
+    /***/
+    public static final String ERR_FORM_DATA_EXCEEDS_MAXIMUM_LENGTH = "URL encoded form data exceeds the maximum length.";
+    /***/
+    public static final String ERR_PAIRS_EXCEED_MAXIMUM = "URL encoded form data exceeds the maximum number of key-value pairs.";
+    /***/
+    public static final String ERR_PAIR_EXCEEDS_MAXIMUM_LENGTH = "URL encoded key-value pair exceeds the maximum length.";
+    /***/
+    public static final String ERR_KEY_EXCEEDS_MAXIMUM_LENGTH = "URL encoded key exceeds the maximum key length.";
+    /***/
+    public static final String ERR_KEY_EXCEEDS_MAXIMUM_DEPTH = "URL encoded key exceeds the maximum nesting depth.";
+    /***/
     public static final String THERE_ARE_NO_ADDITIONAL_PROPERTIES = "There are no additional properties.";
 
     /**
@@ -24,10 +24,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Builder for {@link MarshallerException} and {@link ChainException}
  * Example: {@code throw MarshallerException.builder().errorMessage("message").actualType(value).build()}
+ * The exception message is rendered lazily on the first {@link RuntimeException#getMessage()} call.
  * <p>
  *
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
@@ -38,11 +40,13 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
     /***/
     protected static final String L_DELIMITER = "\n     - ";
     /***/
-    private final StringJoiner additionalInfo = new StringJoiner("\n");
+    private final List<Supplier<String>> additionalInfo = new ArrayList<>();
     /***/
     private String errorMessage = "\n";
     /***/
     private Exception cause = null;
+    /***/
+    private boolean validationError = false;
 
     /**
      * @return heirs of RuntimeException
@@ -65,7 +69,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> targetType(final Type targetType) {
-        this.additionalInfo.add("    Target type: " + value(Type::getTypeName, targetType));
+        addInfo(() -> "    Target type: " + value(Type::getTypeName, targetType));
         return this;
     }
 
@@ -87,7 +91,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> sourceType(final Type sourceType) {
-        this.additionalInfo.add("    Source type: " + value(Type::getTypeName, sourceType));
+        addInfo(() -> "    Source type: " + value(Type::getTypeName, sourceType));
         return this;
     }
 
@@ -108,7 +112,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> actualType(final Type actualType) {
-        this.additionalInfo.add("    Actual type: " + value(Type::getTypeName, actualType));
+        addInfo(() -> "    Actual type: " + value(Type::getTypeName, actualType));
         return this;
     }
 
@@ -119,7 +123,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> expectedType(final Type expectedType) {
-        this.additionalInfo.add("    Expected type: " + value(Type::getTypeName, expectedType));
+        addInfo(() -> "    Expected type: " + value(Type::getTypeName, expectedType));
         return this;
     }
 
@@ -130,7 +134,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> expectedValue(final Object object) {
-        this.additionalInfo.add("    Expected value: " + value(String::valueOf, object));
+        addInfo(() -> "    Expected value: " + value(String::valueOf, object));
         return this;
     }
 
@@ -141,7 +145,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> source(final Object object) {
-        this.additionalInfo.add("    Source: " + value(String::valueOf, object));
+        addInfo(() -> "    Source: " + value(String::valueOf, object));
         return this;
     }
 
@@ -152,7 +156,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> expected(final Object object) {
-        this.additionalInfo.add("    Expected: " + value(String::valueOf, object));
+        addInfo(() -> "    Expected: " + value(String::valueOf, object));
         return this;
     }
 
@@ -163,7 +167,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> expectedHeirsOf(final Type type) {
-        this.additionalInfo.add("    Expected: heirs of " + value(Type::getTypeName, type));
+        addInfo(() -> "    Expected: heirs of " + value(Type::getTypeName, type));
         return this;
     }
 
@@ -184,7 +188,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> model(final Type type) {
-        this.additionalInfo.add("    Model: " + value(Type::getTypeName, type));
+        addInfo(() -> "    Model: " + value(Type::getTypeName, type));
         return this;
     }
 
@@ -195,7 +199,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> annotation(final Class<?> type) {
-        this.additionalInfo.add("    Annotation: @" + value(Class::getSimpleName, type));
+        addInfo(() -> "    Annotation: @" + value(Class::getSimpleName, type));
         return this;
     }
 
@@ -206,7 +210,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> annotationType(final Type type) {
-        this.additionalInfo.add("    Annotation type: " + value(Type::getTypeName, type));
+        addInfo(() -> "    Annotation type: " + value(Type::getTypeName, type));
         return this;
     }
 
@@ -217,12 +221,14 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> fields(final List<Field> fields) {
-        final String prefix = fields == null || fields.isEmpty() ? " <absent>" : L_DELIMITER;
-        final StringJoiner fieldsInfo = new StringJoiner(L_DELIMITER, prefix, "");
-        if (fields != null) {
-            fields.forEach(field -> fieldsInfo.add(value(this::getFieldInfo, field)));
-        }
-        this.additionalInfo.add("    Fields:" + fieldsInfo);
+        addInfo(() -> {
+            final String prefix = fields == null || fields.isEmpty() ? " <absent>" : L_DELIMITER;
+            final StringJoiner fieldsInfo = new StringJoiner(L_DELIMITER, prefix, "");
+            if (fields != null) {
+                fields.forEach(field -> fieldsInfo.add(value(this::getFieldInfo, field)));
+            }
+            return "    Fields:" + fieldsInfo;
+        });
         return this;
     }
 
@@ -233,7 +239,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> field(final Field field) {
-        this.additionalInfo.add("    Field: " + value(this::getFieldInfo, field));
+        addInfo(() -> "    Field: " + value(this::getFieldInfo, field));
         return this;
     }
 
@@ -244,7 +250,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> value(final Object object) {
-        this.additionalInfo.add("    Value: " + value(String::valueOf, object));
+        addInfo(() -> "    Value: " + value(String::valueOf, object));
         return this;
     }
 
@@ -265,7 +271,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> valueType(final Type type) {
-        this.additionalInfo.add("    Value type: " + value(Type::getTypeName, type));
+        addInfo(() -> "    Value type: " + value(Type::getTypeName, type));
         return this;
     }
 
@@ -276,7 +282,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> actual(final Object actual) {
-        this.additionalInfo.add("    Actual: " + value(String::valueOf, actual));
+        addInfo(() -> "    Actual: " + value(String::valueOf, actual));
         return this;
     }
 
@@ -287,7 +293,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> actualValue(final Object object) {
-        this.additionalInfo.add("    Actual value: " + value(String::valueOf, object));
+        addInfo(() -> "    Actual value: " + value(String::valueOf, object));
         return this;
     }
 
@@ -298,7 +304,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> sourceField(final String fieldName) {
-        this.additionalInfo.add("    Source field: " + fieldName);
+        addInfo(() -> "    Source field: " + fieldName);
         return this;
     }
 
@@ -309,14 +315,13 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> sourceValue(final Object sourceValue) {
-        if (sourceValue == null) {
-            this.additionalInfo.add("    Source value: null");
-        } else {
-            final Class<?> aClass = value(Object::getClass, sourceValue);
-            final boolean isArray = value(Class::isArray, aClass);
-            final String value = (isArray ? Arrays.toString((Object[]) sourceValue) : String.valueOf(sourceValue));
-            this.additionalInfo.add("    Source value: " + value);
-        }
+        addInfo(() -> {
+            if (sourceValue == null) {
+                return "    Source value: null";
+            }
+            final boolean isArray = sourceValue instanceof Object[];
+            return "    Source value: " + (isArray ? Arrays.toString((Object[]) sourceValue) : String.valueOf(sourceValue));
+        });
         return this;
     }
 
@@ -327,8 +332,7 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> targetField(final Field field) {
-        final String value = value(this::getFieldInfo, field);
-        this.additionalInfo.add("    Target field: " + value);
+        addInfo(() -> "    Target field: " + value(this::getFieldInfo, field));
         return this;
     }
 
@@ -339,24 +343,66 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return this
      */
     public ExceptionBuilder<E> errorCause(final Exception exception) {
-        final List<Throwable> causes = getNestedCauses(exception);
-        final String message;
-        if (causes.isEmpty()) {
-            message = " <absent>";
-        } else {
+        addInfo(() -> {
+            final List<Throwable> causes = getNestedCauses(exception);
+            if (causes.isEmpty()) {
+                return "    Error cause: <absent>";
+            }
             final StringJoiner stringJoiner = new StringJoiner(L_DELIMITER, L_DELIMITER, "");
             for (Throwable throwable : causes) {
                 final String cMsg = throwable.getMessage();
                 final String cCls = throwable.getClass().getSimpleName();
                 stringJoiner.add(cCls + ": " + cMsg);
             }
-            message = stringJoiner.toString();
-        }
-        this.additionalInfo.add("    Error cause:" + message);
+            return "    Error cause:" + stringJoiner;
+        });
         this.cause = exception;
         return this;
     }
 
+    /**
+     * Add additional info to Exception message in the {@link #errorCause(Exception)} format
+     * for errors detected without an exception (the built exception has no cause).
+     *
+     * @param causeMessage error cause description
+     * @return this
+     */
+    public ExceptionBuilder<E> errorCauseMessage(final String causeMessage) {
+        addInfo(() -> "    Error cause:" + L_DELIMITER + causeMessage);
+        return this;
+    }
+
+    /**
+     * Marks the error as a validation error (invalid URL form data).
+     * The stack trace of the built exception is filled in only if
+     * {@link MarshallerException#isValidationStackTrace()}.
+     *
+     * @return this
+     */
+    public ExceptionBuilder<E> validationError() {
+        this.validationError = true;
+        return this;
+    }
+
+    /**
+     * @return true if the stack trace of the built exception should be filled in
+     */
+    public boolean isWritableStackTrace() {
+        return !validationError || MarshallerException.isValidationStackTrace();
+    }
+
+    /**
+     * Additional info is rendered lazily ({@link #getMessage()}).
+     * The builder captures the object references, so the objects should not be changed after the exception is thrown.
+     *
+     * @param info additional info line supplier
+     * @return this
+     */
+    protected ExceptionBuilder<E> addInfo(final Supplier<String> info) {
+        this.additionalInfo.add(info);
+        return this;
+    }
+
     /**
      * @return built exception message
      */
@@ -382,7 +428,11 @@ public abstract class ExceptionBuilder<E extends RuntimeException> {
      * @return additional info without error message
      */
     public StringJoiner getAdditionalInfo() {
-        return additionalInfo;
+        final StringJoiner result = new StringJoiner("\n");
+        for (Supplier<String> info : additionalInfo) {
+            result.add(info.get());
+        }
+        return result;
     }
 
     /**
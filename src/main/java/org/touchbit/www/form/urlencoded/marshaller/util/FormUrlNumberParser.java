@@ -0,0 +1,231 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.touchbit.www.form.urlencoded.marshaller.util;
+
+/**
+ * Exception-free number validation.
+ * The scanners report the result with a code ({@link #VALID}, {@link #INVALID}, {@link #OUT_OF_RANGE},
+ * {@link #UNCHECKED}) instead of throwing {@link NumberFormatException},
+ * so the invalid form value ({@code age=abc}) does not create and catch an intermediate exception.
+ * Only ASCII decimal numbers are validated by the scanners.
+ * Other forms accepted by the JDK parsers (non-ASCII digits, hex/octal {@code BigInteger}, etc.)
+ * are reported as {@link #UNCHECKED} and should be parsed by the JDK parser.
+ * <p>
+ * Usage:
+ * <pre><code>
+ *     if (FormUrlNumberParser.checkLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE) == FormUrlNumberParser.VALID) {
+ *         final int result = Integer.parseInt(value); // can not throw NumberFormatException
+ *     }
+ * </code></pre>
+ * <p>
+ *
+ * @author Oleg Shaburov (shaburov.o.a@gmail.com)
+ * Created: 17.10.2026
+ */
+public class FormUrlNumberParser {
+
+    /**
+     * The value is a valid number in the range. The JDK parser will not throw {@link NumberFormatException}.
+     */
+    public static final int VALID = 0;
+    /**
+     * The value is not a number. The JDK parser will throw {@link NumberFormatException}.
+     */
+    public static final int INVALID = 1;
+    /**
+     * The value is a number out of the range. The JDK parser will throw {@link NumberFormatException}.
+     */
+    public static final int OUT_OF_RANGE = 2;
+    /**
+     * The value is not checked by the scanner (for example, contains non-ASCII digits).
+     * The value should be parsed by the JDK parser.
+     */
+    public static final int UNCHECKED = 3;
+    /**
+     * Maximum number of the BigDecimal exponent digits checked by the scanner (int exponent)
+     */
+    private static final int MAX_EXPONENT_DIGITS = 9;
+
+    /**
+     * Utility class. Forbidden instantiation.
+     */
+    private FormUrlNumberParser() {
+    }
+
+    /**
+     * Checks the decimal integer number {@code [+-]?[0-9]+} same as {@link Long#parseLong(String)}
+     * ({@link Integer#parseInt(String)}, {@link Short#parseShort(String)} with the corresponding range).
+     *
+     * @param value not null string value
+     * @param min   minimum value (negative or zero)
+     * @param max   maximum value (positive)
+     * @return {@link #VALID}, {@link #INVALID}, {@link #OUT_OF_RANGE} or {@link #UNCHECKED}
+     */
+    public static int checkLong(final CharSequence value, final long min, final long max) {
+        final int length = value.length();
+        if (length == 0) {
+            return INVALID;
+        }
+        int index = 0;
+        boolean negative = false;
+        final char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return INVALID;
+            }
+            negative = first == '-';
+            index++;
+        }
+        // accumulating negatively (as in Long.parseLong) to handle Long.MIN_VALUE
+        final long limit = negative ? min : -max;
+        final long multiplyLimit = limit / 10;
+        long result = 0;
+        boolean outOfRange = false;
+        for (; index < length; index++) {
+            final char c = value.charAt(index);
+            if (c < '0' || c > '9') {
+                return c < 128 ? INVALID : UNCHECKED;
+            }
+            final int digit = c - '0';
+            if (outOfRange || result < multiplyLimit || result * 10 < limit + digit) {
+                outOfRange = true;
+                continue;
+            }
+            result = result * 10 - digit;
+        }
+        return outOfRange ? OUT_OF_RANGE : VALID;
+    }
+
+    /**
+     * Checks the BigInteger number ({@link org.apache.commons.lang3.math.NumberUtils#createBigInteger(String)}).
+     * {@link #VALID} - decimal number {@code [+-]?[0-9]+} without leading zeros (octal numbers are not checked).
+     * {@link #INVALID} - empty string, string with ASCII chars that can not be a part of a number
+     * or with hexadecimal digits without hexadecimal prefix ({@code 0x}, {@code 0X}, {@code #}).
+     *
+     * @param value not null string value
+     * @return {@link #VALID}, {@link #INVALID} or {@link #UNCHECKED}
+     */
+    public static int checkBigInteger(final CharSequence value) {
+        final int length = value.length();
+        if (length == 0) {
+            return INVALID;
+        }
+        final int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        boolean decimal = start < length && (value.charAt(start) != '0' || length == start + 1);
+        boolean hexDigits = false;
+        boolean hexPrefix = false;
+        boolean unchecked = false;
+        for (int index = start; index < length; index++) {
+            final char c = value.charAt(index);
+            if (isDigit(c)) {
+                continue;
+            }
+            decimal = false;
+            if (c >= 128) {
+                unchecked = true;
+            } else if ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')) {
+                hexDigits = true;
+            } else if (c == 'x' || c == 'X') {
+                hexPrefix |= index > 0 && value.charAt(index - 1) == '0';
+            } else if (c == '#') {
+                hexPrefix = true;
+            } else if (c != '-' && c != '+') {
+                return INVALID;
+            }
+        }
+        if (decimal) {
+            return VALID;
+        }
+        if (unchecked || hexPrefix) {
+            return UNCHECKED;
+        }
+        return hexDigits || start == length ? INVALID : UNCHECKED;
+    }
+
+    /**
+     * Checks the BigDecimal number {@code [+-]?([0-9]+(.[0-9]*)?|.[0-9]+)([eE][+-]?[0-9]{1,9})?}
+     * same as {@link java.math.BigDecimal#BigDecimal(String)}.
+     *
+     * @param value not null string value
+     * @return {@link #VALID}, {@link #INVALID} or {@link #UNCHECKED}
+     */
+    @SuppressWarnings("java:S3776") // does not require decomposition
+    public static int checkBigDecimal(final CharSequence value) {
+        final int length = value.length();
+        int index = 0;
+        if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+            index++;
+        }
+        int digits = 0;
+        while (index < length && isDigit(value.charAt(index))) {
+            index++;
+            digits++;
+        }
+        if (index < length && value.charAt(index) == '.') {
+            index++;
+            while (index < length && isDigit(value.charAt(index))) {
+                index++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return asciiResult(value, index);
+        }
+        if (index < length && (value.charAt(index) == 'e' || value.charAt(index) == 'E')) {
+            index++;
+            if (index < length && (value.charAt(index) == '-' || value.charAt(index) == '+')) {
+                index++;
+            }
+            int exponentDigits = 0;
+            while (index < length && isDigit(value.charAt(index))) {
+                index++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return asciiResult(value, index);
+            }
+            if (exponentDigits > MAX_EXPONENT_DIGITS && index == length) {
+                // long exponent can overflow the scale
+                return UNCHECKED;
+            }
+        }
+        return index == length ? VALID : asciiResult(value, index);
+    }
+
+    /**
+     * @param value not null string value
+     * @param index first unexpected char index
+     * @return {@link #INVALID} if the rest of the value is ASCII, otherwise {@link #UNCHECKED}
+     */
+    protected static int asciiResult(final CharSequence value, final int index) {
+        for (int i = index; i < value.length(); i++) {
+            if (value.charAt(i) >= 128) {
+                return UNCHECKED;
+            }
+        }
+        return INVALID;
+    }
+
+    /**
+     * @param c any char
+     * @return true if char is ASCII decimal digit
+     */
+    protected static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+}
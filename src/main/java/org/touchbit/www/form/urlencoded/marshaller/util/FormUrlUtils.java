@@ -16,21 +16,21 @@
 
 package org.touchbit.www.form.urlencoded.marshaller.util;
 
-import org.apache.commons.lang3.reflect.ConstructorUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlByteSequence;
 import org.touchbit.www.form.urlencoded.marshaller.chain.IChainList;
 import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
 import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedAdditionalProperties;
 import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedField;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlFieldDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
 
-import java.io.UnsupportedEncodingException;
 import java.lang.reflect.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -42,6 +42,32 @@ import static org.touchbit.www.form.urlencoded.marshaller.util.CodecConstant.*;
  */
 public class FormUrlUtils {
 
+    /**
+     * Upper case hex digits for the percent-encoding
+     */
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    /**
+     * ASCII char replacement for the form URL encoding ({@code 0} - char must be percent-encoded).
+     * Same unreserved set as {@link java.net.URLEncoder}: {@code a-z A-Z 0-9 . - * _} and space ({@code +}).
+     */
+    private static final char[] ASCII_ENCODING_TABLE = new char[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ASCII_ENCODING_TABLE[c] = c;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ASCII_ENCODING_TABLE[c] = c;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_ENCODING_TABLE[c] = c;
+        }
+        for (char c : new char[]{'.', '-', '*', '_'}) {
+            ASCII_ENCODING_TABLE[c] = c;
+        }
+        ASCII_ENCODING_TABLE[' '] = '+';
+    }
+
     /**
      * Utility class. Forbidden instantiation.
      */
@@ -72,7 +98,7 @@ public class FormUrlUtils {
             return FieldUtils.readField(object, field.getName(), true);
         } catch (Exception e) {
             throw MarshallerException.builder()
-                    .errorMessage("Unable to raed value from object field.")
+                    .errorMessage("Unable to read value from object field.")
                     .model(object)
                     .field(field)
                     .errorCause(e)
@@ -362,8 +388,8 @@ public class FormUrlUtils {
      * @return true if POJO has field with {@link FormUrlEncodedAdditionalProperties} annotation
      */
     public static boolean hasAdditionalProperty(final Object object) {
-        final Class<?> objClass = object.getClass();
-        return !FieldUtils.getFieldsListWithAnnotation(objClass, FormUrlEncodedAdditionalProperties.class).isEmpty();
+        parameterRequireNonNull(object, OBJECT_PARAMETER);
+        return FormUrlPojoDescriptor.of(object.getClass()).hasAdditionalProperties();
     }
 
     /**
@@ -393,23 +419,74 @@ public class FormUrlUtils {
      */
     public static Map<String, Field> getFormUrlEncodedFieldsMap(final Class<?> aClass) {
         parameterRequireNonNull(aClass, A_CLASS_PARAMETER);
-        return getFormUrlEncodedFields(aClass).stream()
-                .collect(Collectors.toMap(f -> f.getAnnotation(FormUrlEncodedField.class).value(), f -> f));
+        final Map<String, Field> result = new LinkedHashMap<>();
+        FormUrlPojoDescriptor.of(aClass).getFields().forEach(d -> result.put(d.getName(), d.getField()));
+        return result;
     }
 
     /**
      * @param aClass POJO class
      * @return fields with annotation {@link FormUrlEncodedField} (not static and not transient)
+     * @see FormUrlPojoDescriptor#getFields()
      */
     public static List<Field> getFormUrlEncodedFields(final Class<?> aClass) {
         parameterRequireNonNull(aClass, A_CLASS_PARAMETER);
-        return FieldUtils.getFieldsListWithAnnotation(aClass, FormUrlEncodedField.class).stream()
-                .filter(f -> !f.getAnnotation(FormUrlEncodedField.class).value().trim().isEmpty())
-                .filter(f -> !Modifier.isTransient(f.getModifiers()))
-                .filter(f -> !Modifier.isStatic(f.getModifiers()))
+        return FormUrlPojoDescriptor.of(aClass).getFields().stream()
+                .map(FormUrlFieldDescriptor::getField)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * @param aClass POJO class
+     * @return declared field annotated with {@link FormUrlEncodedAdditionalProperties} or null
+     * @throws MarshallerException if aClass parameter is null
+     * @throws MarshallerException if additionalProperties fields more than one
+     * @throws MarshallerException if additionalProperties type != {@code Map<String, Object>}
+     */
+    public static Field getAdditionalPropertiesField(final Class<?> aClass) {
+        parameterRequireNonNull(aClass, A_CLASS_PARAMETER);
+        final List<Field> additionalProperties = Arrays.stream(aClass.getDeclaredFields())
+                .filter(f -> f.isAnnotationPresent(FormUrlEncodedAdditionalProperties.class))
+                .collect(Collectors.toList());
+        if (additionalProperties.size() > 1) {
+            throw MarshallerException.builder()
+                    .errorMessage("POJO contains more than one annotated fields.")
+                    .model(aClass)
+                    .annotation(FormUrlEncodedAdditionalProperties.class)
+                    .annotationType(FormUrlEncodedAdditionalProperties.class)
+                    .fields(additionalProperties)
+                    .expected("one annotated field")
+                    .build();
+        }
+        if (additionalProperties.isEmpty()) {
+            return null;
+        }
+        final Field additionalProperty = additionalProperties.get(0);
+        final Type type = additionalProperty.getGenericType();
+        final boolean isParameterizedType = type instanceof ParameterizedType;
+        final boolean isMap = Map.class.isAssignableFrom(additionalProperty.getType());
+        final boolean isValidTypeArguments;
+        if (isParameterizedType && isMap) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            final Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+            final Type keyType = actualTypeArguments[0];
+            final Type valueType = actualTypeArguments[1];
+            isValidTypeArguments = keyType == String.class && valueType == Object.class;
+        } else {
+            isValidTypeArguments = false;
+        }
+        if (!isParameterizedType || !isMap || !isValidTypeArguments) {
+            throw MarshallerException.builder()
+                    .errorMessage("Invalid additional properties field type")
+                    .model(aClass)
+                    .field(additionalProperty)
+                    .actualType(type)
+                    .expected("java.util.Map<java.lang.String, java.lang.Object>")
+                    .build();
+        }
+        return additionalProperty;
+    }
+
     /**
      * @param object nullable object
      * @return true if object instanceof simple java data type (String, Integer, etc.)
@@ -446,6 +523,27 @@ public class FormUrlUtils {
         return false;
     }
 
+    /**
+     * @param type nullable object type
+     * @return true if type is a supported primitive type (int, long, short, double, float, boolean)
+     */
+    public static boolean isPrimitive(final Type type) {
+        return type == int.class ||
+               type == long.class ||
+               type == short.class ||
+               type == double.class ||
+               type == float.class ||
+               type == boolean.class;
+    }
+
+    /**
+     * @param type nullable object type
+     * @return true if type is an array of supported primitive type ({@code int[]}, {@code long[]}, etc.)
+     */
+    public static boolean isPrimitiveArray(final Type type) {
+        return isArray(type) && isPrimitive(((Class<?>) type).getComponentType());
+    }
+
     /**
      * @param object nullable {@link Field} or {@link ParameterizedType} or {@link Type} or {@link Class}
      * @return true if the object or field type is a collection and contains simple types {@code ["foo", "bar"]}
@@ -543,50 +641,211 @@ public class FormUrlUtils {
      * @return new instance of the class
      * @throws MarshallerException on instantiation errors
      */
+    @SuppressWarnings("unchecked")
     public static <M> M invokeConstructor(final Class<M> modelClass) {
-        try {
-            return ConstructorUtils.invokeConstructor(modelClass);
-        } catch (Exception e) {
-            throw MarshallerException.builder()
-                    .errorMessage("Unable to instantiate model class.")
-                    .sourceType(modelClass)
-                    .errorCause(e)
-                    .build();
-        }
+        parameterRequireNonNull(modelClass, MODEL_CLASS_PARAMETER);
+        return (M) FormUrlPojoDescriptor.of(modelClass).newInstance();
     }
 
     /**
+     * Byte-for-byte compatible with {@link java.net.URLEncoder#encode(String, String)}.
+     * ASCII chars are encoded by the lookup table, the charset is used only for the chars
+     * that cannot be encoded by the table (non-ASCII or any chars for non ASCII-compatible charsets).
+     *
      * @param value         form URL decoded string
      * @param codingCharset URL form data coding charset
-     * @return form URL encoded string
+     * @return form URL encoded string (the same instance if the value does not contain chars to encode)
      * @throws MarshallerException if value is null
-     * @throws MarshallerException cannot be thrown since the configuration operates on an {@link java.nio.charset.Charset} class.
+     * @throws MarshallerException if codingCharset is null
      */
     public static String encode(final String value, final Charset codingCharset) {
         FormUrlUtils.parameterRequireNonNull(value, VALUE_PARAMETER);
         FormUrlUtils.parameterRequireNonNull(codingCharset, CODING_CHARSET_PARAMETER);
-        try {
-            return URLEncoder.encode(value, codingCharset.name());
-        } catch (UnsupportedEncodingException e) {
-            throw new MarshallerException("Unexpected error", e);
+        final int length = value.length();
+        int i = 0;
+        while (i < length && isUnreservedChar(value.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return value;
+        }
+        final boolean asciiCompatible = isAsciiCompatible(codingCharset);
+        final StringBuilder result = new StringBuilder(length + 16).append(value, 0, i);
+        while (i < length) {
+            final char c = value.charAt(i);
+            if (c < 128 && ASCII_ENCODING_TABLE[c] != 0) {
+                result.append(ASCII_ENCODING_TABLE[c]);
+                i++;
+            } else if (c < 128 && asciiCompatible) {
+                appendPercentEncoded(result, c);
+                i++;
+            } else {
+                // URLEncoder encodes all consecutive reserved chars at once (matters for the BOM and stateful charsets)
+                int end = i + 1;
+                while (end < length && isEncodedByCharset(value.charAt(end), asciiCompatible)) {
+                    end++;
+                }
+                for (byte b : value.substring(i, end).getBytes(codingCharset)) {
+                    appendPercentEncoded(result, b);
+                }
+                i = end;
+            }
         }
+        return result.toString();
+    }
+
+    /**
+     * @param c any char
+     * @return true if the char is not changed by the form URL encoding
+     */
+    private static boolean isUnreservedChar(final char c) {
+        return c != 0 && c < 128 && ASCII_ENCODING_TABLE[c] == c;
+    }
+
+    /**
+     * @param c               any char
+     * @param asciiCompatible true if the coding charset encodes ASCII chars to the same single bytes
+     * @return true if the char must be encoded by the coding charset
+     */
+    private static boolean isEncodedByCharset(final char c, final boolean asciiCompatible) {
+        return c >= 128 || (!asciiCompatible && ASCII_ENCODING_TABLE[c] == 0);
+    }
+
+    /**
+     * @param charset URL form data coding charset
+     * @return true if the charset is stateless and encodes ASCII chars to the same single bytes
+     */
+    private static boolean isAsciiCompatible(final Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) ||
+               StandardCharsets.ISO_8859_1.equals(charset) ||
+               StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    /**
+     * @param result form URL encoded string builder
+     * @param b      encoded byte
+     */
+    private static void appendPercentEncoded(final StringBuilder result, final int b) {
+        result.append('%').append(HEX_DIGITS[(b >> 4) & 0x0F]).append(HEX_DIGITS[b & 0x0F]);
     }
 
     /**
      * @param value         form URL encoded string
      * @param codingCharset URL form data coding charset
-     * @return form URL decoded string
+     * @return form URL decoded string (the same instance if the value does not contain {@code %} and {@code +} chars)
      * @throws MarshallerException if value is null
-     * @throws MarshallerException cannot be thrown since the configuration operates on an {@link java.nio.charset.Charset} class.
+     * @throws MarshallerException if codingCharset is null
+     * @throws MarshallerException if value contains a malformed escape (%) pattern
      */
     public static String decode(final Object value, final Charset codingCharset) {
         FormUrlUtils.parameterRequireNonNull(value, VALUE_PARAMETER);
+        final String source = value.toString();
+        return decode(source, 0, source.length(), codingCharset);
+    }
+
+    /**
+     * Decodes the source substring without copying the raw (encoded) value.
+     * Same rules as {@link java.net.URLDecoder}: {@code +} is a space,
+     * consecutive {@code %XX} escapes are the bytes of the coding charset.
+     * For the {@link FormUrlByteSequence} source raw non-ASCII bytes are also decoded with the coding charset.
+     *
+     * @param source        form URL encoded string
+     * @param start         encoded value begin index (inclusive)
+     * @param end           encoded value end index (exclusive)
+     * @param codingCharset URL form data coding charset
+     * @return form URL decoded string
+     * @throws MarshallerException if source is null
+     * @throws MarshallerException if codingCharset is null
+     * @throws MarshallerException if value contains a malformed escape (%) pattern
+     */
+    public static String decode(final CharSequence source, final int start, final int end, final Charset codingCharset) {
+        FormUrlUtils.parameterRequireNonNull(source, VALUE_PARAMETER);
         FormUrlUtils.parameterRequireNonNull(codingCharset, CODING_CHARSET_PARAMETER);
-        try {
-            return URLDecoder.decode(value.toString(), codingCharset.name());
-        } catch (UnsupportedEncodingException e) {
-            throw new MarshallerException("Unexpected error", e);
+        int i = start;
+        while (i < end && source.charAt(i) != '%' && source.charAt(i) != '+') {
+            i++;
+        }
+        if (i == end) {
+            if (source instanceof String && start == 0 && end == source.length()) {
+                return (String) source;
+            }
+            return source.subSequence(start, end).toString();
+        }
+        final boolean rawBytes = source instanceof FormUrlByteSequence;
+        final StringBuilder result = new StringBuilder(end - start);
+        if (rawBytes) {
+            // raw non-ASCII bytes of the prefix are decoded in the loop
+            i = start;
+        } else {
+            result.append(source, start, i);
+        }
+        // escaped (and raw non-ASCII) bytes buffer, enough for the rest of the value
+        final byte[] bytes = new byte[rawBytes ? end - i : (end - i) / 3];
+        while (i < end) {
+            final char c = source.charAt(i);
+            if (c == '+') {
+                result.append(' ');
+                i++;
+            } else if (c == '%' || (rawBytes && c >= 128)) {
+                int count = 0;
+                while (i < end) {
+                    final char b = source.charAt(i);
+                    if (b == '%') {
+                        bytes[count++] = (byte) parseEscape(source, start, end, i);
+                        i += 3;
+                    } else if (rawBytes && b >= 128) {
+                        bytes[count++] = (byte) b;
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                result.append(new String(bytes, 0, count, codingCharset));
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * @param source form URL encoded string
+     * @param start  encoded value begin index (inclusive)
+     * @param end    encoded value end index (exclusive)
+     * @param index  escape (%) index
+     * @return escaped byte value
+     * @throws MarshallerException if value contains a malformed escape (%) pattern
+     */
+    private static int parseEscape(final CharSequence source, final int start, final int end, final int index) {
+        final int high = index + 2 < end ? hexDigit(source.charAt(index + 1)) : -1;
+        final int low = index + 2 < end ? hexDigit(source.charAt(index + 2)) : -1;
+        if (high < 0 || low < 0) {
+            throw MarshallerException.builder()
+                    .errorMessage("URL encoded value contains a malformed escape (%) pattern.")
+                    .validationError()
+                    .actual(source.subSequence(start, end))
+                    .expected("%XX, where XX is a hexadecimal byte value")
+                    .build();
+        }
+        return (high << 4) + low;
+    }
+
+    /**
+     * @param c any char
+     * @return hexadecimal digit value or -1 if the char is not a hexadecimal digit
+     */
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
         }
+        return -1;
     }
 
     /**
@@ -16,12 +16,33 @@
 
 package org.touchbit.www.form.urlencoded.marshaller.util;
 
+import java.util.function.Supplier;
+
 /**
  * @author Oleg Shaburov (shaburov.o.a@gmail.com)
  * Created: 18.02.2022
  */
 public class MarshallerException extends RuntimeException {
 
+    /**
+     * System property to disable stack traces of the validation errors (invalid URL form data).
+     * Example: {@code -Dform.urlencoded.marshaller.validation.stacktrace=false}
+     */
+    public static final String VALIDATION_STACKTRACE_PROPERTY = "form.urlencoded.marshaller.validation.stacktrace";
+    /**
+     * Stack trace of the validation errors is filled in (true by default)
+     */
+    private static volatile boolean validationStackTrace =
+            !"false".equalsIgnoreCase(System.getProperty(VALIDATION_STACKTRACE_PROPERTY));
+    /**
+     * Lazy exception message (rendered and released on the first {@link #getMessage()} call)
+     */
+    private transient Supplier<String> messageSupplier;
+    /**
+     * Rendered lazy exception message
+     */
+    private String lazyMessage;
+
     /**
      * Constructs a new runtime exception with the specified detail message.
      * The cause is not initialized, and may subsequently be initialized by a call to initCause.
@@ -45,6 +66,61 @@ public class MarshallerException extends RuntimeException {
         super(message, t);
     }
 
+    /**
+     * Constructs a new runtime exception with the lazy detail message.
+     * The message is rendered on the first {@link #getMessage()} call,
+     * so the rejected request does not pay for the message if the exception is only caught.
+     *
+     * @param messageSupplier    the detail message supplier
+     * @param t                  the cause (nullable)
+     * @param writableStackTrace whether or not the stack trace should be writable (filled in)
+     */
+    public MarshallerException(Supplier<String> messageSupplier, Throwable t, boolean writableStackTrace) {
+        super(null, t, true, writableStackTrace);
+        this.messageSupplier = messageSupplier;
+    }
+
+    /**
+     * @return the detail message (lazy message is rendered once)
+     */
+    @Override
+    public synchronized String getMessage() {
+        if (messageSupplier != null) {
+            lazyMessage = messageSupplier.get();
+            messageSupplier = null;
+        }
+        return lazyMessage == null ? super.getMessage() : lazyMessage;
+    }
+
+    /**
+     * The lazy message is rendered before serialization
+     *
+     * @param out object output stream
+     * @throws java.io.IOException if I/O errors occur
+     */
+    private void writeObject(final java.io.ObjectOutputStream out) throws java.io.IOException {
+        getMessage();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * @return true if the stack trace of the validation errors is filled in
+     */
+    public static boolean isValidationStackTrace() {
+        return validationStackTrace;
+    }
+
+    /**
+     * Validation errors (invalid URL form data) are thrown without stack trace if disabled.
+     * Use it if the rejected requests are expected (for example, the service returns HTTP 400).
+     * Default value: {@link #VALIDATION_STACKTRACE_PROPERTY} system property or true.
+     *
+     * @param enabled false - validation errors are thrown without stack trace
+     */
+    public static void setValidationStackTrace(final boolean enabled) {
+        validationStackTrace = enabled;
+    }
+
     /**
      * @return instance of {@link ExceptionBuilder}
      */
@@ -53,7 +129,7 @@ public class MarshallerException extends RuntimeException {
         return new ExceptionBuilder<MarshallerException>() {
             @Override
             public MarshallerException build() {
-                return new MarshallerException(getMessage(), getCause());
+                return new MarshallerException(this::getMessage, getCause(), isWritableStackTrace());
             }
         };
     }
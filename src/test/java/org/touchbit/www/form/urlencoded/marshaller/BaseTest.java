@@ -2,6 +2,7 @@ package org.touchbit.www.form.urlencoded.marshaller;
 
 import org.touchbit.www.form.urlencoded.marshaller.chain.IChainList;
 import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+import qa.model.LittlePojo;
 import qa.model.MapPojo;
 import qa.model.Pojo;
 import qa.util.ThrowableAsserter;
@@ -105,6 +106,30 @@ public class BaseTest {
         return map;
     }
 
+    /**
+     * Models covering all marshalling paths (Map, POJO, generated codec, additional properties, non-ASCII)
+     */
+    protected static List<Object> marshalModels() {
+        final MapPojo mapPojo = mapPojo().string("field").nestedMapPojo(mapPojo().string(DECODED));
+        mapPojo.put("string", "entry");
+        mapPojo.put("ключ", DECODED);
+        mapPojo.put("foo", mapOf("bar", arrayOf(1, 2), "car", listOf("a b", null)));
+        return Arrays.asList(
+                mapOf(),
+                mapOf("foo", "bar", "empty", null, "list", listOf(1, 2, 3)),
+                mapOf("foo", mapOf("bar", arrayOf(1, 2), "car", mapOf("tar", listOf(listOf("a"), listOf("b"))))),
+                mapOf("ключ", mapOf("bar", arrayOf(DECODED, "a b"), "car", listOf("😀", null))),
+                mapOf("long", String.join("", Collections.nCopies(100, DECODED + "x"))),
+                new LittlePojo().foo(DECODED),
+                new LittlePojo().foo(DECODED).barEncoded(ENCODED),
+                new LittlePojo().foo("a").barEncoded(DECODED + "😀" + DECODED),
+                pojo().string("a&b=c").integer(1).listString(listOf("x", "y")).arrayInteger(arrayOf(1, null, 3)),
+                pojo().nestedPojo(pojo().arrayString(arrayOf("s1", "s2")).mapObject(mapOf("k", "v"))),
+                pojo().string("foo").additionalProperties(mapOf("string", "bar", "ap", listOf("1", "2"))),
+                pojo().additionalProperties(mapOf("nested", pojo().additionalProperties(mapOf("foo", "bar")))),
+                mapPojo);
+    }
+
     protected static MapPojo mapPojo() {
         return new MapPojo();
     }
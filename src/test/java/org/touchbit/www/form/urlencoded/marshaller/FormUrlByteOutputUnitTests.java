@@ -0,0 +1,165 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlByteOutput.class unit tests")
+public class FormUrlByteOutputUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792277010101() {
+            assertRequired(() -> new FormUrlByteOutput((OutputStream) null, UTF_8), "outputStream");
+            assertRequired(() -> new FormUrlByteOutput(new ByteArrayOutputStream(), null), "codingCharset");
+            assertRequired(() -> new FormUrlByteOutput((WritableByteChannel) null, UTF_8), "channel");
+            final WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+            assertRequired(() -> new FormUrlByteOutput(channel, null), "codingCharset");
+            assertRequired(() -> new FormUrlMarshaller().marshal(null, new ByteArrayOutputStream()), "model");
+            assertRequired(() -> new FormUrlMarshaller().marshal(pojo(), (OutputStream) null), "outputStream");
+            assertRequired(() -> new FormUrlMarshaller().marshal(pojo(), (WritableByteChannel) null), "channel");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if buffer size is less than 16")
+        public void test1792277010102() {
+            assertThrow(() -> new FormUrlByteOutput(new ByteArrayOutputStream(), UTF_8, 15))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Buffer size is too small.\n" +
+                                     "    Actual: 15\n" +
+                                     "    Expected: size >= 16\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#marshal() to OutputStream and WritableByteChannel method tests")
+    public class MarshalMethodTests {
+
+        @Test
+        @DisplayName("Bytes are identical to the #marshal() string bytes")
+        public void test1792277010201() throws IOException {
+            for (Charset charset : Arrays.asList(UTF_8, ISO_8859_1, Charset.forName("windows-1251"))) {
+                final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withFormUrlCodingCharset(charset));
+                for (Object model : marshalModels()) {
+                    final byte[] expected = marshaller.marshal(model).getBytes(charset);
+                    final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                    marshaller.marshal(model, stream);
+                    assertThat(stream.toByteArray()).as(charset + ": " + model).isEqualTo(expected);
+                    final ByteArrayOutputStream channelStream = new ByteArrayOutputStream();
+                    marshaller.marshal(model, Channels.newChannel(channelStream));
+                    assertThat(channelStream.toByteArray()).as(charset + ": " + model).isEqualTo(expected);
+                    final ByteArrayOutputStream smallBuffer = new ByteArrayOutputStream();
+                    final FormUrlByteOutput output = new FormUrlByteOutput(smallBuffer, charset, 16);
+                    new FormUrlWriter(marshaller, output).write(model);
+                    output.flush();
+                    assertThat(smallBuffer.toByteArray()).as(charset + ": " + model).isEqualTo(expected);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Surrogate pair split between appends is encoded as one char")
+        public void test1792277010202() throws IOException {
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            new FormUrlByteOutput(stream, UTF_8).append("a\uD83D").append('\uDE00').append("b", 0, 1).flush();
+            assertThat(stream.toByteArray()).isEqualTo("a😀b".getBytes(UTF_8));
+        }
+
+        @Test
+        @DisplayName("MarshallerException if an I/O error occurs")
+        public void test1792277010203() {
+            final OutputStream stream = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Broken stream for test");
+                }
+            };
+            assertThrow(() -> new FormUrlMarshaller().marshal(mapOf("foo", "bar"), stream))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unable to write URL form data.\n" +
+                                     "    Error cause:\n" +
+                                     "     - IOException: Broken stream for test\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#release() method tests")
+    public class ReleaseMethodTests {
+
+        @Test
+        @DisplayName("Released buffers are reused with another coding charset, not flushed bytes are discarded")
+        public void test1792277010301() throws IOException {
+            final ByteArrayOutputStream discarded = new ByteArrayOutputStream();
+            final FormUrlByteOutput released = new FormUrlByteOutput(discarded, UTF_8).append("a=ä");
+            released.release();
+            released.release();
+            assertIs(discarded.size(), 0);
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            final FormUrlByteOutput output = new FormUrlByteOutput(stream, ISO_8859_1).append("a=ä");
+            output.flush();
+            output.release();
+            assertThat(stream.toByteArray()).isEqualTo("a=ä".getBytes(ISO_8859_1));
+        }
+
+        @Test
+        @DisplayName("Outputs created before the release do not share buffers")
+        public void test1792277010302() throws IOException {
+            final ByteArrayOutputStream stream1 = new ByteArrayOutputStream();
+            final ByteArrayOutputStream stream2 = new ByteArrayOutputStream();
+            final FormUrlByteOutput output1 = new FormUrlByteOutput(stream1, UTF_8);
+            final FormUrlByteOutput output2 = new FormUrlByteOutput(stream2, UTF_8);
+            new FormUrlByteOutput(new ByteArrayOutputStream(), UTF_8).release();
+            final ByteArrayOutputStream stream3 = new ByteArrayOutputStream();
+            final FormUrlByteOutput output3 = new FormUrlByteOutput(stream3, UTF_8);
+            output1.append("a=1");
+            output2.append("b=ф");
+            output3.append("c=3");
+            output1.flush();
+            output2.flush();
+            output3.flush();
+            assertIs(new String(stream1.toByteArray(), UTF_8), "a=1");
+            assertIs(new String(stream2.toByteArray(), UTF_8), "b=ф");
+            assertIs(new String(stream3.toByteArray(), UTF_8), "c=3");
+        }
+
+        @Test
+        @DisplayName("Nested #marshal() calls to the OutputStream in one thread")
+        public void test1792277010303() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            final ByteArrayOutputStream inner = new ByteArrayOutputStream();
+            final OutputStream outer = new ByteArrayOutputStream() {
+                @Override
+                public synchronized void write(byte[] b, int off, int len) {
+                    if (inner.size() == 0) {
+                        marshaller.marshal(mapOf("inner", "ф"), inner);
+                    }
+                    super.write(b, off, len);
+                }
+            };
+            marshaller.marshal(mapOf("outer", "ф"), outer);
+            assertIs(new String(inner.toByteArray(), UTF_8), "inner=%D1%84");
+            assertIs(outer.toString(), "outer=%D1%84");
+        }
+
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.LittlePojo;
+import qa.model.MapPojo;
+import qa.model.Pojo;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.touchbit.www.form.urlencoded.marshaller.NullValueRule.RULE_EMPTY_STRING;
+
+@SuppressWarnings("rawtypes")
+@DisplayName("FormUrlCodec.class unit tests")
+public class FormUrlCodecUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792284010101() {
+            assertRequired(() -> new FormUrlMarshaller().readerFor(null), "modelClass");
+            assertRequired(() -> new FormUrlMarshaller().writerFor(null), "modelClass");
+            assertRequired(() -> new FormUrlCodec<>(null, Pojo.class), "marshaller");
+            final FormUrlCodec<Pojo> codec = new FormUrlMarshaller().readerFor(Pojo.class);
+            assertRequired(() -> codec.read((String) null), "encodedString");
+            assertRequired(() -> codec.read((byte[]) null), "bytes");
+            assertRequired(() -> codec.write(null), "model");
+            assertRequired(() -> codec.write(pojo(), null), "appendable");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if model class is not POJO or Map")
+        public void test1792284010102() {
+            assertThrow(() -> new FormUrlMarshaller().readerFor(String.class))
+                    .assertClass(MarshallerException.class);
+            assertThrow(() -> new FormUrlMarshaller().writerFor(Object.class))
+                    .assertClass(MarshallerException.class);
+        }
+
+        @Test
+        @DisplayName("Codec is bound to the marshaller configuration at the creation time")
+        @SuppressWarnings("deprecation")
+        public void test1792284010103() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            final FormUrlCodec<LittlePojo> codec = marshaller.writerFor(LittlePojo.class);
+            marshaller.setNullValueRule(RULE_EMPTY_STRING).setFormUrlCodingCharset(UTF_16);
+            assertThat(codec.getConfig()).isSameAs(FormUrlConfig.DEFAULT);
+            assertIs(codec.getModelClass(), LittlePojo.class);
+            assertThat(codec.write(new LittlePojo())).isEmpty();
+            assertThat(codec.write(new LittlePojo().foo(DECODED))).isEqualTo("foo=" + ENCODED);
+            assertThat(marshaller.writerFor(LittlePojo.class).write(new LittlePojo())).isEqualTo("foo=&bar=");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Read/write tests")
+    public class ReadWriteTests {
+
+        @Test
+        @DisplayName("POJO read/write is equal to the marshaller unmarshal/marshal")
+        public void test1792284020101() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList());
+            final FormUrlCodec<Pojo> codec = marshaller.readerFor(Pojo.class);
+            for (String input : Arrays.asList("", "string=" + ENCODED + "&integer=1",
+                    "nestedPojo[string]=a&listString[0]=x&listString[1]=y&extra=" + ENCODED,
+                    "listListString[0][0]=a&listListString[1][]=b&mapObject[a][b]=c",
+                    "string=a&nestedPojo[listString][0][x]=b&extra=c&nestedPojo[integer]=2")) {
+                final String expected = marshaller.marshal(marshaller.unmarshal(Pojo.class, input));
+                assertThat(codec.write(codec.read(input))).as(input).isEqualTo(expected);
+                assertThat(codec.write(codec.read(input.getBytes(UTF_8)))).as(input).isEqualTo(expected);
+                assertThat(codec.write(codec.read(input), new StringWriter()).toString()).as(input)
+                        .isEqualTo(expected);
+            }
+        }
+
+        @Test
+        @DisplayName("Map and POJO Map read/write")
+        public void test1792284020102() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            final FormUrlCodec<HashMap> mapCodec = marshaller.readerFor(HashMap.class);
+            final HashMap map = mapCodec.read("foo=bar&car[0]=1&car[1]=2");
+            assertIs(map, mapOf("foo", "bar", "car", listOf("1", "2")));
+            assertThat(mapCodec.write(map)).isEqualTo(marshaller.marshal(map));
+            final FormUrlCodec<MapPojo> mapPojoCodec = marshaller.writerFor(MapPojo.class);
+            final MapPojo mapPojo = mapPojoCodec.read("string=foo&extra=bar");
+            assertIs(mapPojo.string(), "foo");
+            assertThat(mapPojoCodec.write(mapPojo))
+                    .isEqualTo(marshaller.marshal(marshaller.unmarshal(MapPojo.class, "string=foo&extra=bar")))
+                    .contains("extra=bar");
+        }
+
+        @Test
+        @DisplayName("Additional properties are prohibited by the codec configuration")
+        public void test1792284020103() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT
+                    .withProhibitAdditionalProperties(true));
+            final FormUrlCodec<LittlePojo> codec = marshaller.readerFor(LittlePojo.class);
+            assertIs(codec.read("foo=bar").foo(), "bar");
+            assertThrow(() -> codec.read("foo=bar&extra=car")).assertClass(MarshallerException.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,168 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlLimits;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.LittlePojo;
+import qa.model.Pojo;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.touchbit.www.form.urlencoded.marshaller.NullValueRule.*;
+
+@DisplayName("FormUrlConfig.class unit tests")
+public class FormUrlConfigUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Settings tests")
+    public class SettingsTests {
+
+        @Test
+        @DisplayName("Default settings")
+        public void test1792283010101() {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT;
+            assertIs(config.getFormUrlCodingCharset(), UTF_8);
+            assertTrue(config.isHiddenList());
+            assertFalse(config.isImplicitList());
+            assertFalse(config.isExplicitList());
+            assertIs(config.getNullValueRule(), RULE_IGNORE);
+            assertFalse(config.isProhibitAdditionalProperties());
+            assertIs(config.getMaxListIndex(), FormUrlLimits.DEFAULT_MAX_LIST_INDEX);
+            assertThat(new FormUrlMarshaller().getConfig()).isSameAs(FormUrlConfig.DEFAULT);
+        }
+
+        @Test
+        @DisplayName("withX methods return a modified copy and do not change the source configuration")
+        public void test1792283010102() {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT
+                    .withFormUrlCodingCharset(UTF_16)
+                    .withImplicitList()
+                    .withNullValueRule(RULE_EMPTY_STRING)
+                    .withProhibitAdditionalProperties(true)
+                    .withMaxListIndex(10);
+            assertIs(config.getFormUrlCodingCharset(), UTF_16);
+            assertTrue(config.isImplicitList());
+            assertIs(config.getNullValueRule(), RULE_EMPTY_STRING);
+            assertTrue(config.isProhibitAdditionalProperties());
+            assertIs(config.getMaxListIndex(), 10);
+            assertTrue(config.withExplicitList().isExplicitList());
+            assertFalse(config.withExplicitList().isImplicitList());
+            assertTrue(config.withHiddenList().isHiddenList());
+            assertTrue(config.isImplicitList());
+            assertIs(FormUrlConfig.DEFAULT.getFormUrlCodingCharset(), UTF_8);
+            assertTrue(FormUrlConfig.DEFAULT.isHiddenList());
+            assertIs(FormUrlConfig.DEFAULT.getNullValueRule(), RULE_IGNORE);
+            assertFalse(FormUrlConfig.DEFAULT.isProhibitAdditionalProperties());
+            assertIs(FormUrlConfig.DEFAULT.getMaxListIndex(), FormUrlLimits.DEFAULT_MAX_LIST_INDEX);
+        }
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792283010103() {
+            assertRequired(() -> FormUrlConfig.DEFAULT.withFormUrlCodingCharset(null), "codingCharset");
+            assertRequired(() -> FormUrlConfig.DEFAULT.withNullValueRule(null), "nullValueRule");
+            assertRequired(() -> FormUrlConfig.DEFAULT.getPojoPlan(null), "modelClass");
+            assertRequired(() -> new FormUrlMarshaller(null), "config");
+            assertThrow(() -> FormUrlConfig.DEFAULT.withMaxListIndex(-1))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Maximum list index must not be negative.\n" +
+                                     "    Actual: -1\n" +
+                                     "    Expected: value >= 0\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("POJO plan tests")
+    public class PojoPlanTests {
+
+        @Test
+        @DisplayName("Plan is compiled once per configuration")
+        public void test1792283020101() {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withNullValueRule(RULE_NULL_STRING);
+            final FormUrlPojoPlan plan = config.getPojoPlan(LittlePojo.class);
+            assertThat(config.getPojoPlan(LittlePojo.class)).isSameAs(plan);
+            assertThat(plan.getDescriptor()).isSameAs(FormUrlPojoDescriptor.of(LittlePojo.class));
+            assertThat(FormUrlConfig.DEFAULT.getPojoPlan(LittlePojo.class)).isNotSameAs(plan);
+            assertIs(plan.getFieldValue(new LittlePojo(), 0), "null");
+            assertIs(FormUrlConfig.DEFAULT.getPojoPlan(LittlePojo.class).getFieldValue(new LittlePojo(), 0), null);
+        }
+
+        @Test
+        @DisplayName("Differently configured marshallers do not interfere")
+        public void test1792283020102() throws Exception {
+            final FormUrlMarshaller empty = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withNullValueRule(RULE_EMPTY_STRING));
+            final FormUrlMarshaller marker = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withNullValueRule(RULE_NULL_MARKER));
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                final List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    results.add(executor.submit(() -> "foo=&bar=".equals(empty.marshal(new LittlePojo()))));
+                    results.add(executor.submit(() -> "foo=%00&bar=%00".equals(marker.marshal(new LittlePojo()))));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Marshaller setters replace the configuration with a copy")
+        @SuppressWarnings("deprecation")
+        public void test1792283020103() {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withExplicitList();
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(config);
+            assertThat(marshaller.getConfig()).isSameAs(config);
+            marshaller.setNullValueRule(RULE_NULL_STRING).enableImplicitList();
+            assertIs(marshaller.getConfig().getNullValueRule(), RULE_NULL_STRING);
+            assertTrue(marshaller.getConfig().isImplicitList());
+            assertIs(config.getNullValueRule(), RULE_IGNORE);
+            assertTrue(config.isExplicitList());
+            assertThat(marshaller.marshal(new LittlePojo())).isEqualTo("foo=null&bar=null");
+            assertThat(new FormUrlMarshaller(config).marshal(new LittlePojo())).isEmpty();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Type converter cache tests")
+    public class TypeConverterCacheTests {
+
+        @Test
+        @DisplayName("Converter is compiled once per configuration and target type")
+        public void test1792283030101() throws Exception {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withExplicitList();
+            final Type listOfPojo = Pojo.class.getDeclaredField("listPojo").getGenericType();
+            assertThat(config.getTypeConverter(Integer.class)).isSameAs(config.getTypeConverter(Integer.class));
+            assertThat(config.getTypeConverter(listOfPojo)).isSameAs(config.getTypeConverter(listOfPojo));
+            assertThat(FormUrlConfig.DEFAULT.getTypeConverter(listOfPojo)).isNotSameAs(config.getTypeConverter(listOfPojo));
+        }
+
+        @Test
+        @DisplayName("Generic type converter is stored with the first application class of the type")
+        public void test1792283030102() throws Exception {
+            final Type listOfPojo = Pojo.class.getDeclaredField("listPojo").getGenericType();
+            final Type mapOfObject = Pojo.class.getDeclaredField("mapObject").getGenericType();
+            assertIs(FormUrlConfig.getAnchorClass(listOfPojo), Pojo.class);
+            assertIs(FormUrlConfig.getAnchorClass(mapOfObject), Object.class);
+            assertIs(FormUrlConfig.getAnchorClass(Pojo[][].class), Pojo.class);
+            assertIs(FormUrlConfig.getAnchorClass(Map.class), Object.class);
+        }
+
+    }
+
+}
@@ -3,13 +3,23 @@ package org.touchbit.www.form.urlencoded.marshaller;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlChannelTokenizer;
+import org.touchbit.www.form.urlencoded.marshaller.chain.FormUrlLimits;
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChain;
+import org.touchbit.www.form.urlencoded.marshaller.chain.IChainList;
 import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
 import qa.model.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.*;
 
 import static java.nio.charset.StandardCharsets.UTF_16;
@@ -38,6 +48,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
 
         @Test
         @DisplayName("Url encoded list type")
+        @SuppressWarnings("deprecation")
         public void test1647101299749() {
             final FormUrlMarshaller marshaller = new FormUrlMarshaller();
             assertTrue(marshaller.isHiddenList());
@@ -59,6 +70,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
 
         @Test
         @DisplayName("CodingCharset")
+        @SuppressWarnings("deprecation")
         public void test1647101412967() {
             final FormUrlMarshaller marshaller = new FormUrlMarshaller();
             assertIs(marshaller.getFormUrlCodingCharset(), UTF_8);
@@ -67,6 +79,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
 
         @Test
         @DisplayName("ProhibitAdditionalProperties")
+        @SuppressWarnings("deprecation")
         public void test1647101478320() {
             final FormUrlMarshaller marshaller = new FormUrlMarshaller();
             assertFalse(marshaller.isProhibitAdditionalProperties());
@@ -76,14 +89,15 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
 
         @Test
         @DisplayName("NullValueRule")
+        @SuppressWarnings("deprecation")
         public void test1647111089607() {
             final FormUrlMarshaller marshaller = new FormUrlMarshaller();
             assertIs(marshaller.getNullValueRule(), RULE_IGNORE);
             final LittlePojo pojo = new LittlePojo();
             assertThat(marshaller.marshal(pojo)).isEmpty();
-            assertThat(marshaller.setNullValueRule(RULE_NULL_STRING).marshal(pojo)).isEqualTo("bar=null&foo=null");
-            assertThat(marshaller.setNullValueRule(RULE_EMPTY_STRING).marshal(pojo)).isEqualTo("bar=&foo=");
-            assertThat(marshaller.setNullValueRule(RULE_NULL_MARKER).marshal(pojo)).isEqualTo("bar=%00&foo=%00");
+            assertThat(marshaller.setNullValueRule(RULE_NULL_STRING).marshal(pojo)).isEqualTo("foo=null&bar=null");
+            assertThat(marshaller.setNullValueRule(RULE_EMPTY_STRING).marshal(pojo)).isEqualTo("foo=&bar=");
+            assertThat(marshaller.setNullValueRule(RULE_NULL_MARKER).marshal(pojo)).isEqualTo("foo=%00&bar=%00");
         }
 
     }
@@ -104,7 +118,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
             final MapPojo mapPojo = mapPojo().nestedMapPojo(mapPojo().string("string_value"));
             mapPojo.put("foo", mapOf("bar", 1));
             final FormUrlMarshaller marshaller = marshaller();
-            assertThat(marshaller.marshal(mapPojo)).isEqualTo("foo[bar]=1&nestedMapPojo[string]=string_value");
+            assertThat(marshaller.marshal(mapPojo)).isEqualTo("nestedMapPojo[string]=string_value&foo[bar]=1");
         }
 
         @Test
@@ -112,9 +126,9 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         public void test1646683988015() {
             final MapPojo mapPojo = mapPojo().nestedMapPojo(mapPojo().string("string_value"));
             mapPojo.put("foo", mapOf("bar", arrayOf(1, 2)));
-            final FormUrlMarshaller marshaller = marshaller().enableHiddenList();
+            final FormUrlMarshaller marshaller = marshaller(FormUrlConfig.DEFAULT.withHiddenList());
             assertThat(marshaller.marshal(mapPojo))
-                    .isEqualTo("foo[bar]=1&foo[bar]=2&nestedMapPojo[string]=string_value");
+                    .isEqualTo("nestedMapPojo[string]=string_value&foo[bar]=1&foo[bar]=2");
         }
 
         @Test
@@ -122,16 +136,16 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         public void test1646683893206() {
             final MapPojo mapPojo = mapPojo().nestedMapPojo(mapPojo().string("string_value"));
             mapPojo.put("foo", mapOf("bar", arrayOf(1, 2)));
-            final FormUrlMarshaller marshaller = marshaller().enableImplicitList();
+            final FormUrlMarshaller marshaller = marshaller(FormUrlConfig.DEFAULT.withImplicitList());
             assertThat(marshaller.marshal(mapPojo))
-                    .isEqualTo("foo[bar][]=1&foo[bar][]=2&nestedMapPojo[string]=string_value");
+                    .isEqualTo("nestedMapPojo[string]=string_value&foo[bar][]=1&foo[bar][]=2");
         }
 
         @Test
         @DisplayName("Convert pojo to form url encoded string with explicit list")
         public void test1646683947701() {
             final Pojo mapPojo = pojo().nestedPojo(pojo().arrayString(arrayOf("s1", "s2")));
-            final FormUrlMarshaller marshaller = marshaller().enableExplicitList();
+            final FormUrlMarshaller marshaller = marshaller(FormUrlConfig.DEFAULT.withExplicitList());
             assertThat(marshaller.marshal(mapPojo))
                     .isEqualTo("nestedPojo[arrayString][0]=s1&nestedPojo[arrayString][1]=s2");
         }
@@ -161,7 +175,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         @DisplayName("Convert Map to form url encoded string with explicit list")
         public void test1647109833581() {
             final Map<String, Object> map = mapOf("foo", mapOf("bar", arrayOf(1, 2)));
-            assertThat(marshaller().enableExplicitList().marshal(map))
+            assertThat(marshaller(FormUrlConfig.DEFAULT.withExplicitList()).marshal(map))
                     .isEqualTo("foo[bar][0]=1&foo[bar][1]=2");
         }
 
@@ -834,7 +848,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         @DisplayName("Unmarshal query string to MapPojo without AP (prohibitAdditionalProperties=true (ignored))")
         public void test1646933638931() {
             MapPojoWithoutAdditionalProperties pojo = new MapPojoWithoutAdditionalProperties();
-            marshaller().prohibitAdditionalProperties(true).unmarshalTo(pojo, "foo=bar");
+            marshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true)).unmarshalTo(pojo, "foo=bar");
             assertThat(pojo.get("foo")).isEqualTo("bar");
         }
 
@@ -842,10 +856,10 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         @DisplayName("Unmarshal query string to Pojo (prohibitAdditionalProperties=true)")
         public void test1646933107631() {
             Pojo pojo = pojo();
-            assertThrow(() -> marshaller().prohibitAdditionalProperties(true).unmarshalTo(pojo, "foo=bar"))
+            assertThrow(() -> marshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true)).unmarshalTo(pojo, "foo=bar"))
                     .assertClass(MarshallerException.class)
                     .assertMessageIs("\n  URL encoded string contains unmapped additional properties.\n" +
-                                     "    Actual: {foo=bar}\n" +
+                                     "    Actual: foo\n" +
                                      "    Expected: There are no additional properties.\n");
         }
 
@@ -853,10 +867,10 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         @DisplayName("Unmarshal query string to Pojo (prohibitAdditionalProperties=true)")
         public void test1646933378312() {
             EmptyPojo pojo = new EmptyPojo();
-            assertThrow(() -> marshaller().prohibitAdditionalProperties(true).unmarshalTo(pojo, "foo=bar"))
+            assertThrow(() -> marshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true)).unmarshalTo(pojo, "foo=bar"))
                     .assertClass(MarshallerException.class)
                     .assertMessageIs("\n  URL encoded string contains unmapped additional properties.\n" +
-                                     "    Actual: {foo=bar}\n" +
+                                     "    Actual: foo\n" +
                                      "    Expected: There are no additional properties.\n");
         }
 
@@ -864,7 +878,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         @DisplayName("Unmarshal query string to MapPojo with AP (prohibitAdditionalProperties=true)")
         public void test1646933419223() {
             MapPojo pojo = mapPojo();
-            assertThrow(() -> marshaller().prohibitAdditionalProperties(true).unmarshalTo(pojo, "foo=bar"))
+            assertThrow(() -> marshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true)).unmarshalTo(pojo, "foo=bar"))
                     .assertClass(MarshallerException.class)
                     .assertMessageIs("\n  URL encoded string contains unmapped additional properties.\n" +
                                      "    Actual: {foo=bar}\n" +
@@ -891,7 +905,39 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         @DisplayName("Required parameters")
         public void test1646935806232() {
             assertRequired(() -> FormUrlMarshaller.INSTANCE.unmarshal(null, ""), "modelClass");
-            assertRequired(() -> FormUrlMarshaller.INSTANCE.unmarshal(pojo().getClass(), null), "encodedString");
+            assertRequired(() -> FormUrlMarshaller.INSTANCE.unmarshal(pojo().getClass(), (String) null), "encodedString");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if value contains a malformed escape (%) pattern")
+        public void test1792274020201() {
+            for (Class<?> modelClass : Arrays.asList(Pojo.class, HashMap.class)) {
+                assertThrow(() -> marshaller().unmarshal(modelClass, "string=%D1%8&integer=1"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  URL encoded value contains a malformed escape (%) pattern.\n" +
+                                         "    Actual: %D1%8\n" +
+                                         "    Expected: %XX, where XX is a hexadecimal byte value\n");
+            }
+        }
+
+        @Test
+        @DisplayName("Key paths not supported by the binder are continued from the routed pairs")
+        public void test1792274020202() {
+            final List<String> inputs = Arrays.asList(
+                    "nestedPojo[string]=a&nestedPojo[listString][0][x]=b&nestedPojo[integer]=2&string=c",
+                    "listString=a&nestedPojo[listString][0][x]=b&unknown=1&nestedPojo[listString][0][y]=c&listString=d");
+            for (String input : inputs) {
+                final FormUrlMarshaller marshaller = marshaller();
+                final Pojo expected = new Pojo();
+                marshaller.writeRawDataToObject(marshaller.getConfig(), expected, new IChain.Default(input).getRawData());
+                assertThat(marshaller.unmarshal(Pojo.class, input)).as(input).hasToString(expected.toString());
+            }
+            assertThrow(() -> marshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true))
+                    .unmarshal(Pojo.class, "string=a&nestedPojo[listString][0][x]=b&unknown=1"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded string contains unmapped additional properties.\n" +
+                                     "    Actual: unknown\n" +
+                                     "    Expected: There are no additional properties.\n");
         }
 
         @Test
@@ -987,6 +1033,347 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
 
     }
 
+    @Nested
+    @DisplayName("#unmarshal() bytes method tests")
+    public class UnmarshalBytesMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792275010101() {
+            assertRequired(() -> marshaller().unmarshal(null, new byte[0], 0, 0), "modelClass");
+            assertRequired(() -> marshaller().unmarshal(Pojo.class, null, 0, 0), "bytes");
+            assertRequired(() -> marshaller().unmarshal(Pojo.class, (ByteBuffer) null), "buffer");
+        }
+
+        @Test
+        @DisplayName("Bytes slice result is identical to the string result")
+        public void test1792275010102() {
+            final List<String> inputs = Arrays.asList("", "string=foo&integer=1", " string = a+b ",
+                    "string=" + ENCODED, "listString=a&listString[]=b", "arrayInteger[1]=2&arrayInteger[0]=1",
+                    "nestedPojo[mapObject][foo][]=bar", "unknown[x]=1&unknown[y]=2", "string=%D1%82%D0+%D0%B5");
+            for (Class<?> modelClass : Arrays.asList(Pojo.class, HashMap.class, MapPojo.class)) {
+                for (String input : inputs) {
+                    final byte[] body = ("prefix" + input + "suffix").getBytes(UTF_8);
+                    final Object actual = marshaller().unmarshal(modelClass, body, 6, body.length - 12);
+                    assertThat(actual).as(input).hasToString(marshaller().unmarshal(modelClass, input).toString());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Raw non-ASCII bytes are decoded with the coding charset")
+        public void test1792275010103() {
+            final byte[] utf8 = ("string=" + DECODED + "+" + ENCODED).getBytes(UTF_8);
+            assertIs(marshaller().unmarshal(Pojo.class, utf8, 0, utf8.length).string(), DECODED + " " + DECODED);
+            final byte[] utf16 = "string=%FE%FF%04%42".getBytes(UTF_8);
+            assertIs(marshaller(FormUrlConfig.DEFAULT.withFormUrlCodingCharset(UTF_16)).unmarshal(Pojo.class, utf16, 0, utf16.length).string(),
+                    "т");
+        }
+
+        @Test
+        @DisplayName("ByteBuffer from position to limit (heap, direct and read-only buffers)")
+        public void test1792275010104() {
+            final byte[] body = "__string=foo&integer=1__".getBytes(UTF_8);
+            final ByteBuffer heap = ByteBuffer.wrap(body, 2, body.length - 4);
+            final ByteBuffer direct = ByteBuffer.allocateDirect(body.length).put(body);
+            direct.position(2).limit(body.length - 2);
+            for (ByteBuffer buffer : Arrays.asList(heap, heap.slice(), heap.asReadOnlyBuffer(), direct)) {
+                final int position = buffer.position();
+                final Pojo pojo = marshaller().unmarshal(Pojo.class, buffer);
+                assertIs(pojo.string(), "foo");
+                assertIs(pojo.integer(), 1);
+                assertIs(buffer.position(), position);
+            }
+        }
+
+        @Test
+        @DisplayName("MarshallerException if offset or length is out of the bytes bounds")
+        public void test1792275010105() {
+            assertThrow(() -> marshaller().unmarshal(Pojo.class, new byte[2], 1, 2))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unexpected unmarshalling error.\n" +
+                                     "    Error cause:\n" +
+                                     "     - IndexOutOfBoundsException: offset: 1, length: 2, bytes length: 2\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Explicit list maximum index tests")
+    public class MaxListIndexTests {
+
+        @Test
+        @DisplayName("Explicit list up to the maximum index is compacted into a dense list")
+        public void test1792281020101() {
+            final FormUrlMarshaller marshaller = marshaller(FormUrlConfig.DEFAULT.withMaxListIndex(3));
+            final Pojo pojo = marshaller.unmarshal(Pojo.class, "listString[3]=c&listString[1]=a");
+            assertThat(pojo.listString()).hasSize(4);
+            assertIs(pojo.listString().get(1), "a");
+            assertIs(pojo.listString().get(3), "c");
+            final Map<?, ?> map = marshaller.unmarshal(HashMap.class, "foo[bar][3]=c&foo[bar][0][car]=a");
+            assertIs(map.get("foo"), mapOf("bar", listOf(mapOf("car", "a"), null, null, "c")));
+            assertThat(((Map<?, ?>) map.get("foo")).get("bar")).isInstanceOf(IChainList.Default.class);
+        }
+
+        @Test
+        @DisplayName("Large explicit and implicit lists")
+        public void test1792282030101() {
+            final int length = 20_000;
+            final StringJoiner explicit = new StringJoiner("&");
+            final StringJoiner implicit = new StringJoiner("&");
+            for (int i = 0; i < length; i++) {
+                explicit.add("items[" + i + "][id]=" + i).add("items[" + i + "][name]=n");
+                implicit.add("items[]=" + i);
+            }
+            final FormUrlMarshaller marshaller = marshaller(FormUrlConfig.DEFAULT.withMaxListIndex(length));
+            final List<?> explicitItems = (List<?>) marshaller.unmarshal(HashMap.class, explicit.toString()).get("items");
+            assertIs(explicitItems.size(), length);
+            assertIs(explicitItems.get(length - 1), mapOf("id", String.valueOf(length - 1), "name", "n"));
+            final List<?> implicitItems = (List<?>) marshaller.unmarshal(HashMap.class, implicit.toString()).get("items");
+            assertIs(implicitItems.size(), length);
+            assertIs(implicitItems.get(length - 1), String.valueOf(length - 1));
+        }
+
+        @Test
+        @DisplayName("MarshallerException if explicit list index is greater than the maximum index")
+        public void test1792281020102() {
+            final FormUrlMarshaller marshaller = marshaller();
+            assertIs(marshaller.getMaxListIndex(), FormUrlLimits.DEFAULT_MAX_LIST_INDEX);
+            final String message = "\n  Explicit list index exceeds the maximum list index.\n" +
+                                   "    Actual: 5000000\n" +
+                                   "    Expected: index <= 10000\n";
+            assertThrow(() -> marshaller.unmarshal(Pojo.class, "listString[5000000]=x"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs(message);
+            assertThrow(() -> marshaller.unmarshal(HashMap.class, "foo[5000000]=x"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs(message);
+            assertThrow(() -> marshaller.unmarshal(HashMap.class, "foo[bar][5000000][car]=x&foo[bar][0]=y"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs(message);
+            assertThrow(() -> FormUrlConfig.DEFAULT.withMaxListIndex(-1))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Maximum list index must not be negative.\n" +
+                                     "    Actual: -1\n" +
+                                     "    Expected: value >= 0\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#unmarshal() from InputStream and ReadableByteChannel method tests")
+    public class UnmarshalStreamMethodTests {
+
+        private Object unmarshalString(Class<?> modelClass, String input) {
+            try {
+                return marshaller().unmarshal(modelClass, input);
+            } catch (MarshallerException e) {
+                return e.getMessage();
+            }
+        }
+
+        private Object unmarshalChannel(Class<?> modelClass, String input, int bufferSize) throws IOException {
+            final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(input.getBytes(UTF_8)));
+            final FormUrlMarshaller marshaller = marshaller();
+            try {
+                final Object model = modelClass.getConstructor().newInstance();
+                marshaller.unmarshalChannelToObject(marshaller.getConfig(), model, new FormUrlChannelTokenizer(channel, UTF_8, bufferSize));
+                return model;
+            } catch (MarshallerException e) {
+                return e.getMessage();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792276020101() {
+            final InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+            assertRequired(() -> marshaller().unmarshal(null, inputStream), "modelClass");
+            assertRequired(() -> marshaller().unmarshal(Pojo.class, (InputStream) null), "inputStream");
+            assertRequired(() -> marshaller().unmarshal(Pojo.class, (ReadableByteChannel) null), "channel");
+            assertRequired(() -> marshaller().unmarshalChannelToObject(FormUrlConfig.DEFAULT, null, null), "object");
+        }
+
+        @Test
+        @DisplayName("Stream result is identical to the string result for any buffer size")
+        public void test1792276020102() throws IOException {
+            final List<String> inputs = Arrays.asList("", " ", "&&", "string=foo&integer=1", " string = a+b ",
+                    "string=" + ENCODED, "listString=a&listString[]=b", "arrayInteger[1]=2&arrayInteger[0]=1",
+                    "nestedPojo[mapObject][foo][]=bar", "unknown[x]=1&unknown[y]=2", "string=%D1%82%D0+%D0%B5",
+                    "string=" + DECODED + "&integer=1&&",
+                    // key paths not supported by the binder
+                    "integer=1&listString=a&listString[0]=b&unknown=1&listString[]=c",
+                    "nestedPojo[string]=a&nestedPojo[0]=b&nestedPojo[integer]=2&string=c",
+                    "mapObject[foo]=1&nestedPojo=1&mapObject[bar]=2&arrayInteger[0]=3",
+                    // errors
+                    "string=a&string[foo]=b", "integer=a", "string=%%");
+            for (Class<?> modelClass : Arrays.asList(Pojo.class, HashMap.class, MapPojo.class)) {
+                for (String input : inputs) {
+                    final String expected = String.valueOf(unmarshalString(modelClass, input));
+                    for (int bufferSize : new int[]{1, 5, FormUrlChannelTokenizer.DEFAULT_BUFFER_SIZE}) {
+                        assertThat(unmarshalChannel(modelClass, input, bufferSize))
+                                .as(modelClass.getSimpleName() + ": " + input + " (buffer: " + bufferSize + ")")
+                                .hasToString(expected);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Unmarshal from InputStream and ReadableByteChannel")
+        public void test1792276020103() {
+            final byte[] body = ("string=" + DECODED + "&integer=1&listString[]=a&listString[]=b").getBytes(UTF_8);
+            final Pojo fromStream = marshaller().unmarshal(Pojo.class, new ByteArrayInputStream(body));
+            assertIs(fromStream.string(), DECODED);
+            assertIs(fromStream.integer(), 1);
+            assertIs(fromStream.listString(), listOf("a", "b"));
+            final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(body));
+            assertThat(marshaller().unmarshal(MapPojo.class, channel))
+                    .hasToString(marshaller().unmarshal(MapPojo.class, new String(body, UTF_8)).toString());
+        }
+
+        @Test
+        @DisplayName("Additional properties are prohibited")
+        public void test1792276020104() {
+            final InputStream inputStream = new ByteArrayInputStream("string=a&unknown=1".getBytes(UTF_8));
+            assertThrow(() -> marshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true)).unmarshal(Pojo.class, inputStream))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded string contains unmapped additional properties.\n" +
+                                     "    Actual: unknown\n" +
+                                     "    Expected: There are no additional properties.\n");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if an I/O error occurs")
+        public void test1792276020105() {
+            final InputStream inputStream = new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    throw new IOException("Broken stream for test");
+                }
+            };
+            assertThrow(() -> marshaller().unmarshal(Pojo.class, inputStream))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unable to read URL form data.\n" +
+                                     "    Error cause:\n" +
+                                     "     - IOException: Broken stream for test\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#marshal() to FormUrlVisitor method tests")
+    public class MarshalVisitorMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792279010101() {
+            assertRequired(() -> marshaller().marshal(null, new FormUrlVisitor() {
+            }), "model");
+            assertRequired(() -> marshaller().marshal(pojo(), (FormUrlVisitor) null), "visitor");
+        }
+
+        @Test
+        @DisplayName("Model structure events")
+        public void test1792279010102() {
+            final List<String> events = new ArrayList<>();
+            final FormUrlVisitor visitor = new FormUrlVisitor() {
+                @Override
+                public void beginObject() {
+                    events.add("{");
+                }
+
+                @Override
+                public void field(String name) {
+                    events.add(name + ":");
+                }
+
+                @Override
+                public void endObject() {
+                    events.add("}");
+                }
+
+                @Override
+                public void beginList() {
+                    events.add("[");
+                }
+
+                @Override
+                public void index(int index) {
+                    events.add(index + ":");
+                }
+
+                @Override
+                public void endList() {
+                    events.add("]");
+                }
+
+                @Override
+                public void value(String encodedValue) {
+                    events.add(encodedValue);
+                }
+            };
+            final Map<String, Object> model = new LinkedHashMap<>();
+            model.put("foo", listOf("a b", mapOf("bar", null)));
+            model.put("pojo", new LittlePojo().foo(DECODED).barEncoded(ENCODED));
+            model.put("empty", listOf());
+            marshaller().marshal(model, visitor);
+            assertThat(events).containsExactly("{",
+                    "foo:", "[", "0:", "a+b", "1:", "{", "bar:", "", "}", "]",
+                    "pojo:", "{", "foo:", ENCODED, "bar:", ENCODED, "}",
+                    "empty:", "[", "]",
+                    "}");
+        }
+
+        @Test
+        @DisplayName("Events are identical for any list format")
+        public void test1792279010103() {
+            final Pojo model = pojo().string("a").listString(listOf("x", "y")).nestedPojo(pojo().integer(1));
+            final List<String> hidden = new ArrayList<>();
+            final List<String> explicit = new ArrayList<>();
+            marshaller(FormUrlConfig.DEFAULT.withHiddenList()).marshal(model, new FormUrlVisitor() {
+                @Override
+                public void index(int index) {
+                    hidden.add(String.valueOf(index));
+                }
+
+                @Override
+                public void value(String encodedValue) {
+                    hidden.add(encodedValue);
+                }
+            });
+            marshaller(FormUrlConfig.DEFAULT.withExplicitList()).marshal(model, new FormUrlVisitor() {
+                @Override
+                public void index(int index) {
+                    explicit.add(String.valueOf(index));
+                }
+
+                @Override
+                public void value(String encodedValue) {
+                    explicit.add(encodedValue);
+                }
+            });
+            assertThat(hidden).isEqualTo(explicit).containsExactlyInAnyOrder("a", "0", "x", "1", "y", "1");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if the visitor throws IOException")
+        public void test1792279010104() {
+            assertThrow(() -> marshaller().marshal(mapOf("foo", "bar"), new FormUrlVisitor() {
+                @Override
+                public void value(String encodedValue) throws IOException {
+                    throw new IOException("Broken visitor for test");
+                }
+            })).assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unable to write URL form data.\n" +
+                                     "    Error cause:\n" +
+                                     "     - IOException: Broken visitor for test\n");
+        }
+
+    }
+
     @Nested
     @DisplayName("#convertUrlDecodedStringValueToSimpleType() method tests")
     public class ConvertUrlDecodedStringValueToSimpleTypeMethodTests {
@@ -1103,17 +1490,17 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
                                      "    Source value: FooBar\n" +
                                      "    Target type: java.math.BigInteger\n" +
                                      "    Error cause:\n" +
-                                     "     - NumberFormatException: For input string: \"FooBar\"\n");
+                                     "     - not a valid BigInteger value\n");
         }
 
 
         @Test
-        @DisplayName("MarshallerException -> field type is primitive")
+        @DisplayName("MarshallerException -> field type is unsupported primitive")
         public void test1645377119906() {
-            assertThrow(() -> marshaller().convertUrlDecodedStringValueToSimpleType("false", Boolean.TYPE))
+            assertThrow(() -> marshaller().convertUrlDecodedStringValueToSimpleType("false", Character.TYPE))
                     .assertClass(MarshallerException.class)
                     .assertMessageIs("\n  Forbidden to use primitive types\n" +
-                                     "    Actual type: boolean\n" +
+                                     "    Actual type: char\n" +
                                      "    Expected: simple reference types (String, Integer, Boolean, etc.)\n");
         }
 
@@ -1188,7 +1575,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
             final Field field = AdditionalProperties.class.getDeclaredField("additionalProperties");
             assertThrow(() -> marshaller().getAdditionalProperties(new EmptyPojo(), field))
                     .assertClass(MarshallerException.class)
-                    .assertMessageIs("\n  Unable to raed value from object field.\n" +
+                    .assertMessageIs("\n  Unable to read value from object field.\n" +
                                      "    Model: qa.model.EmptyPojo\n" +
                                      "    Field: public Map<String, Object> additionalProperties;\n" +
                                      "    Error cause:\n" +
@@ -1202,7 +1589,7 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
             final Field field = AdditionalPropertiesFinal.class.getDeclaredField("additionalProperties");
             assertThrow(() -> marshaller().getAdditionalProperties(new EmptyPojo(), field))
                     .assertClass(MarshallerException.class)
-                    .assertMessageIs("\n  Unable to raed value from object field.\n" +
+                    .assertMessageIs("\n  Unable to read value from object field.\n" +
                                      "    Model: qa.model.EmptyPojo\n" +
                                      "    Field: public final Map<String, Object> additionalProperties;\n" +
                                      "    Error cause:\n" +
@@ -1336,4 +1723,8 @@ public class FormUrlMarshallerUnitTests extends BaseTest {
         return new FormUrlMarshaller();
     }
 
+    private static FormUrlMarshaller marshaller(FormUrlConfig config) {
+        return new FormUrlMarshaller(config);
+    }
+
 }
@@ -0,0 +1,105 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.Pojo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlPairSink.class unit tests")
+public class FormUrlPairSinkUnitTests extends BaseTest {
+
+    private static FormUrlPairSink pojoSink(FormUrlConfig config, Pojo pojo) {
+        return new FormUrlPairSink(new FormUrlMarshaller(), config, pojo, FormUrlPojoDescriptor.of(Pojo.class));
+    }
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792291010101() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            final FormUrlConfig config = FormUrlConfig.DEFAULT;
+            assertRequired(() -> new FormUrlPairSink(null, config, new Pojo(), null), "marshaller");
+            assertRequired(() -> new FormUrlPairSink(marshaller, null, new Pojo(), null), "config");
+            assertRequired(() -> new FormUrlPairSink(marshaller, config, null, null), "object");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#requireMappedKey() method tests")
+    public class RequireMappedKeyMethodTests {
+
+        @Test
+        @DisplayName("Unknown POJO key is rejected only if additional properties are prohibited")
+        public void test1792291010201() {
+            pojoSink(FormUrlConfig.DEFAULT, new Pojo()).requireMappedKey("unknown");
+            final FormUrlPairSink sink = pojoSink(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true), new Pojo());
+            sink.requireMappedKey("string");
+            assertThrow(() -> sink.requireMappedKey("unknown"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n" +
+                                     "  URL encoded string contains unmapped additional properties.\n" +
+                                     "    Actual: unknown\n" +
+                                     "    Expected: There are no additional properties.\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#accept() and #write() methods tests")
+    public class AcceptMethodTests {
+
+        @Test
+        @DisplayName("Pairs are routed by the binder")
+        public void test1792291010301() {
+            final Pojo pojo = new Pojo();
+            final FormUrlPairSink sink = pojoSink(FormUrlConfig.DEFAULT, pojo);
+            sink.accept("string", "a", false, false);
+            sink.accept("listInteger[]", "1", true, false);
+            sink.accept("nestedPojo[integer]", "2", false, false);
+            sink.write();
+            assertIs(pojo.string(), "a");
+            assertThat(pojo.listInteger()).containsExactly(1);
+            assertIs(pojo.nestedPojo().integer(), 2);
+        }
+
+        @Test
+        @DisplayName("Already routed pairs are kept when the binder does not support the key path")
+        public void test1792291010302() {
+            final Pojo pojo = new Pojo();
+            final FormUrlPairSink sink = pojoSink(FormUrlConfig.DEFAULT, pojo);
+            sink.accept("string", "a", false, false);
+            sink.accept("listString[0]", "b", false, true);
+            sink.accept("listString", "c", false, false);
+            sink.accept("integer", "1", false, false);
+            sink.write();
+            assertIs(pojo.string(), "a");
+            // IChain rules: the hidden list value replaces the explicit list item
+            assertThat(pojo.listString()).containsExactly("c");
+            assertIs(pojo.integer(), 1);
+        }
+
+        @Test
+        @DisplayName("Map pairs are merged into the raw data")
+        public void test1792291010303() {
+            final Map<String, Object> map = new HashMap<>();
+            final FormUrlPairSink sink = new FormUrlPairSink(new FormUrlMarshaller(), FormUrlConfig.DEFAULT, map, null);
+            sink.accept("foo[bar]", "1", false, false);
+            sink.accept("foo[car][]", "2", true, false);
+            sink.write();
+            assertIs(map, mapOf("foo", mapOf("bar", "1", "car", listOf("2"))));
+        }
+
+    }
+
+}
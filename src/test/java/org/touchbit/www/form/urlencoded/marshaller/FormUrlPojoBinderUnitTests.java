@@ -0,0 +1,286 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.EmptyPojo;
+import qa.model.Pojo;
+import qa.model.PrimitivePojo;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlPojoBinder.class unit tests")
+public class FormUrlPojoBinderUnitTests extends BaseTest {
+
+    private static FormUrlMarshaller rawDataMarshaller() {
+        return rawDataMarshaller(FormUrlConfig.DEFAULT);
+    }
+
+    private static FormUrlMarshaller rawDataMarshaller(FormUrlConfig config) {
+        return new FormUrlMarshaller(config) {
+            @Override
+            protected boolean unmarshalWithPojoBinder(FormUrlConfig config, Object object, CharSequence encodedString) {
+                return false;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("#accept() method tests")
+    public class AcceptMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792271930101() {
+            assertRequired(() -> new FormUrlPojoBinder(null, Pojo.class), "marshaller");
+            assertRequired(() -> new FormUrlPojoBinder(new FormUrlMarshaller(), null), "modelClass");
+            assertRequired(() -> new FormUrlPojoBinder(new FormUrlMarshaller(), Pojo.class).accept(null, "a", false, false),
+                    "key");
+        }
+
+        @Test
+        @DisplayName("Return false for the key paths not supported by the binder")
+        public void test1792271930102() {
+            final FormUrlPojoBinder binder = new FormUrlPojoBinder(new FormUrlMarshaller(), Pojo.class);
+            assertTrue(binder.accept("string", "a", false, false));
+            assertFalse(binder.accept("string[0]", "b", false, true));
+            assertTrue(binder.accept("listString[0]", "a", false, true));
+            assertFalse(binder.accept("listString", "b", false, false));
+            assertFalse(binder.accept("listString[0][x]", "a", false, true));
+            assertFalse(binder.accept("nestedPojo", "a", false, false));
+            assertFalse(binder.accept("nestedPojo[0][string]", "a", false, true));
+            assertFalse(binder.accept("listPojo[][string]", "a", true, false));
+            // list index limit is checked by the tokenizer
+            assertThrow(() -> new FormUrlMarshaller().unmarshal(Pojo.class, "listString[99999999999]=a"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Explicit list index exceeds the maximum list index.\n" +
+                                     "    Actual: 99999999999\n" +
+                                     "    Expected: index <= 10000\n");
+        }
+
+        @Test
+        @DisplayName("Hidden, implicit and explicit lists")
+        public void test1792271930103() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            assertThat(marshaller.unmarshal(Pojo.class, "listInteger=1&listInteger=2&listInteger=3").listInteger())
+                    .containsExactly(1, 2, 3);
+            assertThat(marshaller.unmarshal(Pojo.class, "listInteger[]=1&listInteger=2&listInteger[]=3").listInteger())
+                    .containsExactly(1, 2, 3);
+            assertThat(marshaller.unmarshal(Pojo.class, "arrayInteger[2]=3&arrayInteger[0]=1&arrayInteger[1]=2")
+                    .arrayInteger()).containsExactly(1, 2, 3);
+            assertThat(marshaller.unmarshal(Pojo.class, "listString[0]=a&listString[1]=a&listString[0]=b")
+                    .listString()).containsExactly("b", "a");
+        }
+
+        @Test
+        @DisplayName("Key paths not supported by the binder are unmarshalled from the raw data")
+        public void test1792271930104() {
+            for (FormUrlMarshaller marshaller : Arrays.asList(new FormUrlMarshaller(), rawDataMarshaller())) {
+                assertThat(marshaller.unmarshal(Pojo.class, "listString=a&listString[]=b").listString())
+                        .containsExactly("a", "b");
+                assertThat(marshaller.unmarshal(Pojo.class, "arrayInteger[0]=1&arrayInteger[2]=3").arrayInteger())
+                        .containsExactly(1, null, 3);
+                assertThat(marshaller.unmarshal(Pojo.class, "listListString[0][0]=a").listListString())
+                        .containsExactly(listOf("a"));
+                assertThat(marshaller.unmarshal(Pojo.class, "mapObject[x]=1&mapObject[y][]=2").mapObject())
+                        .containsEntry("x", "1").containsEntry("y", listOf("2"));
+                assertThat(marshaller.unmarshal(Pojo.class, "unknown=1&unknown[]=2").additionalProperties())
+                        .containsEntry("unknown", listOf("1", "2"));
+                final Pojo nested = marshaller.unmarshal(Pojo.class, "nestedPojo[unknown][x]=1&nestedPojo[unknown][y]=2");
+                assertThat(nested.nestedPojo().additionalProperties()).containsEntry("unknown", mapOf("x", "1", "y", "2"));
+                final Pojo arrayPojo = marshaller.unmarshal(Pojo.class, "arrayPojo[string]=a&arrayPojo[integer]=1");
+                assertThat(arrayPojo.arrayPojo()).hasSize(1);
+                assertIs(arrayPojo.arrayPojo()[0].string(), "a");
+                assertIs(arrayPojo.arrayPojo()[0].integer(), 1);
+            }
+        }
+
+        @Test
+        @DisplayName("Binder and raw data paths throw the same exceptions for incompatible values")
+        public void test1792271930105() {
+            for (FormUrlMarshaller marshaller : Arrays.asList(new FormUrlMarshaller(), rawDataMarshaller())) {
+                assertThrow(() -> marshaller.unmarshal(Pojo.class, "string=foo&string=bar"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                         "    Source value: [foo, bar]\n" +
+                                         "    Source type: org.touchbit.www.form.urlencoded.marshaller.chain.IChainList$Default\n" +
+                                         "    Target type: java.lang.String\n");
+                assertThrow(() -> marshaller.unmarshal(Pojo.class, "listString[x]=a"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                         "    Source value: {x=a}\n" +
+                                         "    Source type: java.util.HashMap\n" +
+                                         "    Target type: java.lang.String\n");
+                assertThrow(() -> marshaller.unmarshal(Pojo.class, "integer=foo"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                         "    Source type: java.lang.String\n" +
+                                         "    Source value: foo\n" +
+                                         "    Target type: java.lang.Integer\n" +
+                                         "    Error cause:\n" +
+                                         "     - not a valid Integer value\n");
+                assertThrow(() -> marshaller.unmarshal(Pojo.class, "nestedPojo=a"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                         "    Source: {nestedPojo=a}\n" +
+                                         "    Source field: nestedPojo\n" +
+                                         "    Source value: a\n" +
+                                         "    Source type: java.lang.String\n" +
+                                         "    Target type: qa.model.Pojo\n" +
+                                         "    Target field: private Pojo nestedPojo;\n");
+                assertThrow(() -> marshaller.unmarshal(Pojo.class, "listString[0]=a&listString[]=b"))
+                        .assertClass(ChainException.class)
+                        .assertMessageIs("Different types of lists are passed for merging.\n" +
+                                         "Source list: not indexed\n" +
+                                         "Target list: indexed\n");
+                assertThrow(() -> marshaller.unmarshal(Pojo.class, "unknown[x]=1&unknown=2"))
+                        .assertClass(ChainException.class)
+                        .assertMessageIs("Received incompatible value types to merge.\n" +
+                                         "Source type: java.lang.String\n" +
+                                         "Source value: 2\n" +
+                                         "Target type: java.util.HashMap\n" +
+                                         "Target value: {x=1}\n");
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#write() method tests")
+    public class WriteMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792271930201() {
+            assertRequired(() -> new FormUrlPojoBinder(new FormUrlMarshaller(), Pojo.class).write(null), "model");
+        }
+
+        @Test
+        @DisplayName("Unmapped pairs are written to the additional properties")
+        public void test1792271930202() {
+            final FormUrlPojoBinder binder = new FormUrlPojoBinder(new FormUrlMarshaller(), Pojo.class);
+            assertTrue(binder.accept("string", "a", false, false));
+            assertTrue(binder.accept("foo[bar]", "1", false, false));
+            assertTrue(binder.accept("foo[car]", "2", false, false));
+            final Pojo pojo = new Pojo();
+            assertThat(binder.write(pojo)).isEmpty();
+            assertIs(pojo.string(), "a");
+            assertThat(pojo.additionalProperties()).containsEntry("foo", mapOf("bar", "1", "car", "2"));
+        }
+
+        @Test
+        @DisplayName("Return unmapped raw data if POJO does not contain additional properties field")
+        public void test1792271930203() {
+            final FormUrlPojoBinder binder = new FormUrlPojoBinder(new FormUrlMarshaller(), EmptyPojo.class);
+            assertTrue(binder.accept("foo", "1", false, false));
+            assertTrue(binder.accept("foo", "2", false, false));
+            assertTrue(binder.accept("bar[]", "3", true, false));
+            final Map<String, Object> unmapped = binder.write(new EmptyPojo());
+            assertThat(unmapped).containsEntry("foo", listOf("1", "2")).containsEntry("bar", listOf("3"));
+        }
+
+        @Test
+        @DisplayName("MarshallerException if additional properties are prohibited")
+        public void test1792271930204() {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true);
+            final FormUrlPojoBinder binder = new FormUrlPojoBinder(new FormUrlMarshaller(), config, Pojo.class);
+            assertTrue(binder.accept("foo", "1", false, false));
+            assertThrow(() -> binder.write(new Pojo()))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n" +
+                                     "  URL encoded string contains unmapped additional properties.\n" +
+                                     "    Actual: {foo=1}\n" +
+                                     "    Expected: There are no additional properties.\n");
+        }
+
+        @Test
+        @DisplayName("Primitive fields and primitive arrays")
+        public void test1792271930205() {
+            final String form = "int=1&long=-2&short=3&double=4.5&float=5.5&boolean=TRUE&intArray=1&intArray=2" +
+                                "&longArray[]=3&doubleArray[0]=4.5&doubleArray[1]=5&booleanArray=true";
+            final PrimitivePojo pojo = new FormUrlMarshaller().unmarshal(PrimitivePojo.class, form);
+            assertIs(pojo.intValue(), 1);
+            assertIs(pojo.longValue(), -2L);
+            assertIs(pojo.shortValue(), (short) 3);
+            assertIs(pojo.doubleValue(), 4.5D);
+            assertIs(pojo.floatValue(), 5.5F);
+            assertTrue(pojo.booleanValue());
+            assertThat(pojo.intArray()).containsExactly(1, 2);
+            assertThat(pojo.longArray()).containsExactly(3L);
+            assertThat(pojo.doubleArray()).containsExactly(4.5D, 5D);
+            assertThat(pojo.booleanArray()).containsExactly(true);
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList());
+            assertIs(marshaller.marshal(rawDataMarshaller().unmarshal(PrimitivePojo.class, form)),
+                    marshaller.marshal(pojo));
+        }
+
+        @Test
+        @DisplayName("MarshallerException if value is not compatible with the primitive field")
+        public void test1792271930206() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            assertThrow(() -> marshaller.unmarshal(PrimitivePojo.class, "int=foo"))
+                    .assertClass(MarshallerException.class);
+            assertThrow(() -> marshaller.unmarshal(PrimitivePojo.class, "int=1&int=2"))
+                    .assertClass(MarshallerException.class);
+            assertIs(marshaller.unmarshal(PrimitivePojo.class, "").intValue(), 0);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Unknown keys rejection tests")
+    public class UnknownKeysRejectionTests {
+
+        @Test
+        @DisplayName("POJO plan recognises top-level and nested key names")
+        public void test1792271930301() {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT;
+            final FormUrlPojoPlan plan = config.getPojoPlan(Pojo.class);
+            assertTrue(plan.isMappedKey(config, "string"));
+            assertTrue(plan.isMappedKey(config, "listString[0]"));
+            assertTrue(plan.isMappedKey(config, "mapObject[any][]"));
+            assertTrue(plan.isMappedKey(config, "nestedPojo[nestedPojo][string]"));
+            assertTrue(plan.isMappedKey(config, "nestedPojo[0][unknown]"));
+            assertFalse(plan.isMappedKey(config, "unknown"));
+            assertFalse(plan.isMappedKey(config, "unknown[string]"));
+            assertFalse(plan.isMappedKey(config, "[0]"));
+            assertFalse(plan.isMappedKey(config, "nestedPojo[unknown]"));
+            assertFalse(plan.isMappedKey(config, "nestedPojo[nestedPojo][unknown][0]"));
+        }
+
+        @Test
+        @DisplayName("First unknown key is rejected before its value is decoded and the rest of the form is parsed")
+        public void test1792271930302() {
+            final String form = "string=a&unknown=%ZZ&other=1&foo=1&&bar=2";
+            final String message = "\n" +
+                                   "  URL encoded string contains unmapped additional properties.\n" +
+                                   "    Actual: unknown\n" +
+                                   "    Expected: There are no additional properties.\n";
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true));
+            assertThrow(() -> marshaller.unmarshal(Pojo.class, form))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs(message);
+            assertThrow(() -> rawDataMarshaller(FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true)).unmarshal(Pojo.class, form))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs(message);
+            assertThrow(() -> marshaller.unmarshal(Pojo.class, new ByteArrayInputStream(form.getBytes(UTF_8))))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs(message);
+            // value of the unknown key is decoded if additional properties are allowed
+            assertThrow(() -> new FormUrlMarshaller().unmarshal(Pojo.class, form))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded value contains a malformed escape (%) pattern.\n" +
+                                     "    Actual: %ZZ\n" +
+                                     "    Expected: %XX, where XX is a hexadecimal byte value\n");
+        }
+
+    }
+
+}
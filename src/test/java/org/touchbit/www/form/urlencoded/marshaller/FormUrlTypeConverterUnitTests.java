@@ -0,0 +1,156 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.MapPojo;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings("unchecked")
+@DisplayName("FormUrlTypeConverter.class unit tests")
+public class FormUrlTypeConverterUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Converter tree tests")
+    public class ConverterTreeTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792285010101() {
+            assertRequired(() -> new FormUrlTypeConverter(null), "targetType");
+            assertRequired(() -> FormUrlConfig.DEFAULT.getTypeConverter(null), "targetType");
+            assertRequired(() -> new FormUrlMarshaller().convertRawValueToTargetJavaType("", null), "targetType");
+        }
+
+        @Test
+        @DisplayName("Converter is compiled once per configuration and type")
+        public void test1792285010102() {
+            final Type type = MapPojo.PojoFields.LIST_ARRAY_INTEGER.getGenericType();
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withExplicitList();
+            final FormUrlTypeConverter converter = config.getTypeConverter(type);
+            assertThat(config.getTypeConverter(type)).isSameAs(converter);
+            assertThat(FormUrlConfig.DEFAULT.getTypeConverter(type)).isNotSameAs(converter);
+            assertIs(converter.getTargetType(), type);
+        }
+
+        @Test
+        @DisplayName("Map<String, Map<String, Integer>> and raw Map[] conversion")
+        public void test1792285010103() {
+            final FormUrlTypeConverter mapConverter =
+                    new FormUrlTypeConverter(MapPojo.PojoFields.MAP_MAP_INTEGER.getGenericType());
+            assertIs(mapConverter.convert(mapOf("a", mapOf("b", "1"))), mapOf("a", mapOf("b", 1)));
+            assertThrow(() -> mapConverter.convert("1")).assertClass(MarshallerException.class);
+            final FormUrlTypeConverter arrayConverter =
+                    new FormUrlTypeConverter(MapPojo.PojoFields.ARRAY_RAW_MAP.getGenericType());
+            assertThat((Map[]) arrayConverter.convert(mapOf("a", "1"))).containsExactly(mapOf("a", "1"));
+        }
+
+        @Test
+        @DisplayName("List<Integer[]> -> list of (array of (Integer parser))")
+        public void test1792285010104() {
+            final Type type = MapPojo.PojoFields.LIST_ARRAY_INTEGER.getGenericType();
+            final FormUrlTypeConverter converter = new FormUrlTypeConverter(type);
+            final List<Object> result = (List<Object>) converter.convert(listOf(listOf("1", "2"), listOf("3")));
+            assertThat(result).hasSize(2);
+            assertThat((Integer[]) result.get(0)).containsExactly(1, 2);
+            assertThat((Integer[]) result.get(1)).containsExactly(3);
+            final List<Object> hidden = (List<Object>) converter.convert(listOf("1"));
+            assertIs(hidden, listOf("1"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#parse() method tests")
+    public class ParseMethodTests {
+
+        @Test
+        @DisplayName("Simple types parsers")
+        public void test1792285020101() {
+            assertIs(new FormUrlTypeConverter(String.class).parse("foo"), "foo");
+            assertIs(new FormUrlTypeConverter(Object.class).parse("foo"), "foo");
+            assertIs(new FormUrlTypeConverter(Boolean.class).parse("TRUE"), true);
+            assertIs(new FormUrlTypeConverter(Boolean.class).parse("false"), false);
+            assertIs(new FormUrlTypeConverter(Short.class).parse("1"), (short) 1);
+            assertIs(new FormUrlTypeConverter(Long.class).parse("1"), 1L);
+            assertIs(new FormUrlTypeConverter(Float.class).parse("1.5"), 1.5F);
+            assertIs(new FormUrlTypeConverter(Integer.class).parse("1"), 1);
+            assertIs(new FormUrlTypeConverter(Double.class).parse("1.5"), 1.5D);
+            assertIs(new FormUrlTypeConverter(BigInteger.class).parse("1"), BigInteger.ONE);
+            assertIs(new FormUrlTypeConverter(BigDecimal.class).parse("1"), BigDecimal.ONE);
+            assertIs(new FormUrlTypeConverter(Integer.class).parse(null), null);
+            assertIs(new FormUrlTypeConverter(Map.class).parse(null), null);
+        }
+
+        @Test
+        @DisplayName("MarshallerException for unsupported types and values")
+        public void test1792285020102() {
+            assertThrow(() -> new FormUrlTypeConverter(char.class).parse(null))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Forbidden to use primitive types\n" +
+                                     "    Actual type: char\n" +
+                                     "    Expected: simple reference types (String, Integer, Boolean, etc.)\n");
+            assertThrow(() -> new FormUrlTypeConverter(Boolean.class).parse("foo"))
+                    .assertClass(MarshallerException.class);
+            assertThrow(() -> new FormUrlTypeConverter(Integer.class).parse("foo"))
+                    .assertClass(MarshallerException.class);
+            assertThrow(() -> new FormUrlTypeConverter(Map.class).parse("foo"))
+                    .assertClass(MarshallerException.class);
+        }
+
+        @Test
+        @DisplayName("Primitive types parsers")
+        public void test1792285020103() {
+            assertIs(FormUrlTypeConverter.parseInt("-1"), -1);
+            assertIs(FormUrlTypeConverter.parseLong("1"), 1L);
+            assertIs(FormUrlTypeConverter.parseShort("1"), (short) 1);
+            assertIs(FormUrlTypeConverter.parseDouble("1.5"), 1.5D);
+            assertIs(FormUrlTypeConverter.parseFloat("1.5"), 1.5F);
+            assertTrue(FormUrlTypeConverter.parseBoolean("TRUE"));
+            assertIs(new FormUrlTypeConverter(int.class).parse("1"), 1);
+            assertIs(new FormUrlTypeConverter(boolean.class).parse("false"), false);
+            assertThrow(() -> FormUrlTypeConverter.parseInt("foo"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                     "    Source type: java.lang.String\n" +
+                                     "    Source value: foo\n" +
+                                     "    Target type: int\n" +
+                                     "    Error cause:\n" +
+                                     "     - not a valid int value\n");
+            assertThrow(() -> new FormUrlTypeConverter(long.class).parse(null))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                     "    Source type: null\n" +
+                                     "    Source value: null\n" +
+                                     "    Target type: long\n");
+            assertThrow(() -> FormUrlTypeConverter.parseBoolean("foo")).assertClass(MarshallerException.class);
+            assertThrow(() -> FormUrlTypeConverter.parseDouble("")).assertClass(MarshallerException.class);
+        }
+
+        @Test
+        @DisplayName("Raw values are parsed into the primitive arrays")
+        public void test1792285020104() {
+            assertThat((int[]) new FormUrlTypeConverter(int[].class).convert(listOf("1", "2"))).containsExactly(1, 2);
+            assertThat((int[]) new FormUrlTypeConverter(int[].class).convert("3")).containsExactly(3);
+            assertThat((long[]) new FormUrlTypeConverter(long[].class).convert(listOf("1"))).containsExactly(1L);
+            assertThat((double[]) new FormUrlTypeConverter(double[].class).convert(listOf("1.5")))
+                    .containsExactly(1.5D);
+            assertThat((boolean[]) new FormUrlTypeConverter(boolean[].class).convert(listOf("true", "false")))
+                    .containsExactly(true, false);
+            assertThrow(() -> new FormUrlTypeConverter(int[].class).convert(listOf("1", null)))
+                    .assertClass(MarshallerException.class);
+            assertThrow(() -> new FormUrlTypeConverter(int[].class).convert(mapOf("a", "1")))
+                    .assertClass(MarshallerException.class);
+        }
+
+    }
+
+}
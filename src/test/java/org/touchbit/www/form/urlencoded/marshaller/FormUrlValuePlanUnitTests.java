@@ -0,0 +1,94 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.LittlePojo;
+import qa.model.MapPojo;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.touchbit.www.form.urlencoded.marshaller.FormUrlValuePlan.Kind.*;
+
+@DisplayName("FormUrlValuePlan.class unit tests")
+public class FormUrlValuePlanUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Value kind tests")
+    public class ValueKindTests {
+
+        @Test
+        @DisplayName("Value kind is resolved by the runtime value class")
+        public void test1792286010101() {
+            assertIs(FormUrlValuePlan.getKind(String.class), SIMPLE);
+            assertIs(FormUrlValuePlan.getKind(BigInteger.class), SIMPLE);
+            assertIs(FormUrlValuePlan.getKind(LittlePojo.class), POJO);
+            assertIs(FormUrlValuePlan.getKind(HashMap.class), MAP);
+            assertIs(FormUrlValuePlan.getKind(MapPojo.class), POJO_MAP);
+            assertIs(FormUrlValuePlan.getKind(ArrayList.class), COLLECTION);
+            assertIs(FormUrlValuePlan.getKind(String[].class), ARRAY);
+            assertIs(FormUrlValuePlan.getKind(int[].class), PRIMITIVE_ARRAY);
+            assertIs(FormUrlValuePlan.getKind(Object.class), UNSUPPORTED);
+        }
+
+        @Test
+        @DisplayName("Plan is compiled once per configuration and contains the POJO class plan")
+        public void test1792286010102() {
+            assertRequired(() -> FormUrlConfig.DEFAULT.getValuePlan(null), "valueClass");
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withExplicitList();
+            final FormUrlValuePlan plan = config.getValuePlan(LittlePojo.class);
+            assertThat(config.getValuePlan(LittlePojo.class)).isSameAs(plan);
+            assertThat(FormUrlConfig.DEFAULT.getValuePlan(LittlePojo.class)).isNotSameAs(plan);
+            assertThat(plan.getPojoPlan()).isSameAs(config.getPojoPlan(LittlePojo.class));
+            assertIs(plan.getValueClass(), LittlePojo.class);
+            assertTrue(plan.isObject());
+            assertTrue(config.getValuePlan(MapPojo.class).isObject());
+            assertThat(config.getValuePlan(HashMap.class).getPojoPlan()).isNull();
+            assertFalse(config.getValuePlan(String.class).isObject());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Marshalling tests")
+    public class MarshallingTests {
+
+        @Test
+        @DisplayName("Homogeneous and mixed lists are marshalled item by item")
+        public void test1792286020101() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList());
+            final List<Object> list = Arrays.asList(new LittlePojo().foo("a"), null,
+                    new LittlePojo().foo("b"), "c", mapOf("d", 1), new LittlePojo().foo("e"));
+            assertThat(marshaller.marshal(mapOf("list", list)))
+                    .isEqualTo("list[0][foo]=a&list[1]=&list[2][foo]=b&list[3]=c&list[4][d]=1&list[5][foo]=e");
+            assertIs(marshaller.convertValueToRawData(list.toArray()), marshaller.convertValueToRawData(list));
+        }
+
+        @Test
+        @DisplayName("MarshallerException if list item type is not supported")
+        public void test1792286020102() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            final List<Object> list = Arrays.asList(new LittlePojo(), new Object());
+            assertThrow(() -> marshaller.marshal(mapOf("list", list))).assertClass(MarshallerException.class);
+            assertThrow(() -> marshaller.convertValueToRawData(list)).assertClass(MarshallerException.class);
+        }
+
+        @Test
+        @DisplayName("Primitive arrays are marshalled without Object[] cast")
+        public void test1792286020103() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList());
+            assertThat(marshaller.marshal(mapOf("i", new int[]{1, 2}, "d", new double[]{1.5}, "b", new boolean[]{true})))
+                    .contains("i[0]=1&i[1]=2").contains("d[0]=1.5").contains("b[0]=true");
+            assertIs(marshaller.convertValueToRawData(new long[]{1L, 2L}), listOf("1", "2"));
+            assertIs(marshaller.convertArrayToRawData(new int[]{3}), listOf("3"));
+        }
+
+    }
+
+}
@@ -0,0 +1,163 @@
+package org.touchbit.www.form.urlencoded.marshaller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.LittlePojo;
+import qa.model.MapPojo;
+import qa.model.Pojo;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlWriter.class unit tests")
+public class FormUrlWriterUnitTests extends BaseTest {
+
+    private static List<String> pairs(String encodedString) {
+        final List<String> result = new ArrayList<>();
+        if (!encodedString.isEmpty()) {
+            result.addAll(Arrays.asList(encodedString.split("&")));
+        }
+        return result;
+    }
+
+    private static List<String> pairs(Map<String, List<String>> map) {
+        final List<String> result = new ArrayList<>();
+        map.forEach((key, values) -> values.forEach(value -> result.add(key + "=" + value)));
+        return result;
+    }
+
+    @Nested
+    @DisplayName("#write() method tests")
+    public class WriteMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792273010101() {
+            assertRequired(() -> new FormUrlWriter(null, new StringBuilder()), "marshaller");
+            assertRequired(() -> new FormUrlWriter(new FormUrlMarshaller(), null), "appendable");
+            assertRequired(() -> new FormUrlWriter(new FormUrlMarshaller(), new StringBuilder()).write(null), "model");
+            assertRequired(() -> new FormUrlWriter(new FormUrlMarshaller(), null, new StringBuilder()), "config");
+            assertRequired(() -> new FormUrlMarshaller().marshal(null, new StringBuilder()), "model");
+            assertRequired(() -> new FormUrlMarshaller().marshal(pojo(), (Appendable) null), "appendable");
+        }
+
+        @Test
+        @DisplayName("Writer uses the passed configuration instead of the marshaller configuration")
+        public void test1792273010110() throws IOException {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withExplicitList();
+            final StringBuilder out = new StringBuilder();
+            new FormUrlWriter(new FormUrlMarshaller(), config, out).write(mapOf("foo", listOf(1, 2)));
+            assertThat(out.toString()).isEqualTo("foo[0]=1&foo[1]=2");
+        }
+
+        @Test
+        @DisplayName("POJO fields are written in declaration order, then additional properties and Map entries")
+        public void test1792273010102() {
+            final MapPojo mapPojo = mapPojo().nestedMapPojo(mapPojo().string("nested")).string("field");
+            mapPojo.additionalProperties(mapOf("ap", "1"));
+            mapPojo.put("foo", "bar");
+            assertIs(new FormUrlMarshaller().marshal(mapPojo),
+                    "nestedMapPojo[string]=nested&string=field&ap=1&foo=bar");
+            assertIs(new FormUrlMarshaller(FormUrlConfig.DEFAULT.withNullValueRule(NullValueRule.RULE_NULL_MARKER)).marshal(new LittlePojo()),
+                    "foo=%00&bar=%00");
+        }
+
+        @Test
+        @DisplayName("Map entries and additional properties override POJO fields with the same key")
+        public void test1792273010103() {
+            final MapPojo mapPojo = mapPojo().string("field");
+            mapPojo.additionalProperties(mapOf("string", "ap", "foo", "ap"));
+            mapPojo.put("foo", "entry");
+            assertIs(new FormUrlMarshaller().marshal(mapPojo), "string=ap&foo=entry");
+        }
+
+        @Test
+        @DisplayName("Explicit list index is the item position")
+        public void test1792273010104() {
+            final Map<String, Object> map = mapOf("foo", listOf("a", "a", null, "a"));
+            assertIs(new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList()).marshal(map), "foo[0]=a&foo[1]=a&foo[2]=&foo[3]=a");
+            assertIs(new FormUrlMarshaller(FormUrlConfig.DEFAULT.withImplicitList()).marshal(map), "foo[]=a&foo[]=a&foo[]=&foo[]=a");
+            assertIs(new FormUrlMarshaller(FormUrlConfig.DEFAULT.withHiddenList()).marshal(map), "foo=a&foo=a&foo=&foo=a");
+        }
+
+        @Test
+        @DisplayName("Written pairs are identical to the #marshalToMap() pairs")
+        public void test1792273010105() {
+            final List<FormUrlMarshaller> marshallers = Arrays.asList(
+                    new FormUrlMarshaller(FormUrlConfig.DEFAULT.withHiddenList()),
+                    new FormUrlMarshaller(FormUrlConfig.DEFAULT.withImplicitList()),
+                    new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList().withNullValueRule(NullValueRule.RULE_NULL_STRING)),
+                    new FormUrlMarshaller(FormUrlConfig.DEFAULT.withNullValueRule(NullValueRule.RULE_NULL_MARKER)));
+            for (FormUrlMarshaller marshaller : marshallers) {
+                for (Object model : marshalModels()) {
+                    final StringBuilder out = new StringBuilder();
+                    assertThat(marshaller.marshal(model, out)).isSameAs(out);
+                    assertThat(pairs(out.toString())).as(out.toString())
+                            .containsExactlyInAnyOrderElementsOf(pairs(marshaller.marshalToMap(model)));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Write to any Appendable")
+        public void test1792273010106() {
+            final StringWriter writer = new StringWriter();
+            writer.append("prefix&");
+            new FormUrlMarshaller().marshal(mapOf("foo", "a b"), writer);
+            assertIs(writer.toString(), "prefix&foo=a+b");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if model type is not supported")
+        public void test1792273010107() {
+            assertThrow(() -> new FormUrlMarshaller().marshal(new Object(), new StringBuilder()))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Received unsupported type for conversion.\n" +
+                                     "    Actual type: java.lang.Object\n" +
+                                     "    Expected: heirs of java.util.Map\n" +
+                                     "    Expected: POJO classes with @FormUrlEncoded annotation\n");
+            assertThrow(() -> new FormUrlMarshaller().marshal(mapOf("foo", new Object()), new StringBuilder()))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs(new FormUrlMarshaller().unsupportedValueTypeError(new Object()).getMessage());
+        }
+
+        @Test
+        @DisplayName("MarshallerException if an I/O error occurs")
+        public void test1792273010108() {
+            assertThrow(() -> new FormUrlMarshaller().marshal(mapOf("foo", "bar"), new BrokenAppendable()))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unable to write URL form data.\n" +
+                                     "    Error cause:\n" +
+                                     "     - IOException: BrokenAppendable for test\n");
+        }
+
+    }
+
+    private static class BrokenAppendable implements Appendable {
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            throw new IOException("BrokenAppendable for test");
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            throw new IOException("BrokenAppendable for test");
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            throw new IOException("BrokenAppendable for test");
+        }
+
+    }
+
+}
@@ -0,0 +1,75 @@
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.util.FormUrlUtils;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("FormUrlByteSequence.class unit tests")
+public class FormUrlByteSequenceUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792275020101() {
+            assertRequired(() -> new FormUrlByteSequence(null, 0, 0, UTF_8), "bytes");
+            assertRequired(() -> new FormUrlByteSequence(new byte[0], 0, 0, null), "codingCharset");
+        }
+
+        @Test
+        @DisplayName("IndexOutOfBoundsException if offset or length is out of the bytes bounds")
+        public void test1792275020102() {
+            assertThrow(() -> new FormUrlByteSequence(new byte[2], -1, 1, UTF_8))
+                    .assertClass(IndexOutOfBoundsException.class);
+            assertThrow(() -> new FormUrlByteSequence(new byte[2], 0, 3, UTF_8))
+                    .assertClass(IndexOutOfBoundsException.class);
+            assertThrow(() -> new FormUrlByteSequence(new byte[2], 2, -1, UTF_8))
+                    .assertClass(IndexOutOfBoundsException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("CharSequence methods tests")
+    public class CharSequenceMethodsTests {
+
+        @Test
+        @DisplayName("Bytes slice is exposed as chars")
+        public void test1792275020201() {
+            final byte[] bytes = ("[foo=" + DECODED + "]").getBytes(UTF_8);
+            final FormUrlByteSequence sequence = new FormUrlByteSequence(bytes, 1, bytes.length - 2, UTF_8);
+            assertIs(sequence.length(), bytes.length - 2);
+            assertIs(sequence.charAt(0), 'f');
+            assertIs(sequence.charAt(4), (char) 0xD1);
+            assertThrow(() -> sequence.charAt(sequence.length())).assertClass(IndexOutOfBoundsException.class);
+            assertIs(sequence.subSequence(0, 3).toString(), "foo");
+            assertIs(sequence.subSequence(4, sequence.length()).toString(), DECODED);
+            assertIs(sequence.toString(), "foo=" + DECODED);
+            assertThrow(() -> sequence.subSequence(2, 1)).assertClass(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Tokenizer reads pairs from the bytes")
+        public void test1792275020202() {
+            final byte[] bytes = ("foo[0]=" + ENCODED + "+" + DECODED + "&bar=").getBytes(UTF_8);
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer(new FormUrlByteSequence(bytes, 0, bytes.length, UTF_8));
+            assertTrue(tokenizer.next());
+            assertIs(tokenizer.getKey(), "foo[0]");
+            assertTrue(tokenizer.isExplicitList());
+            assertIs(tokenizer.getValue(UTF_8), DECODED + " " + DECODED);
+            assertTrue(tokenizer.next());
+            assertIs(tokenizer.getKey(), "bar");
+            assertIs(tokenizer.getValue(UTF_8), "");
+            assertFalse(tokenizer.next());
+            assertIs(FormUrlUtils.decode(new FormUrlByteSequence(bytes, 0, 6, UTF_8), 0, 6, UTF_8), "foo[0]");
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlChannelTokenizer.class unit tests")
+public class FormUrlChannelTokenizerUnitTests extends BaseTest {
+
+    private static List<String> tokenize(String input, int bufferSize) throws IOException {
+        final List<String> result = new ArrayList<>();
+        final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(input.getBytes(UTF_8)));
+        final FormUrlChannelTokenizer tokenizer = new FormUrlChannelTokenizer(channel, UTF_8, bufferSize);
+        while (tokenizer.next()) {
+            result.add(tokenizer.getKey() + "|" + tokenizer.getValue() + "|" +
+                       tokenizer.isImplicitList() + "|" + tokenizer.isExplicitList());
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792276010101() {
+            final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(new byte[0]));
+            assertRequired(() -> new FormUrlChannelTokenizer(null, UTF_8), "channel");
+            assertRequired(() -> new FormUrlChannelTokenizer(channel, null), "codingCharset");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if buffer size is less than 1")
+        public void test1792276010102() {
+            final ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(new byte[0]));
+            assertThrow(() -> new FormUrlChannelTokenizer(channel, UTF_8, 0))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Buffer size must be greater than zero.\n" +
+                                     "    Actual: 0\n" +
+                                     "    Expected: size > 0\n");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if channel is a non-blocking selectable channel")
+        public void test1792276010103() throws IOException {
+            final Pipe pipe = Pipe.open();
+            try {
+                pipe.source().configureBlocking(false);
+                assertThrow(() -> new FormUrlChannelTokenizer(pipe.source(), UTF_8))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Non-blocking channels are not supported.\n" +
+                                         "    Actual: non-blocking " + pipe.source().getClass().getSimpleName() + "\n" +
+                                         "    Expected: blocking channel (at least one byte per read)\n");
+                pipe.source().configureBlocking(true);
+                pipe.sink().write(ByteBuffer.wrap("foo=bar".getBytes(UTF_8)));
+                pipe.sink().close();
+                final FormUrlChannelTokenizer tokenizer = new FormUrlChannelTokenizer(pipe.source(), UTF_8);
+                assertTrue(tokenizer.next());
+                assertIs(tokenizer.getValue(), "bar");
+            } finally {
+                pipe.source().close();
+                pipe.sink().close();
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#next() method tests")
+    public class NextMethodTests {
+
+        @Test
+        @DisplayName("Pairs split across the buffer boundaries are tokenized for any buffer size")
+        public void test1792276010201() throws IOException {
+            for (int bufferSize : new int[]{1, 2, 3, 7, FormUrlChannelTokenizer.DEFAULT_BUFFER_SIZE}) {
+                final String size = "buffer: " + bufferSize;
+                assertThat(tokenize("foo=" + DECODED + "&long_key_name=long+value&bar=%D1%82", bufferSize)).as(size)
+                        .containsExactly("foo|" + DECODED + "|false|false", "long_key_name|long value|false|false",
+                                "bar|т|false|false");
+                assertThat(tokenize(" foo = bar &foo[]=1&foo[0]=2&foo[bar][0][car]=3", bufferSize)).as(size)
+                        .containsExactly("foo|bar|false|false", "foo[]|1|true|false", "foo[0]|2|false|true",
+                                "foo[bar][0][car]|3|false|true");
+                assertThat(tokenize("=bar&foo=&foo==&foo=bar=", bufferSize)).as(size)
+                        .containsExactly("|bar|false|false", "foo||false|false", "foo||false|false", "foo|bar|false|false");
+                assertThat(tokenize("foo=1&\nbar[]=2&&&", bufferSize)).as(size)
+                        .containsExactly("foo|1|false|false", "bar[]|2|true|false");
+                assertThat(tokenize("", bufferSize)).as(size).isEmpty();
+                assertThat(tokenize(" \n ", bufferSize)).as(size).isEmpty();
+                assertThat(tokenize("&&&", bufferSize)).as(size).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("ChainException for malformed pairs for any buffer size")
+        public void test1792276010207() {
+            for (int bufferSize : new int[]{1, 2, 3, 7, FormUrlChannelTokenizer.DEFAULT_BUFFER_SIZE}) {
+                for (String input : Arrays.asList("&foo=1", "foo=1&&bar=2", "foo=1& ", " &", "foo", "=",
+                        "foo=bar=car", "foo]=1", "foo[[0]]=1")) {
+                    assertThrow(() -> tokenize(input, bufferSize)).assertClass(ChainException.class);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Buffer grows only if the pair is larger than the buffer")
+        public void test1792276010202() throws IOException {
+            final ReadableByteChannel channel = Channels.newChannel(
+                    new ByteArrayInputStream("a=1&b=2&c=3&d=4&long=12345678".getBytes(UTF_8)));
+            final FormUrlChannelTokenizer tokenizer = new FormUrlChannelTokenizer(channel, UTF_8, 4);
+            for (String key : Arrays.asList("a", "b", "c", "d")) {
+                assertTrue(tokenizer.next());
+                assertIs(tokenizer.getKey(), key);
+                assertIs(tokenizer.getBufferSize(), 4);
+            }
+            assertTrue(tokenizer.next());
+            assertIs(tokenizer.getKey(), "long");
+            assertIs(tokenizer.getRawValue(), "12345678");
+            assertIs(tokenizer.getBufferSize(), 16);
+            assertFalse(tokenizer.next());
+        }
+
+        @Test
+        @DisplayName("Large pair received in many small reads is tokenized once it is complete")
+        public void test1792276010204() throws IOException {
+            final StringBuilder value = new StringBuilder();
+            for (int i = 0; i < 10_000; i++) {
+                value.append(i % 10);
+            }
+            final String input = "a=1&large=" + value + "&b=2";
+            final ByteArrayInputStream source = new ByteArrayInputStream(input.getBytes(UTF_8));
+            // one or two bytes per read
+            final ReadableByteChannel channel = new ReadableByteChannel() {
+                @Override
+                public int read(ByteBuffer dst) {
+                    final byte[] bytes = new byte[Math.min(dst.remaining(), 1 + source.available() % 2)];
+                    final int read = source.read(bytes, 0, bytes.length);
+                    if (read > 0) {
+                        dst.put(bytes, 0, read);
+                    }
+                    return read;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                    // do nothing
+                }
+            };
+            final FormUrlChannelTokenizer tokenizer = new FormUrlChannelTokenizer(channel, UTF_8, 4);
+            final List<String> pairs = new ArrayList<>();
+            while (tokenizer.next()) {
+                pairs.add(tokenizer.getKey() + "=" + tokenizer.getRawValue());
+            }
+            assertThat(pairs).containsExactly("a=1", "large=" + value, "b=2");
+            assertIs(tokenizer.getBufferSize(), 16384);
+        }
+
+        @Test
+        @DisplayName("Buffer does not grow beyond the maximum pair length")
+        public void test1792276010205() {
+            final ReadableByteChannel channel = Channels.newChannel(
+                    new ByteArrayInputStream("a=1&long=12345678&b=2".getBytes(UTF_8)));
+            final FormUrlLimits limits = FormUrlLimits.DEFAULT.withMaxPairLength(8);
+            final FormUrlChannelTokenizer tokenizer = new FormUrlChannelTokenizer(channel, UTF_8, 4, limits);
+            assertThrow(() -> {
+                while (tokenizer.next()) {
+                    tokenizer.getKey();
+                }
+            }).assertClass(MarshallerException.class).assertMessageIs(
+                    "\n  URL encoded key-value pair exceeds the maximum length.\n" +
+                    "    Actual: 9\n" +
+                    "    Expected: length <= 8\n");
+            assertIs(tokenizer.getBufferSize(), 9);
+        }
+
+        @Test
+        @DisplayName("IOException is not wrapped")
+        public void test1792276010203() {
+            final ReadableByteChannel channel = new ReadableByteChannel() {
+                @Override
+                public int read(ByteBuffer dst) throws IOException {
+                    throw new IOException("Broken channel for test");
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                    // do nothing
+                }
+            };
+            assertThrow(() -> new FormUrlChannelTokenizer(channel, UTF_8).next())
+                    .assertClass(IOException.class)
+                    .assertMessageIs("Broken channel for test");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if the channel returns zero bytes (no busy waiting)")
+        public void test1792276010206() {
+            final ReadableByteChannel channel = new ReadableByteChannel() {
+                @Override
+                public int read(ByteBuffer dst) {
+                    return 0;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                    // do nothing
+                }
+            };
+            assertThrow(() -> new FormUrlChannelTokenizer(channel, UTF_8).next())
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Non-blocking channels are not supported.\n" +
+                                     "    Actual: 0 bytes read\n" +
+                                     "    Expected: blocking channel (at least one byte per read)\n");
+        }
+
+    }
+
+}
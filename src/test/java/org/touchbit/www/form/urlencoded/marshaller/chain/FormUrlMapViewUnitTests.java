@@ -0,0 +1,94 @@
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlMapView.class unit tests")
+public class FormUrlMapViewUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792280010101() {
+            assertRequired(() -> new FormUrlMapView(null, UTF_8), "encodedString");
+            assertRequired(() -> new FormUrlMapView("", null), "codingCharset");
+            assertRequired(() -> new FormUrlMarshaller().unmarshalToMapView(null), "encodedString");
+        }
+
+        @Test
+        @DisplayName("ChainException on the form format and root key errors")
+        public void test1792280010102() {
+            assertThrow(() -> new FormUrlMapView("foo=bar&car", UTF_8)).assertClass(ChainException.class);
+            assertThrow(() -> new FormUrlMapView("foo[[bar]]=car", UTF_8)).assertClass(ChainException.class);
+            assertThrow(() -> new FormUrlMapView("foo=bar&[0]=car", UTF_8)).assertClass(ChainException.class);
+            assertThrow(() -> new FormUrlMarshaller().unmarshalToMapView("foo=bar&[]=car"))
+                    .assertClass(ChainException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Map methods tests")
+    public class MapMethodsTests {
+
+        @Test
+        @DisplayName("View is equal to the IChain raw data")
+        public void test1792280010201() {
+            for (String input : Arrays.asList("", " ", "&&", "foo=bar", "foo=bar&foo=car&foo=" + ENCODED,
+                    "foo[]=1&foo[]=2&bar=" + ENCODED + "&foo[]=3",
+                    "foo[0]=1&foo[2]=3& car [ bar ][ 0 ][] = a+b &a[b][c][d]=deep&a[b][e]=x&z=",
+                    "foo[bar][0]=1&foo[bar][1]=2&foo[car]=3&foo[bar][2]=4")) {
+                final Map<String, Object> expected = new IChain.Default(input, UTF_8).getRawData();
+                final Map<String, Object> view = new FormUrlMapView(input, UTF_8);
+                assertThat(view).as(input).isEqualTo(expected);
+                assertThat(view.keySet()).as(input).isEqualTo(expected.keySet());
+                assertIs(view.size(), expected.size());
+                for (String key : expected.keySet()) {
+                    assertTrue(view.containsKey(key));
+                    assertIs(view.get(key), expected.get(key));
+                }
+                assertIs(view.get("unknown"), null);
+                assertFalse(view.containsKey("unknown"));
+            }
+            assertIs(new FormUrlMapView("string=%FE%FF%04%42", UTF_16).get("string"), "т");
+        }
+
+        @Test
+        @DisplayName("Values are decoded on the key access and cached")
+        public void test1792280010202() {
+            final Map<String, Object> view = new FormUrlMarshaller().unmarshalToMapView("foo=%&bar[0]=1&bar[1]=2");
+            assertTrue(view.containsKey("foo"));
+            assertIs(view.get("bar"), listOf("1", "2"));
+            assertThat(view.get("bar")).isSameAs(view.get("bar"));
+            assertThrow(() -> view.get("foo")).assertClass(MarshallerException.class);
+        }
+
+        @Test
+        @DisplayName("View is read-only")
+        public void test1792280010203() {
+            final Map<String, Object> view = new FormUrlMapView("foo=bar", UTF_8);
+            assertThrow(() -> view.put("foo", "car")).assertClass(UnsupportedOperationException.class);
+            assertThrow(() -> view.remove("foo")).assertClass(UnsupportedOperationException.class);
+            assertThrow(view::clear).assertClass(UnsupportedOperationException.class);
+            assertThrow(() -> view.keySet().remove("foo")).assertClass(UnsupportedOperationException.class);
+            assertIs(view.get("foo"), "bar");
+        }
+
+    }
+
+}
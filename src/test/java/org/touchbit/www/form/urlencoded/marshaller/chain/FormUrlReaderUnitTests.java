@@ -0,0 +1,128 @@
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlReader.class unit tests")
+public class FormUrlReaderUnitTests extends BaseTest {
+
+    private static final String INPUT = "foo=bar& foo [ bar ][ 0 ][] = a+b &[1]=1&foo[b1]=" + ENCODED +
+                                        "&a[b][c][d][e][f][g][h][i][j]=deep&foo[bar]car=x&&";
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792278010101() {
+            assertRequired(() -> new FormUrlReader(null), "encodedString");
+            assertRequired(() -> new FormUrlReader("", null), "codingCharset");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Cursor methods tests")
+    public class CursorMethodsTests {
+
+        @Test
+        @DisplayName("Key segments are identical to the IChainPart key chain")
+        public void test1792278010201() {
+            final FormUrlReader reader = new FormUrlReader(INPUT);
+            final List<IChainPart> parts = new IChain.Default((String) null).readUrlEncodedString(INPUT, UTF_8);
+            final List<String> keys = new ArrayList<>();
+            for (IChainPart part : parts) {
+                assertTrue(reader.next());
+                keys.add(reader.key());
+                assertIs(reader.key(), part.getKey());
+                assertIs(reader.value(), part.getValue());
+                final List<IChainKey> keyChain = part.getKeyChain();
+                assertIs(reader.keySegmentCount(), keyChain.size());
+                for (int i = 0; i < keyChain.size(); i++) {
+                    final IChainKey chainKey = keyChain.get(i);
+                    assertThat(reader.isIndex(i)).as(part.getKey() + " segment " + i).isEqualTo(chainKey.isList());
+                    if (chainKey.isIndexedList()) {
+                        assertIs(Integer.valueOf(reader.keySegment(i)), chainKey.getIndex());
+                    } else if (chainKey.isList()) {
+                        assertIs(reader.keySegment(i), "");
+                    } else {
+                        assertIs(reader.keySegment(i), chainKey.getKeyName());
+                    }
+                }
+            }
+            assertFalse(reader.next());
+            assertThat(keys).containsExactly("foo", "foo [ bar ][ 0 ][]", "[1]", "foo[b1]",
+                    "a[b][c][d][e][f][g][h][i][j]", "foo[bar]car");
+        }
+
+        @Test
+        @DisplayName("Current pair values and list flags")
+        public void test1792278010202() {
+            final FormUrlReader reader = new FormUrlReader(INPUT, UTF_8);
+            assertTrue(reader.next());
+            assertTrue(reader.next());
+            assertIs(reader.keySegment(1), "bar");
+            assertFalse(reader.isIndex(1));
+            assertTrue(reader.isIndex(2));
+            assertTrue(reader.isIndex(3));
+            assertIs(reader.rawValue(), "a+b");
+            assertIs(reader.value(), "a b");
+            assertTrue(reader.isImplicitList());
+            assertTrue(reader.next());
+            assertIs(reader.keySegment(0), "");
+            assertTrue(reader.isIndex(0));
+            assertTrue(reader.isExplicitList());
+            assertTrue(reader.next());
+            assertIs(reader.rawValue(), ENCODED);
+            assertIs(reader.value(), DECODED);
+            assertFalse(reader.isIndex(1));
+            final FormUrlReader utf16 = new FormUrlReader("string=%FE%FF%04%42", UTF_16);
+            assertTrue(utf16.next());
+            assertIs(utf16.value(), "т");
+        }
+
+        @Test
+        @DisplayName("Blank input has no pairs")
+        public void test1792278010203() {
+            assertFalse(new FormUrlReader("").next());
+            assertFalse(new FormUrlReader(" \n ").next());
+            assertFalse(new FormUrlReader("&&").next());
+        }
+
+        @Test
+        @DisplayName("IllegalStateException if the reader is not on a pair")
+        public void test1792278010204() {
+            final FormUrlReader reader = new FormUrlReader("foo=bar");
+            assertThrow(reader::key)
+                    .assertClass(IllegalStateException.class)
+                    .assertMessageIs("The reader is not on a key/value pair. Call next() first.");
+            assertTrue(reader.next());
+            assertThrow(() -> reader.keySegment(1))
+                    .assertClass(IndexOutOfBoundsException.class)
+                    .assertMessageIs("Key segment index: 1, segments count: 1");
+            assertFalse(reader.next());
+            assertThrow(reader::value).assertClass(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("ChainException if key-value pair is not in URL form format")
+        public void test1792278010205() {
+            final FormUrlReader reader = new FormUrlReader("foo=bar&car");
+            assertTrue(reader.next());
+            assertThrow(reader::next).assertClass(ChainException.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,273 @@
+package org.touchbit.www.form.urlencoded.marshaller.chain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlConfig;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.Pojo;
+
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlTokenizer.class unit tests")
+public class FormUrlTokenizerUnitTests extends BaseTest {
+
+    private static List<String> tokenize(String input) {
+        final List<String> result = new ArrayList<>();
+        final FormUrlTokenizer tokenizer = new FormUrlTokenizer(input);
+        while (tokenizer.next()) {
+            result.add(tokenizer.getKey() + "|" + tokenizer.getRawValue() + "|" +
+                       tokenizer.isImplicitList() + "|" + tokenizer.isExplicitList());
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("#next() method tests")
+    public class NextMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792271130101() {
+            assertRequired(() -> new FormUrlTokenizer(null), "encodedString");
+        }
+
+        @Test
+        @DisplayName("Offsets of trimmed key and value")
+        public void test1792271130102() {
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer(" foo[0] = bar &car=");
+            assertTrue(tokenizer.next());
+            assertIs(tokenizer.getKeyStart(), 1);
+            assertIs(tokenizer.getKeyEnd(), 7);
+            assertIs(tokenizer.getValueStart(), 10);
+            assertIs(tokenizer.getValueEnd(), 13);
+            assertIs(tokenizer.getKey(), "foo[0]");
+            assertIs(tokenizer.getRawValue(), "bar");
+            assertTrue(tokenizer.isExplicitList());
+            assertFalse(tokenizer.isImplicitList());
+            assertTrue(tokenizer.next());
+            assertIs(tokenizer.getKey(), "car");
+            assertIs(tokenizer.getRawValue(), "");
+            assertFalse(tokenizer.isExplicitList());
+            assertFalse(tokenizer.next());
+            assertFalse(tokenizer.next());
+        }
+
+        @Test
+        @DisplayName("ChainException key-value pair is not in URL form format")
+        public void test1792271130103() {
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer("foo=1&&bar=2");
+            assertTrue(tokenizer.next());
+            assertThrow(tokenizer::next)
+                    .assertClass(ChainException.class)
+                    .assertMessageIs("URL encoded key-value pair is not in URL format:\n" +
+                                     "Pair: foo=1&&bar=2");
+        }
+
+        @Test
+        @DisplayName("ChainException incorrect ratio of opening and closing brackets")
+        public void test1792271130104() {
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer("foo[bar]0]=value");
+            assertThrow(tokenizer::next)
+                    .assertClass(ChainException.class)
+                    .assertMessageIs("The key contains an incorrect ratio of opening and closing brackets.\n" +
+                                     "Invalid key: foo[bar]0]\n");
+        }
+
+        @Test
+        @DisplayName("ChainException list nesting [[]]")
+        public void test1792271130105() {
+            final FormUrlTokenizer tokenizer = new FormUrlTokenizer("foo[bar][[0]]=value");
+            assertThrow(tokenizer::next)
+                    .assertClass(ChainException.class)
+                    .assertMessageIs("Key nesting is not allowed.\n" +
+                                     "Invalid key: foo[bar][[0]]\n" +
+                                     "Expected nested object format: filter[foo][bar]\n" +
+                                     "Expected nested list format: filter[foo][0]\n");
+        }
+
+        @Test
+        @DisplayName("Trailing separators are ignored")
+        public void test1792271130106() {
+            assertThat(tokenize("")).isEmpty();
+            assertThat(tokenize("&&&")).isEmpty();
+            assertThat(tokenize("foo=1&")).containsExactly("foo|1|false|false");
+            assertThat(tokenize("foo=1&&&")).containsExactly("foo|1|false|false");
+            assertThat(tokenize("foo=1&\nbar[]=2&\nbar[]=3"))
+                    .containsExactly("foo|1|false|false", "bar[]|2|true|false", "bar[]|3|true|false");
+        }
+
+        @Test
+        @DisplayName("Empty key, empty value and trailing '=' of the value")
+        public void test1792271130107() {
+            assertThat(tokenize("=bar")).containsExactly("|bar|false|false");
+            assertThat(tokenize(" =")).containsExactly("||false|false");
+            assertThat(tokenize("foo=")).containsExactly("foo||false|false");
+            assertThat(tokenize("foo==")).containsExactly("foo||false|false");
+            assertThat(tokenize("foo=bar==")).containsExactly("foo|bar|false|false");
+            assertThat(tokenize("foo=%D1%82&bar=a+b")).containsExactly("foo|%D1%82|false|false", "bar|a+b|false|false");
+        }
+
+        @Test
+        @DisplayName("ChainException if pair is empty, has no '=' or has more than one value")
+        public void test1792271130108() {
+            for (String input : Arrays.asList("&foo=1", " ", "foo", "=", "==", "foo=bar=car", "foo==bar")) {
+                assertThrow(() -> tokenize(input))
+                        .assertClass(ChainException.class)
+                        .assertMessageIs("URL encoded key-value pair is not in URL format:\n" +
+                                         "Pair: " + input);
+            }
+            assertThrow(() -> tokenize("foo[=1"))
+                    .assertClass(ChainException.class)
+                    .assertMessageIs("The key contains an incorrect ratio of opening and closing brackets.\n" +
+                                     "Invalid key: foo[\n");
+        }
+
+        @Test
+        @DisplayName("Explicit list if any key part consists of digits")
+        public void test1792271130109() {
+            assertThat(tokenize("123=1")).containsExactly("123|1|false|true");
+            assertThat(tokenize("[1]=1")).containsExactly("[1]|1|false|true");
+            assertThat(tokenize("foo[1]2=1")).containsExactly("foo[1]2|1|false|true");
+            assertThat(tokenize("foo[bar][0][car]=1")).containsExactly("foo[bar][0][car]|1|false|true");
+            assertThat(tokenize("foo[١]=1")).containsExactly("foo[١]|1|false|true");
+            assertThat(tokenize("foo[ 1 ]=1")).containsExactly("foo[ 1 ]|1|false|false");
+            assertThat(tokenize("foo[b1]=1")).containsExactly("foo[b1]|1|false|false");
+            assertThat(tokenize("foo[bar]=1")).containsExactly("foo[bar]|1|false|false");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#isBlank() method tests")
+    public class IsBlankMethodTests {
+
+        @Test
+        @DisplayName("Same as String#trim().isEmpty()")
+        public void test1792271130201() {
+            assertTrue(FormUrlTokenizer.isBlank(null));
+            for (String value : Arrays.asList("", " ", " \n\t\u0000 ", "a", " a ", " ")) {
+                assertIs(FormUrlTokenizer.isBlank(value), value.trim().isEmpty());
+            }
+        }
+
+    }
+
+
+    @Nested
+    @DisplayName("Parsing limits tests")
+    public class ParsingLimitsTests {
+
+        private void readAll(FormUrlTokenizer tokenizer) {
+            while (tokenizer.next()) {
+                tokenizer.getKey();
+            }
+        }
+
+        private FormUrlChannelTokenizer channel(String input, FormUrlLimits limits) {
+            final ReadableByteChannel channel =
+                    Channels.newChannel(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+            return new FormUrlChannelTokenizer(channel, StandardCharsets.UTF_8, 4, limits);
+        }
+
+        @Test
+        @DisplayName("MarshallerException if form data exceeds the limits")
+        public void test1792271130301() {
+            final FormUrlLimits limits = FormUrlLimits.DEFAULT
+                    .withMaxPairs(2).withMaxKeyDepth(2).withMaxKeyLength(8).withMaxListIndex(9).withMaxBodyLength(20);
+            readAll(new FormUrlTokenizer("a[b][0]=1&abcdefgh=2", limits));
+            assertThrow(() -> new FormUrlTokenizer("a=1&b=2&c=3&d=4&e=5&f=6", limits))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded form data exceeds the maximum length.\n" +
+                                     "    Actual: 23\n" +
+                                     "    Expected: length <= 20\n");
+            assertThrow(() -> readAll(new FormUrlTokenizer("a=1&b=2&c=3", limits)))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded form data exceeds the maximum number of key-value pairs.\n" +
+                                     "    Actual: 3\n" +
+                                     "    Expected: pairs <= 2\n");
+            assertThrow(() -> readAll(new FormUrlTokenizer(" abcdefghi =1", limits)))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded key exceeds the maximum key length.\n" +
+                                     "    Actual: 9\n" +
+                                     "    Expected: length <= 8\n");
+            assertThrow(() -> readAll(new FormUrlTokenizer("a[][][]=1", limits)))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded key exceeds the maximum nesting depth.\n" +
+                                     "    Actual: 3\n" +
+                                     "    Expected: depth <= 2\n");
+            assertThrow(() -> readAll(new FormUrlTokenizer("a[10]=1", limits)))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Explicit list index exceeds the maximum list index.\n" +
+                                     "    Actual: 10\n" +
+                                     "    Expected: index <= 9\n");
+            assertThrow(() -> readAll(new FormUrlTokenizer("a=1&b=" + "1234567890", limits.withMaxBodyLength(30).withMaxPairLength(8))))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded key-value pair exceeds the maximum length.\n" +
+                                     "    Actual: 12\n" +
+                                     "    Expected: length <= 8\n");
+            assertRequired(() -> new FormUrlTokenizer("a=1", null), "limits");
+            assertThrow(() -> FormUrlLimits.DEFAULT.withMaxPairs(-1))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Maximum pairs count must not be negative.\n" +
+                                     "    Actual: -1\n" +
+                                     "    Expected: value >= 0\n");
+        }
+
+        @Test
+        @DisplayName("Channel data limits are checked as the data arrives")
+        public void test1792271130302() {
+            final FormUrlLimits limits = FormUrlLimits.DEFAULT.withMaxPairs(2).withMaxBodyLength(12);
+            final FormUrlChannelTokenizer pairs = channel("a=1&b=2&c=3", limits);
+            assertThrow(() -> {
+                while (pairs.next()) {
+                    pairs.getKey();
+                }
+            }).assertClass(MarshallerException.class).assertMessageIs(
+                    "\n  URL encoded form data exceeds the maximum number of key-value pairs.\n" +
+                    "    Actual: 3\n" +
+                    "    Expected: pairs <= 2\n");
+            final FormUrlChannelTokenizer body = channel("a=1&b=2&c[0]=3", limits.withMaxPairs(5));
+            assertThrow(() -> {
+                while (body.next()) {
+                    body.getKey();
+                }
+            }).assertClass(MarshallerException.class).assertMessageIs(
+                    "\n  URL encoded form data exceeds the maximum length.\n" +
+                    "    Actual: 14\n" +
+                    "    Expected: length <= 12\n");
+        }
+
+        @Test
+        @DisplayName("Marshaller limits are applied to all unmarshalling paths")
+        public void test1792271130303() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(FormUrlConfig.DEFAULT
+                    .withLimits(FormUrlLimits.DEFAULT.withMaxKeyDepth(1)));
+            assertThat(marshaller.getLimits().getMaxKeyDepth()).isEqualTo(1);
+            assertThat(marshaller.getMaxListIndex()).isEqualTo(FormUrlLimits.DEFAULT_MAX_LIST_INDEX);
+            final String input = "foo[bar][baz]=1";
+            assertThrow(() -> marshaller.unmarshal(HashMap.class, input)).assertClass(MarshallerException.class);
+            assertThrow(() -> marshaller.unmarshal(Pojo.class, input)).assertClass(MarshallerException.class);
+            assertThrow(() -> marshaller.unmarshalToMapView(input)).assertClass(MarshallerException.class);
+            assertThrow(() -> marshaller.unmarshal(HashMap.class,
+                    new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8))))
+                    .assertClass(MarshallerException.class);
+            assertThat(FormUrlConfig.DEFAULT.withLimits(FormUrlLimits.UNLIMITED).withMaxListIndex(5)
+                    .getLimits().getMaxPairs()).isEqualTo(Integer.MAX_VALUE);
+        }
+
+    }
+
+}
@@ -25,6 +25,13 @@ public class IChainFuncTests extends BaseTest {
         assertThat(actual.toString()).isEqualTo(UNINDEXED_MAP_STR);
     }
 
+    @Test
+    @DisplayName("Read data from hidden list URL form data")
+    public void test1792272040101() {
+        final Map<String, Object> actual = new IChain.Default("foo=1&foo=2&foo=3&foo[]=4&bar[x]=1&bar[x]=2").getRawData();
+        assertThat(actual.toString()).isEqualTo("{bar={x=[1, 2]}, foo=[1, 2, 3, 4]}");
+    }
+
     public static final String INDEXED_QUERY_DATA = "a_1=aaa&\n" +
                                                     "b_1[0]=bbb&\n" +
                                                     "b_1[2]=ccc&\n" +
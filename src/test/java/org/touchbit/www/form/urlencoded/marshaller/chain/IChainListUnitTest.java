@@ -111,4 +111,67 @@ public class IChainListUnitTest extends BaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("IChainList.Sparse tests")
+    public class SparseTests {
+
+        @Test
+        @DisplayName("Missing indexes are read as null values")
+        public void test1792281010101() {
+            final IChainList.Sparse sparse = new IChainList.Sparse();
+            sparse.put(3, "foo");
+            assertIs(sparse.size(), 4);
+            assertIs(sparse.getValues().size(), 1);
+            assertThat(sparse).containsExactly(null, null, null, "foo");
+            assertThat(sparse).isEqualTo(listOf(null, null, null, "foo"));
+            assertTrue(sparse.isNotFilled());
+            assertFalse(sparse.isNotIndexed());
+            assertThat(sparse.toDenseList()).containsExactly(null, null, null, "foo");
+            assertThrow(() -> sparse.get(4)).assertClass(IndexOutOfBoundsException.class);
+            assertThrow(() -> sparse.put(-1, "bar")).assertClass(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("List methods shift stored values")
+        public void test1792281010102() {
+            final IChainList.Sparse sparse = new IChainList.Sparse();
+            sparse.add("a");
+            sparse.put(2, "c");
+            sparse.add(1, "b");
+            assertThat(sparse).containsExactly("a", "b", null, "c");
+            assertIs(sparse.remove(2), null);
+            assertThat(sparse).containsExactly("a", "b", "c");
+            assertFalse(sparse.isNotFilled());
+            sparse.clear();
+            assertTrue(sparse.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Null and complex values are counted")
+        public void test1792282020101() {
+            final IChainList.Sparse sparse = new IChainList.Sparse();
+            sparse.put(0, "a");
+            assertFalse(sparse.isNotFilled());
+            assertTrue(sparse.hasOnlySimpleValues());
+            sparse.put(1, null);
+            sparse.add(mapOf());
+            assertTrue(sparse.isNotFilled());
+            assertFalse(sparse.hasOnlySimpleValues());
+            sparse.set(1, "b");
+            sparse.remove(2);
+            assertFalse(sparse.isNotFilled());
+            assertTrue(sparse.hasOnlySimpleValues());
+        }
+
+        @Test
+        @DisplayName("Huge index does not allocate the leading null values")
+        public void test1792281010103() {
+            final IChainList.Sparse sparse = new IChainList.Sparse();
+            sparse.put(Integer.MAX_VALUE - 1, "foo");
+            assertIs(sparse.size(), Integer.MAX_VALUE);
+            assertIs(sparse.getValues().size(), 1);
+        }
+
+    }
+
 }
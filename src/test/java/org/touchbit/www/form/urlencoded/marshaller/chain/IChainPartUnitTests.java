@@ -300,7 +300,7 @@ public class IChainPartUnitTests extends BaseTest {
                     .assertClass(ChainException.class)
                     .assertMessageIs("Unable to process key. The key does not belong to the 'Map' type.\n" +
                                      "Key: 0\n" +
-                                     "Key type: " + IChainList.Default.class + "\n" +
+                                     "Key type: " + IChainList.Sparse.class + "\n" +
                                      "Key structure: [null]\n");
         }
 
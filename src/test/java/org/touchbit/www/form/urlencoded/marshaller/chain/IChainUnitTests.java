@@ -598,6 +598,16 @@ public class IChainUnitTests extends BaseTest {
             assertThat(objects).containsExactly(mapOf("foo", "a", "bar", "b"));
         }
 
+        @Test
+        @DisplayName("append duplicate maps by position (unindexed list)")
+        public void test1792282010201() {
+            final IChain.Default chain = new IChain.Default(null);
+            final IChainList target = chainListOf(false, mapOf("foo", "a"));
+            final IChainList source = chainListOf(false, mapOf("foo", "b"), mapOf("foo", "b"));
+            final IChainList objects = chain.mergeNonIndexedIChainLists(source, target);
+            assertThat(objects).containsExactly(mapOf("foo", "a"), mapOf("foo", "b"), mapOf("foo", "b"));
+        }
+
     }
 
     @Nested
@@ -731,6 +741,36 @@ public class IChainUnitTests extends BaseTest {
             assertThat(objects.toString()).isEqualTo("[car]");
         }
 
+        @Test
+        @DisplayName("merge duplicate values by position (indexed)")
+        public void test1792282010101() {
+            final IChain.Default chain = new IChain.Default(null);
+            final IChainList target = chainListOf(true, null, null, "b");
+            final IChainList source = chainListOf(true, "a", null, "a");
+            assertThat(chain.mergeIndexedIChainLists(source, target)).containsExactly("a", null, "a");
+            final IChainList mapTarget = chainListOf(true, mapOf("foo", "1"), null, mapOf("foo", "1"));
+            final IChainList mapSource = chainListOf(true, mapOf("bar", "2"), null, mapOf("bar", "2"));
+            assertThat(chain.mergeIndexedIChainLists(mapSource, mapTarget)).containsExactly(
+                    mapOf("foo", "1", "bar", "2"), null, mapOf("foo", "1", "bar", "2"));
+        }
+
+        @Test
+        @DisplayName("merge sparse lists (indexed)")
+        public void test1792282010102() {
+            final IChain.Default chain = new IChain.Default(null);
+            final IChainList.Sparse target = new IChainList.Sparse();
+            target.put(0, "a");
+            target.put(2, mapOf("foo", "1"));
+            final IChainList.Sparse source = new IChainList.Sparse();
+            source.put(2, mapOf("bar", "2"));
+            source.put(5, "c");
+            final IChainList objects = chain.mergeIndexedIChainLists(source, target);
+            assertThat(objects).containsExactly("a", null, mapOf("foo", "1", "bar", "2"), null, null, "c");
+            final IChainList.Sparse overwrite = new IChainList.Sparse();
+            overwrite.put(0, "b");
+            assertThat(chain.mergeIndexedIChainLists(overwrite, objects)).startsWith("b", null);
+        }
+
     }
 
     @Nested
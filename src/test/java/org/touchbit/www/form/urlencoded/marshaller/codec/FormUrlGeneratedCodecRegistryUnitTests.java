@@ -0,0 +1,61 @@
+package org.touchbit.www.form.urlencoded.marshaller.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.processor.FormUrlCodecProcessor;
+import qa.model.Pojo;
+import qa.util.InMemoryCompiler;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@DisplayName("FormUrlGeneratedCodecRegistry.class unit tests")
+public class FormUrlGeneratedCodecRegistryUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("#get() method tests")
+    public class GetMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792263420101() {
+            assertRequired(() -> FormUrlGeneratedCodecRegistry.get(null), "aClass");
+        }
+
+        @Test
+        @DisplayName("Return null if codec is not generated")
+        public void test1792263420102() {
+            assertIsNull(FormUrlGeneratedCodecRegistry.get(Pojo.class));
+            assertIsNull(FormUrlGeneratedCodecRegistry.get(String.class));
+        }
+
+        @Test
+        @DisplayName("Broken service entries are skipped")
+        public void test1792263420103() throws IOException {
+            final InMemoryCompiler compiler = new InMemoryCompiler(new FormUrlCodecProcessor(),
+                    Collections.singletonMap("qa.generated.broken.BrokenEntryPojo", "" +
+                            "package qa.generated.broken;\n" +
+                            "import org.touchbit.www.form.urlencoded.marshaller.pojo.*;\n" +
+                            "@FormUrlEncoded\n" +
+                            "public class BrokenEntryPojo {\n" +
+                            "    @FormUrlEncodedField(\"text\") private String text;\n" +
+                            "}\n"));
+            final Path services = compiler.getOutput().resolve(FormUrlCodecProcessor.SERVICE_FILE);
+            final String content = new String(Files.readAllBytes(services), UTF_8);
+            Files.write(services, ("qa.generated.broken.Missing_FormUrlCodec\n" + content).getBytes(UTF_8));
+            final Class<?> pojoClass = compiler.loadClass("qa.generated.broken.BrokenEntryPojo");
+            final FormUrlGeneratedCodec<?> codec = FormUrlGeneratedCodecRegistry.get(pojoClass);
+            assertNotNull(codec);
+            assertIs(codec.getPojoClass(), pojoClass);
+            assertIs(FormUrlGeneratedCodecRegistry.get(pojoClass), codec);
+        }
+
+    }
+
+}
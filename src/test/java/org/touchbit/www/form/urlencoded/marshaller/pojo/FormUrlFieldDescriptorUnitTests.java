@@ -0,0 +1,155 @@
+package org.touchbit.www.form.urlencoded.marshaller.pojo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.EmptyPojo;
+import qa.model.FinalFieldPojo;
+import qa.model.Pojo;
+import qa.model.PrimitivePojo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static qa.model.Pojo.PojoFields;
+
+@DisplayName("FormUrlFieldDescriptor.class unit tests")
+public class FormUrlFieldDescriptorUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("Constructor tests")
+    public class ConstructorTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792253110101() {
+            assertRequired(() -> new FormUrlFieldDescriptor(null), "field");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if field is not annotated")
+        public void test1792253110102() throws NoSuchFieldException {
+            assertThrow(() -> new FormUrlFieldDescriptor(EmptyPojo.class.getDeclaredField("foo")))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Field does not contain a required annotation.\n" +
+                                     "    Field: public String foo;\n" +
+                                     "    Expected: @FormUrlEncodedField\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#getValue() method tests")
+    public class GetValueMethodTests {
+
+        @Test
+        @DisplayName("Read private field value")
+        public void test1792253110201() {
+            final FormUrlFieldDescriptor descriptor = new FormUrlFieldDescriptor(PojoFields.INTEGER.getDeclaredField());
+            assertThat(descriptor.getValue(pojo().integer(100500))).isEqualTo(100500);
+            assertIsNull(descriptor.getValue(pojo()));
+        }
+
+        @Test
+        @DisplayName("MarshallerException if object is not a field owner")
+        public void test1792253110202() {
+            final FormUrlFieldDescriptor descriptor = new FormUrlFieldDescriptor(PojoFields.INTEGER.getDeclaredField());
+            assertThrow(() -> descriptor.getValue(new EmptyPojo()))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unable to read value from object field.\n" +
+                                     "    Model: qa.model.EmptyPojo\n" +
+                                     "    Field: private Integer integer;\n" +
+                                     "    Error cause:\n" +
+                                     "     - ClassCastException: Cannot cast qa.model.EmptyPojo to qa.model.Pojo\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#setValue() method tests")
+    public class SetValueMethodTests {
+
+        @Test
+        @DisplayName("Write private field value")
+        public void test1792253110301() {
+            final FormUrlFieldDescriptor descriptor = new FormUrlFieldDescriptor(PojoFields.INTEGER.getDeclaredField());
+            final Pojo pojo = pojo();
+            descriptor.setValue(pojo, 123123);
+            assertThat(pojo.integer()).isEqualTo(123123);
+        }
+
+        @Test
+        @DisplayName("Write final field value")
+        public void test1792253110302() throws NoSuchFieldException {
+            final FormUrlFieldDescriptor descriptor =
+                    new FormUrlFieldDescriptor(FinalFieldPojo.class.getDeclaredField("foo"));
+            final FinalFieldPojo pojo = new FinalFieldPojo();
+            descriptor.setValue(pojo, "car");
+            assertThat(descriptor.getValue(pojo)).isEqualTo("car");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if value type is not compatible with field type")
+        public void test1792253110303() {
+            final FormUrlFieldDescriptor descriptor = new FormUrlFieldDescriptor(PojoFields.INTEGER.getDeclaredField());
+            assertThrow(() -> descriptor.setValue(pojo(), "test"))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unable to write value to object field.\n" +
+                                     "    Model: qa.model.Pojo\n" +
+                                     "    Field: private Integer integer;\n" +
+                                     "    Value: test\n" +
+                                     "    Value type: java.lang.String\n" +
+                                     "    Error cause:\n" +
+                                     "     - ClassCastException: Cannot cast java.lang.String to java.lang.Integer\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#isFlat() method tests")
+    public class IsFlatMethodTests {
+
+        @Test
+        @DisplayName("Simple types, simple arrays and generic collections of simple type")
+        public void test1792253110401() {
+            final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(Pojo.class);
+            for (String name : listOf("string", "integer", "bigDecimalF", "arrayString", "arrayInteger",
+                    "listString", "listInteger")) {
+                assertTrue(descriptor.getField(name).isFlat());
+            }
+            for (String name : listOf("object", "nestedPojo", "arrayPojo", "listPojo", "listRaw", "listObject",
+                    "listListString", "arrayMapObject", "mapObject", "mapRaw")) {
+                assertFalse(descriptor.getField(name).isFlat());
+            }
+        }
+
+        @Test
+        @DisplayName("Primitive types and primitive arrays")
+        public void test1792253110402() {
+            final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(PrimitivePojo.class);
+            for (String name : listOf("int", "long", "short", "double", "float", "boolean",
+                    "intArray", "longArray", "doubleArray", "booleanArray")) {
+                assertTrue(descriptor.getField(name).isFlat());
+            }
+            assertTrue(descriptor.getField("int").isPrimitive());
+            assertFalse(descriptor.getField("intArray").isPrimitive());
+            final PrimitivePojo pojo = new PrimitivePojo();
+            descriptor.getField("int").setInt(pojo, 1);
+            descriptor.getField("long").setLong(pojo, 2L);
+            descriptor.getField("short").setShort(pojo, (short) 3);
+            descriptor.getField("double").setDouble(pojo, 4.5D);
+            descriptor.getField("float").setFloat(pojo, 5.5F);
+            descriptor.getField("boolean").setBoolean(pojo, true);
+            assertIs(pojo.intValue(), 1);
+            assertIs(pojo.longValue(), 2L);
+            assertIs(pojo.shortValue(), (short) 3);
+            assertIs(pojo.doubleValue(), 4.5D);
+            assertIs(pojo.floatValue(), 5.5F);
+            assertTrue(pojo.booleanValue());
+            assertThrow(() -> descriptor.getField("long").setInt(pojo, 1))
+                    .assertClass(MarshallerException.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,179 @@
+package org.touchbit.www.form.urlencoded.marshaller.pojo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.model.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormUrlPojoDescriptor.class unit tests")
+public class FormUrlPojoDescriptorUnitTests extends BaseTest {
+
+    @Nested
+    @DisplayName("#of() method tests")
+    public class OfMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792249510101() {
+            assertRequired(() -> FormUrlPojoDescriptor.of(null), "aClass");
+        }
+
+        @Test
+        @DisplayName("Descriptor is cached per class")
+        public void test1792249510102() {
+            final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(Pojo.class);
+            assertThat(FormUrlPojoDescriptor.of(Pojo.class)).isSameAs(descriptor);
+            assertThat(FormUrlPojoDescriptor.of(MapPojo.class)).isNotSameAs(descriptor);
+        }
+
+        @Test
+        @DisplayName("Fields without static, transient and empty key name fields")
+        public void test1792249510103() {
+            final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(Pojo.class);
+            final String names = descriptor.getFields().stream()
+                    .map(FormUrlFieldDescriptor::getName)
+                    .collect(Collectors.joining(","));
+            assertThat(names).startsWith("nestedPojo,missed,string,integer,");
+            assertThat(descriptor.getFieldsMap()).doesNotContainKeys("constant", "transientPojo", "");
+            assertThat(descriptor.getFieldsMap()).hasSize(descriptor.getFields().size());
+            assertTrue(descriptor.isFormUrlEncoded());
+        }
+
+        @Test
+        @DisplayName("Field descriptor contains annotation values and nested POJO class")
+        public void test1792249510104() {
+            final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(Pojo.class);
+            final FormUrlFieldDescriptor nestedPojo = descriptor.getField("nestedPojo");
+            assertTrue(nestedPojo.isPojo());
+            assertTrue(nestedPojo.isSomePojo());
+            assertIs(nestedPojo.getPojoClass(), Pojo.class);
+            final FormUrlFieldDescriptor listPojo = descriptor.getField("listPojo");
+            assertTrue(listPojo.isPojoGenericCollection());
+            assertIs(listPojo.getPojoClass(), Pojo.class);
+            final FormUrlFieldDescriptor arrayPojo = descriptor.getField("arrayPojo");
+            assertTrue(arrayPojo.isPojoArray());
+            assertIs(arrayPojo.getPojoClass(), Pojo.class);
+            final FormUrlFieldDescriptor string = descriptor.getField("string");
+            assertFalse(string.isSomePojo());
+            assertFalse(string.isEncoded());
+            assertIsNull(string.getPojoClass());
+            assertIs(string.getGenericType(), String.class);
+            assertTrue(FormUrlPojoDescriptor.of(LittlePojo.class).getField("bar").isEncoded());
+        }
+
+        @Test
+        @DisplayName("Additional properties field")
+        public void test1792249510105() {
+            assertTrue(FormUrlPojoDescriptor.of(Pojo.class).hasAdditionalProperties());
+            assertIs(FormUrlPojoDescriptor.of(Pojo.class).getAdditionalPropertiesField().getName(), "additionalProperties");
+            assertFalse(FormUrlPojoDescriptor.of(EmptyPojo.class).hasAdditionalProperties());
+            assertIsNull(FormUrlPojoDescriptor.of(EmptyPojo.class).getAdditionalPropertiesField());
+        }
+
+        @Test
+        @DisplayName("MarshallerException if POJO contains several fields with the same URL form key name")
+        public void test1792249510106() {
+            assertThrow(() -> FormUrlPojoDescriptor.of(DuplicateFieldNamePojo.class))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  POJO contains several fields with the same URL form key name.\n" +
+                                     "    Model: qa.model.DuplicateFieldNamePojo\n" +
+                                     "    Fields:\n" +
+                                     "     - private String foo1;\n" +
+                                     "     - private String foo2;\n" +
+                                     "    Expected: unique @FormUrlEncodedField values\n");
+        }
+
+        @Test
+        @DisplayName("MarshallerException if additional properties field is invalid")
+        public void test1792249510107() {
+            assertThrow(() -> FormUrlPojoDescriptor.of(AdditionalPropertiesList.class))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Invalid additional properties field type\n" +
+                                     "    Model: qa.model.AdditionalPropertiesList\n" +
+                                     "    Field: private List<String> additionalProperties;\n" +
+                                     "    Actual type: java.util.List<java.lang.String>\n" +
+                                     "    Expected: java.util.Map<java.lang.String, java.lang.Object>\n");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#getFieldIndex() method tests")
+    public class GetFieldIndexMethodTests {
+
+        @Test
+        @DisplayName("Return field index by URL form key name or -1")
+        public void test1792249510301() {
+            final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(Pojo.class);
+            for (int i = 0; i < descriptor.getFields().size(); i++) {
+                assertIs(descriptor.getFieldIndex(descriptor.getFields().get(i).getName()), i);
+            }
+            assertIs(descriptor.getFieldIndex("transientPojo"), -1);
+            assertIs(descriptor.getFieldIndex(null), -1);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#getAdditionalProperties() method tests")
+    public class GetAdditionalPropertiesMethodTests {
+
+        @Test
+        @DisplayName("Required parameters")
+        public void test1792249510401() {
+            assertRequired(() -> FormUrlPojoDescriptor.of(AdditionalProperties.class).getAdditionalProperties(null),
+                    "model");
+        }
+
+        @Test
+        @DisplayName("Return initialized additional properties map or null if the field is not present")
+        public void test1792249510402() {
+            final AdditionalProperties model = new AdditionalProperties();
+            final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(AdditionalProperties.class);
+            final Map<Object, Object> initialized = descriptor.getAdditionalProperties(model);
+            assertIs(initialized, new HashMap<>());
+            assertThat(model.additionalProperties).isSameAs(initialized);
+            assertThat(descriptor.getAdditionalProperties(model)).isSameAs(initialized);
+            final AdditionalPropertiesFinal finalModel = new AdditionalPropertiesFinal();
+            assertThat(FormUrlPojoDescriptor.of(AdditionalPropertiesFinal.class).getAdditionalProperties(finalModel))
+                    .isSameAs(finalModel.additionalProperties);
+            assertIsNull(FormUrlPojoDescriptor.of(EmptyPojo.class).getAdditionalProperties(new EmptyPojo()));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#newInstance() method tests")
+    public class NewInstanceMethodTests {
+
+        @Test
+        @DisplayName("Successfully instantiate POJO class")
+        public void test1792249510201() {
+            assertThat(FormUrlPojoDescriptor.of(Pojo.class).newInstance()).isInstanceOf(Pojo.class);
+            assertNotNull(FormUrlPojoDescriptor.of(Pojo.class).getConstructor());
+        }
+
+        @Test
+        @DisplayName("MarshallerException if private constructor")
+        public void test1792249510202() {
+            assertIsNull(FormUrlPojoDescriptor.of(PrivatePojo.class).getConstructor());
+            assertThrow(() -> FormUrlPojoDescriptor.of(PrivatePojo.class).newInstance())
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  Unable to instantiate model class.\n" +
+                                     "    Source type: qa.model.PrivatePojo\n" +
+                                     "    Error cause:\n" +
+                                     "     - NoSuchMethodException:" +
+                                     " No such accessible constructor on object: qa.model.PrivatePojo\n");
+        }
+
+    }
+
+}
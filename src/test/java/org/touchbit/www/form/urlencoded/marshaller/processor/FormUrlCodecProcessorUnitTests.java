@@ -0,0 +1,428 @@
+package org.touchbit.www.form.urlencoded.marshaller.processor;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlCodec;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlConfig;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
+import org.touchbit.www.form.urlencoded.marshaller.NullValueRule;
+import org.touchbit.www.form.urlencoded.marshaller.codec.AbstractFormUrlGeneratedCodec;
+import org.touchbit.www.form.urlencoded.marshaller.codec.FormUrlGeneratedCodec;
+import org.touchbit.www.form.urlencoded.marshaller.codec.FormUrlGeneratedCodecRegistry;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlPojoDescriptor;
+import org.touchbit.www.form.urlencoded.marshaller.util.ChainException;
+import org.touchbit.www.form.urlencoded.marshaller.util.MarshallerException;
+import qa.util.InMemoryCompiler;
+
+import javax.tools.Diagnostic;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"ConstantConditions", "unchecked"})
+@DisplayName("FormUrlCodecProcessor.class unit tests")
+public class FormUrlCodecProcessorUnitTests extends BaseTest {
+
+    private static final String IMPORTS = "package qa.generated;\n" +
+                                          "import org.touchbit.www.form.urlencoded.marshaller.pojo.*;\n" +
+                                          "import java.util.*;\n";
+    private static final InMemoryCompiler COMPILER = new InMemoryCompiler(new FormUrlCodecProcessor(), sources());
+    private static final Class<?> FLAT_POJO = COMPILER.loadClass("qa.generated.FlatPojo");
+    private static final Class<?> SIMPLE_POJO = COMPILER.loadClass("qa.generated.SimplePojo");
+    private static Map<String, String> sources() {
+        final Map<String, String> sources = new HashMap<>();
+        sources.put("qa.generated.FlatParent", IMPORTS +
+                "public class FlatParent {\n" +
+                "    @FormUrlEncodedField(\"parent\") protected Long parent;\n" +
+                "}\n");
+        sources.put("qa.generated.FlatPojo", IMPORTS +
+                "@FormUrlEncoded\n" +
+                "public class FlatPojo extends FlatParent {\n" +
+                "    @FormUrlEncodedField(\"text\") private String text;\n" +
+                "    @FormUrlEncodedField(\"number\") private Integer number;\n" +
+                "    @FormUrlEncodedField(\"flag\") private Boolean flag;\n" +
+                "    @FormUrlEncodedField(\"decimal\") private java.math.BigDecimal decimal;\n" +
+                "    @FormUrlEncodedField(value = \"encoded\", encoded = true) private String encoded;\n" +
+                "    @FormUrlEncodedField(\"\") private String ignored;\n" +
+                "    @FormUrlEncodedField(\"static\") private static String constant;\n" +
+                "    @FormUrlEncodedAdditionalProperties private Map<String, Object> additionalProperties;\n" +
+                "    public String toString() {\n" +
+                "        return text + \"|\" + number + \"|\" + flag + \"|\" + decimal + \"|\" + encoded + \"|\" + " +
+                "parent + \"|\" + additionalProperties;\n" +
+                "    }\n" +
+                "}\n");
+        sources.put("qa.generated.SimplePojo", IMPORTS +
+                "@FormUrlEncoded\n" +
+                "public class SimplePojo {\n" +
+                "    @FormUrlEncodedField(\"text\") String text;\n" +
+                "    @FormUrlEncodedField(\"number\") Short number;\n" +
+                "    public String toString() {\n" +
+                "        return text + \"|\" + number;\n" +
+                "    }\n" +
+                "    @FormUrlEncoded\n" +
+                "    public static class Nested {\n" +
+                "        @FormUrlEncodedField(\"value\") private Double value;\n" +
+                "    }\n" +
+                "    @FormUrlEncoded\n" +
+                "    public class Inner {\n" +
+                "        @FormUrlEncodedField(\"value\") private Double value;\n" +
+                "    }\n" +
+                "}\n");
+        sources.put("qa.generated.UnsupportedPojo", IMPORTS +
+                "@FormUrlEncoded\n" +
+                "public class UnsupportedPojo {\n" +
+                "    @FormUrlEncodedField(\"list\") private List<String> list;\n" +
+                "}\n" +
+                "@FormUrlEncoded\n" +
+                "class FinalFieldPojo {\n" +
+                "    @FormUrlEncodedField(\"text\") private final String text = \"\";\n" +
+                "}\n" +
+                "@FormUrlEncoded\n" +
+                "class MapPojo extends HashMap<String, Object> {\n" +
+                "    @FormUrlEncodedField(\"text\") private String text;\n" +
+                "}\n" +
+                "@FormUrlEncoded\n" +
+                "abstract class AbstractPojo {\n" +
+                "    @FormUrlEncodedField(\"text\") private String text;\n" +
+                "}\n" +
+                "@FormUrlEncoded\n" +
+                "class GenericPojo<T> {\n" +
+                "    @FormUrlEncodedField(\"text\") private String text;\n" +
+                "}\n" +
+                "@FormUrlEncoded\n" +
+                "class DuplicatePojo {\n" +
+                "    @FormUrlEncodedField(\"text\") private String text1;\n" +
+                "    @FormUrlEncodedField(\"text\") private String text2;\n" +
+                "}\n" +
+                "@FormUrlEncoded\n" +
+                "class BracketPojo {\n" +
+                "    @FormUrlEncodedField(\"text[]\") private String text;\n" +
+                "}\n" +
+                "@FormUrlEncoded\n" +
+                "class RawApPojo {\n" +
+                "    @FormUrlEncodedAdditionalProperties private Map additionalProperties;\n" +
+                "}\n");
+        return sources;
+    }
+
+    private static FormUrlMarshaller reflective() {
+        return reflective(FormUrlConfig.DEFAULT);
+    }
+
+    private static FormUrlMarshaller reflective(FormUrlConfig config) {
+        return new FormUrlMarshaller(config) {
+            @Override
+            protected FormUrlGeneratedCodec<Object> getGeneratedCodec(Class<?> modelClass) {
+                return null;
+            }
+        };
+    }
+
+    private static Object newFlatPojo() {
+        final Object pojo = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+        final FormUrlPojoDescriptor descriptor = FormUrlPojoDescriptor.of(FLAT_POJO);
+        descriptor.getField("text").setValue(pojo, "a b");
+        descriptor.getField("number").setValue(pojo, 1);
+        descriptor.getField("flag").setValue(pojo, true);
+        descriptor.getField("decimal").setValue(pojo, new BigDecimal("1.5"));
+        descriptor.getField("encoded").setValue(pojo, "%20");
+        descriptor.getField("parent").setValue(pojo, 10L);
+        return pojo;
+    }
+
+    private static Set<String> pairs(String form) {
+        return Arrays.stream(form.split("&")).collect(Collectors.toSet());
+    }
+
+    @Nested
+    @DisplayName("Code generation tests")
+    public class CodeGenerationTests {
+
+        @Test
+        @DisplayName("Codec generated and registered for flat POJO")
+        public void test1792263410101() throws IOException {
+            final FormUrlGeneratedCodec<?> codec = FormUrlGeneratedCodecRegistry.get(FLAT_POJO);
+            assertThat(codec).isInstanceOf(AbstractFormUrlGeneratedCodec.class);
+            assertIs(codec.getClass().getName(), "qa.generated.FlatPojo_FormUrlCodec");
+            assertIs(codec.getPojoClass(), FLAT_POJO);
+            final String services = new String(Files.readAllBytes(
+                    COMPILER.getOutput().resolve(FormUrlCodecProcessor.SERVICE_FILE)));
+            assertThat(services).contains("qa.generated.FlatPojo_FormUrlCodec",
+                    "qa.generated.SimplePojo_FormUrlCodec",
+                    "qa.generated.SimplePojo_Nested_FormUrlCodec");
+        }
+
+        @Test
+        @DisplayName("Codec not generated for unsupported classes")
+        public void test1792263410102() {
+            final String notes = COMPILER.getMessages(Diagnostic.Kind.NOTE);
+            assertThat(notes).contains(
+                    "FormUrl codec is not generated for qa.generated.UnsupportedPojo " +
+                    "(unsupported type of field list: java.util.List<java.lang.String>)",
+                    "FormUrl codec is not generated for qa.generated.FinalFieldPojo (final field text)",
+                    "FormUrl codec is not generated for qa.generated.MapPojo (class implements java.util.Map)",
+                    "FormUrl codec is not generated for qa.generated.AbstractPojo (abstract class)",
+                    "FormUrl codec is not generated for qa.generated.GenericPojo (generic class)",
+                    "FormUrl codec is not generated for qa.generated.DuplicatePojo (duplicate key name: text)",
+                    "FormUrl codec is not generated for qa.generated.BracketPojo " +
+                    "(unsupported key name of field text: text[])",
+                    "FormUrl codec is not generated for qa.generated.RawApPojo " +
+                    "(unsupported type of additional properties field: java.util.Map)",
+                    "FormUrl codec is not generated for qa.generated.SimplePojo.Inner (inner class)");
+            assertIsNull(FormUrlGeneratedCodecRegistry.get(COMPILER.loadClass("qa.generated.UnsupportedPojo")));
+            assertIsNull(FormUrlGeneratedCodecRegistry.get(COMPILER.loadClass("qa.generated.SimplePojo$Inner")));
+            assertNotNull(FormUrlGeneratedCodecRegistry.get(COMPILER.loadClass("qa.generated.SimplePojo$Nested")));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Generated codec marshal tests")
+    public class MarshalTests {
+
+        @Test
+        @DisplayName("Fields written in declaration order (class fields, then superclass fields)")
+        public void test1792263410201() {
+            final String result = new FormUrlMarshaller().marshal(newFlatPojo());
+            assertIs(result, "text=a+b&number=1&flag=true&decimal=1.5&encoded=%20&parent=10");
+        }
+
+        @Test
+        @DisplayName("Generated codec writes the same pairs as the reflective path")
+        public void test1792263410202() {
+            for (NullValueRule rule : NullValueRule.values()) {
+                final Object empty = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+                final FormUrlConfig config = FormUrlConfig.DEFAULT.withNullValueRule(rule);
+                assertIs(pairs(new FormUrlMarshaller(config).marshal(empty)), pairs(reflective(config).marshal(empty)));
+                final FormUrlConfig utf16 = config.withFormUrlCodingCharset(UTF_16);
+                final FormUrlMarshaller generated = new FormUrlMarshaller(utf16);
+                final FormUrlMarshaller reflective = reflective(utf16);
+                assertIs(pairs(generated.marshal(newFlatPojo())), pairs(reflective.marshal(newFlatPojo())));
+                assertIs(pairs(generated.marshal(empty)), pairs(reflective.marshal(empty)));
+            }
+        }
+
+        @Test
+        @DisplayName("Empty additional properties are initialized as in the reflective path")
+        public void test1792263410203() {
+            final Object pojo = newFlatPojo();
+            assertThat(pojo.toString()).endsWith("|null");
+            new FormUrlMarshaller().marshal(pojo);
+            assertThat(pojo.toString()).endsWith("|{}");
+        }
+
+        @Test
+        @DisplayName("Reflective path used if additional properties are not empty")
+        public void test1792263410204() throws IOException {
+            final Object pojo = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+            new FormUrlMarshaller().unmarshalTo(pojo, "foo[bar]=car");
+            final FormUrlGeneratedCodec<Object> codec = (FormUrlGeneratedCodec<Object>) FormUrlGeneratedCodecRegistry.get(FLAT_POJO);
+            final StringBuilder out = new StringBuilder();
+            assertFalse(codec.write(pojo, FormUrlConfig.DEFAULT, out));
+            assertIs(out.toString(), "");
+            assertIs(new FormUrlMarshaller().marshal(pojo), "foo[bar]=car");
+        }
+
+
+        @Test
+        @DisplayName("Generated codec is applied at most once per marshal call")
+        public void test1792263410205() {
+            final FormUrlGeneratedCodec<Object> codec = (FormUrlGeneratedCodec<Object>) FormUrlGeneratedCodecRegistry.get(FLAT_POJO);
+            final List<Boolean> writes = new ArrayList<>();
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller() {
+                @Override
+                protected FormUrlGeneratedCodec<Object> getGeneratedCodec(Class<?> modelClass) {
+                    return new FormUrlGeneratedCodec<Object>() {
+                        @Override
+                        public Class<Object> getPojoClass() {
+                            return codec.getPojoClass();
+                        }
+
+                        @Override
+                        public boolean write(Object pojo, FormUrlConfig config, Appendable out) throws IOException {
+                            writes.add(codec.write(pojo, config, out));
+                            return writes.get(writes.size() - 1);
+                        }
+
+                        @Override
+                        public boolean read(CharSequence encodedString, Object pojo, FormUrlConfig config) {
+                            return codec.read(encodedString, pojo, config);
+                        }
+                    };
+                }
+            };
+            final Object pojo = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+            marshaller.unmarshalTo(pojo, "foo[bar]=car");
+            assertIs(marshaller.marshal(pojo), "foo[bar]=car");
+            assertIs(writes, listOf(false));
+        }
+
+        @Test
+        @DisplayName("FormUrlCodec writes the same pairs to a non-empty builder with and without the generated codec")
+        public void test1792263410206() {
+            final FormUrlCodec<Object> generated = new FormUrlMarshaller().writerFor((Class<Object>) FLAT_POJO);
+            final FormUrlCodec<Object> reflective = reflective().writerFor((Class<Object>) FLAT_POJO);
+            final Object pojo = newFlatPojo();
+            final String expected = "prefix=1text=a+b&number=1&flag=true&decimal=1.5&encoded=%20&parent=10";
+            assertIs(generated.write(pojo, new StringBuilder("prefix=1")).toString(), expected);
+            assertIs(reflective.write(pojo, new StringBuilder("prefix=1")).toString(), expected);
+            final Object empty = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+            assertIs(generated.write(empty, new StringBuilder("prefix=1")).toString(), "prefix=1");
+        }
+
+        @Test
+        @DisplayName("Generated codec writes directly to the OutputStream and Writer")
+        public void test1792263410207() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            final String expected = "text=a+b&number=1&flag=true&decimal=1.5&encoded=%20&parent=10";
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            marshaller.marshal(newFlatPojo(), stream);
+            assertIs(new String(stream.toByteArray(), UTF_8), expected);
+            assertIs(marshaller.marshal(newFlatPojo(), new StringWriter()).toString(), expected);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Generated codec unmarshal tests")
+    public class UnmarshalTests {
+
+        @Test
+        @DisplayName("Flat form data read by generated codec")
+        public void test1792263410301() {
+            final Object pojo = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+            final FormUrlGeneratedCodec<Object> codec = (FormUrlGeneratedCodec<Object>) FormUrlGeneratedCodecRegistry.get(FLAT_POJO);
+            assertTrue(codec.read("text=a+b&number=1&flag=TRUE&decimal=1.5&encoded=%20&parent=10", pojo, FormUrlConfig.DEFAULT));
+            assertIs(pojo.toString(), "a b|1|true|1.5| |10|null");
+        }
+
+        @Test
+        @DisplayName("Generated codec does not change POJO if form data requires the reflective path")
+        public void test1792263410302() {
+            final Object pojo = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+            final FormUrlGeneratedCodec<Object> codec = (FormUrlGeneratedCodec<Object>) FormUrlGeneratedCodecRegistry.get(FLAT_POJO);
+            assertFalse(codec.read("text=a&number=abc", pojo, FormUrlConfig.DEFAULT));
+            assertFalse(codec.read("text=a&number=1&number=2", pojo, FormUrlConfig.DEFAULT));
+            assertFalse(codec.read("text=a&unknown=1", pojo, FormUrlConfig.DEFAULT));
+            assertIs(pojo.toString(), "null|null|null|null|null|null|null");
+        }
+
+        @Test
+        @DisplayName("Invalid simple values are rejected by the exception-free checks before any field is written")
+        public void test1792263410305() {
+            final Object pojo = FormUrlPojoDescriptor.of(FLAT_POJO).newInstance();
+            final FormUrlGeneratedCodec<Object> codec = (FormUrlGeneratedCodec<Object>) FormUrlGeneratedCodecRegistry.get(FLAT_POJO);
+            for (String input : Arrays.asList("text=a&number=2147483648", "text=a&flag=yes", "text=a&decimal=1.5.5",
+                    "text=a&parent=9223372036854775808", "text=a&number=%D9%A1", "text=a&decimal=NaN")) {
+                assertThat(codec.read(input, pojo, FormUrlConfig.DEFAULT)).as(input).isFalse();
+            }
+            assertIs(pojo.toString(), "null|null|null|null|null|null|null");
+            assertTrue(codec.read("number=-2147483648&flag=False&decimal=-.5e3&parent=%2B7", pojo, FormUrlConfig.DEFAULT));
+            assertIs(pojo.toString(), "null|-2147483648|false|-5E+2|null|7|null");
+        }
+
+        @Test
+        @DisplayName("Generated and reflective paths trim pairs and ignore trailing separators")
+        public void test1792263410303() {
+            for (FormUrlMarshaller marshaller : Arrays.asList(new FormUrlMarshaller(), reflective(FormUrlConfig.DEFAULT))) {
+                assertIs(marshaller.unmarshal(FLAT_POJO, "").toString(), "null|null|null|null|null|null|null");
+                assertIs(marshaller.unmarshal(FLAT_POJO, "&&").toString(), "null|null|null|null|null|null|null");
+                assertIs(marshaller.unmarshal(FLAT_POJO, "text=x&").toString(), "x|null|null|null|null|null|null");
+                assertIs(marshaller.unmarshal(FLAT_POJO, "text=").toString(), "|null|null|null|null|null|null");
+                assertIs(marshaller.unmarshal(FLAT_POJO, " text = y ").toString(), "y|null|null|null|null|null|null");
+                assertIs(marshaller.unmarshal(FLAT_POJO, "text=x&\nnumber=2").toString(), "x|2|null|null|null|null|null");
+                assertIs(marshaller.unmarshal(SIMPLE_POJO, " text =%D1%82").toString(), "т|null");
+            }
+        }
+
+        @Test
+        @DisplayName("Generated codec decodes values with the marshaller charset")
+        public void test1792263410304() {
+            final FormUrlConfig config = FormUrlConfig.DEFAULT.withFormUrlCodingCharset(UTF_16);
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller(config);
+            final Object pojo = FormUrlPojoDescriptor.of(SIMPLE_POJO).newInstance();
+            final Object expected = reflective(config).unmarshal(SIMPLE_POJO, "text=%FE%FF%04%42");
+            marshaller.unmarshalTo(pojo, "text=%FE%FF%04%42");
+            assertIs(pojo.toString(), "т|null");
+            assertIs(expected.toString(), "т|null");
+        }
+
+        @Test
+        @DisplayName("Generated and reflective paths write unknown keys to the additional properties")
+        public void test1792263410306() {
+            final FormUrlConfig prohibited = FormUrlConfig.DEFAULT.withProhibitAdditionalProperties(true);
+            for (FormUrlMarshaller marshaller : Arrays.asList(new FormUrlMarshaller(), reflective(FormUrlConfig.DEFAULT))) {
+                assertIs(marshaller.unmarshal(FLAT_POJO, "unknown=1&unknown=2").toString(),
+                        "null|null|null|null|null|null|{unknown=[1, 2]}");
+                assertIs(marshaller.unmarshal(FLAT_POJO, "foo[bar]=1").toString(),
+                        "null|null|null|null|null|null|{foo={bar=1}}");
+                assertIs(marshaller.unmarshal(SIMPLE_POJO, "text=a&unknown=1&flag=yes").toString(), "a|null");
+            }
+            for (FormUrlMarshaller marshaller : Arrays.asList(new FormUrlMarshaller(prohibited), reflective(prohibited))) {
+                assertThrow(() -> marshaller.unmarshal(FLAT_POJO, "text=a&foo[bar]=1"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  URL encoded string contains unmapped additional properties.\n" +
+                                         "    Actual: foo[bar]\n" +
+                                         "    Expected: There are no additional properties.\n");
+                assertThrow(() -> marshaller.unmarshal(SIMPLE_POJO, "text=a&flag=true"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  URL encoded string contains unmapped additional properties.\n" +
+                                         "    Actual: flag\n" +
+                                         "    Expected: There are no additional properties.\n");
+            }
+        }
+
+        @Test
+        @DisplayName("Generated and reflective paths throw the same exceptions for invalid form data")
+        public void test1792263410307() {
+            for (FormUrlMarshaller marshaller : Arrays.asList(new FormUrlMarshaller(), reflective(FormUrlConfig.DEFAULT))) {
+                assertThrow(() -> marshaller.unmarshal(FLAT_POJO, "text=x&&number=1"))
+                        .assertClass(ChainException.class)
+                        .assertMessageIs("URL encoded key-value pair is not in URL format:\n" +
+                                         "Pair: text=x&&number=1");
+                assertThrow(() -> marshaller.unmarshal(FLAT_POJO, "text=a=b"))
+                        .assertClass(ChainException.class)
+                        .assertMessageIs("URL encoded key-value pair is not in URL format:\n" +
+                                         "Pair: text=a=b");
+                assertThrow(() -> marshaller.unmarshal(FLAT_POJO, "text=%zz"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  URL encoded value contains a malformed escape (%) pattern.\n" +
+                                         "    Actual: %zz\n" +
+                                         "    Expected: %XX, where XX is a hexadecimal byte value\n");
+                assertThrow(() -> marshaller.unmarshal(SIMPLE_POJO, "number=abc"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                         "    Source type: java.lang.String\n" +
+                                         "    Source value: abc\n" +
+                                         "    Target type: java.lang.Short\n" +
+                                         "    Error cause:\n" +
+                                         "     - not a valid Short value\n");
+                assertThrow(() -> marshaller.unmarshal(FLAT_POJO, "number=1&number=2"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                         "    Source value: [1, 2]\n" +
+                                         "    Source type: org.touchbit.www.form.urlencoded.marshaller.chain.IChainList$Default\n" +
+                                         "    Target type: java.lang.Integer\n");
+                assertThrow(() -> marshaller.unmarshal(FLAT_POJO, "flag=yes"))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  Incompatible types received for conversion.\n" +
+                                         "    Source type: java.lang.String\n" +
+                                         "    Source value: yes\n" +
+                                         "    Target type: java.lang.Boolean\n" +
+                                         "    Expected value: true || false\n");
+            }
+        }
+
+    }
+
+}
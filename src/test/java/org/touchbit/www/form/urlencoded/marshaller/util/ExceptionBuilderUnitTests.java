@@ -74,6 +74,61 @@ public class ExceptionBuilderUnitTests extends BaseTest {
                           "     - RuntimeException: bar");
         }
 
+        @Test
+        @DisplayName("errorCause without cause Exception instance")
+        public void test1792287030101() {
+            String err = builder().errorCauseMessage("not a valid int value").getAdditionalInfo().toString();
+            assertIs(err, "    Error cause:\n" +
+                          "     - not a valid int value");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Lazy and stackless exception tests")
+    public class LazyExceptionTests {
+
+        @Test
+        @DisplayName("Exception message is rendered once on the first getMessage() call")
+        public void test1792288010101() {
+            final List<String> calls = new ArrayList<>();
+            final Object source = new Object() {
+                @Override
+                public String toString() {
+                    calls.add("toString");
+                    return "foo";
+                }
+            };
+            final MarshallerException exception = (MarshallerException) MarshallerException.builder()
+                    .errorMessage("bar")
+                    .source(source)
+                    .build();
+            assertThat(calls).isEmpty();
+            assertIs(exception.getMessage(), "\n  bar\n    Source: foo\n");
+            assertIs(exception.getMessage(), "\n  bar\n    Source: foo\n");
+            assertThat(calls).hasSize(1);
+            final ChainException chainException = new ChainException(() -> "chain " + source);
+            assertThat(calls).hasSize(1);
+            assertIs(chainException.getMessage(), "chain foo");
+        }
+
+        @Test
+        @DisplayName("Validation errors are thrown without stack trace if disabled")
+        public void test1792288010102() {
+            assertTrue(MarshallerException.isValidationStackTrace());
+            try {
+                MarshallerException.setValidationStackTrace(false);
+                assertThat(MarshallerException.builder().validationError().build().getStackTrace()).isEmpty();
+                assertThat(MarshallerException.builder().build().getStackTrace()).isNotEmpty();
+                assertThat(new ChainException(() -> "foo").getStackTrace()).isEmpty();
+                assertThat(new ChainException("foo").getStackTrace()).isNotEmpty();
+            } finally {
+                MarshallerException.setValidationStackTrace(true);
+            }
+            assertThat(MarshallerException.builder().validationError().build().getStackTrace()).isNotEmpty();
+            assertThat(new ChainException(() -> "foo").getStackTrace()).isNotEmpty();
+        }
+
     }
 
     @Nested
@@ -0,0 +1,135 @@
+package org.touchbit.www.form.urlencoded.marshaller.util;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.touchbit.www.form.urlencoded.marshaller.BaseTest;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
+import qa.model.PrimitivePojo;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.touchbit.www.form.urlencoded.marshaller.util.FormUrlNumberParser.*;
+
+@DisplayName("FormUrlNumberParser.class unit tests")
+public class FormUrlNumberParserUnitTests extends BaseTest {
+
+    private static final List<String> VALUES = Arrays.asList("", "-", "+", "0", "-0", "+1", "007", "-12",
+            "2147483647", "2147483648", "-2147483648", "-2147483649", "9223372036854775807", "9223372036854775808",
+            "-9223372036854775808", "-9223372036854775809", "99999999999999999999", "abc", "1a", "--5", "-+5",
+            "0x1F", "#1F", "1F", "017", "1.", ".5", ".", "1.5", "1e", "1e5", "1E-5", "-1.5e+10", "1e1234567890",
+            " 1", "1 ", "١", "1_000");
+
+    private static boolean isParsed(final Consumer<String> parser, final String value) {
+        try {
+            parser.accept(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Nested
+    @DisplayName("#checkLong() method tests")
+    public class CheckLongMethodTests {
+
+        @Test
+        @DisplayName("Result codes")
+        public void test1792287010101() {
+            assertIs(checkLong("", Integer.MIN_VALUE, Integer.MAX_VALUE), INVALID);
+            assertIs(checkLong("-", Integer.MIN_VALUE, Integer.MAX_VALUE), INVALID);
+            assertIs(checkLong("+1", Integer.MIN_VALUE, Integer.MAX_VALUE), VALID);
+            assertIs(checkLong("abc", Integer.MIN_VALUE, Integer.MAX_VALUE), INVALID);
+            assertIs(checkLong("2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE), OUT_OF_RANGE);
+            assertIs(checkLong("-2147483648", Integer.MIN_VALUE, Integer.MAX_VALUE), VALID);
+            assertIs(checkLong("-9223372036854775808", Long.MIN_VALUE, Long.MAX_VALUE), VALID);
+            assertIs(checkLong("99999999999999999999", Long.MIN_VALUE, Long.MAX_VALUE), OUT_OF_RANGE);
+            assertIs(checkLong("-1", 0, Integer.MAX_VALUE), OUT_OF_RANGE);
+            assertIs(checkLong("١", Integer.MIN_VALUE, Integer.MAX_VALUE), UNCHECKED);
+        }
+
+        @Test
+        @DisplayName("Result codes are consistent with the JDK parsers")
+        public void test1792287010102() {
+            for (String value : VALUES) {
+                final int shortResult = checkLong(value, Short.MIN_VALUE, Short.MAX_VALUE);
+                final int intResult = checkLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                final int longResult = checkLong(value, Long.MIN_VALUE, Long.MAX_VALUE);
+                if (shortResult != UNCHECKED) {
+                    assertThat(isParsed(Short::parseShort, value)).as(value).isEqualTo(shortResult == VALID);
+                }
+                if (intResult != UNCHECKED) {
+                    assertThat(isParsed(Integer::parseInt, value)).as(value).isEqualTo(intResult == VALID);
+                }
+                if (longResult != UNCHECKED) {
+                    assertThat(isParsed(Long::parseLong, value)).as(value).isEqualTo(longResult == VALID);
+                }
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("#checkBigInteger() and #checkBigDecimal() methods tests")
+    public class CheckBigNumberMethodTests {
+
+        @Test
+        @DisplayName("Result codes")
+        public void test1792287020101() {
+            assertIs(checkBigInteger(""), INVALID);
+            assertIs(checkBigInteger("-"), INVALID);
+            assertIs(checkBigInteger("-12"), VALID);
+            assertIs(checkBigInteger("99999999999999999999"), VALID);
+            assertIs(checkBigInteger("FooBar"), INVALID);
+            assertIs(checkBigInteger("0x1F"), UNCHECKED);
+            assertIs(checkBigInteger("017"), UNCHECKED);
+            assertIs(checkBigDecimal(""), INVALID);
+            assertIs(checkBigDecimal("1."), VALID);
+            assertIs(checkBigDecimal(".5"), VALID);
+            assertIs(checkBigDecimal("-1.5e+10"), VALID);
+            assertIs(checkBigDecimal("1e"), INVALID);
+            assertIs(checkBigDecimal("1e1234567890"), UNCHECKED);
+            assertIs(checkBigDecimal("١"), UNCHECKED);
+        }
+
+        @Test
+        @DisplayName("Result codes are consistent with the commons-lang3 parsers")
+        public void test1792287020102() {
+            for (String value : VALUES) {
+                final int bigIntegerResult = checkBigInteger(value);
+                final int bigDecimalResult = checkBigDecimal(value);
+                if (bigIntegerResult != UNCHECKED) {
+                    assertThat(isParsed(NumberUtils::createBigInteger, value))
+                            .as(value).isEqualTo(bigIntegerResult == VALID);
+                }
+                if (bigDecimalResult != UNCHECKED) {
+                    assertThat(isParsed(BigDecimal::new, value)).as(value).isEqualTo(bigDecimalResult == VALID);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Invalid number error does not contain the NumberFormatException cause")
+        public void test1792287020103() {
+            final FormUrlMarshaller marshaller = new FormUrlMarshaller();
+            MarshallerException exception = null;
+            try {
+                marshaller.unmarshal(PrimitivePojo.class, "int=2147483648");
+            } catch (MarshallerException e) {
+                exception = e;
+            }
+            assertThat(exception).isNotNull();
+            assertThat(exception.getCause()).isNull();
+            assertThat(exception.getMessage())
+                    .contains("     - int value is out of range\n")
+                    .doesNotContain("NumberFormatException");
+        }
+
+    }
+
+}
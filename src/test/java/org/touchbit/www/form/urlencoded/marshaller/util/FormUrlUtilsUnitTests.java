@@ -13,9 +13,16 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
+import static java.nio.charset.StandardCharsets.UTF_16;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static qa.model.Pojo.PojoFields;
@@ -142,6 +149,32 @@ public class FormUrlUtilsUnitTests extends BaseTest {
             assertThat(FormUrlUtils.encode(DECODED, UTF_8)).isEqualTo(ENCODED);
         }
 
+        @Test
+        @DisplayName("Return the same string if the value does not contain chars to encode")
+        public void test1792274010101() {
+            final String value = "azAZ09.-*_";
+            assertThat(FormUrlUtils.encode(value, UTF_8)).isSameAs(value);
+            assertThat(FormUrlUtils.encode(value, UTF_16)).isSameAs(value);
+            assertThat(FormUrlUtils.encode("", UTF_8)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Encoded string is identical to the URLEncoder result")
+        public void test1792274010102() throws Exception {
+            final List<String> values = Arrays.asList("a b", " ", "+", "%", "&=", "a&b=c", "~!@#$^()[]{}|\\/?<>,;:'\"`",
+                    "\u0000\u007F", DECODED, "a тест b", "тест&тест", "\u00E9\u00FF\u0100", "\uD83D\uDE00",
+                    "a\uD83D\uDE00&\uD83D", "\uD83D", "\uDE00a", "\uD83D \uDE00", "€%€", "日本語 テキスト");
+            final List<Charset> charsets = Arrays.asList(UTF_8, UTF_16, StandardCharsets.UTF_16LE,
+                    StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII, Charset.forName("windows-1251"),
+                    Charset.forName("ISO-2022-JP"));
+            for (Charset charset : charsets) {
+                for (String value : values) {
+                    assertThat(FormUrlUtils.encode(value, charset)).as(charset + ": " + value)
+                            .isEqualTo(URLEncoder.encode(value, charset.name()));
+                }
+            }
+        }
+
     }
 
     @Nested
@@ -160,6 +193,49 @@ public class FormUrlUtilsUnitTests extends BaseTest {
             assertThat(FormUrlUtils.decode(ENCODED, UTF_8)).isEqualTo(DECODED);
         }
 
+        @Test
+        @DisplayName("Return the same string if the value does not contain '%' and '+' chars")
+        public void test1792274020101() {
+            final String value = "a b&c=тест";
+            assertThat(FormUrlUtils.decode(value, UTF_8)).isSameAs(value);
+            assertThat(FormUrlUtils.decode(value, 2, 5, UTF_8)).isEqualTo("b&c");
+        }
+
+        @Test
+        @DisplayName("Decoded string is identical to the URLDecoder result")
+        public void test1792274020102() throws Exception {
+            final List<String> values = Arrays.asList("a+b", "+", "%20", "%2B%2b", "%25", ENCODED, "a%26b%3Dc",
+                    "%F0%9F%98%80", "%FE%FF%00%26", "%E2%82%AC%25%E2%82%AC", "%C3%28", "%FF", "тест+%D1%82");
+            final List<Charset> charsets = Arrays.asList(UTF_8, UTF_16, StandardCharsets.ISO_8859_1,
+                    StandardCharsets.US_ASCII, Charset.forName("windows-1251"));
+            for (Charset charset : charsets) {
+                for (String value : values) {
+                    assertThat(FormUrlUtils.decode(value, charset)).as(charset + ": " + value)
+                            .isEqualTo(URLDecoder.decode(value, charset.name()));
+                    assertThat(FormUrlUtils.decode("x=" + value + "&", 2, value.length() + 2, charset))
+                            .as(charset + ": " + value)
+                            .isEqualTo(URLDecoder.decode(value, charset.name()));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("MarshallerException if value contains a malformed escape (%) pattern")
+        public void test1792274020103() {
+            for (String value : Arrays.asList("%", "%2", "a%2", "%ZZ", "%2G", "%+1", "%-1", "%%20", "%٢٠")) {
+                assertThrow(() -> FormUrlUtils.decode(value, UTF_8))
+                        .assertClass(MarshallerException.class)
+                        .assertMessageIs("\n  URL encoded value contains a malformed escape (%) pattern.\n" +
+                                         "    Actual: " + value + "\n" +
+                                         "    Expected: %XX, where XX is a hexadecimal byte value\n");
+            }
+            assertThrow(() -> FormUrlUtils.decode("foo=%2&bar=1", 4, 6, UTF_8))
+                    .assertClass(MarshallerException.class)
+                    .assertMessageIs("\n  URL encoded value contains a malformed escape (%) pattern.\n" +
+                                     "    Actual: %2\n" +
+                                     "    Expected: %XX, where XX is a hexadecimal byte value\n");
+        }
+
     }
 
     @Nested
@@ -188,7 +264,7 @@ public class FormUrlUtilsUnitTests extends BaseTest {
             final Field field = PojoFields.INTEGER.getDeclaredField();
             assertThrow(() -> FormUrlUtils.readField(new HashMap<>(), field))
                     .assertClass(MarshallerException.class)
-                    .assertMessageIs("\n  Unable to raed value from object field.\n" +
+                    .assertMessageIs("\n  Unable to read value from object field.\n" +
                                      "    Model: java.util.HashMap\n" +
                                      "    Field: private Integer integer;\n" +
                                      "    Error cause:\n" +
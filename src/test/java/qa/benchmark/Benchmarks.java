@@ -8,17 +8,23 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlCodec;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlConfig;
 import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
 import qa.benchmark.plan.*;
+import qa.benchmark.plan.model.POJOFieldTypeNestedPojo;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class Benchmarks {
 
-    private static final FormUrlMarshaller MARSHALLER = FormUrlMarshaller.INSTANCE.enableExplicitList();
+    private static final FormUrlMarshaller MARSHALLER = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withExplicitList());
+    private static final FormUrlMarshaller LIST_MARSHALLER = new FormUrlMarshaller(FormUrlConfig.DEFAULT.withMaxListIndex(100_000));
+    private static final FormUrlCodec<POJOFieldTypeNestedPojo> NESTED_POJO_CODEC = MARSHALLER.readerFor(POJOFieldTypeNestedPojo.class);
 
     public static void main(String[] args) {
         final List<Options> options = benchmarksOptions(
@@ -27,7 +33,9 @@ public class Benchmarks {
                 POJO_field_type_Integer.class,
                 POJO_field_type_List_String.class,
                 POJO_field_type_List_Integer.class,
-                POJO_field_type_nested_POJO.class
+                POJO_field_type_nested_POJO.class,
+                POJO_field_type_nested_POJO_codec.class,
+                List_length.class
         );
         options.forEach(Benchmarks::run);
     }
@@ -116,6 +124,39 @@ public class Benchmarks {
 
     }
 
+    public static class POJO_field_type_nested_POJO_codec {
+
+        @Benchmark
+        public void unmarshal(POJOFieldTypeNestedPojoPlan plan, Blackhole blackhole) {
+            blackhole.consume(NESTED_POJO_CODEC.read(plan.getData().getURLEncoded()));
+        }
+
+        @Benchmark
+        public void marshal(POJOFieldTypeNestedPojoPlan plan, Blackhole blackhole) {
+            blackhole.consume(NESTED_POJO_CODEC.write((POJOFieldTypeNestedPojo) plan.getData().getPojo()));
+        }
+
+    }
+
+    public static class List_length {
+
+        @Benchmark
+        public void unmarshalExplicitList(ListLengthPlan plan, Blackhole blackhole) {
+            blackhole.consume(LIST_MARSHALLER.unmarshal(HashMap.class, plan.getExplicitList()));
+        }
+
+        @Benchmark
+        public void unmarshalImplicitList(ListLengthPlan plan, Blackhole blackhole) {
+            blackhole.consume(LIST_MARSHALLER.unmarshal(HashMap.class, plan.getImplicitList()));
+        }
+
+        @Benchmark
+        public void unmarshalExplicitMapList(ListLengthPlan plan, Blackhole blackhole) {
+            blackhole.consume(LIST_MARSHALLER.unmarshal(HashMap.class, plan.getExplicitMapList()));
+        }
+
+    }
+
     private static ChainedOptionsBuilder getDefaultOptionsBuilder() {
         return new OptionsBuilder()
                 .threads(4)
@@ -0,0 +1,51 @@
+package qa.benchmark.plan;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.StringJoiner;
+
+@State(Scope.Benchmark)
+public class ListLengthPlan {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    private int length;
+
+    private String explicitList;
+    private String implicitList;
+    private String explicitMapList;
+
+    @Setup
+    public void setup() {
+        final StringJoiner explicit = new StringJoiner("&");
+        final StringJoiner implicit = new StringJoiner("&");
+        final StringJoiner explicitMap = new StringJoiner("&");
+        for (int i = 0; i < length; i++) {
+            explicit.add("items[" + i + "]=" + i);
+            implicit.add("items[]=" + i);
+            explicitMap.add("items[" + i + "][id]=" + i).add("items[" + i + "][name]=item");
+        }
+        explicitList = explicit.toString();
+        implicitList = implicit.toString();
+        explicitMapList = explicitMap.toString();
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public String getExplicitList() {
+        return explicitList;
+    }
+
+    public String getImplicitList() {
+        return implicitList;
+    }
+
+    public String getExplicitMapList() {
+        return explicitMapList;
+    }
+
+}
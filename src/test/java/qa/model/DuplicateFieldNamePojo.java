@@ -0,0 +1,15 @@
+package qa.model;
+
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedField;
+
+@FormUrlEncoded
+public class DuplicateFieldNamePojo {
+
+    @FormUrlEncodedField("foo")
+    private String foo1;
+
+    @FormUrlEncodedField("foo")
+    private String foo2;
+
+}
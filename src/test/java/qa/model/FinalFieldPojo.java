@@ -0,0 +1,12 @@
+package qa.model;
+
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedField;
+
+@FormUrlEncoded
+public class FinalFieldPojo {
+
+    @FormUrlEncodedField("foo")
+    public final String foo = "bar";
+
+}
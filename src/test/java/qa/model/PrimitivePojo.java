@@ -0,0 +1,47 @@
+package qa.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncoded;
+import org.touchbit.www.form.urlencoded.marshaller.pojo.FormUrlEncodedField;
+
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true, fluent = true)
+@FormUrlEncoded
+public class PrimitivePojo {
+
+    @FormUrlEncodedField("int")
+    private int intValue;
+
+    @FormUrlEncodedField("long")
+    private long longValue;
+
+    @FormUrlEncodedField("short")
+    private short shortValue;
+
+    @FormUrlEncodedField("double")
+    private double doubleValue;
+
+    @FormUrlEncodedField("float")
+    private float floatValue;
+
+    @FormUrlEncodedField("boolean")
+    private boolean booleanValue;
+
+    @FormUrlEncodedField("intArray")
+    private int[] intArray;
+
+    @FormUrlEncodedField("longArray")
+    private long[] longArray;
+
+    @FormUrlEncodedField("doubleArray")
+    private double[] doubleArray;
+
+    @FormUrlEncodedField("booleanArray")
+    private boolean[] booleanArray;
+
+}
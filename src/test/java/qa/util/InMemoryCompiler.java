@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 Shaburov Oleg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package qa.util;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.touchbit.www.form.urlencoded.marshaller.FormUrlMarshaller;
+
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles java sources with the annotation processor to the temporary directory.
+ */
+public class InMemoryCompiler {
+
+    private final Path output;
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    private final ClassLoader classLoader;
+
+    public InMemoryCompiler(Processor processor, Map<String, String> sources) {
+        try {
+            output = Files.createTempDirectory("form-url-codec");
+            final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            final DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+            final List<JavaFileObject> units = sources.entrySet().stream()
+                    .map(e -> new Source(e.getKey(), e.getValue()))
+                    .collect(Collectors.toList());
+            final String classpath = location(FormUrlMarshaller.class) + File.pathSeparator + location(NumberUtils.class);
+            final List<String> options = Arrays.asList("-d", output.toString(), "-classpath", classpath);
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, null, collector, options, null, units);
+            task.setProcessors(Collections.singletonList(processor));
+            final Boolean success = task.call();
+            diagnostics = collector.getDiagnostics();
+            if (!success) {
+                throw new AssertionError("Compilation failed: " + diagnostics);
+            }
+            classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Class<?> loadClass(String name) {
+        try {
+            return classLoader.loadClass(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Path getOutput() {
+        return output;
+    }
+
+    public String getMessages(Diagnostic.Kind kind) {
+        return diagnostics.stream()
+                .filter(d -> d.getKind() == kind)
+                .map(d -> d.getMessage(Locale.ENGLISH))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String location(Class<?> aClass) {
+        try {
+            return new File(aClass.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Source extends SimpleJavaFileObject {
+
+        private final String code;
+
+        private Source(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+
+    }
+
+}